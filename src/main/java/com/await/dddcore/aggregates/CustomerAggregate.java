@@ -1,11 +1,13 @@
 package com.await.dddcore.aggregates;
 
+import com.await.dddcore.collections.Page;
+import com.await.dddcore.collections.PersistentVector;
 import com.await.dddcore.entities.Order;
+import com.await.dddcore.entities.OrderStatusCounts;
 import com.await.dddcore.valueobjects.Address;
 import com.await.dddcore.valueobjects.Email;
 import com.await.dddcore.valueobjects.Name;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -19,7 +21,8 @@ public class CustomerAggregate {
     private final Name name; // Customer's name (value object)
     private final Email email; // Customer's email (value object)
     private Address address; // Customer's address (can be updated)
-    private final List<Order> orders; // List of customer's orders
+    private PersistentVector<Order> orders; // Customer's orders, replaced by a new version on every addition
+    private final OrderStatusCounts orderCounts; // Orders by status, updated by the orders themselves
 
     /**
      * Constructor to initialize a customer with basic details.
@@ -29,7 +32,8 @@ public class CustomerAggregate {
         this.name = name;
         this.email = email;
         this.address = address;
-        this.orders = new ArrayList<>();
+        this.orders = PersistentVector.empty();
+        this.orderCounts = new OrderStatusCounts();
     }
 
     /**
@@ -38,7 +42,8 @@ public class CustomerAggregate {
      */
     public void addOrder(Order order) {
         if (order != null) {
-            this.orders.add(order);
+            this.orders = orders.append(order);
+            order.countIn(orderCounts);
         }
     }
 
@@ -56,14 +61,32 @@ public class CustomerAggregate {
      * Checks if the customer has any active (non-completed) orders.
      */
     public boolean hasActiveOrders() {
-        return orders.stream().anyMatch(order -> !order.getStatus().isCompleted());
+        return orderCounts.active() > 0;
     }
 
     /**
-     * Returns an immutable copy of the order list to prevent modifications from outside.
+     * Returns an immutable snapshot of the order list. It shares structure with the customer's list,
+     * so it takes O(1), and it does not change when orders are added later.
      */
     public List<Order> getOrders() {
-        return List.copyOf(orders);
+        return orders;
+    }
+
+    /**
+     * Returns a page of the order list, in the order the orders were added.
+     *
+     * @param cursor 0 for the first page, or the next cursor of the previous page
+     * @param limit The maximum number of orders
+     */
+    public Page<Order> getOrders(int cursor, int limit) {
+        return Page.of(orders, cursor, limit);
+    }
+
+    /**
+     * Returns the number of orders in each status. An order added twice is counted once.
+     */
+    public OrderStatusCounts getOrderCounts() {
+        return orderCounts;
     }
 
     // Getters for customer attributes
@@ -1,37 +1,126 @@
 package com.await.dddcore.aggregates;
 
+import com.await.dddcore.collections.OrderLines;
+import com.await.dddcore.events.OrderCreated;
+import com.await.dddcore.events.OrderEvent;
+import com.await.dddcore.events.OrderItemAdded;
+import com.await.dddcore.events.OrderItemQuantityChanged;
+import com.await.dddcore.events.OrderItemRemoved;
+import com.await.dddcore.events.OrderSnapshot;
+import com.await.dddcore.events.OrderStatusListeners;
+import com.await.dddcore.events.ShippingAddressChanged;
+import com.await.dddcore.events.StatusChanged;
+import com.await.dddcore.exceptions.InvalidOrderItemException;
+import com.await.dddcore.inventory.Inventory;
+import com.await.dddcore.inventory.StockReservation;
 import com.await.dddcore.valueobjects.Address;
+import com.await.dddcore.valueobjects.CurrencyUnit;
 import com.await.dddcore.valueobjects.Money;
 import com.await.dddcore.valueobjects.OrderItemDetails;
 import com.await.dddcore.valueobjects.OrderStatus;
 
-import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 
 /**
  * Order aggregate representing a customer's order.
  * Contains order details, shipping address, status, and total price calculation.
+ * <p>
+ * Lines are indexed by product and the total price is maintained incrementally, so adding,
+ * removing or changing a line costs O(1). With assertions enabled (as in tests) every change
+ * is verified against a full recalculation.
+ * <p>
+ * The aggregate is event-sourced: every change is recorded as an {@link OrderEvent} and applied to
+ * the state, and the events not yet persisted are kept as pending. An order is rebuilt by
+ * {@link #replay(List)}, or from a {@link #snapshot()} plus the events recorded after it.
  */
 public class OrderAggregate {
 
     private final UUID id; // Unique order identifier
+    private final UUID customerId; // Customer who placed the order, or null if not known
     private Address shippingAddress; // Shipping address for the order
-    private Money totalPrice; // Total price of the order
     private OrderStatus status; // Current order status
-    private final List<OrderItemDetails> orderItems; // List of items in the order
+    private final OrderLines orderItems; // Items in the order, one line per product
+    private long version; // Number of events applied, including pending ones
+    private final List<OrderEvent> pendingEvents = new ArrayList<>(); // Recorded events not yet persisted
 
     /**
      * Creates a new order with an initial address and status.
      * The total price is initialized to zero.
      */
     public OrderAggregate(UUID id, Address shippingAddress) {
+        this(id, shippingAddress, CurrencyUnit.USD);
+    }
+
+    /**
+     * Creates a new order priced in the given currency and records an {@link OrderCreated} event.
+     */
+    public OrderAggregate(UUID id, Address shippingAddress, CurrencyUnit currency) {
+        this(id, null, shippingAddress, currency);
+    }
+
+    /**
+     * Creates a new order placed by a customer, referenced by ID, and records an {@link OrderCreated} event.
+     */
+    public OrderAggregate(UUID id, UUID customerId, Address shippingAddress, CurrencyUnit currency) {
+        this(id, customerId, shippingAddress, currency, OrderStatus.NEW);
+        this.version = 1;
+        this.pendingEvents.add(new OrderCreated(id, shippingAddress, currency, customerId));
+    }
+
+    private OrderAggregate(UUID id, UUID customerId, Address shippingAddress, CurrencyUnit currency,
+                           OrderStatus status) {
         this.id = id;
+        this.customerId = customerId;
         this.shippingAddress = shippingAddress;
-        this.totalPrice = new Money("USD", BigDecimal.ZERO);
-        this.status = OrderStatus.NEW;
-        this.orderItems = new ArrayList<>();
+        this.status = status;
+        this.orderItems = new OrderLines(currency);
+    }
+
+    /**
+     * Rebuilds an order from all of its events, starting with {@link OrderCreated}.
+     *
+     * @throws IllegalArgumentException if the events do not start with OrderCreated or belong to another order
+     */
+    public static OrderAggregate replay(List<? extends OrderEvent> events) {
+        if (events.isEmpty() || !(events.get(0) instanceof OrderCreated created)) {
+            throw new IllegalArgumentException("Event stream must start with OrderCreated");
+        }
+        OrderAggregate order = new OrderAggregate(
+            created.orderId(), created.customerId(), created.shippingAddress(), created.currency(), OrderStatus.NEW);
+        order.version = 1;
+        order.applyAll(events, 1);
+        return order;
+    }
+
+    /**
+     * Rebuilds an order from a snapshot and the events recorded after it. Events carry no version, so the
+     * tail must start with the event right after the snapshot: an overlapping tail or one with a gap cannot
+     * be detected and rebuilds a different order.
+     *
+     * @throws IllegalArgumentException if an event belongs to another order
+     */
+    public static OrderAggregate replay(OrderSnapshot snapshot, List<? extends OrderEvent> tail) {
+        OrderAggregate order = new OrderAggregate(
+            snapshot.orderId(), snapshot.customerId(), snapshot.shippingAddress(), snapshot.currency(),
+            snapshot.status());
+        for (OrderItemDetails item : snapshot.items()) {
+            order.orderItems.add(item);
+        }
+        order.version = snapshot.version();
+        order.applyAll(tail, 0);
+        return order;
+    }
+
+    /**
+     * Captures the current state, including pending events, as a snapshot.
+     */
+    public OrderSnapshot snapshot() {
+        return new OrderSnapshot(id, version, orderItems.getCurrency(), shippingAddress,
+            status, orderItems.toList(), customerId);
     }
 
     // Getters for order details
@@ -40,51 +129,211 @@ public class OrderAggregate {
         return id;
     }
 
+    /**
+     * Returns the ID of the customer who placed the order, if the order was created with one.
+     */
+    public Optional<UUID> getCustomerId() {
+        return Optional.ofNullable(customerId);
+    }
+
     public OrderStatus getStatus() {
         return status;
     }
 
+    /**
+     * Returns an immutable list of order items in the order they were added.
+     */
     public List<OrderItemDetails> getOrderItems() {
-        return orderItems;
+        return orderItems.toList();
+    }
+
+    /**
+     * Returns the line for a product, if the product is part of the order.
+     */
+    public Optional<OrderItemDetails> getOrderItem(UUID productId) {
+        return orderItems.get(productId);
     }
 
     public Money getTotalPrice() {
-        return totalPrice;
+        return orderItems.getTotalPrice();
     }
 
     public Address getShippingAddress() {
         return shippingAddress;
     }
 
+    /**
+     * Returns the number of events this order consists of, including pending ones.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the events recorded since the order was last persisted.
+     */
+    public List<OrderEvent> getPendingEvents() {
+        return List.copyOf(pendingEvents);
+    }
+
+    /**
+     * Marks the pending events as persisted.
+     */
+    public void markEventsCommitted() {
+        pendingEvents.clear();
+    }
+
+    /**
+     * Marks the oldest pending events as persisted, keeping the ones recorded after them.
+     *
+     * @param count The number of events that were persisted
+     * @throws IllegalArgumentException if fewer events are pending
+     */
+    public void markEventsCommitted(int count) {
+        if (count < 0 || count > pendingEvents.size()) {
+            throw new IllegalArgumentException("Cannot commit " + count + " of " + pendingEvents.size() + " events");
+        }
+        pendingEvents.subList(0, count).clear();
+    }
+
     /**
      * Adds an item to the order and updates the total price.
+     * An item for a product already in the order at the same price is merged into its line.
+     *
+     * @throws InvalidOrderItemException if the product is already ordered at a different price
      */
     public void addOrderItem(OrderItemDetails item) {
-        orderItems.add(item);
-        recalculateTotalPrice();
+        record(new OrderItemAdded(id, item));
+    }
+
+    /**
+     * Removes an item from the order and updates the total price.
+     * Returns true if the item was part of the order.
+     */
+    public boolean removeOrderItem(OrderItemDetails item) {
+        if (!item.equals(orderItems.get(item.getProductId()).orElse(null))) {
+            return false;
+        }
+        record(new OrderItemRemoved(id, item.getProductId()));
+        return true;
+    }
+
+    /**
+     * Removes the line for a product and updates the total price.
+     * Returns true if the product was part of the order.
+     */
+    public boolean removeOrderItem(UUID productId) {
+        if (!orderItems.contains(productId)) {
+            return false;
+        }
+        record(new OrderItemRemoved(id, productId));
+        return true;
+    }
+
+    /**
+     * Changes the quantity of the line for a product and updates the total price.
+     *
+     * @throws InvalidOrderItemException if the product is not part of the order or the quantity is invalid
+     */
+    public void changeQuantity(UUID productId, int newQuantity) {
+        record(new OrderItemQuantityChanged(id, productId, newQuantity));
+    }
+
+    /**
+     * Reserves stock for all order items, or for none of them.
+     *
+     * @param inventoryLookup Returns the inventory of a product, or null if the product is unknown
+     * @return The reservation, or empty if any product did not have enough stock
+     */
+    public Optional<StockReservation> reserveStock(Function<UUID, ? extends Inventory> inventoryLookup) {
+        return StockReservation.tryReserve(orderItems.toList(), inventoryLookup);
     }
 
     /**
-     * Recalculates the total order price based on item prices and quantities.
+     * Recalculates the total order price from scratch based on item prices and quantities.
      */
-    private void recalculateTotalPrice() {
-        BigDecimal total = orderItems.stream()
-            .map(item -> item.getPrice().getAmount().multiply(new BigDecimal(item.getQuantity())))
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
-        totalPrice = new Money("USD", total);
+    Money recalculateTotalPrice() {
+        return orderItems.recalculateTotalPrice();
     }
 
     /**
      * Updates the shipping address for the order.
+     *
+     * @throws IllegalStateException if the order has already shipped
      */
     public void updateShippingAddress(Address newAddress) {
-        this.shippingAddress = newAddress;
+        if (!status.allowsAddressChange()) {
+            throw new IllegalStateException("Cannot change address after shipping.");
+        }
+        record(new ShippingAddressChanged(id, newAddress));
     }
 
     /**
-     * Changes the order status (e.g., from NEW to SHIPPED).
+     * Changes the order status along its lifecycle (e.g., from NEW to CONFIRMED) and notifies the
+     * status listeners.
+     *
+     * @throws IllegalStateException if the transition is not allowed
      */
     public void changeStatus(OrderStatus newStatus) {
-        this.status = newStatus;
+        OrderStatus previous = status;
+        record(new StatusChanged(id, previous, previous.checkTransitionTo(newStatus)));
+        OrderStatusListeners.fire(id, previous, newStatus);
+    }
+
+    /**
+     * Moves many orders to the same status at once, e.g. when a warehouse dispatches a batch.
+     * Orders that cannot make the transition are left unchanged and returned.
+     *
+     * @param orders The orders to move
+     * @param newStatus The target status
+     * @return The orders whose status did not allow the transition
+     */
+    public static List<OrderAggregate> transitionAll(Iterable<OrderAggregate> orders, OrderStatus newStatus) {
+        List<OrderAggregate> rejected = new ArrayList<>();
+        for (OrderAggregate order : orders) {
+            OrderStatus previous = order.status;
+            if (previous.canTransitionTo(newStatus)) {
+                order.record(new StatusChanged(order.id, previous, newStatus));
+                OrderStatusListeners.fire(order.id, previous, newStatus);
+            } else {
+                rejected.add(order);
+            }
+        }
+        return rejected;
+    }
+
+    /**
+     * Applies a new event to the state and keeps it as pending. Nothing is recorded if the event is invalid.
+     */
+    private void record(OrderEvent event) {
+        apply(event);
+        pendingEvents.add(event);
+    }
+
+    private void applyAll(List<? extends OrderEvent> events, int from) {
+        for (int i = from, size = events.size(); i < size; i++) {
+            OrderEvent event = events.get(i);
+            if (!id.equals(event.orderId())) {
+                throw new IllegalArgumentException("Event belongs to order " + event.orderId());
+            }
+            apply(event);
+        }
+    }
+
+    private void apply(OrderEvent event) {
+        if (event instanceof OrderItemAdded added) {
+            orderItems.add(added.item());
+        } else if (event instanceof OrderItemQuantityChanged changed) {
+            orderItems.changeQuantity(changed.productId(), changed.quantity());
+        } else if (event instanceof OrderItemRemoved removed) {
+            orderItems.remove(removed.productId());
+        } else if (event instanceof StatusChanged changed) {
+            status = changed.to();
+        } else if (event instanceof ShippingAddressChanged changed) {
+            shippingAddress = changed.shippingAddress();
+        } else {
+            throw new IllegalArgumentException("Unexpected event " + event);
+        }
+        version++;
     }
 }
@@ -1,30 +1,46 @@
 package com.await.dddcore.aggregates;
 
+import com.await.dddcore.inventory.AtomicInventory;
+import com.await.dddcore.inventory.Inventory;
+import com.await.dddcore.inventory.StockHolds;
 import com.await.dddcore.valueobjects.Money;
 import com.await.dddcore.valueobjects.ProductDetails;
 import com.await.dddcore.valueobjects.Stock;
 
+import java.time.Duration;
+import java.util.OptionalLong;
 import java.util.UUID;
 
 /**
  * Product aggregate representing a single product in the system.
  * It contains product details, price, and stock management.
+ * <p>
+ * Stock is held in a thread-safe {@link Inventory}, so concurrent checkouts can neither oversell
+ * nor lose updates.
  */
 public class ProductAggregate {
 
     private final UUID id; // Unique product identifier
     private final ProductDetails details; // Product-specific details (name, description, etc.)
     private Money price; // Product price
-    private Stock stock; // Stock information
+    private final Inventory inventory; // Stock information
 
     /**
      * Initializes a new product with its details, price, and stock level.
+     * The stock is held in a lock-free {@link AtomicInventory}.
      */
     public ProductAggregate(UUID id, ProductDetails details, Money price, Stock stock) {
+        this(id, details, price, new AtomicInventory(stock));
+    }
+
+    /**
+     * Initializes a new product whose stock is held in the given inventory.
+     */
+    public ProductAggregate(UUID id, ProductDetails details, Money price, Inventory inventory) {
         this.id = id;
         this.details = details;
         this.price = price;
-        this.stock = stock;
+        this.inventory = inventory;
     }
 
     // Getters for product attributes
@@ -41,20 +57,56 @@ public class ProductAggregate {
         return price;
     }
 
+    /**
+     * Returns a snapshot of the available stock.
+     */
     public Stock getStock() {
-        return stock;
+        return inventory.snapshot();
+    }
+
+    public Inventory getInventory() {
+        return inventory;
     }
 
     /**
      * Reduces stock by a given quantity if enough stock is available.
      * Returns true if the stock was successfully reduced, otherwise false.
+     * The check and the reduction happen atomically.
      */
     public boolean reduceStock(int quantity) {
-        if (stock.getQuantity() >= quantity) {
-            stock = stock.reduceStock(quantity);
-            return true;
-        }
-        return false;
+        return inventory.tryConsume(quantity);
+    }
+
+    /**
+     * Reserves stock for a pending checkout.
+     * Returns true if enough stock was available.
+     */
+    public boolean tryReserve(int quantity) {
+        return inventory.tryReserve(quantity);
+    }
+
+    /**
+     * Returns reserved stock, e.g. when a checkout is abandoned.
+     */
+    public void releaseReservation(int quantity) {
+        inventory.release(quantity);
+    }
+
+    /**
+     * Permanently removes reserved stock, e.g. when a checkout is paid.
+     */
+    public void commitReservation(int quantity) {
+        inventory.commit(quantity);
+    }
+
+    /**
+     * Holds stock for a limited time, e.g. while a checkout waits for payment.
+     * The hold is confirmed or cancelled through the given holds and expires on its own otherwise.
+     *
+     * @return The hold ID, or empty if not enough stock was available
+     */
+    public OptionalLong tryHoldStock(StockHolds holds, int quantity, Duration ttl) {
+        return holds.tryHold(inventory, quantity, ttl);
     }
 
     /**
@@ -0,0 +1,60 @@
+package com.await.dddcore.codec;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Binary encoding of one type that writes to and reads from a buffer's current position.
+ *
+ * @param <T> The encoded type
+ */
+public interface Codec<T> {
+
+    /**
+     * Writes a value at the buffer's position and advances it.
+     *
+     * @throws BufferOverflowException if the buffer has too little room left
+     */
+    void encode(T value, ByteBuffer target);
+
+    /**
+     * Reads a value at the buffer's position and advances it.
+     *
+     * @throws IllegalArgumentException if the bytes are not a valid encoding
+     * @throws java.nio.BufferUnderflowException if the encoding is truncated
+     */
+    T decode(ByteBuffer source);
+
+    /**
+     * Encodes a value into an exactly sized array, e.g. as a record for the event log.
+     */
+    default byte[] toBytes(T value) {
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        while (true) {
+            try {
+                encode(value, buffer);
+                return Arrays.copyOf(buffer.array(), buffer.position());
+            } catch (BufferOverflowException e) {
+                buffer = ByteBuffer.allocate(buffer.capacity() * 2);
+            }
+        }
+    }
+
+    /**
+     * Decodes a value that must span the remaining bytes of the buffer.
+     *
+     * @throws IllegalArgumentException if bytes are left over
+     */
+    default T decodeFully(ByteBuffer source) {
+        T value = decode(source);
+        if (source.hasRemaining()) {
+            throw new IllegalArgumentException(source.remaining() + " trailing bytes after the encoded value");
+        }
+        return value;
+    }
+
+    default T fromBytes(byte[] bytes) {
+        return decodeFully(ByteBuffer.wrap(bytes));
+    }
+}
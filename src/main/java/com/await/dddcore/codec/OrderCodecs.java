@@ -0,0 +1,169 @@
+package com.await.dddcore.codec;
+
+import com.await.dddcore.aggregates.OrderAggregate;
+import com.await.dddcore.events.OrderCreated;
+import com.await.dddcore.events.OrderEvent;
+import com.await.dddcore.events.OrderItemAdded;
+import com.await.dddcore.events.OrderItemQuantityChanged;
+import com.await.dddcore.events.OrderItemRemoved;
+import com.await.dddcore.events.OrderSnapshot;
+import com.await.dddcore.events.ShippingAddressChanged;
+import com.await.dddcore.events.StatusChanged;
+import com.await.dddcore.valueobjects.Address;
+import com.await.dddcore.valueobjects.CurrencyUnit;
+import com.await.dddcore.valueobjects.OrderItemDetails;
+import com.await.dddcore.valueobjects.OrderStatus;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Versioned codecs for order events, order snapshots and orders.
+ * <p>
+ * Every record starts with a schema version byte. Writers always use {@link #VERSION}; readers accept
+ * every version up to it, so a format change adds a version and keeps decoding the old ones. Events
+ * continue with a type byte and the order ID, followed by the fields of the event type.
+ * <p>
+ * Version 2 appends the optional customer ID to {@link OrderCreated} and to snapshots.
+ */
+public final class OrderCodecs {
+
+    /**
+     * The schema version written by these codecs.
+     */
+    public static final int VERSION = 2;
+
+    // Event type codes are part of the format: append new types, never reuse a code
+    private static final int ORDER_CREATED = 1;
+    private static final int ITEM_ADDED = 2;
+    private static final int ITEM_REMOVED = 3;
+    private static final int ITEM_QUANTITY_CHANGED = 4;
+    private static final int SHIPPING_ADDRESS_CHANGED = 5;
+    private static final int STATUS_CHANGED = 6;
+
+    public static final Codec<OrderEvent> EVENT = ValueCodecs.of(OrderCodecs::putEvent, OrderCodecs::getEvent);
+    public static final Codec<OrderSnapshot> SNAPSHOT =
+        ValueCodecs.of(OrderCodecs::putSnapshot, OrderCodecs::getSnapshot);
+
+    /**
+     * Encodes an order as its snapshot and decodes it by restoring the snapshot. Pending events are not
+     * part of the encoding.
+     */
+    public static final Codec<OrderAggregate> ORDER = ValueCodecs.of(
+        (target, order) -> putSnapshot(target, order.snapshot()),
+        source -> OrderAggregate.replay(getSnapshot(source), List.of()));
+
+    private OrderCodecs() {
+    }
+
+    public static void putEvent(ByteBuffer target, OrderEvent event) {
+        target.put((byte) VERSION);
+        if (event instanceof OrderCreated created) {
+            header(target, ORDER_CREATED, created.orderId());
+            ValueCodecs.putAddress(target, created.shippingAddress());
+            ValueCodecs.putCurrency(target, created.currency());
+            putOptionalUuid(target, created.customerId());
+        } else if (event instanceof OrderItemAdded added) {
+            header(target, ITEM_ADDED, added.orderId());
+            ValueCodecs.putOrderItem(target, added.item());
+        } else if (event instanceof OrderItemRemoved removed) {
+            header(target, ITEM_REMOVED, removed.orderId());
+            Wire.putUuid(target, removed.productId());
+        } else if (event instanceof OrderItemQuantityChanged changed) {
+            header(target, ITEM_QUANTITY_CHANGED, changed.orderId());
+            Wire.putUuid(target, changed.productId());
+            Wire.putVarInt(target, changed.quantity());
+        } else if (event instanceof ShippingAddressChanged changed) {
+            header(target, SHIPPING_ADDRESS_CHANGED, changed.orderId());
+            ValueCodecs.putAddress(target, changed.shippingAddress());
+        } else if (event instanceof StatusChanged changed) {
+            header(target, STATUS_CHANGED, changed.orderId());
+            ValueCodecs.putStatus(target, changed.from());
+            ValueCodecs.putStatus(target, changed.to());
+        } else {
+            throw new IllegalArgumentException("Unsupported event: " + event);
+        }
+    }
+
+    public static OrderEvent getEvent(ByteBuffer source) {
+        int version = Wire.getVersion(source, VERSION);
+        int type = source.get();
+        UUID orderId = Wire.getUuid(source);
+        switch (type) {
+            case ORDER_CREATED: {
+                Address address = ValueCodecs.getAddress(source);
+                CurrencyUnit currency = ValueCodecs.getCurrency(source);
+                return new OrderCreated(orderId, address, currency, version < 2 ? null : getOptionalUuid(source));
+            }
+            case ITEM_ADDED:
+                return new OrderItemAdded(orderId, ValueCodecs.getOrderItem(source));
+            case ITEM_REMOVED:
+                return new OrderItemRemoved(orderId, Wire.getUuid(source));
+            case ITEM_QUANTITY_CHANGED: {
+                UUID productId = Wire.getUuid(source);
+                return new OrderItemQuantityChanged(orderId, productId, Wire.getVarInt(source));
+            }
+            case SHIPPING_ADDRESS_CHANGED:
+                return new ShippingAddressChanged(orderId, ValueCodecs.getAddress(source));
+            case STATUS_CHANGED: {
+                OrderStatus from = ValueCodecs.getStatus(source);
+                return new StatusChanged(orderId, from, ValueCodecs.getStatus(source));
+            }
+            default:
+                throw new IllegalArgumentException("Unknown event type: " + type);
+        }
+    }
+
+    public static void putSnapshot(ByteBuffer target, OrderSnapshot snapshot) {
+        target.put((byte) VERSION);
+        Wire.putUuid(target, snapshot.orderId());
+        Wire.putVarLong(target, snapshot.version());
+        ValueCodecs.putCurrency(target, snapshot.currency());
+        ValueCodecs.putAddress(target, snapshot.shippingAddress());
+        ValueCodecs.putStatus(target, snapshot.status());
+        List<OrderItemDetails> items = snapshot.items();
+        Wire.putVarInt(target, items.size());
+        for (int i = 0; i < items.size(); i++) {
+            ValueCodecs.putOrderItem(target, items.get(i));
+        }
+        putOptionalUuid(target, snapshot.customerId());
+    }
+
+    public static OrderSnapshot getSnapshot(ByteBuffer source) {
+        int schema = Wire.getVersion(source, VERSION);
+        UUID orderId = Wire.getUuid(source);
+        long version = Wire.getVarLong(source);
+        CurrencyUnit currency = ValueCodecs.getCurrency(source);
+        Address address = ValueCodecs.getAddress(source);
+        OrderStatus status = ValueCodecs.getStatus(source);
+        int count = Wire.getVarInt(source);
+        // Every item takes more than 16 bytes, which bounds the list before allocating it
+        if (count > source.remaining() / 16) {
+            throw new IllegalArgumentException("Item count exceeds the buffer: " + count);
+        }
+        List<OrderItemDetails> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(ValueCodecs.getOrderItem(source));
+        }
+        UUID customerId = schema < 2 ? null : getOptionalUuid(source);
+        return new OrderSnapshot(orderId, version, currency, address, status, items, customerId);
+    }
+
+    private static void putOptionalUuid(ByteBuffer target, UUID value) {
+        target.put((byte) (value == null ? 0 : 1));
+        if (value != null) {
+            Wire.putUuid(target, value);
+        }
+    }
+
+    private static UUID getOptionalUuid(ByteBuffer source) {
+        return source.get() == 0 ? null : Wire.getUuid(source);
+    }
+
+    private static void header(ByteBuffer target, int type, UUID orderId) {
+        target.put((byte) type);
+        Wire.putUuid(target, orderId);
+    }
+}
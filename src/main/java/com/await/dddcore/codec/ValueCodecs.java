@@ -0,0 +1,235 @@
+package com.await.dddcore.codec;
+
+import com.await.dddcore.valueobjects.Address;
+import com.await.dddcore.valueobjects.CurrencyUnit;
+import com.await.dddcore.valueobjects.Dimensions;
+import com.await.dddcore.valueobjects.Email;
+import com.await.dddcore.valueobjects.Money;
+import com.await.dddcore.valueobjects.Name;
+import com.await.dddcore.valueobjects.OrderItemDetails;
+import com.await.dddcore.valueobjects.OrderStatus;
+import com.await.dddcore.valueobjects.ProductDetails;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * Codecs for the value objects. Value objects carry no schema version of their own; they are versioned
+ * by the record that contains them, see {@link OrderCodecs}. Decoding runs the value object constructors,
+ * so encoded data is validated like any other input.
+ */
+public final class ValueCodecs {
+
+    private static final int MINOR_UNITS = 0;     // Money held as a count of minor units
+    private static final int DECIMAL = 1;         // Money held as a decimal
+    private static final int HAS_DESCRIPTION = 1; // Product details flags
+    private static final int HAS_DIMENSIONS = 2;
+
+    // Status codes are part of the format: append new statuses, never reorder
+    private static final OrderStatus[] STATUSES = {
+        OrderStatus.NEW, OrderStatus.CONFIRMED, OrderStatus.SHIPPED, OrderStatus.DELIVERED
+    };
+    private static final byte[] STATUS_CODES = new byte[STATUSES.length];
+
+    // Three-letter currency codes, indexed by their letters, so decoding them needs no string
+    private static final CurrencyUnit[] CURRENCIES = new CurrencyUnit[26 * 26 * 26];
+
+    static {
+        for (int code = 0; code < STATUSES.length; code++) {
+            STATUS_CODES[STATUSES[code].ordinal()] = (byte) code;
+        }
+    }
+
+    public static final Codec<CurrencyUnit> CURRENCY = of(ValueCodecs::putCurrency, ValueCodecs::getCurrency);
+    public static final Codec<Money> MONEY = of(ValueCodecs::putMoney, ValueCodecs::getMoney);
+    public static final Codec<Address> ADDRESS = of(ValueCodecs::putAddress, ValueCodecs::getAddress);
+    public static final Codec<Name> NAME = of(ValueCodecs::putName, ValueCodecs::getName);
+    public static final Codec<Email> EMAIL = of(ValueCodecs::putEmail, ValueCodecs::getEmail);
+    public static final Codec<Dimensions> DIMENSIONS = of(ValueCodecs::putDimensions, ValueCodecs::getDimensions);
+    public static final Codec<ProductDetails> PRODUCT_DETAILS =
+        of(ValueCodecs::putProductDetails, ValueCodecs::getProductDetails);
+    public static final Codec<OrderItemDetails> ORDER_ITEM = of(ValueCodecs::putOrderItem, ValueCodecs::getOrderItem);
+    public static final Codec<OrderStatus> ORDER_STATUS = of(ValueCodecs::putStatus, ValueCodecs::getStatus);
+
+    private ValueCodecs() {
+    }
+
+    public static void putCurrency(ByteBuffer target, CurrencyUnit currency) {
+        Wire.putString(target, currency.getCode());
+    }
+
+    public static CurrencyUnit getCurrency(ByteBuffer source) {
+        int at = source.position();
+        if (source.remaining() >= 4 && source.get(at) == 3) {
+            int first = letter(source.get(at + 1));
+            int second = letter(source.get(at + 2));
+            int third = letter(source.get(at + 3));
+            if ((first | second | third) >= 0) {
+                int key = (first * 26 + second) * 26 + third;
+                CurrencyUnit currency = CURRENCIES[key];
+                if (currency == null) {
+                    currency = CurrencyUnit.of(Wire.getString(source));
+                    if (currency.isCanonical()) {
+                        CURRENCIES[key] = currency; // Benign race: every thread stores the same canonical unit
+                    }
+                } else {
+                    source.position(at + 4);
+                }
+                return currency;
+            }
+        }
+        return CurrencyUnit.of(Wire.getString(source));
+    }
+
+    /**
+     * Writes the currency and the amount, as a zigzag varint of minor units whenever possible.
+     */
+    public static void putMoney(ByteBuffer target, Money money) {
+        putCurrency(target, money.getCurrencyUnit());
+        if (money.isCompact()) {
+            target.put((byte) MINOR_UNITS);
+            Wire.putZigZag(target, money.minorUnits());
+        } else {
+            target.put((byte) DECIMAL);
+            Wire.putDecimal(target, money.getAmount());
+        }
+    }
+
+    public static Money getMoney(ByteBuffer source) {
+        CurrencyUnit currency = getCurrency(source);
+        int kind = source.get();
+        if (kind == MINOR_UNITS) {
+            return Money.ofMinor(currency, Wire.getZigZag(source));
+        }
+        if (kind == DECIMAL) {
+            return new Money(currency, Wire.getDecimal(source));
+        }
+        throw new IllegalArgumentException("Unknown amount encoding: " + kind);
+    }
+
+    public static void putAddress(ByteBuffer target, Address address) {
+        Wire.putString(target, address.getCountry());
+        Wire.putString(target, address.getCity());
+        Wire.putString(target, address.getStreet());
+        Wire.putString(target, address.getPostalCode());
+    }
+
+    public static Address getAddress(ByteBuffer source) {
+        String country = Wire.getString(source);
+        String city = Wire.getString(source);
+        String street = Wire.getString(source);
+        return new Address(country, city, street, Wire.getString(source));
+    }
+
+    public static void putName(ByteBuffer target, Name name) {
+        Wire.putString(target, name.getFirstName());
+        Wire.putString(target, name.getLastName());
+    }
+
+    public static Name getName(ByteBuffer source) {
+        String firstName = Wire.getString(source);
+        return new Name(firstName, Wire.getString(source));
+    }
+
+    public static void putEmail(ByteBuffer target, Email email) {
+        Wire.putString(target, email.getEmail());
+    }
+
+    public static Email getEmail(ByteBuffer source) {
+        return new Email(Wire.getString(source));
+    }
+
+    public static void putDimensions(ByteBuffer target, Dimensions dimensions) {
+        target.putDouble(dimensions.getLength());
+        target.putDouble(dimensions.getWidth());
+        target.putDouble(dimensions.getHeight());
+    }
+
+    public static Dimensions getDimensions(ByteBuffer source) {
+        double length = source.getDouble();
+        double width = source.getDouble();
+        return new Dimensions(length, width, source.getDouble());
+    }
+
+    public static void putProductDetails(ByteBuffer target, ProductDetails details) {
+        int flags = (details.getDescription() != null ? HAS_DESCRIPTION : 0)
+            | (details.getDimensions() != null ? HAS_DIMENSIONS : 0);
+        target.put((byte) flags);
+        Wire.putString(target, details.getName());
+        if (details.getDescription() != null) {
+            Wire.putString(target, details.getDescription());
+        }
+        if (details.getDimensions() != null) {
+            putDimensions(target, details.getDimensions());
+        }
+    }
+
+    public static ProductDetails getProductDetails(ByteBuffer source) {
+        int flags = source.get();
+        String name = Wire.getString(source);
+        String description = (flags & HAS_DESCRIPTION) != 0 ? Wire.getString(source) : null;
+        Dimensions dimensions = (flags & HAS_DIMENSIONS) != 0 ? getDimensions(source) : null;
+        return new ProductDetails(name, description, dimensions);
+    }
+
+    public static void putOrderItem(ByteBuffer target, OrderItemDetails item) {
+        Wire.putUuid(target, item.getProductId());
+        Wire.putVarInt(target, item.getQuantity());
+        putMoney(target, item.getPrice());
+    }
+
+    public static OrderItemDetails getOrderItem(ByteBuffer source) {
+        UUID productId = Wire.getUuid(source);
+        int quantity = Wire.getVarInt(source);
+        return new OrderItemDetails(productId, quantity, getMoney(source));
+    }
+
+    /**
+     * Writes a status as one byte.
+     */
+    public static void putStatus(ByteBuffer target, OrderStatus status) {
+        target.put(STATUS_CODES[status.ordinal()]);
+    }
+
+    public static OrderStatus getStatus(ByteBuffer source) {
+        int code = source.get();
+        if (code < 0 || code >= STATUSES.length) {
+            throw new IllegalArgumentException("Unknown order status code: " + code);
+        }
+        return STATUSES[code];
+    }
+
+    private static int letter(byte b) {
+        return b >= 'A' && b <= 'Z' ? b - 'A' : -1;
+    }
+
+    /**
+     * Writes a value at the buffer's position.
+     */
+    @FunctionalInterface
+    interface Writer<T> {
+        void write(ByteBuffer target, T value);
+    }
+
+    /**
+     * Reads a value at the buffer's position.
+     */
+    @FunctionalInterface
+    interface Reader<T> {
+        T read(ByteBuffer source);
+    }
+
+    static <T> Codec<T> of(Writer<T> writer, Reader<T> reader) {
+        return new Codec<>() {
+            @Override
+            public void encode(T value, ByteBuffer target) {
+                writer.write(target, value);
+            }
+
+            @Override
+            public T decode(ByteBuffer source) {
+                return reader.read(source);
+            }
+        };
+    }
+}
@@ -0,0 +1,212 @@
+package com.await.dddcore.codec;
+
+import com.await.dddcore.valueobjects.Money;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Primitive encodings shared by all codecs. Everything is written to and read from the buffer's current
+ * position, without intermediate arrays except where a value itself must be allocated.
+ * <ul>
+ *     <li>Unsigned varints store 7 bits per byte, low bits first; small numbers take one byte.</li>
+ *     <li>Signed varints are zigzag-encoded first, so small negative numbers stay small as well.</li>
+ *     <li>UUIDs are two longs in the buffer's byte order.</li>
+ *     <li>Strings are their UTF-8 length as a varint followed by the UTF-8 bytes.</li>
+ * </ul>
+ * Reading past the end of the buffer throws {@link java.nio.BufferUnderflowException}; writing past
+ * the limit throws {@link java.nio.BufferOverflowException}.
+ */
+public final class Wire {
+
+    private Wire() {
+    }
+
+    public static void putVarLong(ByteBuffer target, long value) {
+        while ((value & ~0x7FL) != 0) {
+            target.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        target.put((byte) value);
+    }
+
+    public static long getVarLong(ByteBuffer source) {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            byte b = source.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    /**
+     * Writes a non-negative int as an unsigned varint.
+     */
+    public static void putVarInt(ByteBuffer target, int value) {
+        putVarLong(target, value & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Reads an int written by {@link #putVarInt}.
+     *
+     * @throws IllegalArgumentException if the value does not fit into an int
+     */
+    public static int getVarInt(ByteBuffer source) {
+        long value = getVarLong(source);
+        if ((value >>> Integer.SIZE) != 0) {
+            throw new IllegalArgumentException("Varint out of int range: " + value);
+        }
+        return (int) value;
+    }
+
+    public static void putZigZag(ByteBuffer target, long value) {
+        putVarLong(target, (value << 1) ^ (value >> 63));
+    }
+
+    public static long getZigZag(ByteBuffer source) {
+        long value = getVarLong(source);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    public static void putUuid(ByteBuffer target, UUID value) {
+        target.putLong(value.getMostSignificantBits());
+        target.putLong(value.getLeastSignificantBits());
+    }
+
+    public static UUID getUuid(ByteBuffer source) {
+        long most = source.getLong();
+        return new UUID(most, source.getLong());
+    }
+
+    public static void putString(ByteBuffer target, String value) {
+        int length = value.length();
+        int ascii = 0;
+        while (ascii < length && value.charAt(ascii) < 0x80) {
+            ascii++;
+        }
+        putVarInt(target, ascii == length ? length : utf8Length(value, ascii));
+        for (int i = 0; i < ascii; i++) {
+            target.put((byte) value.charAt(i));
+        }
+        for (int i = ascii; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                target.put((byte) c);
+            } else if (c < 0x800) {
+                target.put((byte) (0xC0 | c >> 6));
+                target.put((byte) (0x80 | c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length
+                && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                target.put((byte) (0xF0 | codePoint >> 18));
+                target.put((byte) (0x80 | codePoint >> 12 & 0x3F));
+                target.put((byte) (0x80 | codePoint >> 6 & 0x3F));
+                target.put((byte) (0x80 | codePoint & 0x3F));
+            } else {
+                // Unpaired surrogates become '?', like String.getBytes does
+                if (Character.isSurrogate(c)) {
+                    c = '?';
+                }
+                if (c < 0x80) {
+                    target.put((byte) c);
+                } else {
+                    target.put((byte) (0xE0 | c >> 12));
+                    target.put((byte) (0x80 | c >> 6 & 0x3F));
+                    target.put((byte) (0x80 | c & 0x3F));
+                }
+            }
+        }
+    }
+
+    public static String getString(ByteBuffer source) {
+        int bytes = getVarInt(source);
+        if (bytes > source.remaining()) {
+            throw new IllegalArgumentException("String length exceeds the buffer: " + bytes);
+        }
+        String value;
+        if (source.hasArray()) {
+            value = new String(source.array(), source.arrayOffset() + source.position(), bytes, StandardCharsets.UTF_8);
+            source.position(source.position() + bytes);
+        } else {
+            byte[] copy = new byte[bytes];
+            source.get(copy);
+            value = new String(copy, StandardCharsets.UTF_8);
+        }
+        return value;
+    }
+
+    /**
+     * Writes a decimal as its zigzag scale and the two's complement bytes of its unscaled value.
+     */
+    public static void putDecimal(ByteBuffer target, BigDecimal value) {
+        putZigZag(target, value.scale());
+        byte[] unscaled = value.unscaledValue().toByteArray();
+        putVarInt(target, unscaled.length);
+        target.put(unscaled);
+    }
+
+    /**
+     * Reads a decimal written by {@link #putDecimal}.
+     *
+     * @throws IllegalArgumentException if the decimal is malformed or outside the scale and precision
+     *                                  limits of {@link Money}
+     */
+    public static BigDecimal getDecimal(ByteBuffer source) {
+        long scale = getZigZag(source);
+        if (Math.abs(scale) > Money.MAX_SCALE) {
+            throw new IllegalArgumentException("Decimal scale out of range: " + scale);
+        }
+        int length = getVarInt(source);
+        // 100 digits need at most 42 bytes
+        if (length == 0 || length > source.remaining() || length > Money.MAX_PRECISION / 2) {
+            throw new IllegalArgumentException("Invalid decimal length: " + length);
+        }
+        byte[] unscaled = new byte[length];
+        source.get(unscaled);
+        BigDecimal value = new BigDecimal(new BigInteger(unscaled), (int) scale);
+        if (value.precision() > Money.MAX_PRECISION) {
+            throw new IllegalArgumentException("Decimal precision out of range: " + value.precision());
+        }
+        return value;
+    }
+
+    /**
+     * Reads a schema version byte and checks that this reader understands it.
+     *
+     * @param newest The newest version the caller can decode
+     * @return The version of the record
+     * @throws IllegalArgumentException if the version is unknown
+     */
+    public static int getVersion(ByteBuffer source, int newest) {
+        int version = source.get() & 0xFF;
+        if (version < 1 || version > newest) {
+            throw new IllegalArgumentException("Unsupported schema version: " + version);
+        }
+        return version;
+    }
+
+    private static int utf8Length(String value, int from) {
+        int bytes = from;
+        for (int i = from; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                bytes++;
+            } else if (c < 0x800) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                && Character.isLowSurrogate(value.charAt(i + 1))) {
+                bytes += 4;
+                i++;
+            } else {
+                bytes += Character.isSurrogate(c) ? 1 : 3;
+            }
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,96 @@
+package com.await.dddcore.collections;
+
+import java.lang.ref.WeakReference;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
+
+/**
+ * Thread-safe pool of canonical instances of immutable values, so equal values can share one instance.
+ * <p>
+ * The pool holds its instances weakly: an instance no longer referenced outside the pool is collected and
+ * dropped from it. Entries are spread over independently locked {@link WeakHashMap} stripes. Hits and
+ * misses are counted to judge whether interning a kind of value pays off.
+ */
+public final class InternPool<T> {
+
+    private static final int STRIPES = 16;
+
+    private final WeakHashMap<T, WeakReference<T>>[] stripes; // Canonical instances, keyed by themselves
+    private final LongAdder hits = new LongAdder();             // Lookups that found a canonical instance
+    private final LongAdder misses = new LongAdder();           // Lookups that added one
+
+    @SuppressWarnings("unchecked")
+    public InternPool() {
+        stripes = (WeakHashMap<T, WeakReference<T>>[]) new WeakHashMap<?, ?>[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new WeakHashMap<>();
+        }
+    }
+
+    /**
+     * Returns the canonical instance equal to {@code value}, making {@code value} canonical if there is none.
+     */
+    public T intern(T value) {
+        return intern(value, UnaryOperator.identity());
+    }
+
+    /**
+     * Returns the canonical instance equal to {@code value}. If there is none, {@code canonicalize} creates
+     * one from {@code value}, e.g. with interned components, which must be equal to {@code value}.
+     */
+    public T intern(T value, UnaryOperator<T> canonicalize) {
+        int hash = value.hashCode();
+        WeakHashMap<T, WeakReference<T>> stripe = stripes[(hash ^ hash >>> 16) & (STRIPES - 1)];
+        synchronized (stripe) {
+            WeakReference<T> reference = stripe.get(value);
+            T canonical = reference == null ? null : reference.get();
+            if (canonical != null) {
+                hits.increment();
+                return canonical;
+            }
+            canonical = canonicalize.apply(value);
+            stripe.put(canonical, new WeakReference<>(canonical));
+            misses.increment();
+            return canonical;
+        }
+    }
+
+    /**
+     * Returns the number of canonical instances that have not been collected yet.
+     */
+    public int size() {
+        int size = 0;
+        for (WeakHashMap<T, WeakReference<T>> stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the share of lookups that found a canonical instance, or 0 before the first lookup.
+     */
+    public double hitRate() {
+        long hits = hits();
+        long total = hits + misses();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    /**
+     * Resets the hit and miss counts; the pooled instances are kept.
+     */
+    public void resetStats() {
+        hits.reset();
+        misses.reset();
+    }
+}
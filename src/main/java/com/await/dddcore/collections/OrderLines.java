@@ -0,0 +1,215 @@
+package com.await.dddcore.collections;
+
+import com.await.dddcore.exceptions.InvalidOrderItemException;
+import com.await.dddcore.valueobjects.CurrencyUnit;
+import com.await.dddcore.valueobjects.Money;
+import com.await.dddcore.valueobjects.MoneyAccumulator;
+import com.await.dddcore.valueobjects.OrderItemDetails;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * The lines of an order, indexed by product ID and kept in insertion order.
+ * <p>
+ * Each product has at most one line: adding a product again at the same price merges the quantities.
+ * Lines are stored in a {@link PersistentVector}, with the position of each product in a hash map, so
+ * lookup is O(1), adding and updating are O(log32 n), and {@link #toList} hands out the vector itself.
+ * Removal leaves a hole that is compacted away lazily, by the next {@link #toList} or once holes
+ * outnumber lines. The total price is maintained incrementally; with assertions enabled every change is
+ * verified against a full recalculation of the total.
+ * Not thread-safe; the owning entity or aggregate guards access.
+ */
+public final class OrderLines {
+
+    private final Map<UUID, Integer> positions;       // Position of each product's line in the vector
+    private PersistentVector<OrderItemDetails> lines; // Lines in insertion order, null where one was removed
+    private int holes;                                // Number of removed lines still in the vector
+    private final MoneyAccumulator total;             // Running total of all lines
+    private Money totalPrice;                         // Cached total, rebuilt from the running total when null
+
+    /**
+     * Creates an empty set of lines priced in the given currency.
+     */
+    public OrderLines(CurrencyUnit currency) {
+        this.positions = new HashMap<>();
+        this.lines = PersistentVector.empty();
+        this.total = new MoneyAccumulator(currency);
+    }
+
+    /**
+     * Adds an item, merging it into the existing line for the same product and price.
+     *
+     * @param item The item to add
+     * @return The resulting line for the product
+     * @throws InvalidOrderItemException if the product is already ordered at a different price
+     */
+    public OrderItemDetails add(OrderItemDetails item) {
+        OrderItemDetails existing = line(item.getProductId());
+        if (existing == null) {
+            total.addLine(item);
+            positions.put(item.getProductId(), lines.size());
+            lines = lines.append(item);
+            totalChanged();
+            return item;
+        }
+        if (!existing.getPrice().equals(item.getPrice())) {
+            throw new InvalidOrderItemException("Product is already ordered at a different price.");
+        }
+        int quantity;
+        try {
+            quantity = Math.addExact(existing.getQuantity(), item.getQuantity());
+        } catch (ArithmeticException e) {
+            throw new InvalidOrderItemException("Quantity is too large.");
+        }
+        return replace(existing, existing.withQuantity(quantity));
+    }
+
+    /**
+     * Returns the line for a product, if the product is part of the order.
+     */
+    public Optional<OrderItemDetails> get(UUID productId) {
+        return Optional.ofNullable(line(productId));
+    }
+
+    /**
+     * Checks whether a product is part of the order.
+     */
+    public boolean contains(UUID productId) {
+        return positions.containsKey(productId);
+    }
+
+    /**
+     * Changes the quantity of the line for a product.
+     *
+     * @return The updated line
+     * @throws InvalidOrderItemException if the product is not part of the order or the quantity is invalid
+     */
+    public OrderItemDetails changeQuantity(UUID productId, int newQuantity) {
+        OrderItemDetails existing = line(productId);
+        if (existing == null) {
+            throw new InvalidOrderItemException("Product is not part of the order.");
+        }
+        return replace(existing, existing.withQuantity(newQuantity));
+    }
+
+    /**
+     * Removes the line for a product.
+     *
+     * @return The removed line, or empty if the product was not part of the order
+     */
+    public Optional<OrderItemDetails> remove(UUID productId) {
+        Integer position = positions.remove(productId);
+        if (position == null) {
+            return Optional.empty();
+        }
+        OrderItemDetails removed = lines.get(position);
+        lines = lines.with(position, null);
+        holes++;
+        if (holes > positions.size()) {
+            compact();
+        }
+        total.removeLine(removed);
+        totalChanged();
+        return Optional.of(removed);
+    }
+
+    /**
+     * Removes a line if the order contains exactly this line.
+     *
+     * @return True if the line was removed
+     */
+    public boolean remove(OrderItemDetails item) {
+        if (!item.equals(line(item.getProductId()))) {
+            return false;
+        }
+        remove(item.getProductId());
+        return true;
+    }
+
+    public int size() {
+        return positions.size();
+    }
+
+    public boolean isEmpty() {
+        return positions.isEmpty();
+    }
+
+    /**
+     * Returns the currency all lines are priced in.
+     */
+    public CurrencyUnit getCurrency() {
+        return total.getCurrency();
+    }
+
+    /**
+     * Returns an immutable list of the lines in insertion order. Unless lines were removed since the last
+     * call, this takes O(1) and copies nothing.
+     */
+    public List<OrderItemDetails> toList() {
+        if (holes > 0) {
+            compact();
+        }
+        return lines;
+    }
+
+    /**
+     * Returns the total price of all lines.
+     */
+    public Money getTotalPrice() {
+        if (totalPrice == null) {
+            totalPrice = total.toMoney();
+        }
+        return totalPrice;
+    }
+
+    /**
+     * Recalculates the total price from scratch, ignoring the running total.
+     */
+    public Money recalculateTotalPrice() {
+        MoneyAccumulator recalculated = new MoneyAccumulator(total.getCurrency());
+        for (OrderItemDetails line : lines) {
+            if (line != null) {
+                recalculated.addLine(line);
+            }
+        }
+        return recalculated.toMoney();
+    }
+
+    private OrderItemDetails line(UUID productId) {
+        Integer position = positions.get(productId);
+        return position == null ? null : lines.get(position);
+    }
+
+    private OrderItemDetails replace(OrderItemDetails existing, OrderItemDetails changed) {
+        lines = lines.with(positions.get(changed.getProductId()), changed);
+        total.removeLine(existing).addLine(changed);
+        totalChanged();
+        return changed;
+    }
+
+    /**
+     * Drops the holes left by removed lines and renumbers the positions.
+     */
+    private void compact() {
+        List<OrderItemDetails> kept = new ArrayList<>(positions.size());
+        for (OrderItemDetails line : lines) {
+            if (line != null) {
+                positions.put(line.getProductId(), kept.size());
+                kept.add(line);
+            }
+        }
+        lines = PersistentVector.copyOf(kept);
+        holes = 0;
+    }
+
+    private void totalChanged() {
+        totalPrice = null;
+        assert getTotalPrice().equals(recalculateTotalPrice())
+            : "Running total " + getTotalPrice() + " drifted from " + recalculateTotalPrice();
+    }
+}
@@ -0,0 +1,44 @@
+package com.await.dddcore.collections;
+
+import java.util.List;
+
+/**
+ * One page of a list read with a cursor: the items and the cursor of the next page.
+ * <p>
+ * A cursor is the index of the first item of a page, so it stays valid while the list only grows at the
+ * end, as the order history of a customer does.
+ *
+ * @param items      The items of the page, an immutable copy
+ * @param nextCursor The cursor of the next page, or {@link #END} if this is the last page
+ */
+public record Page<T>(List<T> items, int nextCursor) {
+
+    /**
+     * The next cursor of the last page.
+     */
+    public static final int END = -1;
+
+    /**
+     * Reads the page of a list that starts at a cursor. Only the items of the page are copied.
+     *
+     * @param source The list to read
+     * @param cursor 0 for the first page, or the next cursor of the previous page
+     * @param limit  The maximum number of items
+     * @throws IllegalArgumentException if the cursor is outside the list or the limit is not positive
+     */
+    public static <T> Page<T> of(List<T> source, int cursor, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        int size = source.size();
+        if (cursor < 0 || cursor > size) {
+            throw new IllegalArgumentException("Cursor " + cursor + " is outside the list of " + size);
+        }
+        int end = (int) Math.min((long) cursor + limit, size);
+        return new Page<>(List.copyOf(source.subList(cursor, end)), end == size ? END : end);
+    }
+
+    public boolean hasNext() {
+        return nextCursor != END;
+    }
+}
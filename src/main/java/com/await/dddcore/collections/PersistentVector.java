@@ -0,0 +1,222 @@
+package com.await.dddcore.collections;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+
+/**
+ * Immutable list that shares structure between versions, so a snapshot is the list itself.
+ * <p>
+ * Elements live in a bit-partitioned trie of 32-way nodes, indexed five bits per level, plus a tail of up
+ * to 32 elements outside the trie. Appending copies only the tail, and pushes it into the trie once it is
+ * full, which copies one node per level; {@link #with} copies the path to one leaf. Both are
+ * O(log32 n), at most six levels for any int size, and append is amortized constant in practice. Every
+ * version is immutable and safe to share between threads, and the mutators of {@link java.util.List}
+ * throw {@link UnsupportedOperationException}. Null elements are allowed.
+ */
+public final class PersistentVector<E> extends AbstractList<E> implements RandomAccess {
+
+    private static final int BITS = 5;               // Index bits per trie level
+    private static final int WIDTH = 1 << BITS;      // Children per node
+    private static final int MASK = WIDTH - 1;       // Bits of an index within a node
+    private static final Object[] EMPTY_NODE = new Object[WIDTH];
+    private static final PersistentVector<?> EMPTY = new PersistentVector<>(0, BITS, EMPTY_NODE, new Object[0]);
+
+    private final int size;       // Number of elements
+    private final int shift;      // Index shift of the root level
+    private final Object[] root;  // Root of the trie, holding all elements before the tail
+    private final Object[] tail;  // Last 1 to 32 elements, or none when empty
+
+    private PersistentVector(int size, int shift, Object[] root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentVector<E> empty() {
+        return (PersistentVector<E>) EMPTY;
+    }
+
+    /**
+     * Creates a vector with the elements of a collection, building the trie bottom-up instead of appending
+     * one element at a time.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentVector<E> copyOf(Collection<? extends E> elements) {
+        if (elements instanceof PersistentVector<?> vector) {
+            return (PersistentVector<E>) vector;
+        }
+        Object[] array = elements.toArray();
+        int size = array.length;
+        if (size == 0) {
+            return empty();
+        }
+        int tailOffset = tailOffset(size);
+        Object[][] nodes = new Object[tailOffset >>> BITS][];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = Arrays.copyOfRange(array, i << BITS, (i + 1) << BITS);
+        }
+        int shift = BITS;
+        while (nodes.length > WIDTH) {
+            Object[][] parents = new Object[(nodes.length + MASK) >>> BITS][];
+            for (int i = 0; i < parents.length; i++) {
+                parents[i] = new Object[WIDTH];
+                int from = i << BITS;
+                System.arraycopy(nodes, from, parents[i], 0, Math.min(WIDTH, nodes.length - from));
+            }
+            nodes = parents;
+            shift += BITS;
+        }
+        Object[] root = nodes.length == 0 ? EMPTY_NODE : Arrays.copyOf(nodes, WIDTH, Object[].class);
+        return new PersistentVector<>(size, shift, root, Arrays.copyOfRange(array, tailOffset, size));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        return (E) leafFor(index)[index & MASK];
+    }
+
+    /**
+     * Returns a vector with an element added at the end; this vector is unchanged.
+     */
+    public PersistentVector<E> append(E element) {
+        if (size - tailOffset(size) < WIDTH) {
+            Object[] grown = Arrays.copyOf(tail, tail.length + 1);
+            grown[tail.length] = element;
+            return new PersistentVector<>(size + 1, shift, root, grown);
+        }
+        // The tail is full: it becomes a leaf of the trie, which grows a level when the root is full
+        Object[] newRoot;
+        int newShift = shift;
+        if ((size >>> BITS) > (1 << shift)) {
+            newRoot = new Object[WIDTH];
+            newRoot[0] = root;
+            newRoot[1] = newPath(shift, tail);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(shift, root, tail);
+        }
+        return new PersistentVector<>(size + 1, newShift, newRoot, new Object[] {element});
+    }
+
+    /**
+     * Returns a vector with the element at an index replaced; this vector is unchanged.
+     *
+     * @throws IndexOutOfBoundsException if the index is outside the vector
+     */
+    public PersistentVector<E> with(int index, E element) {
+        if (index >= tailOffset(size) && index < size) {
+            Object[] changed = tail.clone();
+            changed[index & MASK] = element;
+            return new PersistentVector<>(size, shift, root, changed);
+        }
+        checkIndex(index);
+        return new PersistentVector<>(size, shift, replace(shift, root, index, element), tail);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int index;            // Index of the next element
+            private Object[] leaf = tail; // Leaf holding the next element, fetched at each leaf boundary
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                if ((index & MASK) == 0) {
+                    leaf = leafFor(index);
+                }
+                return (E) leaf[index++ & MASK];
+            }
+        };
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super E> action) {
+        for (int start = 0; start < size; start += WIDTH) {
+            Object[] leaf = leafFor(start);
+            int end = Math.min(WIDTH, size - start);
+            for (int i = 0; i < end; i++) {
+                action.accept((E) leaf[i]);
+            }
+        }
+    }
+
+    private Object[] leafFor(int index) {
+        checkIndex(index);
+        if (index >= tailOffset(size)) {
+            return tail;
+        }
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return node;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+    }
+
+    /**
+     * Returns the number of elements in the trie, that is, before the tail.
+     */
+    private static int tailOffset(int size) {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    private Object[] pushTail(int level, Object[] parent, Object[] leaf) {
+        int child = ((size - 1) >>> level) & MASK;
+        Object[] copy = parent.clone();
+        if (level == BITS) {
+            copy[child] = leaf;
+        } else {
+            Object[] existing = (Object[]) parent[child];
+            copy[child] = existing != null ? pushTail(level - BITS, existing, leaf) : newPath(level - BITS, leaf);
+        }
+        return copy;
+    }
+
+    private static Object[] newPath(int level, Object[] leaf) {
+        if (level == 0) {
+            return leaf;
+        }
+        Object[] node = new Object[WIDTH];
+        node[0] = newPath(level - BITS, leaf);
+        return node;
+    }
+
+    private static Object[] replace(int level, Object[] node, int index, Object element) {
+        Object[] copy = node.clone();
+        if (level == 0) {
+            copy[index & MASK] = element;
+        } else {
+            int child = (index >>> level) & MASK;
+            copy[child] = replace(level - BITS, (Object[]) node[child], index, element);
+        }
+        return copy;
+    }
+}
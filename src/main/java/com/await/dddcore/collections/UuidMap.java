@@ -0,0 +1,382 @@
+package com.await.dddcore.collections;
+
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Concurrent hash map from {@link UUID} to non-null values that stores keys as two inline longs.
+ * <p>
+ * The map is split into segments, each an open-addressing table with linear probing over parallel
+ * {@code long[]} key arrays and an {@code Object[]} value array, guarded by a {@link StampedLock}. A slot
+ * takes 24 bytes and tables are kept between 3/8 and 3/4 full, so an entry costs 32 to 64 bytes instead of
+ * about 72 for a node, a boxed UUID and a table slot, and the key is compared without a pointer chase.
+ * Reads are optimistic and take the read lock only if a writer interfered. Removal shifts the following
+ * entries back instead of leaving tombstones, so probe sequences stay short under churn. Iteration is
+ * weakly consistent across segments.
+ */
+public final class UuidMap<V> {
+
+    private static final int DEFAULT_SEGMENTS = 16;
+    private static final int MIN_CAPACITY = 4;
+
+    private final Segment[] segments; // Segments selected by the high bits of the hash
+    private final int segmentShift;   // Shift of the hash that leaves the segment index
+
+    /**
+     * Creates a map with 16 segments.
+     */
+    public UuidMap() {
+        this(0, DEFAULT_SEGMENTS);
+    }
+
+    /**
+     * Creates a map sized for {@code expectedSize} entries, split into {@code segments} independently
+     * locked segments. A single segment suits small maps that are written by one thread at a time.
+     *
+     * @throws IllegalArgumentException if the size is negative or the segments are not a power of two
+     */
+    public UuidMap(int expectedSize, int segments) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size must not be negative");
+        }
+        if (segments < 1 || segments > 1 << 16 || Integer.bitCount(segments) != 1) {
+            throw new IllegalArgumentException("Segments must be a power of two up to 65536");
+        }
+        this.segments = new Segment[segments];
+        this.segmentShift = 64 - Integer.numberOfTrailingZeros(segments);
+        int capacity = capacityFor(expectedSize / segments + 1);
+        for (int i = 0; i < segments; i++) {
+            this.segments[i] = new Segment(capacity);
+        }
+    }
+
+    public V get(UUID key) {
+        return get(key.getMostSignificantBits(), key.getLeastSignificantBits());
+    }
+
+    /**
+     * Looks up a key given as its two halves, without creating a UUID.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long msb, long lsb) {
+        long hash = hash(msb, lsb);
+        return (V) segmentFor(hash).get(msb, lsb, hash);
+    }
+
+    public boolean containsKey(UUID key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Maps a key to a value.
+     *
+     * @return the previous value, or null
+     */
+    @SuppressWarnings("unchecked")
+    public V put(UUID key, V value) {
+        Objects.requireNonNull(value, "value");
+        long msb = key.getMostSignificantBits();
+        long lsb = key.getLeastSignificantBits();
+        long hash = hash(msb, lsb);
+        Segment segment = segmentFor(hash);
+        long stamp = segment.lock.writeLock();
+        try {
+            return (V) segment.put(msb, lsb, hash, value, true);
+        } finally {
+            segment.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Maps a key to a value unless it is already mapped.
+     *
+     * @return the existing value, or null if the value was added
+     */
+    @SuppressWarnings("unchecked")
+    public V putIfAbsent(UUID key, V value) {
+        Objects.requireNonNull(value, "value");
+        long msb = key.getMostSignificantBits();
+        long lsb = key.getLeastSignificantBits();
+        long hash = hash(msb, lsb);
+        Segment segment = segmentFor(hash);
+        long stamp = segment.lock.writeLock();
+        try {
+            return (V) segment.put(msb, lsb, hash, value, false);
+        } finally {
+            segment.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes a key.
+     *
+     * @return the removed value, or null
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(UUID key) {
+        long msb = key.getMostSignificantBits();
+        long lsb = key.getLeastSignificantBits();
+        long hash = hash(msb, lsb);
+        Segment segment = segmentFor(hash);
+        long stamp = segment.lock.writeLock();
+        try {
+            int slot = segment.find(segment.table, msb, lsb, hash);
+            if (slot < 0) {
+                return null;
+            }
+            return (V) segment.removeAt(slot);
+        } finally {
+            segment.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Atomically replaces the value of a key with the result of {@code remapping}, which receives the current
+     * value or null. A null result removes the key. The segment is locked while the function runs, so it
+     * must not access this map.
+     *
+     * @return the new value, or null
+     */
+    @SuppressWarnings("unchecked")
+    public V compute(UUID key, BiFunction<? super UUID, ? super V, ? extends V> remapping) {
+        long msb = key.getMostSignificantBits();
+        long lsb = key.getLeastSignificantBits();
+        long hash = hash(msb, lsb);
+        Segment segment = segmentFor(hash);
+        long stamp = segment.lock.writeLock();
+        try {
+            int slot = segment.find(segment.table, msb, lsb, hash);
+            V old = slot < 0 ? null : (V) segment.table.values[slot];
+            V value = remapping.apply(key, old);
+            if (value != null) {
+                segment.put(msb, lsb, hash, value, true);
+            } else if (slot >= 0) {
+                segment.removeAt(slot);
+            }
+            return value;
+        } finally {
+            segment.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns the value of a key, adding the result of {@code mapping} if the key is absent. Reads of
+     * present keys are optimistic; the segment is locked only to add, so the function must not access
+     * this map.
+     */
+    public V computeIfAbsent(UUID key, Function<? super UUID, ? extends V> mapping) {
+        V value = get(key);
+        if (value != null) {
+            return value;
+        }
+        return compute(key, (k, old) -> old != null ? old : mapping.apply(k));
+    }
+
+    /**
+     * Returns the number of entries. Concurrent writes to other segments may or may not be counted.
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size;
+        }
+        return size;
+    }
+
+    public boolean isEmpty() {
+        for (Segment segment : segments) {
+            if (segment.size != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Calls {@code action} for every entry, holding the read lock of one segment at a time, so the action
+     * must not write to this map.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super UUID, ? super V> action) {
+        for (Segment segment : segments) {
+            long stamp = segment.lock.readLock();
+            try {
+                Table table = segment.table;
+                for (int i = 0; i < table.values.length; i++) {
+                    Object value = table.values[i];
+                    if (value != null) {
+                        action.accept(new UUID(table.msbs[i], table.lsbs[i]), (V) value);
+                    }
+                }
+            } finally {
+                segment.lock.unlockRead(stamp);
+            }
+        }
+    }
+
+    private Segment segmentFor(long hash) {
+        // A shift by 64 is a shift by 0 in Java, so a single segment needs its own case
+        return segments.length == 1 ? segments[0] : segments[(int) (hash >>> segmentShift)];
+    }
+
+    /**
+     * Mixes both halves of the key, since time-based UUIDs leave many bits unchanged between keys.
+     */
+    private static long hash(long msb, long lsb) {
+        long h = msb * 0x9E3779B97F4A7C15L ^ lsb;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static int capacityFor(int entries) {
+        // Load factor 0.75
+        long needed = Math.max(MIN_CAPACITY, (long) entries * 4 / 3 + 1);
+        if (needed > 1 << 30) {
+            throw new IllegalArgumentException("Too many entries: " + entries);
+        }
+        return Integer.highestOneBit((int) needed - 1) << 1;
+    }
+
+    /**
+     * Keys and values of one segment. Resizing replaces the whole table, so an optimistic reader always
+     * sees arrays of the same length.
+     */
+    private static final class Table {
+        final long[] msbs;     // Most significant key halves
+        final long[] lsbs;     // Least significant key halves
+        final Object[] values; // Values; null marks an empty slot
+        final int mask;        // Capacity minus one
+
+        Table(int capacity) {
+            msbs = new long[capacity];
+            lsbs = new long[capacity];
+            values = new Object[capacity];
+            mask = capacity - 1;
+        }
+    }
+
+    private static final class Segment {
+        final StampedLock lock = new StampedLock();
+        Table table;       // Current table, replaced on resize
+        volatile int size; // Number of entries, written under the write lock
+
+        Segment(int capacity) {
+            table = new Table(capacity);
+        }
+
+        Object get(long msb, long lsb, long hash) {
+            long stamp = lock.tryOptimisticRead();
+            if (stamp != 0) {
+                Table current = table;
+                int slot = find(current, msb, lsb, hash);
+                Object value = slot < 0 ? null : current.values[slot];
+                if (lock.validate(stamp)) {
+                    return value;
+                }
+            }
+            stamp = lock.readLock();
+            try {
+                Table current = table;
+                int slot = find(current, msb, lsb, hash);
+                return slot < 0 ? null : current.values[slot];
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        /**
+         * Returns the slot of a key, or -1. Probes at most once around the table, so a torn optimistic read
+         * cannot loop forever.
+         */
+        int find(Table table, long msb, long lsb, long hash) {
+            int mask = table.mask;
+            int slot = (int) hash & mask;
+            for (int probes = 0; probes <= mask; probes++) {
+                if (table.values[slot] == null) {
+                    return -1;
+                }
+                if (table.msbs[slot] == msb && table.lsbs[slot] == lsb) {
+                    return slot;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return -1;
+        }
+
+        Object put(long msb, long lsb, long hash, Object value, boolean replace) {
+            Table current = table;
+            int mask = current.mask;
+            int slot = (int) hash & mask;
+            while (current.values[slot] != null) {
+                if (current.msbs[slot] == msb && current.lsbs[slot] == lsb) {
+                    Object old = current.values[slot];
+                    if (replace) {
+                        current.values[slot] = value;
+                    }
+                    return old;
+                }
+                slot = (slot + 1) & mask;
+            }
+            current.msbs[slot] = msb;
+            current.lsbs[slot] = lsb;
+            current.values[slot] = value;
+            size++;
+            if (size > (mask + 1) / 4 * 3) {
+                resize();
+            }
+            return null;
+        }
+
+        /**
+         * Empties a slot and shifts back every following entry of the run that may move closer to its home
+         * slot.
+         */
+        Object removeAt(int slot) {
+            Table current = table;
+            int mask = current.mask;
+            Object removed = current.values[slot];
+            int hole = slot;
+            int next = slot;
+            while (true) {
+                next = (next + 1) & mask;
+                if (current.values[next] == null) {
+                    break;
+                }
+                int home = (int) hash(current.msbs[next], current.lsbs[next]) & mask;
+                // The entry may fill the hole unless its home lies cyclically after the hole
+                if (((next - home) & mask) >= ((next - hole) & mask)) {
+                    current.msbs[hole] = current.msbs[next];
+                    current.lsbs[hole] = current.lsbs[next];
+                    current.values[hole] = current.values[next];
+                    hole = next;
+                }
+            }
+            current.values[hole] = null;
+            size--;
+            return removed;
+        }
+
+        private void resize() {
+            Table old = table;
+            Table grown = new Table(old.values.length * 2);
+            for (int i = 0; i < old.values.length; i++) {
+                if (old.values[i] != null) {
+                    int slot = (int) hash(old.msbs[i], old.lsbs[i]) & grown.mask;
+                    while (grown.values[slot] != null) {
+                        slot = (slot + 1) & grown.mask;
+                    }
+                    grown.msbs[slot] = old.msbs[i];
+                    grown.lsbs[slot] = old.lsbs[i];
+                    grown.values[slot] = old.values[i];
+                }
+            }
+            table = grown;
+        }
+    }
+}
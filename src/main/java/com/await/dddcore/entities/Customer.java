@@ -1,7 +1,8 @@
 package com.await.dddcore.entities;
 
+import com.await.dddcore.collections.Page;
+import com.await.dddcore.collections.PersistentVector;
 import com.await.dddcore.valueobjects.*;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
@@ -16,7 +17,8 @@ public class Customer {
     private final Name name; // Customer's full name
     private final Email email; // Customer's email address
     private Address address; // Customer's address (modifiable)
-    private final List<Order> orders; // List of customer's orders
+    private PersistentVector<Order> orders; // Customer's orders, replaced by a new version on every addition
+    private final OrderStatusCounts orderCounts; // Orders by status, updated by the orders themselves
 
     /**
      * Constructs a new customer with mandatory details.
@@ -27,7 +29,8 @@ public class Customer {
         this.name = Objects.requireNonNull(name, "Name cannot be null");
         this.email = Objects.requireNonNull(email, "Email cannot be null");
         this.address = Objects.requireNonNull(address, "Address cannot be null");
-        this.orders = new ArrayList<>();
+        this.orders = PersistentVector.empty();
+        this.orderCounts = new OrderStatusCounts();
     }
 
     // Getters for customer attributes
@@ -49,10 +52,28 @@ public class Customer {
     }
 
     /**
-     * Returns an immutable copy of the order list to prevent modification.
+     * Returns an immutable snapshot of the order list. It shares structure with the customer's list,
+     * so it takes O(1), and it does not change when orders are added later.
      */
     public List<Order> getOrders() {
-        return List.copyOf(orders);
+        return orders;
+    }
+
+    /**
+     * Returns a page of the order list, in the order the orders were added.
+     *
+     * @param cursor 0 for the first page, or the next cursor of the previous page
+     * @param limit The maximum number of orders
+     */
+    public Page<Order> getOrders(int cursor, int limit) {
+        return Page.of(orders, cursor, limit);
+    }
+
+    /**
+     * Returns the number of orders in each status. An order added twice is counted once.
+     */
+    public OrderStatusCounts getOrderCounts() {
+        return orderCounts;
     }
 
     /**
@@ -68,14 +89,15 @@ public class Customer {
      * Ensures the order is not null before adding.
      */
     public void addOrder(Order order) {
-        orders.add(Objects.requireNonNull(order, "Order cannot be null"));
+        orders = orders.append(Objects.requireNonNull(order, "Order cannot be null"));
+        order.countIn(orderCounts);
     }
 
     /**
      * Checks if the customer has any active orders (not yet delivered).
      */
     public boolean hasActiveOrders() {
-        return orders.stream().anyMatch(order -> order.getStatus() != OrderStatus.DELIVERED);
+        return orderCounts.active() > 0;
     }
 
     /**
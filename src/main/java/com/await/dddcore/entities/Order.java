@@ -1,10 +1,12 @@
 package com.await.dddcore.entities;
 
+import com.await.dddcore.collections.OrderLines;
+import com.await.dddcore.events.OrderStatusListeners;
 import com.await.dddcore.valueobjects.*;
-import java.math.BigDecimal;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -13,22 +15,30 @@ import java.util.UUID;
  */
 public class Order {
 
+    private static final OrderStatusCounts[] NO_COUNTS = {};
+
     private final UUID id; // Unique order identifier
     private final Customer customer; // Customer who placed the order
-    private final List<OrderItemDetails> items; // List of items in the order
-    private Money totalPrice; // Total price of the order
+    private final OrderLines items; // Items in the order, one line per product
     private OrderStatus status; // Current status of the order
     private Address shippingAddress; // Shipping address for the order
+    private OrderStatusCounts[] counts = NO_COUNTS; // Counts that follow the status of this order
 
     /**
      * Creates a new order with a customer and a shipping address.
      * The order starts with no items, a total price of zero, and a NEW status.
      */
     public Order(UUID id, Customer customer, Address shippingAddress) {
+        this(id, customer, shippingAddress, CurrencyUnit.USD);
+    }
+
+    /**
+     * Creates a new order priced in the given currency.
+     */
+    public Order(UUID id, Customer customer, Address shippingAddress, CurrencyUnit currency) {
         this.id = Objects.requireNonNull(id, "ID cannot be null");
         this.customer = Objects.requireNonNull(customer, "Customer cannot be null");
-        this.items = new ArrayList<>();
-        this.totalPrice = new Money("USD", BigDecimal.ZERO);
+        this.items = new OrderLines(Objects.requireNonNull(currency, "Currency cannot be null"));
         this.status = OrderStatus.NEW;
         this.shippingAddress = Objects.requireNonNull(shippingAddress, "Shipping address cannot be null");
     }
@@ -47,11 +57,18 @@ public class Order {
      * Returns an immutable list of order items to prevent modifications.
      */
     public List<OrderItemDetails> getItems() {
-        return List.copyOf(items);
+        return items.toList();
+    }
+
+    /**
+     * Returns the line for a product, if the product is part of the order.
+     */
+    public Optional<OrderItemDetails> getItem(UUID productId) {
+        return items.get(productId);
     }
 
     public Money getTotalPrice() {
-        return totalPrice;
+        return items.getTotalPrice();
     }
 
     public OrderStatus getStatus() {
@@ -64,28 +81,50 @@ public class Order {
 
     /**
      * Adds an item to the order and updates the total price.
+     * An item for a product already in the order at the same price is merged into its line.
      */
     public void addItem(OrderItemDetails item) {
         items.add(Objects.requireNonNull(item, "Item cannot be null"));
-        totalPrice = totalPrice.add(item.getTotalPrice());
     }
 
     /**
-     * Changes the status of the order.
-     * Prevents reverting from SHIPPED to any previous status.
+     * Changes the status of the order along its lifecycle and notifies the status listeners.
+     *
+     * @throws IllegalStateException if the transition is not allowed
      */
     public void changeStatus(OrderStatus newStatus) {
-        if (status == OrderStatus.SHIPPED && newStatus != OrderStatus.DELIVERED) {
-            throw new IllegalStateException("Cannot revert from SHIPPED status.");
+        OrderStatus previous = status;
+        this.status = previous.checkTransitionTo(newStatus);
+        for (OrderStatusCounts counted : counts) {
+            counted.move(previous, newStatus);
+        }
+        OrderStatusListeners.fire(id, previous, newStatus);
+    }
+
+    /**
+     * Counts this order in its current status and moves it along with every later status change.
+     *
+     * @return False if the order is already counted there
+     */
+    public boolean countIn(OrderStatusCounts target) {
+        Objects.requireNonNull(target, "Counts cannot be null");
+        for (OrderStatusCounts counted : counts) {
+            if (counted == target) {
+                return false;
+            }
         }
-        this.status = newStatus;
+        OrderStatusCounts[] updated = Arrays.copyOf(counts, counts.length + 1);
+        updated[counts.length] = target;
+        counts = updated;
+        target.add(status);
+        return true;
     }
 
     /**
      * Updates the shipping address if the order has not yet shipped.
      */
     public void changeShippingAddress(Address newAddress) {
-        if (status == OrderStatus.SHIPPED || status == OrderStatus.DELIVERED) {
+        if (!status.allowsAddressChange()) {
             throw new IllegalStateException("Cannot change address after shipping.");
         }
         this.shippingAddress = Objects.requireNonNull(newAddress, "New address cannot be null");
@@ -96,6 +135,6 @@ public class Order {
      */
     @Override
     public String toString() {
-        return "Order{id=" + id + ", customer=" + customer + ", totalPrice=" + totalPrice + ", status=" + status + '}';
+        return "Order{id=" + id + ", customer=" + customer + ", totalPrice=" + getTotalPrice() + ", status=" + status + '}';
     }
 }
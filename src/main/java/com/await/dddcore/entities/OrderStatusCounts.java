@@ -0,0 +1,64 @@
+package com.await.dddcore.entities;
+
+import com.await.dddcore.valueobjects.OrderStatus;
+
+/**
+ * Number of orders in each status, kept up to date by the orders themselves.
+ * <p>
+ * An order added with {@link Order#countIn} reports every later status change to the counts, so reading
+ * them never scans the orders. Like the orders, the counts are not thread-safe.
+ */
+public final class OrderStatusCounts {
+
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+    private final int[] counts = new int[STATUSES.length]; // Orders by status ordinal
+    private int total;                                     // All counted orders
+    private int active;                                    // Counted orders that are not completed
+
+    /**
+     * Returns the number of counted orders in a status.
+     */
+    public int count(OrderStatus status) {
+        return counts[status.ordinal()];
+    }
+
+    public int total() {
+        return total;
+    }
+
+    /**
+     * Returns the number of counted orders that are not completed.
+     */
+    public int active() {
+        return active;
+    }
+
+    void add(OrderStatus status) {
+        counts[status.ordinal()]++;
+        total++;
+        if (!status.isCompleted()) {
+            active++;
+        }
+    }
+
+    void move(OrderStatus from, OrderStatus to) {
+        counts[from.ordinal()]--;
+        counts[to.ordinal()]++;
+        if (!from.isCompleted()) {
+            active--;
+        }
+        if (!to.isCompleted()) {
+            active++;
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder("OrderStatusCounts{");
+        for (OrderStatus status : STATUSES) {
+            text.append(status).append('=').append(counts[status.ordinal()]).append(", ");
+        }
+        return text.append("total=").append(total).append('}').toString();
+    }
+}
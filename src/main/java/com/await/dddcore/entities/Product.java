@@ -1,7 +1,9 @@
 package com.await.dddcore.entities;
 
+import com.await.dddcore.exceptions.InvalidStockOperationException;
+import com.await.dddcore.inventory.AtomicInventory;
+import com.await.dddcore.inventory.Inventory;
 import com.await.dddcore.valueobjects.*;
-import java.math.BigDecimal;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -14,7 +16,7 @@ public class Product {
     private final UUID id; // Unique identifier for the product
     private final ProductDetails details; // Product-specific details (name, description, etc.)
     private Money price; // Product price
-    private Stock stock; // Stock information
+    private final Inventory inventory; // Stock information
 
     /**
      * Constructs a new product with mandatory attributes.
@@ -23,7 +25,7 @@ public class Product {
         this.id = Objects.requireNonNull(id, "ID cannot be null");
         this.details = Objects.requireNonNull(details, "Details cannot be null");
         this.price = Objects.requireNonNull(price, "Price cannot be null");
-        this.stock = Objects.requireNonNull(stock, "Stock cannot be null");
+        this.inventory = new AtomicInventory(Objects.requireNonNull(stock, "Stock cannot be null"));
     }
 
     // Getters for product attributes
@@ -40,8 +42,11 @@ public class Product {
         return price;
     }
 
+    /**
+     * Returns a snapshot of the available stock.
+     */
     public Stock getStock() {
-        return stock;
+        return inventory.snapshot();
     }
 
     /**
@@ -49,7 +54,7 @@ public class Product {
      * Ensures the new price is positive before applying changes.
      */
     public void updatePrice(Money newPrice) {
-        if (newPrice.getAmount().compareTo(BigDecimal.ZERO) <= 0) {
+        if (newPrice.signum() <= 0) {
             throw new IllegalArgumentException("Price must be positive");
         }
         this.price = newPrice;
@@ -58,16 +63,19 @@ public class Product {
     /**
      * Reduces stock by a specified quantity.
      * Throws an exception if there is insufficient stock.
+     * The check and the reduction happen atomically.
      */
     public void reduceStock(int quantity) {
-        stock = stock.reduceStock(quantity);
+        if (!inventory.tryConsume(quantity)) {
+            throw new InvalidStockOperationException("Not enough stock available");
+        }
     }
 
     /**
      * Checks if there is enough stock available for a given quantity.
      */
     public boolean hasSufficientStock(int quantity) {
-        return stock.getQuantity() >= quantity;
+        return inventory.available() >= quantity;
     }
 
     /**
@@ -75,6 +83,6 @@ public class Product {
      */
     @Override
     public String toString() {
-        return "Product{id=" + id + ", details=" + details + ", price=" + price + ", stock=" + stock + '}';
+        return "Product{id=" + id + ", details=" + details + ", price=" + price + ", stock=" + getStock() + '}';
     }
 }
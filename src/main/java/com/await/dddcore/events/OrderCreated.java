@@ -0,0 +1,18 @@
+package com.await.dddcore.events;
+
+import com.await.dddcore.valueobjects.Address;
+import com.await.dddcore.valueobjects.CurrencyUnit;
+
+import java.util.UUID;
+
+/**
+ * An order was created with a shipping address and a currency. Always the first event of an order.
+ * The customer ID is null for orders created without a customer.
+ */
+public record OrderCreated(UUID orderId, Address shippingAddress, CurrencyUnit currency, UUID customerId)
+    implements OrderEvent {
+
+    public OrderCreated(UUID orderId, Address shippingAddress, CurrencyUnit currency) {
+        this(orderId, shippingAddress, currency, null);
+    }
+}
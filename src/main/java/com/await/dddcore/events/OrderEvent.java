@@ -0,0 +1,16 @@
+package com.await.dddcore.events;
+
+import java.util.UUID;
+
+/**
+ * A fact that happened to an order. The state of an order is the result of applying its events in order.
+ */
+public sealed interface OrderEvent
+    permits OrderCreated, OrderItemAdded, OrderItemRemoved, OrderItemQuantityChanged,
+            ShippingAddressChanged, StatusChanged {
+
+    /**
+     * Returns the ID of the order the event belongs to.
+     */
+    UUID orderId();
+}
@@ -0,0 +1,11 @@
+package com.await.dddcore.events;
+
+import com.await.dddcore.valueobjects.OrderItemDetails;
+
+import java.util.UUID;
+
+/**
+ * An item was added to an order; it is merged into an existing line for the same product.
+ */
+public record OrderItemAdded(UUID orderId, OrderItemDetails item) implements OrderEvent {
+}
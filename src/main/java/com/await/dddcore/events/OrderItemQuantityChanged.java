@@ -0,0 +1,9 @@
+package com.await.dddcore.events;
+
+import java.util.UUID;
+
+/**
+ * The quantity of the line for a product was changed.
+ */
+public record OrderItemQuantityChanged(UUID orderId, UUID productId, int quantity) implements OrderEvent {
+}
@@ -0,0 +1,9 @@
+package com.await.dddcore.events;
+
+import java.util.UUID;
+
+/**
+ * The line for a product was removed from an order.
+ */
+public record OrderItemRemoved(UUID orderId, UUID productId) implements OrderEvent {
+}
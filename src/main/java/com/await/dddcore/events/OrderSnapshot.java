@@ -0,0 +1,26 @@
+package com.await.dddcore.events;
+
+import com.await.dddcore.valueobjects.Address;
+import com.await.dddcore.valueobjects.CurrencyUnit;
+import com.await.dddcore.valueobjects.OrderItemDetails;
+import com.await.dddcore.valueobjects.OrderStatus;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The state of an order after its first {@code version} events, so replay can start from here.
+ * The customer ID is null for orders created without a customer.
+ */
+public record OrderSnapshot(UUID orderId, long version, CurrencyUnit currency, Address shippingAddress,
+                            OrderStatus status, List<OrderItemDetails> items, UUID customerId) {
+
+    public OrderSnapshot {
+        items = List.copyOf(items);
+    }
+
+    public OrderSnapshot(UUID orderId, long version, CurrencyUnit currency, Address shippingAddress,
+                         OrderStatus status, List<OrderItemDetails> items) {
+        this(orderId, version, currency, shippingAddress, status, items, null);
+    }
+}
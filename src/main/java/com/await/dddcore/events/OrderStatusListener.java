@@ -0,0 +1,21 @@
+package com.await.dddcore.events;
+
+import com.await.dddcore.valueobjects.OrderStatus;
+
+import java.util.UUID;
+
+/**
+ * Receives every status transition of an order, after the order has changed.
+ */
+@FunctionalInterface
+public interface OrderStatusListener {
+
+    /**
+     * Called once per transition, on the thread that changed the status.
+     *
+     * @param orderId The ID of the order
+     * @param from The previous status
+     * @param to The new status
+     */
+    void onTransition(UUID orderId, OrderStatus from, OrderStatus to);
+}
@@ -0,0 +1,65 @@
+package com.await.dddcore.events;
+
+import com.await.dddcore.valueobjects.OrderStatus;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Registry of the listeners notified about order status transitions.
+ * <p>
+ * Listeners are kept in a copy-on-write array: registering is rare and copies the array, while firing
+ * reads one volatile field and does nothing else when no listener is registered. An exception thrown by
+ * a listener propagates to the code that changed the status, after the status has changed.
+ */
+public final class OrderStatusListeners {
+
+    private static final OrderStatusListener[] NONE = {};
+
+    private static volatile OrderStatusListener[] listeners = NONE; // Replaced on every registration change
+
+    private OrderStatusListeners() {
+    }
+
+    /**
+     * Registers a listener for all subsequent transitions.
+     */
+    public static synchronized void register(OrderStatusListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null");
+        }
+        OrderStatusListener[] current = listeners;
+        OrderStatusListener[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = listener;
+        listeners = updated;
+    }
+
+    /**
+     * Removes a listener.
+     *
+     * @return True if the listener was registered
+     */
+    public static synchronized boolean unregister(OrderStatusListener listener) {
+        OrderStatusListener[] current = listeners;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == listener) {
+                OrderStatusListener[] updated = new OrderStatusListener[current.length - 1];
+                System.arraycopy(current, 0, updated, 0, i);
+                System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+                listeners = updated.length == 0 ? NONE : updated;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Notifies all registered listeners about a transition.
+     */
+    public static void fire(UUID orderId, OrderStatus from, OrderStatus to) {
+        OrderStatusListener[] current = listeners;
+        for (OrderStatusListener listener : current) {
+            listener.onTransition(orderId, from, to);
+        }
+    }
+}
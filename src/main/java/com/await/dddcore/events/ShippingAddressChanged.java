@@ -0,0 +1,11 @@
+package com.await.dddcore.events;
+
+import com.await.dddcore.valueobjects.Address;
+
+import java.util.UUID;
+
+/**
+ * The shipping address of an order was changed.
+ */
+public record ShippingAddressChanged(UUID orderId, Address shippingAddress) implements OrderEvent {
+}
@@ -0,0 +1,11 @@
+package com.await.dddcore.events;
+
+import com.await.dddcore.valueobjects.OrderStatus;
+
+import java.util.UUID;
+
+/**
+ * An order moved from one status to the next.
+ */
+public record StatusChanged(UUID orderId, OrderStatus from, OrderStatus to) implements OrderEvent {
+}
@@ -0,0 +1,8 @@
+package com.await.dddcore.exceptions;
+
+public class InvalidJsonException extends RuntimeException {
+
+    public InvalidJsonException(String message) {
+        super(message);
+    }
+}
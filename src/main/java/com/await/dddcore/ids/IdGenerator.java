@@ -0,0 +1,134 @@
+package com.await.dddcore.ids;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
+/**
+ * Generates time-ordered version 7 UUIDs (RFC 9562) for aggregate IDs.
+ * <p>
+ * An ID is a 48-bit Unix timestamp in milliseconds, followed by a 42-bit counter spread over the
+ * {@code rand_a} field and the top of {@code rand_b}, and 32 random bits. Each thread keeps its own last
+ * timestamp and counter, so there is no shared state or lock: the counter starts at a random value below
+ * half its range in every new millisecond and is incremented within one, which makes the IDs of a thread
+ * strictly increasing, even if the clock goes back. A counter that runs out borrows the next millisecond.
+ * Threads are told apart by the random bits, which come from {@link ThreadLocalRandom}; IDs are unique
+ * but not unguessable.
+ * <p>
+ * Version 7 UUIDs sort by creation time under {@link UUID#compareTo}, so inserts land at the end of
+ * ordered indexes and logs, and a time range is the key range between two {@link #lowerBound}s.
+ */
+public final class IdGenerator {
+
+    private static final IdGenerator SYSTEM = new IdGenerator(System::currentTimeMillis);
+
+    private static final long MAX_MILLIS = (1L << 48) - 1;
+    private static final long COUNTER_MAX = (1L << 42) - 1;
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT = 0x8000000000000000L;
+
+    /**
+     * Per-thread position of the generator.
+     */
+    private static final class State {
+        private long millis = -1; // Timestamp of the last ID
+        private long counter;     // Counter of the last ID
+    }
+
+    private final LongSupplier clock;                                         // Current time in epoch millis
+    private final ThreadLocal<State> states = ThreadLocal.withInitial(State::new); // Position of each thread
+
+    /**
+     * Creates a generator reading the time from {@code clock}, in milliseconds since the epoch.
+     */
+    public IdGenerator(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the generator using the system clock.
+     */
+    public static IdGenerator system() {
+        return SYSTEM;
+    }
+
+    /**
+     * Returns a new ID, greater than every ID this generator returned before on the calling thread.
+     *
+     * @throws IllegalStateException if the timestamp does not fit into 48 bits
+     */
+    public UUID next() {
+        State state = states.get();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long now = clock.getAsLong();
+        if (now > state.millis) {
+            state.millis = now;
+            state.counter = random.nextLong() >>> 23;
+        } else if (++state.counter > COUNTER_MAX) {
+            state.millis++;
+            state.counter = random.nextLong() >>> 23;
+        }
+        if (state.millis < 0 || state.millis > MAX_MILLIS) {
+            throw new IllegalStateException("Timestamp out of range: " + state.millis);
+        }
+        long msb = state.millis << 16 | VERSION_7 | state.counter >>> 30;
+        long lsb = VARIANT | (state.counter & 0x3FFFFFFFL) << 32 | random.nextInt() & 0xFFFFFFFFL;
+        return new UUID(msb, lsb);
+    }
+
+    /**
+     * Returns whether an ID is a version 7 UUID, which carries a timestamp.
+     */
+    public static boolean isTimeOrdered(UUID id) {
+        return id.version() == 7 && id.variant() == 2;
+    }
+
+    /**
+     * Returns the creation time of a version 7 ID in milliseconds since the epoch.
+     *
+     * @throws IllegalArgumentException if the ID is not a version 7 UUID
+     */
+    public static long epochMillis(UUID id) {
+        if (!isTimeOrdered(id)) {
+            throw new IllegalArgumentException("Not a version 7 UUID: " + id);
+        }
+        return id.getMostSignificantBits() >>> 16;
+    }
+
+    /**
+     * Returns the creation time of a version 7 ID.
+     *
+     * @throws IllegalArgumentException if the ID is not a version 7 UUID
+     */
+    public static Instant timestamp(UUID id) {
+        return Instant.ofEpochMilli(epochMillis(id));
+    }
+
+    /**
+     * Returns the smallest version 7 ID of the millisecond containing {@code time}. The IDs created in
+     * {@code [from, to)} are those {@code id} with {@code lowerBound(from) <= id < lowerBound(to)}.
+     *
+     * @throws IllegalArgumentException if the time is before the epoch or beyond the 48-bit range
+     */
+    public static UUID lowerBound(Instant time) {
+        return new UUID(millisOf(time) << 16 | VERSION_7, VARIANT);
+    }
+
+    /**
+     * Returns the largest version 7 ID of the millisecond containing {@code time}.
+     *
+     * @throws IllegalArgumentException if the time is before the epoch or beyond the 48-bit range
+     */
+    public static UUID upperBound(Instant time) {
+        return new UUID(millisOf(time) << 16 | VERSION_7 | 0xFFFL, VARIANT | 0x3FFFFFFFFFFFFFFFL);
+    }
+
+    private static long millisOf(Instant time) {
+        long millis = time.toEpochMilli();
+        if (millis < 0 || millis > MAX_MILLIS) {
+            throw new IllegalArgumentException("Time out of range: " + time);
+        }
+        return millis;
+    }
+}
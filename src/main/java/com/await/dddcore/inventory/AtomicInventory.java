@@ -0,0 +1,163 @@
+package com.await.dddcore.inventory;
+
+import com.await.dddcore.exceptions.InvalidStockOperationException;
+import com.await.dddcore.valueobjects.Stock;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free inventory backed by a single compare-and-set counter.
+ * <p>
+ * The available and reserved quantities are packed into one {@code long}, so every operation
+ * updates both atomically and snapshots are always consistent.
+ */
+public final class AtomicInventory implements Inventory {
+
+    private static final long INT_MASK = 0xFFFF_FFFFL;
+
+    private final AtomicLong state = new AtomicLong(); // Available units in the high half, reserved in the low half
+    private final LongAdder operations = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+
+    /**
+     * Creates an inventory with the given number of available units.
+     *
+     * @throws InvalidStockOperationException if the quantity is negative
+     */
+    public AtomicInventory(int available) {
+        if (available < 0) {
+            throw new InvalidStockOperationException("Stock quantity cannot be negative");
+        }
+        state.set(pack(available, 0));
+    }
+
+    /**
+     * Creates an inventory whose available units match a Stock value object.
+     */
+    public AtomicInventory(Stock stock) {
+        this(stock.getQuantity());
+    }
+
+    @Override
+    public boolean tryReserve(int quantity) {
+        requirePositive(quantity, "Amount to reduce must be positive");
+        operations.increment();
+        for (long current = state.get(); ; current = state.get()) {
+            int available = available(current);
+            if (available < quantity) {
+                rejections.increment();
+                return false;
+            }
+            if (state.compareAndSet(current, pack(available - quantity, reserved(current) + quantity))) {
+                return true;
+            }
+            retries.increment();
+        }
+    }
+
+    @Override
+    public void release(int quantity) {
+        requirePositive(quantity, "Amount to release must be positive");
+        operations.increment();
+        for (long current = state.get(); ; current = state.get()) {
+            int reserved = reserved(current);
+            if (reserved < quantity) {
+                throw new InvalidStockOperationException("Not enough stock reserved");
+            }
+            if (state.compareAndSet(current, pack(available(current) + quantity, reserved - quantity))) {
+                return;
+            }
+            retries.increment();
+        }
+    }
+
+    @Override
+    public void commit(int quantity) {
+        requirePositive(quantity, "Amount to commit must be positive");
+        operations.increment();
+        for (long current = state.get(); ; current = state.get()) {
+            int reserved = reserved(current);
+            if (reserved < quantity) {
+                throw new InvalidStockOperationException("Not enough stock reserved");
+            }
+            if (state.compareAndSet(current, pack(available(current), reserved - quantity))) {
+                return;
+            }
+            retries.increment();
+        }
+    }
+
+    @Override
+    public boolean tryConsume(int quantity) {
+        requirePositive(quantity, "Amount to reduce must be positive");
+        operations.increment();
+        for (long current = state.get(); ; current = state.get()) {
+            int available = available(current);
+            if (available < quantity) {
+                rejections.increment();
+                return false;
+            }
+            if (state.compareAndSet(current, pack(available - quantity, reserved(current)))) {
+                return true;
+            }
+            retries.increment();
+        }
+    }
+
+    @Override
+    public void restock(int quantity) {
+        requirePositive(quantity, "Amount to add must be positive");
+        operations.increment();
+        for (long current = state.get(); ; current = state.get()) {
+            int available = available(current);
+            if ((long) available + reserved(current) + quantity > Integer.MAX_VALUE) {
+                throw new InvalidStockOperationException("Stock quantity is too large");
+            }
+            if (state.compareAndSet(current, pack(available + quantity, reserved(current)))) {
+                return;
+            }
+            retries.increment();
+        }
+    }
+
+    @Override
+    public int available() {
+        return available(state.get());
+    }
+
+    @Override
+    public int reserved() {
+        return reserved(state.get());
+    }
+
+    @Override
+    public ContentionMetrics metrics() {
+        return new ContentionMetrics(operations.sum(), retries.sum(), rejections.sum());
+    }
+
+    private static long pack(int available, int reserved) {
+        return ((long) available << 32) | (reserved & INT_MASK);
+    }
+
+    private static int available(long state) {
+        return (int) (state >>> 32);
+    }
+
+    private static int reserved(long state) {
+        return (int) state;
+    }
+
+    static void requirePositive(int quantity, String message) {
+        if (quantity <= 0) {
+            throw new InvalidStockOperationException(message);
+        }
+    }
+
+    @Override
+    public String toString() {
+        long current = state.get();
+        return "AtomicInventory{available=" + available(current) + ", reserved=" + reserved(current) + '}';
+    }
+}
@@ -0,0 +1,26 @@
+package com.await.dddcore.inventory;
+
+/**
+ * Snapshot of the contention counters of an inventory.
+ *
+ * @param operations Number of reserve, consume, release, commit and restock calls
+ * @param retries Number of times a compare-and-set lost a race and had to be retried
+ * @param rejections Number of reservations or consumptions rejected for insufficient stock
+ */
+public record ContentionMetrics(long operations, long retries, long rejections) {
+
+    /**
+     * Returns the average number of retries per operation.
+     */
+    public double retriesPerOperation() {
+        return operations == 0 ? 0.0 : (double) retries / operations;
+    }
+
+    /**
+     * Returns the sum of this and another snapshot.
+     */
+    public ContentionMetrics plus(ContentionMetrics other) {
+        return new ContentionMetrics(operations + other.operations, retries + other.retries,
+            rejections + other.rejections);
+    }
+}
@@ -0,0 +1,78 @@
+package com.await.dddcore.inventory;
+
+import com.await.dddcore.exceptions.InvalidStockOperationException;
+import com.await.dddcore.valueobjects.Stock;
+
+/**
+ * Thread-safe stock level of a single product.
+ * <p>
+ * Units are either available or reserved. A reservation moves units from available to reserved;
+ * it is later committed (the units leave the inventory) or released (the units become available again).
+ * Implementations never let the available quantity drop below zero.
+ */
+public interface Inventory {
+
+    /**
+     * Reserves units if enough are available.
+     *
+     * @param quantity The number of units to reserve
+     * @return True if the units were reserved, false if not enough stock was available
+     * @throws InvalidStockOperationException if the quantity is not positive
+     */
+    boolean tryReserve(int quantity);
+
+    /**
+     * Returns previously reserved units to the available stock.
+     *
+     * @param quantity The number of reserved units to release
+     * @throws InvalidStockOperationException if the quantity is not positive or exceeds the reserved units
+     */
+    void release(int quantity);
+
+    /**
+     * Permanently removes previously reserved units, e.g. once an order is paid.
+     *
+     * @param quantity The number of reserved units to commit
+     * @throws InvalidStockOperationException if the quantity is not positive or exceeds the reserved units
+     */
+    void commit(int quantity);
+
+    /**
+     * Permanently removes available units in one step, without a reservation.
+     *
+     * @param quantity The number of units to remove
+     * @return True if the units were removed, false if not enough stock was available
+     * @throws InvalidStockOperationException if the quantity is not positive
+     */
+    boolean tryConsume(int quantity);
+
+    /**
+     * Adds units to the available stock.
+     *
+     * @param quantity The number of units to add
+     * @throws InvalidStockOperationException if the quantity is not positive or the stock would overflow
+     */
+    void restock(int quantity);
+
+    /**
+     * Returns the number of units that can currently be reserved.
+     */
+    int available();
+
+    /**
+     * Returns the number of units that are reserved but not yet committed or released.
+     */
+    int reserved();
+
+    /**
+     * Returns the available units as a Stock value object.
+     */
+    default Stock snapshot() {
+        return new Stock(available());
+    }
+
+    /**
+     * Returns counters describing how contended this inventory has been.
+     */
+    ContentionMetrics metrics();
+}
@@ -0,0 +1,242 @@
+package com.await.dddcore.inventory;
+
+import com.await.dddcore.exceptions.InvalidStockOperationException;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Time-bounded stock holds, e.g. for the duration of a checkout.
+ * <p>
+ * A hold reserves units of an {@link Inventory} under a numeric ID. It is confirmed (the units are
+ * committed), cancelled (the units are released) or expires after its time to live, which also releases
+ * the units. Exactly one of these happens per hold, even when they race.
+ * <p>
+ * Expiry is driven by a single {@link TimingWheel} instead of one scheduled task per hold, so holds are
+ * created and expired in O(1). Call {@link #expireDue()} periodically, or let {@link #start} do it.
+ * A hold is never expired before its deadline, and confirming a hold whose deadline has passed fails
+ * even if the wheel has not caught up yet. Thread-safe.
+ */
+public final class StockHolds {
+
+    private static final int LEVELS = 5;         // 64^5 ticks, about 34 years at one tick per second
+    private static final int ACTIVE = 0;
+    private static final int CONFIRMED = 1;
+    private static final int CANCELLED = 2;
+    private static final int EXPIRED = 3;
+
+    /**
+     * A hold on the units of one inventory, scheduled on the wheel.
+     */
+    private static final class Hold extends TimingWheel.Timer {
+
+        private static final AtomicIntegerFieldUpdater<Hold> STATE =
+            AtomicIntegerFieldUpdater.newUpdater(Hold.class, "state");
+
+        private final long id;               // The hold ID
+        private final Inventory inventory;   // The inventory holding the reserved units
+        private final int quantity;          // The number of reserved units
+        private final long expiresAt;        // Clock time at which the hold expires, in milliseconds
+        private volatile int state;          // ACTIVE until confirmed, cancelled or expired
+
+        Hold(long id, Inventory inventory, int quantity, long expiresAt) {
+            this.id = id;
+            this.inventory = inventory;
+            this.quantity = quantity;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean complete(int outcome) {
+            return STATE.compareAndSet(this, ACTIVE, outcome);
+        }
+    }
+
+    private final LongSupplier clock;                 // Current time in milliseconds
+    private final long tickMillis;                    // Granularity of expiry
+    private final Map<Long, Hold> holds = new ConcurrentHashMap<>(); // Active holds by ID
+    private final AtomicLong ids = new AtomicLong();  // Last issued hold ID
+    private final ReentrantLock wheelLock = new ReentrantLock(); // Guards the wheel
+    private final TimingWheel<Hold> wheel;
+    private final AtomicLong expired = new AtomicLong(); // Number of holds that expired
+    private final AtomicLong expiryFailures = new AtomicLong(); // Scheduled expiry runs that threw
+
+    /**
+     * Creates holds driven by the system clock with a tick of 100 milliseconds.
+     */
+    public StockHolds() {
+        this(System::currentTimeMillis, Duration.ofMillis(100));
+    }
+
+    /**
+     * Creates holds driven by the given clock.
+     *
+     * @param clock Supplies the current time in milliseconds
+     * @param tick The granularity of expiry
+     */
+    public StockHolds(LongSupplier clock, Duration tick) {
+        if (tick.toMillis() < 1) {
+            throw new IllegalArgumentException("Tick must be at least one millisecond");
+        }
+        this.clock = clock;
+        this.tickMillis = tick.toMillis();
+        this.wheel = new TimingWheel<>(LEVELS, Math.floorDiv(clock.getAsLong(), tickMillis) + 1);
+    }
+
+    /**
+     * Reserves units for a limited time.
+     *
+     * @param inventory The inventory to reserve from
+     * @param quantity The number of units to hold
+     * @param ttl How long the hold lasts unless it is confirmed or cancelled
+     * @return The hold ID, or empty if not enough stock was available
+     * @throws InvalidStockOperationException if the quantity is not positive
+     */
+    public OptionalLong tryHold(Inventory inventory, int quantity, Duration ttl) {
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new InvalidStockOperationException("Hold duration must be positive");
+        }
+        if (!inventory.tryReserve(quantity)) {
+            return OptionalLong.empty();
+        }
+        long expiresAt = clock.getAsLong() + ttl.toMillis();
+        Hold hold = new Hold(ids.incrementAndGet(), inventory, quantity, expiresAt);
+        // Registered first, so expiry always finds the hold; a hold cancelled meanwhile just fires as a no-op
+        holds.put(hold.id, hold);
+        wheelLock.lock();
+        try {
+            wheel.schedule(hold, Math.floorDiv(expiresAt + tickMillis - 1, tickMillis));
+        } finally {
+            wheelLock.unlock();
+        }
+        return OptionalLong.of(hold.id);
+    }
+
+    /**
+     * Confirms a hold and commits its units.
+     *
+     * @return True if the hold was active, false if it is unknown, already completed or past its deadline
+     */
+    public boolean confirm(long holdId) {
+        Hold hold = holds.get(holdId);
+        if (hold == null) {
+            return false;
+        }
+        if (clock.getAsLong() >= hold.expiresAt) {
+            if (hold.complete(EXPIRED)) {
+                finish(hold);
+                hold.inventory.release(hold.quantity);
+                expired.incrementAndGet();
+            }
+            return false;
+        }
+        if (!hold.complete(CONFIRMED)) {
+            return false;
+        }
+        finish(hold);
+        hold.inventory.commit(hold.quantity);
+        return true;
+    }
+
+    /**
+     * Cancels a hold and releases its units.
+     *
+     * @return True if the hold was active, false if it is unknown or already completed
+     */
+    public boolean cancel(long holdId) {
+        Hold hold = holds.get(holdId);
+        if (hold == null || !hold.complete(CANCELLED)) {
+            return false;
+        }
+        finish(hold);
+        hold.inventory.release(hold.quantity);
+        return true;
+    }
+
+    /**
+     * Expires all holds whose deadline has passed and releases their units.
+     *
+     * @return The number of holds expired by this call
+     */
+    public int expireDue() {
+        long nowTick = Math.floorDiv(clock.getAsLong(), tickMillis);
+        int[] count = new int[1];
+        wheelLock.lock();
+        try {
+            wheel.advance(nowTick, hold -> {
+                if (hold.complete(EXPIRED)) {
+                    holds.remove(hold.id);
+                    count[0]++;
+                    hold.inventory.release(hold.quantity);
+                }
+            });
+        } finally {
+            wheelLock.unlock();
+            expired.addAndGet(count[0]);
+        }
+        return count[0];
+    }
+
+    /**
+     * Runs {@link #expireDue()} once per tick on the given executor. A run that throws, e.g. because an
+     * inventory rejects a release, is counted in {@link #expiryFailures()} and expiry goes on with the next
+     * tick; an exception would otherwise cancel the task for good.
+     *
+     * @return The scheduled task, to be cancelled when the holds are no longer used
+     */
+    public ScheduledFuture<?> start(ScheduledExecutorService executor) {
+        return executor.scheduleAtFixedRate(() -> {
+            try {
+                expireDue();
+            } catch (RuntimeException e) {
+                expiryFailures.incrementAndGet();
+            }
+        }, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Checks whether a hold is still active.
+     */
+    public boolean isActive(long holdId) {
+        return holds.containsKey(holdId);
+    }
+
+    /**
+     * Returns the number of active holds.
+     */
+    public int activeHolds() {
+        return holds.size();
+    }
+
+    /**
+     * Returns the number of holds that expired so far.
+     */
+    public long expiredHolds() {
+        return expired.get();
+    }
+
+    /**
+     * Returns the number of scheduled expiry runs that threw; the holds they failed on lost their units.
+     */
+    public long expiryFailures() {
+        return expiryFailures.get();
+    }
+
+    private void finish(Hold hold) {
+        holds.remove(hold.id);
+        wheelLock.lock();
+        try {
+            wheel.cancel(hold);
+        } finally {
+            wheelLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.await.dddcore.inventory;
+
+import com.await.dddcore.exceptions.InvalidOrderItemException;
+import com.await.dddcore.exceptions.InvalidStockOperationException;
+import com.await.dddcore.valueobjects.OrderItemDetails;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Stock reservation for the items of an order that ends with all items reserved or none.
+ * <p>
+ * Quantities are merged per product and reserved one product after the other, in the order the products
+ * first appear among the items. If any product lacks stock, the reservations already taken are released
+ * again and nothing stays reserved. Each step is a single atomic inventory operation and no locks are
+ * held.
+ * <p>
+ * The reservation is not atomic for concurrent callers: while an attempt holds part of its products,
+ * other attempts see those units as taken. Concurrent reservations can therefore fail spuriously, e.g.
+ * two orders competing for the same last units can both fail even though there is stock for one of
+ * them. Callers that need one of them to succeed retry.
+ * <p>
+ * A successful reservation must be completed exactly once, by {@link #commit()} or {@link #release()}.
+ */
+public final class StockReservation {
+
+    private final UUID[] productIds;       // Reserved products in the order of their first item
+    private final Inventory[] inventories; // Inventory of each product
+    private final int[] quantities;        // Reserved units of each product
+    private final AtomicBoolean completed = new AtomicBoolean(); // Set once committed or released
+
+    private StockReservation(UUID[] productIds, Inventory[] inventories, int[] quantities) {
+        this.productIds = productIds;
+        this.inventories = inventories;
+        this.quantities = quantities;
+    }
+
+    /**
+     * Reserves stock for all items, or for none of them. May fail spuriously under contention, see the
+     * class documentation.
+     *
+     * @param items The order items to reserve
+     * @param inventoryLookup Returns the inventory of a product, or null if the product is unknown
+     * @return The reservation, or empty if any product did not have enough stock
+     * @throws InvalidStockOperationException if a product is unknown
+     * @throws InvalidOrderItemException if the quantities of a product overflow
+     */
+    public static Optional<StockReservation> tryReserve(Collection<OrderItemDetails> items,
+                                                        Function<UUID, ? extends Inventory> inventoryLookup) {
+        // Orders are small, so a linear scan over arrays beats a map for merging repeated products
+        UUID[] productIds = new UUID[items.size()];
+        int[] quantities = new int[items.size()];
+        int size = 0;
+        for (OrderItemDetails item : items) {
+            UUID productId = item.getProductId();
+            int position = 0;
+            while (position < size && !productIds[position].equals(productId)) {
+                position++;
+            }
+            if (position < size) {
+                quantities[position] = addQuantities(quantities[position], item.getQuantity());
+                continue;
+            }
+            productIds[size] = productId;
+            quantities[size] = item.getQuantity();
+            size++;
+        }
+        if (size < productIds.length) {
+            productIds = Arrays.copyOf(productIds, size);
+            quantities = Arrays.copyOf(quantities, size);
+        }
+        Inventory[] inventories = new Inventory[size];
+        for (int i = 0; i < size; i++) {
+            inventories[i] = inventoryLookup.apply(productIds[i]);
+            if (inventories[i] == null) {
+                throw new InvalidStockOperationException("Unknown product: " + productIds[i]);
+            }
+        }
+        for (int reserved = 0; reserved < size; reserved++) {
+            if (!inventories[reserved].tryReserve(quantities[reserved])) {
+                // Compensate in reverse order, so the reservations are undone like a stack
+                for (int i = reserved - 1; i >= 0; i--) {
+                    inventories[i].release(quantities[i]);
+                }
+                return Optional.empty();
+            }
+        }
+        return Optional.of(new StockReservation(productIds, inventories, quantities));
+    }
+
+    /**
+     * Permanently removes the reserved units, e.g. once the order is paid.
+     *
+     * @throws IllegalStateException if the reservation was already committed or released
+     */
+    public void commit() {
+        complete();
+        for (int i = 0; i < inventories.length; i++) {
+            inventories[i].commit(quantities[i]);
+        }
+    }
+
+    /**
+     * Returns the reserved units to the available stock, e.g. when the order is cancelled.
+     *
+     * @throws IllegalStateException if the reservation was already committed or released
+     */
+    public void release() {
+        complete();
+        for (int i = inventories.length - 1; i >= 0; i--) {
+            inventories[i].release(quantities[i]);
+        }
+    }
+
+    /**
+     * Returns the reserved units of a product, or 0 if the product is not part of the reservation.
+     */
+    public int quantityOf(UUID productId) {
+        for (int i = 0; i < productIds.length; i++) {
+            if (productIds[i].equals(productId)) {
+                return quantities[i];
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the number of distinct products in the reservation.
+     */
+    public int productCount() {
+        return productIds.length;
+    }
+
+    /**
+     * Checks whether the reservation was committed or released.
+     */
+    public boolean isCompleted() {
+        return completed.get();
+    }
+
+    private void complete() {
+        if (!completed.compareAndSet(false, true)) {
+            throw new IllegalStateException("Reservation is already completed");
+        }
+    }
+
+    private static int addQuantities(int first, int second) {
+        try {
+            return Math.addExact(first, second);
+        } catch (ArithmeticException e) {
+            throw new InvalidOrderItemException("Quantity is too large.");
+        }
+    }
+}
@@ -0,0 +1,370 @@
+package com.await.dddcore.inventory;
+
+import com.await.dddcore.exceptions.InvalidStockOperationException;
+import com.await.dddcore.valueobjects.Stock;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Inventory for hot products that spreads the stock over per-core shards.
+ * <p>
+ * Each thread works on its own home shard with a single compare-and-set, so threads on different
+ * shards never contend. When a home shard runs dry the operation falls back to a slow path under a
+ * lock that pools the available units of all shards and redistributes them evenly. Every decrement is
+ * a compare-and-set on one shard that never goes below zero, so the inventory cannot oversell.
+ * <p>
+ * {@link #snapshot()} is exact: under the lock it freezes all shards, sums them and unfreezes them.
+ * Operations that hit a frozen shard wait on the lock until the snapshot is done.
+ * {@link #available()} and {@link #reserved()} are cheap unsynchronized sums.
+ */
+public final class StripedInventory implements Inventory {
+
+    private static final int STRIDE = 16;                // Longs per shard, keeps shards on separate cache lines
+    private static final long FROZEN = Long.MIN_VALUE;   // Set on every shard while a snapshot is taken
+    private static final long INT_MASK = 0xFFFF_FFFFL;
+
+    private final AtomicLongArray cells; // Per shard: available units in bits 32-62, reserved units in bits 0-31
+    private final int shardCount;
+    private final ReentrantLock lock = new ReentrantLock(); // Guards rebalancing, restocking and snapshots
+    private volatile boolean depleted;   // No shard had available units at the last rebalance
+    private final LongAdder operations = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+    private final LongAdder rebalances = new LongAdder();
+
+    /**
+     * Creates an inventory with two shards per available processor, rounded up to a power of two.
+     */
+    public StripedInventory(int available) {
+        this(available, Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 2 - 1)) << 1);
+    }
+
+    /**
+     * Creates an inventory with the given number of shards, spreading the available units evenly.
+     *
+     * @throws InvalidStockOperationException if the quantity is negative
+     */
+    public StripedInventory(int available, int shardCount) {
+        if (available < 0) {
+            throw new InvalidStockOperationException("Stock quantity cannot be negative");
+        }
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("Shard count must be positive");
+        }
+        this.shardCount = shardCount;
+        this.cells = new AtomicLongArray(shardCount * STRIDE);
+        distribute(available);
+    }
+
+    /**
+     * Creates an inventory whose available units match a Stock value object.
+     */
+    public StripedInventory(Stock stock, int shardCount) {
+        this(stock.getQuantity(), shardCount);
+    }
+
+    @Override
+    public boolean tryReserve(int quantity) {
+        AtomicInventory.requirePositive(quantity, "Amount to reduce must be positive");
+        operations.increment();
+        return take(quantity, true);
+    }
+
+    @Override
+    public boolean tryConsume(int quantity) {
+        AtomicInventory.requirePositive(quantity, "Amount to reduce must be positive");
+        operations.increment();
+        return take(quantity, false);
+    }
+
+    @Override
+    public void release(int quantity) {
+        AtomicInventory.requirePositive(quantity, "Amount to release must be positive");
+        operations.increment();
+        settle(quantity, true);
+        if (depleted) {
+            depleted = false;
+        }
+    }
+
+    @Override
+    public void commit(int quantity) {
+        AtomicInventory.requirePositive(quantity, "Amount to commit must be positive");
+        operations.increment();
+        settle(quantity, false);
+    }
+
+    @Override
+    public void restock(int quantity) {
+        AtomicInventory.requirePositive(quantity, "Amount to add must be positive");
+        operations.increment();
+        lock.lock();
+        try {
+            // Outside the lock units only move between available and reserved or leave, so this is an upper bound
+            long total = quantity;
+            for (int shard = 0; shard < shardCount; shard++) {
+                long cell = cells.get(shard * STRIDE);
+                total += available(cell) + reserved(cell);
+            }
+            if (total > Integer.MAX_VALUE) {
+                throw new InvalidStockOperationException("Stock quantity is too large");
+            }
+            addAvailable(homeCell(), quantity);
+            depleted = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int available() {
+        int total = 0;
+        for (int shard = 0; shard < shardCount; shard++) {
+            total += available(cells.get(shard * STRIDE));
+        }
+        return total;
+    }
+
+    @Override
+    public int reserved() {
+        int total = 0;
+        for (int shard = 0; shard < shardCount; shard++) {
+            total += reserved(cells.get(shard * STRIDE));
+        }
+        return total;
+    }
+
+    /**
+     * Returns the exact number of available units at a single point in time.
+     */
+    @Override
+    public Stock snapshot() {
+        lock.lock();
+        try {
+            for (int shard = 0; shard < shardCount; shard++) {
+                int index = shard * STRIDE;
+                long cell;
+                do {
+                    cell = cells.get(index);
+                } while (!cells.compareAndSet(index, cell, cell | FROZEN));
+            }
+            int total = 0;
+            for (int shard = 0; shard < shardCount; shard++) {
+                int index = shard * STRIDE;
+                long cell = cells.get(index);
+                total += available(cell);
+                cells.set(index, cell & ~FROZEN);
+            }
+            return new Stock(total);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public ContentionMetrics metrics() {
+        return new ContentionMetrics(operations.sum(), retries.sum(), rejections.sum());
+    }
+
+    /**
+     * Returns how often a shard ran dry and the stock had to be pooled and redistributed.
+     */
+    public long rebalanceCount() {
+        return rebalances.sum();
+    }
+
+    public int shardCount() {
+        return shardCount;
+    }
+
+    /**
+     * Takes units from the home shard, falling back to a rebalance when it runs dry.
+     */
+    private boolean take(int quantity, boolean reserve) {
+        int home = homeCell();
+        for (long cell = cells.get(home); ; cell = cells.get(home)) {
+            if ((cell & FROZEN) != 0) {
+                return takeLocked(home, quantity, reserve);
+            }
+            int available = available(cell);
+            if (available < quantity) {
+                if (depleted) {
+                    rejections.increment();
+                    return false;
+                }
+                return takeLocked(home, quantity, reserve);
+            }
+            if (cells.compareAndSet(home, cell, pack(available - quantity, reserved(cell) + (reserve ? quantity : 0)))) {
+                return true;
+            }
+            retries.increment();
+        }
+    }
+
+    private boolean takeLocked(int home, int quantity, boolean reserve) {
+        lock.lock();
+        try {
+            if (takeFromCell(home, quantity, reserve)) {
+                return true;
+            }
+            rebalances.increment();
+            long pool = 0;
+            for (int shard = 0; shard < shardCount; shard++) {
+                pool += drainAvailable(shard * STRIDE);
+            }
+            boolean taken = pool >= quantity;
+            if (taken) {
+                pool -= quantity;
+                if (reserve) {
+                    addReserved(home, quantity);
+                }
+            } else {
+                rejections.increment();
+            }
+            distribute((int) pool);
+            if (pool == 0) {
+                markDepletedIfEmpty();
+            }
+            return taken;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Moves reserved units out of the home shard, collecting them from other shards if needed.
+     */
+    private void settle(int quantity, boolean release) {
+        int home = homeCell();
+        for (long cell = cells.get(home); ; cell = cells.get(home)) {
+            int reserved = reserved(cell);
+            if ((cell & FROZEN) != 0 || reserved < quantity) {
+                settleLocked(home, quantity, release);
+                return;
+            }
+            if (cells.compareAndSet(home, cell, pack(available(cell) + (release ? quantity : 0), reserved - quantity))) {
+                return;
+            }
+            retries.increment();
+        }
+    }
+
+    private void settleLocked(int home, int quantity, boolean release) {
+        lock.lock();
+        try {
+            int missing = quantity - reserved(cells.get(home));
+            for (int shard = 0; shard < shardCount && missing > 0; shard++) {
+                int index = shard * STRIDE;
+                if (index != home) {
+                    int moved = drainReserved(index, missing);
+                    addReserved(home, moved);
+                    missing -= moved;
+                }
+            }
+            for (long cell = cells.get(home); ; cell = cells.get(home)) {
+                int reserved = reserved(cell);
+                if (reserved < quantity) {
+                    throw new InvalidStockOperationException("Not enough stock reserved");
+                }
+                if (cells.compareAndSet(home, cell, pack(available(cell) + (release ? quantity : 0), reserved - quantity))) {
+                    return;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean takeFromCell(int index, int quantity, boolean reserve) {
+        for (long cell = cells.get(index); ; cell = cells.get(index)) {
+            int available = available(cell);
+            if (available < quantity) {
+                return false;
+            }
+            if (cells.compareAndSet(index, cell, pack(available - quantity, reserved(cell) + (reserve ? quantity : 0)))) {
+                return true;
+            }
+        }
+    }
+
+    private int drainAvailable(int index) {
+        for (long cell = cells.get(index); ; cell = cells.get(index)) {
+            if (cells.compareAndSet(index, cell, pack(0, reserved(cell)))) {
+                return available(cell);
+            }
+        }
+    }
+
+    private int drainReserved(int index, int limit) {
+        for (long cell = cells.get(index); ; cell = cells.get(index)) {
+            int moved = Math.min(reserved(cell), limit);
+            if (moved == 0 || cells.compareAndSet(index, cell, pack(available(cell), reserved(cell) - moved))) {
+                return moved;
+            }
+        }
+    }
+
+    private void addAvailable(int index, int quantity) {
+        for (long cell = cells.get(index); ; cell = cells.get(index)) {
+            if (cells.compareAndSet(index, cell, pack(available(cell) + quantity, reserved(cell)))) {
+                return;
+            }
+        }
+    }
+
+    private void addReserved(int index, int quantity) {
+        for (long cell = cells.get(index); ; cell = cells.get(index)) {
+            if (cells.compareAndSet(index, cell, pack(available(cell), reserved(cell) + quantity))) {
+                return;
+            }
+        }
+    }
+
+    private void distribute(int units) {
+        int share = units / shardCount;
+        int remainder = units % shardCount;
+        for (int shard = 0; shard < shardCount; shard++) {
+            int quantity = share + (shard < remainder ? 1 : 0);
+            if (quantity > 0) {
+                addAvailable(shard * STRIDE, quantity);
+            }
+        }
+    }
+
+    /**
+     * Sets the depleted hint, then clears it again if a concurrent release or restock already added units.
+     */
+    private void markDepletedIfEmpty() {
+        depleted = true;
+        for (int shard = 0; shard < shardCount; shard++) {
+            if (available(cells.get(shard * STRIDE)) > 0) {
+                depleted = false;
+                return;
+            }
+        }
+    }
+
+    private int homeCell() {
+        int hash = System.identityHashCode(Thread.currentThread()) * 0x9E3779B9;
+        return Math.floorMod(hash ^ (hash >>> 16), shardCount) * STRIDE;
+    }
+
+    private static long pack(int available, int reserved) {
+        return ((long) available << 32) | (reserved & INT_MASK);
+    }
+
+    private static int available(long cell) {
+        return (int) ((cell & ~FROZEN) >>> 32);
+    }
+
+    private static int reserved(long cell) {
+        return (int) cell;
+    }
+
+    @Override
+    public String toString() {
+        return "StripedInventory{shards=" + shardCount + ", available=" + available() + ", reserved=" + reserved() + '}';
+    }
+}
@@ -0,0 +1,243 @@
+package com.await.dddcore.inventory;
+
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel for timers with tick granularity.
+ * <p>
+ * Each level has 64 slots; a slot on level {@code l} spans {@code 64^l} ticks. A timer is placed on the
+ * lowest level whose window still contains its deadline, so scheduling and cancelling are O(1). When time
+ * crosses a slot boundary of a higher level, that slot is cascaded down. Slots are intrusive doubly-linked
+ * lists and every level keeps a bitmap of occupied slots, so empty stretches of time are skipped 64 ticks
+ * at a time. Deadlines beyond the top level are parked at the end of its window and re-placed from there.
+ * <p>
+ * Timers never fire early: a timer fires on the first {@link #advance} whose tick reaches its deadline.
+ * Not thread-safe; callers guard access.
+ */
+final class TimingWheel<T extends TimingWheel.Timer> {
+
+    private static final int BITS = 6;                 // log2 of the slots per level
+    private static final int SLOTS = 1 << BITS;        // Slots per level
+    private static final long MASK = SLOTS - 1;
+
+    /**
+     * Intrusive node of a timer list; extend this to make an object schedulable.
+     */
+    abstract static class Timer {
+
+        private long deadline;   // Tick at which the timer fires
+        private Timer prev;      // Previous timer in the slot, or null for the head
+        private Timer next;      // Next timer in the slot
+        private int level = -1;  // Level of the slot holding the timer, or -1 when unscheduled
+        private int slot;        // Index of the slot holding the timer
+
+        /**
+         * Returns the tick at which the timer fires.
+         */
+        final long deadline() {
+            return deadline;
+        }
+
+        /**
+         * Checks whether the timer is currently scheduled.
+         */
+        final boolean isScheduled() {
+            return level >= 0;
+        }
+    }
+
+    private final Timer[][] heads;    // First timer of every slot, by level
+    private final long[] occupied;    // Bit i of level l is set when slot i holds timers
+    private long base;                // First tick that has not been processed yet
+    private int size;                 // Number of scheduled timers
+
+    /**
+     * Creates a wheel whose first unprocessed tick is {@code startTick}.
+     *
+     * @param levels The number of levels; the wheel covers {@code 64^levels} ticks ahead
+     * @param startTick The current tick
+     */
+    TimingWheel(int levels, long startTick) {
+        if (levels < 1 || levels * BITS >= Long.SIZE - 1) {
+            throw new IllegalArgumentException("Levels must be between 1 and 10");
+        }
+        this.heads = new Timer[levels][SLOTS];
+        this.occupied = new long[levels];
+        this.base = startTick;
+    }
+
+    /**
+     * Schedules a timer. Deadlines that already passed fire on the next advance.
+     *
+     * @throws IllegalStateException if the timer is already scheduled
+     */
+    void schedule(T timer, long deadlineTick) {
+        if (timer.isScheduled()) {
+            throw new IllegalStateException("Timer is already scheduled");
+        }
+        Timer node = timer;
+        node.deadline = deadlineTick;
+        place(node);
+        size++;
+    }
+
+    /**
+     * Removes a timer before it fires.
+     *
+     * @return True if the timer was scheduled
+     */
+    boolean cancel(T timer) {
+        if (!timer.isScheduled()) {
+            return false;
+        }
+        unlink(timer);
+        size--;
+        return true;
+    }
+
+    /**
+     * Processes all ticks up to and including {@code nowTick} and hands every due timer to the consumer.
+     * If the consumer throws, the exception propagates and the timers not handed over yet stay scheduled,
+     * so the next advance fires them.
+     *
+     * @return The number of timers that fired
+     */
+    @SuppressWarnings("unchecked")
+    int advance(long nowTick, Consumer<? super T> expired) {
+        int fired = 0;
+        while (base <= nowTick) {
+            if (size == 0) {
+                base = nowTick + 1;
+                break;
+            }
+            long tick = nextTick();
+            if (tick > nowTick) {
+                base = nowTick + 1;
+                break;
+            }
+            base = tick;
+            cascade(tick);
+            int slot = (int) (tick & MASK);
+            Timer timer = heads[0][slot];
+            heads[0][slot] = null;
+            occupied[0] &= ~(1L << slot);
+            base = tick + 1;
+            while (timer != null) {
+                Timer next = timer.next;
+                timer.prev = null;
+                timer.next = null;
+                if (timer.deadline > tick) {
+                    place(timer);
+                } else {
+                    timer.level = -1;
+                    size--;
+                    fired++;
+                    try {
+                        expired.accept((T) timer);
+                    } catch (RuntimeException | Error e) {
+                        // Keep the rest of the slot scheduled; due timers fire on the next advance
+                        relink(next);
+                        throw e;
+                    }
+                }
+                timer = next;
+            }
+        }
+        return fired;
+    }
+
+    /**
+     * Returns the number of scheduled timers.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the first tick that has not been processed yet.
+     */
+    long base() {
+        return base;
+    }
+
+    /**
+     * Returns the next tick with work: an occupied slot on level 0 or the next level 0 window boundary.
+     */
+    private long nextTick() {
+        long pending = occupied[0] & (-1L << (base & MASK));
+        if (pending != 0) {
+            return (base & ~MASK) | Long.numberOfTrailingZeros(pending);
+        }
+        return (base & MASK) == 0 ? base : (base | MASK) + 1;
+    }
+
+    /**
+     * Moves the timers of every higher level slot that starts at this tick down, top level first.
+     */
+    private void cascade(long tick) {
+        for (int level = heads.length - 1; level > 0; level--) {
+            int shift = level * BITS;
+            if ((tick & ((1L << shift) - 1)) != 0) {
+                continue;
+            }
+            int slot = (int) ((tick >>> shift) & MASK);
+            if ((occupied[level] & (1L << slot)) == 0) {
+                continue;
+            }
+            Timer timer = heads[level][slot];
+            heads[level][slot] = null;
+            occupied[level] &= ~(1L << slot);
+            relink(timer);
+        }
+    }
+
+    /**
+     * Places every timer of a detached chain again.
+     */
+    private void relink(Timer timer) {
+        while (timer != null) {
+            Timer next = timer.next;
+            timer.prev = null;
+            timer.next = null;
+            place(timer);
+            timer = next;
+        }
+    }
+
+    private void place(Timer timer) {
+        // Too far ahead: park on the last tick of the top window and re-place the timer from there
+        long due = Math.min(Math.max(timer.deadline, base), base | ((1L << (heads.length * BITS)) - 1));
+        int level = 0;
+        // The lowest level whose window around the base also contains the deadline
+        while ((due >>> ((level + 1) * BITS)) != (base >>> ((level + 1) * BITS))) {
+            level++;
+        }
+        int slot = (int) ((due >>> (level * BITS)) & MASK);
+        Timer head = heads[level][slot];
+        timer.next = head;
+        if (head != null) {
+            head.prev = timer;
+        }
+        heads[level][slot] = timer;
+        occupied[level] |= 1L << slot;
+        timer.level = level;
+        timer.slot = slot;
+    }
+
+    private void unlink(Timer timer) {
+        if (timer.prev != null) {
+            timer.prev.next = timer.next;
+        } else {
+            heads[timer.level][timer.slot] = timer.next;
+            if (timer.next == null) {
+                occupied[timer.level] &= ~(1L << timer.slot);
+            }
+        }
+        if (timer.next != null) {
+            timer.next.prev = timer.prev;
+        }
+        timer.prev = null;
+        timer.next = null;
+        timer.level = -1;
+    }
+}
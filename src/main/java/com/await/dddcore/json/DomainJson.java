@@ -0,0 +1,380 @@
+package com.await.dddcore.json;
+
+import com.await.dddcore.aggregates.OrderAggregate;
+import com.await.dddcore.entities.Customer;
+import com.await.dddcore.entities.Order;
+import com.await.dddcore.events.OrderSnapshot;
+import com.await.dddcore.valueobjects.Address;
+import com.await.dddcore.valueobjects.CurrencyUnit;
+import com.await.dddcore.valueobjects.Email;
+import com.await.dddcore.valueobjects.Money;
+import com.await.dddcore.valueobjects.Name;
+import com.await.dddcore.valueobjects.OrderItemDetails;
+import com.await.dddcore.valueobjects.OrderStatus;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+/**
+ * JSON mapping of the domain model on top of {@link JsonWriter} and {@link JsonReader}.
+ * <p>
+ * Money is written as {@code {"currency":"USD","amount":19.99}}, with amounts in minor units written
+ * without creating a BigDecimal. Reading passes every field to the value object constructors, so JSON
+ * input is validated exactly like other input; unknown fields are skipped and a missing field is
+ * reported by the constructor that needs it. Derived fields such as totals are written but ignored when
+ * reading. Orders reference their customer and customers their orders by ID, so documents never nest
+ * one inside the other. Addresses, emails and names read are interned, since imports repeat them across
+ * many customers and orders.
+ */
+public final class DomainJson {
+
+    private DomainJson() {
+    }
+
+    public static void writeAddress(JsonWriter writer, Address address) {
+        writer.beginObject()
+            .field("country", address.getCountry())
+            .field("city", address.getCity())
+            .field("street", address.getStreet())
+            .field("postalCode", address.getPostalCode())
+            .endObject();
+    }
+
+    public static void writeMoney(JsonWriter writer, Money money) {
+        writer.beginObject().field("currency", money.getCurrency()).name("amount");
+        if (money.isCompact()) {
+            writer.decimal(money.minorUnits(), money.getCurrencyUnit().getScale());
+        } else {
+            writer.value(money.getAmount());
+        }
+        writer.endObject();
+    }
+
+    public static void writeItem(JsonWriter writer, OrderItemDetails item) {
+        writer.beginObject()
+            .field("productId", item.getProductId().toString())
+            .field("quantity", item.getQuantity())
+            .name("price");
+        writeMoney(writer, item.getPrice());
+        writer.endObject();
+    }
+
+    public static void writeOrder(JsonWriter writer, OrderAggregate order) {
+        writer.beginObject()
+            .field("id", order.getId().toString())
+            .field("version", order.getVersion());
+        if (order.getCustomerId().isPresent()) {
+            writer.field("customerId", order.getCustomerId().get().toString());
+        }
+        writeOrderBody(writer, order.getTotalPrice(), order.getStatus(), order.getShippingAddress(),
+            order.getOrderItems());
+        writer.endObject();
+    }
+
+    public static void writeOrder(JsonWriter writer, Order order) {
+        writer.beginObject()
+            .field("id", order.getId().toString())
+            .field("customerId", order.getCustomer().getId().toString());
+        writeOrderBody(writer, order.getTotalPrice(), order.getStatus(), order.getShippingAddress(),
+            order.getItems());
+        writer.endObject();
+    }
+
+    public static void writeCustomer(JsonWriter writer, Customer customer) {
+        writer.beginObject()
+            .field("id", customer.getId().toString())
+            .name("name").beginObject()
+            .field("firstName", customer.getName().getFirstName())
+            .field("lastName", customer.getName().getLastName())
+            .endObject()
+            .field("email", customer.getEmail().getEmail())
+            .name("address");
+        writeAddress(writer, customer.getAddress());
+        writer.name("orderIds").beginArray();
+        for (Order order : customer.getOrders()) {
+            writer.value(order.getId().toString());
+        }
+        writer.endArray().endObject();
+    }
+
+    /**
+     * Writes orders as an array while they are produced, e.g. by a lazy iterable over a repository.
+     */
+    public static void writeOrders(JsonWriter writer, Iterable<OrderAggregate> orders) {
+        writer.beginArray();
+        for (OrderAggregate order : orders) {
+            writeOrder(writer, order);
+        }
+        writer.endArray();
+    }
+
+    public static Address readAddress(JsonReader reader) {
+        String country = null;
+        String city = null;
+        String street = null;
+        String postalCode = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "country":
+                    country = nullableString(reader);
+                    break;
+                case "city":
+                    city = nullableString(reader);
+                    break;
+                case "street":
+                    street = nullableString(reader);
+                    break;
+                case "postalCode":
+                    postalCode = nullableString(reader);
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return new Address(country, city, street, postalCode).intern();
+    }
+
+    public static Money readMoney(JsonReader reader) {
+        String currency = null;
+        BigDecimal amount = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "currency":
+                    currency = nullableString(reader);
+                    break;
+                case "amount":
+                    amount = nullableDecimal(reader);
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        if (amount != null && !Money.isWithinLimits(amount)) {
+            throw reader.dataError("Amount out of range: scale " + amount.scale()
+                + ", precision " + amount.precision());
+        }
+        return new Money(currency, amount);
+    }
+
+    public static OrderItemDetails readItem(JsonReader reader) {
+        UUID productId = null;
+        int quantity = 0;
+        Money price = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "productId":
+                    productId = nullableUuid(reader);
+                    break;
+                case "quantity":
+                    quantity = reader.nextInt();
+                    break;
+                case "price":
+                    price = readMoney(reader);
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return new OrderItemDetails(productId, quantity, price);
+    }
+
+    /**
+     * Reads an order written by {@link #writeOrder(JsonWriter, OrderAggregate)}. The order has no pending
+     * events.
+     */
+    public static OrderAggregate readOrder(JsonReader reader) {
+        UUID id = null;
+        UUID customerId = null;
+        long version = 0;
+        OrderStatus status = null;
+        Address shippingAddress = null;
+        CurrencyUnit currency = null;
+        List<OrderItemDetails> items = new ArrayList<>();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "id":
+                    id = nullableUuid(reader);
+                    break;
+                case "customerId":
+                    customerId = nullableUuid(reader);
+                    break;
+                case "version":
+                    version = reader.nextLong();
+                    break;
+                case "currency":
+                    currency = CurrencyUnit.of(nullableString(reader));
+                    break;
+                case "status":
+                    status = status(reader);
+                    break;
+                case "shippingAddress":
+                    shippingAddress = readAddress(reader);
+                    break;
+                case "items":
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        items.add(readItem(reader));
+                    }
+                    reader.endArray();
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        if (id == null || currency == null || status == null || shippingAddress == null || version < 1) {
+            throw reader.dataError("Order needs an id, currency, status, shipping address and positive version");
+        }
+        reader.endObject();
+        return OrderAggregate.replay(new OrderSnapshot(id, version, currency, shippingAddress, status, items,
+            customerId), List.of());
+    }
+
+    /**
+     * Reads a customer written by {@link #writeCustomer}. Orders are separate documents, so the order IDs
+     * are skipped and the customer has no orders.
+     */
+    public static Customer readCustomer(JsonReader reader) {
+        UUID id = null;
+        Name name = null;
+        Email email = null;
+        Address address = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "id":
+                    id = nullableUuid(reader);
+                    break;
+                case "name":
+                    name = readName(reader);
+                    break;
+                case "email":
+                    email = new Email(nullableString(reader)).intern();
+                    break;
+                case "address":
+                    address = readAddress(reader);
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        if (id == null || name == null || email == null || address == null) {
+            throw reader.dataError("Customer needs an id, name, email and address");
+        }
+        reader.endObject();
+        return new Customer(id, name, email, address);
+    }
+
+    /**
+     * Returns an iterator that parses an array of orders one at a time, so the array can be of any
+     * length. The reader must be positioned at the array.
+     */
+    public static Iterator<OrderAggregate> readOrders(JsonReader reader) {
+        reader.beginArray();
+        return new Iterator<>() {
+            private boolean ended;
+
+            @Override
+            public boolean hasNext() {
+                if (ended) {
+                    return false;
+                }
+                if (reader.hasNext()) {
+                    return true;
+                }
+                reader.endArray();
+                ended = true;
+                return false;
+            }
+
+            @Override
+            public OrderAggregate next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return readOrder(reader);
+            }
+        };
+    }
+
+    private static void writeOrderBody(JsonWriter writer, Money total, OrderStatus status, Address shippingAddress,
+                                       List<OrderItemDetails> items) {
+        writer.field("currency", total.getCurrency())
+            .field("status", status.name())
+            .name("shippingAddress");
+        writeAddress(writer, shippingAddress);
+        writer.name("items").beginArray();
+        for (int i = 0; i < items.size(); i++) {
+            writeItem(writer, items.get(i));
+        }
+        writer.endArray().name("totalPrice");
+        writeMoney(writer, total);
+    }
+
+    private static Name readName(JsonReader reader) {
+        String firstName = null;
+        String lastName = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "firstName":
+                    firstName = nullableString(reader);
+                    break;
+                case "lastName":
+                    lastName = nullableString(reader);
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return new Name(firstName, lastName).intern();
+    }
+
+    private static OrderStatus status(JsonReader reader) {
+        String name = reader.nextString();
+        try {
+            return OrderStatus.valueOf(name);
+        } catch (IllegalArgumentException e) {
+            throw reader.dataError("Unknown order status: " + name);
+        }
+    }
+
+    private static UUID nullableUuid(JsonReader reader) {
+        String text = nullableString(reader);
+        if (text == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(text);
+        } catch (IllegalArgumentException e) {
+            throw reader.dataError("Invalid UUID: " + text);
+        }
+    }
+
+    private static String nullableString(JsonReader reader) {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+        return reader.nextString();
+    }
+
+    private static BigDecimal nullableDecimal(JsonReader reader) {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+        return reader.nextDecimal();
+    }
+}
@@ -0,0 +1,591 @@
+package com.await.dddcore.json;
+
+import com.await.dddcore.exceptions.InvalidJsonException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Streaming pull parser for JSON as defined by RFC 8259.
+ * <p>
+ * The caller asks for the next token with {@link #peek()} and consumes it with the matching method, so
+ * documents are mapped to objects without an intermediate tree. Input is read through a fixed-size buffer
+ * and only one value is held at a time, so arrays of any length are parsed in constant memory. Malformed
+ * input throws {@link InvalidJsonException} with the character offset of the problem; consuming a token of
+ * the wrong kind throws {@link IllegalStateException}. Not thread-safe.
+ */
+public final class JsonReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    // Scopes of the structures being read
+    private static final int EMPTY_DOCUMENT = 0;
+    private static final int NONEMPTY_DOCUMENT = 1;
+    private static final int EMPTY_ARRAY = 2;
+    private static final int NONEMPTY_ARRAY = 3;
+    private static final int EMPTY_OBJECT = 4;
+    private static final int NONEMPTY_OBJECT = 5;
+    private static final int DANGLING_NAME = 6;   // A name was read, its value is next
+
+    private final Reader in;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int pos;                                // Next character to read
+    private int limit;                              // End of the characters in the buffer
+    private long consumed;                          // Characters discarded before the buffer start
+    private int[] scopes = new int[16];             // Stack of open scopes
+    private int depth = 1;
+    private JsonToken peeked;                       // The next token, once peeked
+    private final StringBuilder scratch = new StringBuilder(); // Reused for strings with escapes
+
+    public JsonReader(Reader in) {
+        this.in = in;
+        this.scopes[0] = EMPTY_DOCUMENT;
+    }
+
+    /**
+     * Creates a reader that decodes UTF-8 bytes.
+     */
+    public static JsonReader of(InputStream in) {
+        return new JsonReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+    }
+
+    public static JsonReader of(String json) {
+        return new JsonReader(new StringReader(json));
+    }
+
+    /**
+     * Returns the kind of the next token without consuming it.
+     */
+    public JsonToken peek() {
+        if (peeked != null) {
+            return peeked;
+        }
+        int scope = scopes[depth - 1];
+        switch (scope) {
+            case EMPTY_ARRAY:
+                scopes[depth - 1] = NONEMPTY_ARRAY;
+                if (nextNonWhitespace() == ']') {
+                    return peeked = JsonToken.END_ARRAY;
+                }
+                pos--;
+                break;
+            case NONEMPTY_ARRAY: {
+                int c = nextNonWhitespace();
+                if (c == ']') {
+                    return peeked = JsonToken.END_ARRAY;
+                }
+                if (c != ',') {
+                    throw syntaxError("Expected ',' or ']'");
+                }
+                break;
+            }
+            case EMPTY_OBJECT:
+            case NONEMPTY_OBJECT: {
+                scopes[depth - 1] = DANGLING_NAME;
+                int c = nextNonWhitespace();
+                if (c == '}') {
+                    return peeked = JsonToken.END_OBJECT;
+                }
+                if (scope == NONEMPTY_OBJECT) {
+                    if (c != ',') {
+                        throw syntaxError("Expected ',' or '}'");
+                    }
+                    c = nextNonWhitespace();
+                }
+                if (c != '"') {
+                    throw syntaxError("Expected a name");
+                }
+                return peeked = JsonToken.NAME;
+            }
+            case DANGLING_NAME:
+                scopes[depth - 1] = NONEMPTY_OBJECT;
+                if (nextNonWhitespace() != ':') {
+                    throw syntaxError("Expected ':'");
+                }
+                break;
+            case EMPTY_DOCUMENT:
+                scopes[depth - 1] = NONEMPTY_DOCUMENT;
+                break;
+            default:
+                if (skipWhitespace() != -1) {
+                    throw syntaxError("Unexpected content after the document");
+                }
+                return peeked = JsonToken.END_DOCUMENT;
+        }
+        int c = nextNonWhitespace();
+        switch (c) {
+            case '{':
+                return peeked = JsonToken.BEGIN_OBJECT;
+            case '[':
+                return peeked = JsonToken.BEGIN_ARRAY;
+            case '"':
+                return peeked = JsonToken.STRING;
+            case 't':
+            case 'f':
+                pos--;
+                return peeked = JsonToken.BOOLEAN;
+            case 'n':
+                pos--;
+                return peeked = JsonToken.NULL;
+            default:
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    pos--;
+                    return peeked = JsonToken.NUMBER;
+                }
+                throw syntaxError("Expected a value");
+        }
+    }
+
+    /**
+     * Checks whether the current array or object has another element.
+     */
+    public boolean hasNext() {
+        JsonToken token = peek();
+        return token != JsonToken.END_ARRAY && token != JsonToken.END_OBJECT && token != JsonToken.END_DOCUMENT;
+    }
+
+    public void beginArray() {
+        consume(JsonToken.BEGIN_ARRAY);
+        push(EMPTY_ARRAY);
+    }
+
+    public void endArray() {
+        consume(JsonToken.END_ARRAY);
+        depth--;
+    }
+
+    public void beginObject() {
+        consume(JsonToken.BEGIN_OBJECT);
+        push(EMPTY_OBJECT);
+    }
+
+    public void endObject() {
+        consume(JsonToken.END_OBJECT);
+        depth--;
+    }
+
+    public String nextName() {
+        consume(JsonToken.NAME);
+        return readString();
+    }
+
+    public String nextString() {
+        consume(JsonToken.STRING);
+        return readString();
+    }
+
+    public boolean nextBoolean() {
+        consume(JsonToken.BOOLEAN);
+        if (matchLiteral("true")) {
+            return true;
+        }
+        if (matchLiteral("false")) {
+            return false;
+        }
+        throw syntaxError("Expected a value");
+    }
+
+    public void nextNull() {
+        consume(JsonToken.NULL);
+        if (!matchLiteral("null")) {
+            throw syntaxError("Expected a value");
+        }
+    }
+
+    /**
+     * Reads an integral number.
+     *
+     * @throws InvalidJsonException if the number has a fraction or exponent or does not fit into a long
+     */
+    public long nextLong() {
+        consume(JsonToken.NUMBER);
+        int length = numberLength();
+        if (!isIntegral(length)) {
+            throw syntaxError("Expected an integer");
+        }
+        boolean negative = buffer[pos] == '-';
+        long value = 0;
+        for (int i = negative ? 1 : 0; i < length; i++) {
+            int digit = buffer[pos + i] - '0';
+            // Accumulate negatively, so Long.MIN_VALUE is representable
+            if (value < (Long.MIN_VALUE + digit) / 10) {
+                throw syntaxError("Number out of range");
+            }
+            value = value * 10 - digit;
+        }
+        if (!negative && value == Long.MIN_VALUE) {
+            throw syntaxError("Number out of range");
+        }
+        pos += length;
+        return negative ? value : -value;
+    }
+
+    public int nextInt() {
+        long value = nextLong();
+        if (value != (int) value) {
+            throw syntaxError("Number out of range");
+        }
+        return (int) value;
+    }
+
+    public BigDecimal nextDecimal() {
+        consume(JsonToken.NUMBER);
+        int length = numberLength();
+        BigDecimal value = new BigDecimal(buffer, pos, length);
+        pos += length;
+        return value;
+    }
+
+    /**
+     * Skips the next value, including nested arrays and objects.
+     */
+    public void skipValue() {
+        int nesting = 0;
+        do {
+            JsonToken token = peek();
+            switch (token) {
+                case BEGIN_ARRAY:
+                    beginArray();
+                    nesting++;
+                    break;
+                case BEGIN_OBJECT:
+                    beginObject();
+                    nesting++;
+                    break;
+                case END_ARRAY:
+                case END_OBJECT:
+                case END_DOCUMENT:
+                    if (nesting == 0) {
+                        throw new IllegalStateException("Expected a value but was " + token);
+                    }
+                    if (token == JsonToken.END_ARRAY) {
+                        endArray();
+                    } else if (token == JsonToken.END_OBJECT) {
+                        endObject();
+                    } else {
+                        throw syntaxError("Unexpected end of document");
+                    }
+                    nesting--;
+                    break;
+                case NAME:
+                    if (nesting == 0) {
+                        throw new IllegalStateException("Expected a value but was NAME");
+                    }
+                    nextName();
+                    break;
+                case STRING:
+                    consume(JsonToken.STRING);
+                    skipString();
+                    break;
+                case NUMBER:
+                    consume(JsonToken.NUMBER);
+                    pos += numberLength();
+                    break;
+                case BOOLEAN:
+                    nextBoolean();
+                    break;
+                default:
+                    nextNull();
+            }
+        } while (nesting > 0);
+    }
+
+    /**
+     * Returns the offset of the next unread character, for error messages.
+     */
+    public long offset() {
+        return consumed + pos;
+    }
+
+    @Override
+    public void close() {
+        try {
+            in.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Creates an error for input that is valid JSON but not what the caller expects.
+     */
+    public InvalidJsonException dataError(String message) {
+        return new InvalidJsonException(message + " at offset " + offset());
+    }
+
+    private void consume(JsonToken expected) {
+        JsonToken token = peek();
+        if (token != expected) {
+            throw new IllegalStateException("Expected " + expected + " but was " + token + " at offset " + offset());
+        }
+        peeked = null;
+    }
+
+    private void push(int scope) {
+        if (depth == scopes.length) {
+            scopes = Arrays.copyOf(scopes, depth * 2);
+        }
+        scopes[depth++] = scope;
+    }
+
+    private String readString() {
+        StringBuilder builder = null;
+        while (true) {
+            int start = pos;
+            while (pos < limit) {
+                char c = buffer[pos++];
+                if (c == '"') {
+                    if (builder == null) {
+                        return new String(buffer, start, pos - start - 1);
+                    }
+                    builder.append(buffer, start, pos - start - 1);
+                    return builder.toString();
+                }
+                if (c == '\\') {
+                    if (builder == null) {
+                        builder = scratch;
+                        builder.setLength(0);
+                    }
+                    builder.append(buffer, start, pos - start - 1);
+                    builder.append(readEscape());
+                    start = pos;
+                } else if (c < 0x20) {
+                    pos--;
+                    throw syntaxError("Unescaped control character in string");
+                }
+            }
+            if (builder == null) {
+                builder = scratch;
+                builder.setLength(0);
+            }
+            builder.append(buffer, start, pos - start);
+            if (!fill(1)) {
+                throw syntaxError("Unterminated string");
+            }
+        }
+    }
+
+    private void skipString() {
+        while (true) {
+            while (pos < limit) {
+                char c = buffer[pos++];
+                if (c == '"') {
+                    return;
+                }
+                if (c == '\\') {
+                    readEscape();
+                } else if (c < 0x20) {
+                    pos--;
+                    throw syntaxError("Unescaped control character in string");
+                }
+            }
+            if (!fill(1)) {
+                throw syntaxError("Unterminated string");
+            }
+        }
+    }
+
+    private char readEscape() {
+        if (pos == limit && !fill(1)) {
+            throw syntaxError("Unterminated escape sequence");
+        }
+        char c = buffer[pos++];
+        switch (c) {
+            case '"':
+            case '\\':
+            case '/':
+                return c;
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u': {
+                if (limit - pos < 4 && !fill(4)) {
+                    throw syntaxError("Unterminated escape sequence");
+                }
+                int value = 0;
+                for (int i = 0; i < 4; i++) {
+                    int digit = Character.digit(buffer[pos + i], 16);
+                    if (digit < 0) {
+                        throw syntaxError("Invalid unicode escape");
+                    }
+                    value = value << 4 | digit;
+                }
+                pos += 4;
+                return (char) value;
+            }
+            default:
+                pos--;
+                throw syntaxError("Invalid escape sequence");
+        }
+    }
+
+    private boolean matchLiteral(String literal) {
+        int length = literal.length();
+        if (limit - pos < length && !fill(length)) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (buffer[pos + i] != literal.charAt(i)) {
+                return false;
+            }
+        }
+        if ((limit - pos > length || fill(length + 1)) && isLiteralChar(buffer[pos + length])) {
+            return false;
+        }
+        pos += length;
+        return true;
+    }
+
+    /**
+     * Makes the whole number at the read position available in the buffer, checks it against the JSON
+     * number grammar and returns its length.
+     */
+    private int numberLength() {
+        int length = 0;
+        while (true) {
+            if (pos + length == limit) {
+                if (length == buffer.length) {
+                    throw syntaxError("Number too long");
+                }
+                if (!fill(length + 1)) {
+                    break;
+                }
+            }
+            char c = buffer[pos + length];
+            if ((c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E') {
+                length++;
+            } else if (isLiteralChar(c)) {
+                throw syntaxError("Invalid number");
+            } else {
+                break;
+            }
+        }
+        // -?(0|[1-9][0-9]*)(\.[0-9]+)?([eE][+-]?[0-9]+)?
+        int i = pos;
+        int end = pos + length;
+        if (i < end && buffer[i] == '-') {
+            i++;
+        }
+        if (i < end && buffer[i] == '0') {
+            i++;
+        } else if (digits(i, end) > i) {
+            i = digits(i, end);
+        } else {
+            throw syntaxError("Invalid number");
+        }
+        if (i < end && buffer[i] == '.') {
+            int fraction = digits(i + 1, end);
+            if (fraction == i + 1) {
+                throw syntaxError("Invalid number");
+            }
+            i = fraction;
+        }
+        if (i < end && (buffer[i] == 'e' || buffer[i] == 'E')) {
+            i++;
+            if (i < end && (buffer[i] == '+' || buffer[i] == '-')) {
+                i++;
+            }
+            int exponent = digits(i, end);
+            if (exponent == i) {
+                throw syntaxError("Invalid number");
+            }
+            i = exponent;
+        }
+        if (i != end) {
+            throw syntaxError("Invalid number");
+        }
+        return length;
+    }
+
+    private boolean isIntegral(int length) {
+        for (int i = pos; i < pos + length; i++) {
+            char c = buffer[i];
+            if (c == '.' || c == 'e' || c == 'E') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int digits(int from, int end) {
+        while (from < end && buffer[from] >= '0' && buffer[from] <= '9') {
+            from++;
+        }
+        return from;
+    }
+
+    private static boolean isLiteralChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    private int nextNonWhitespace() {
+        int c = skipWhitespace();
+        if (c == -1) {
+            throw syntaxError("Unexpected end of document");
+        }
+        pos++;
+        return c;
+    }
+
+    /**
+     * Skips whitespace and returns the next character without consuming it, or -1 at the end of input.
+     */
+    private int skipWhitespace() {
+        while (true) {
+            if (pos == limit && !fill(1)) {
+                return -1;
+            }
+            char c = buffer[pos];
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+                return c;
+            }
+            pos++;
+        }
+    }
+
+    /**
+     * Moves the unread characters to the buffer start and reads until at least {@code minimum} are
+     * available.
+     *
+     * @return False if the input ended first
+     */
+    private boolean fill(int minimum) {
+        if (pos > 0) {
+            consumed += pos;
+            System.arraycopy(buffer, pos, buffer, 0, limit - pos);
+            limit -= pos;
+            pos = 0;
+        }
+        try {
+            while (limit < minimum) {
+                int read = in.read(buffer, limit, buffer.length - limit);
+                if (read == -1) {
+                    return false;
+                }
+                limit += read;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return true;
+    }
+
+    private InvalidJsonException syntaxError(String message) {
+        return new InvalidJsonException(message + " at offset " + offset());
+    }
+}
@@ -0,0 +1,17 @@
+package com.await.dddcore.json;
+
+/**
+ * Kinds of tokens returned by {@link JsonReader#peek()}.
+ */
+public enum JsonToken {
+    BEGIN_ARRAY,
+    END_ARRAY,
+    BEGIN_OBJECT,
+    END_OBJECT,
+    NAME,
+    STRING,
+    NUMBER,
+    BOOLEAN,
+    NULL,
+    END_DOCUMENT
+}
@@ -0,0 +1,362 @@
+package com.await.dddcore.json;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Streaming JSON writer that appends tokens to a fixed-size buffer and hands full buffers to the sink.
+ * <p>
+ * Memory use does not depend on the size of the document, so arrays of any length can be written as
+ * their elements are produced. Commas and colons are inserted automatically; calls out of order, such as
+ * a value where a name is expected, throw {@link IllegalStateException}. Not thread-safe.
+ */
+public final class JsonWriter implements Closeable, Flushable {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    // Scopes of the structures being written
+    private static final int EMPTY_DOCUMENT = 0;
+    private static final int NONEMPTY_DOCUMENT = 1;
+    private static final int EMPTY_ARRAY = 2;
+    private static final int NONEMPTY_ARRAY = 3;
+    private static final int EMPTY_OBJECT = 4;
+    private static final int NONEMPTY_OBJECT = 5;
+    private static final int DANGLING_NAME = 6;   // A name was written, its value is missing
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final Appendable sink;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int count;                             // Characters waiting in the buffer
+    private int[] scopes = new int[16];            // Stack of open scopes
+    private int depth = 1;
+    private CharBuffer view;                       // Reusable view of the buffer for plain appendables
+
+    /**
+     * Creates a writer that appends to the given sink, e.g. a {@link Writer} or a {@link StringBuilder}.
+     */
+    public JsonWriter(Appendable sink) {
+        this.sink = sink;
+        this.scopes[0] = EMPTY_DOCUMENT;
+    }
+
+    /**
+     * Creates a writer that encodes to UTF-8 bytes.
+     */
+    public static JsonWriter of(OutputStream out) {
+        return new JsonWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+
+    public JsonWriter beginObject() {
+        beforeValue();
+        write('{');
+        push(EMPTY_OBJECT);
+        return this;
+    }
+
+    public JsonWriter endObject() {
+        int scope = scopes[depth - 1];
+        if (scope != EMPTY_OBJECT && scope != NONEMPTY_OBJECT) {
+            throw new IllegalStateException("No object to end");
+        }
+        depth--;
+        write('}');
+        return this;
+    }
+
+    public JsonWriter beginArray() {
+        beforeValue();
+        write('[');
+        push(EMPTY_ARRAY);
+        return this;
+    }
+
+    public JsonWriter endArray() {
+        int scope = scopes[depth - 1];
+        if (scope != EMPTY_ARRAY && scope != NONEMPTY_ARRAY) {
+            throw new IllegalStateException("No array to end");
+        }
+        depth--;
+        write(']');
+        return this;
+    }
+
+    /**
+     * Writes the name of the next object member.
+     */
+    public JsonWriter name(String name) {
+        int scope = scopes[depth - 1];
+        if (scope == NONEMPTY_OBJECT) {
+            write(',');
+        } else if (scope != EMPTY_OBJECT) {
+            throw new IllegalStateException("Names are only allowed inside objects");
+        }
+        scopes[depth - 1] = DANGLING_NAME;
+        string(name);
+        write(':');
+        return this;
+    }
+
+    /**
+     * Writes a string, or null.
+     */
+    public JsonWriter value(String value) {
+        if (value == null) {
+            return nullValue();
+        }
+        beforeValue();
+        string(value);
+        return this;
+    }
+
+    public JsonWriter value(long value) {
+        beforeValue();
+        if (value == Long.MIN_VALUE) {
+            raw("-9223372036854775808");
+            return this;
+        }
+        require(20);
+        if (value < 0) {
+            buffer[count++] = '-';
+            value = -value;
+        }
+        count = digits(value, count);
+        return this;
+    }
+
+    public JsonWriter value(boolean value) {
+        beforeValue();
+        raw(value ? "true" : "false");
+        return this;
+    }
+
+    /**
+     * Writes a decimal number in plain notation, or null.
+     */
+    public JsonWriter value(BigDecimal value) {
+        if (value == null) {
+            return nullValue();
+        }
+        beforeValue();
+        raw(value.toPlainString());
+        return this;
+    }
+
+    /**
+     * Writes the decimal number {@code unscaled / 10^scale} without creating a BigDecimal, e.g. an amount
+     * of money held in minor units.
+     *
+     * @param scale The number of fraction digits, at least 0
+     */
+    public JsonWriter decimal(long unscaled, int scale) {
+        if (scale < 0 || scale > 18) {
+            throw new IllegalArgumentException("Scale must be between 0 and 18");
+        }
+        if (scale == 0 || unscaled == Long.MIN_VALUE) {
+            return scale == 0 ? value(unscaled) : value(BigDecimal.valueOf(unscaled, scale));
+        }
+        beforeValue();
+        require(22);
+        if (unscaled < 0) {
+            buffer[count++] = '-';
+            unscaled = -unscaled;
+        }
+        long pow = 1;
+        for (int i = 0; i < scale; i++) {
+            pow *= 10;
+        }
+        count = digits(unscaled / pow, count);
+        buffer[count++] = '.';
+        long fraction = unscaled % pow;
+        for (long digit = pow / 10; digit > 0; digit /= 10) {
+            buffer[count++] = (char) ('0' + fraction / digit % 10);
+        }
+        return this;
+    }
+
+    public JsonWriter nullValue() {
+        beforeValue();
+        raw("null");
+        return this;
+    }
+
+    /**
+     * Writes a name and a string value.
+     */
+    public JsonWriter field(String name, String value) {
+        return name(name).value(value);
+    }
+
+    /**
+     * Writes a name and a number value.
+     */
+    public JsonWriter field(String name, long value) {
+        return name(name).value(value);
+    }
+
+    /**
+     * Hands the buffered characters to the sink and flushes it if it is flushable.
+     */
+    @Override
+    public void flush() {
+        drain();
+        if (sink instanceof Flushable flushable) {
+            try {
+                flushable.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Flushes and closes the sink if it is closeable.
+     *
+     * @throws IllegalStateException if the document is incomplete
+     */
+    @Override
+    public void close() {
+        if (depth > 1 || scopes[0] != NONEMPTY_DOCUMENT) {
+            throw new IllegalStateException("Incomplete document");
+        }
+        flush();
+        if (sink instanceof Closeable closeable) {
+            try {
+                closeable.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private void beforeValue() {
+        int scope = scopes[depth - 1];
+        switch (scope) {
+            case EMPTY_DOCUMENT:
+                scopes[depth - 1] = NONEMPTY_DOCUMENT;
+                break;
+            case EMPTY_ARRAY:
+                scopes[depth - 1] = NONEMPTY_ARRAY;
+                break;
+            case NONEMPTY_ARRAY:
+                write(',');
+                break;
+            case DANGLING_NAME:
+                scopes[depth - 1] = NONEMPTY_OBJECT;
+                break;
+            case NONEMPTY_DOCUMENT:
+                throw new IllegalStateException("A JSON document has a single top-level value");
+            default:
+                throw new IllegalStateException("Expected a name inside an object");
+        }
+    }
+
+    private void push(int scope) {
+        if (depth == scopes.length) {
+            scopes = Arrays.copyOf(scopes, depth * 2);
+        }
+        scopes[depth++] = scope;
+    }
+
+    private void string(String value) {
+        write('"');
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x20 && c != '"' && c != '\\' && c != 0x2028 && c != 0x2029) {
+                write(c);
+                continue;
+            }
+            require(6);
+            buffer[count++] = '\\';
+            switch (c) {
+                case '"':
+                    buffer[count++] = '"';
+                    break;
+                case '\\':
+                    buffer[count++] = '\\';
+                    break;
+                case '\n':
+                    buffer[count++] = 'n';
+                    break;
+                case '\r':
+                    buffer[count++] = 'r';
+                    break;
+                case '\t':
+                    buffer[count++] = 't';
+                    break;
+                default:
+                    buffer[count++] = 'u';
+                    buffer[count++] = HEX[c >> 12 & 0xF];
+                    buffer[count++] = HEX[c >> 8 & 0xF];
+                    buffer[count++] = HEX[c >> 4 & 0xF];
+                    buffer[count++] = HEX[c & 0xF];
+            }
+        }
+        write('"');
+    }
+
+    private void raw(String text) {
+        require(text.length());
+        text.getChars(0, text.length(), buffer, count);
+        count += text.length();
+    }
+
+    private void write(char c) {
+        if (count == BUFFER_SIZE) {
+            drain();
+        }
+        buffer[count++] = c;
+    }
+
+    /**
+     * Writes the digits of a non-negative number at the given position and returns the new end.
+     */
+    private int digits(long value, int at) {
+        int length = 1;
+        for (long rest = value / 10; rest > 0; rest /= 10) {
+            length++;
+        }
+        for (int i = at + length - 1; i >= at; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return at + length;
+    }
+
+    private void require(int chars) {
+        if (count + chars > BUFFER_SIZE) {
+            drain();
+        }
+    }
+
+    private void drain() {
+        if (count == 0) {
+            return;
+        }
+        try {
+            if (sink instanceof Writer writer) {
+                writer.write(buffer, 0, count);
+            } else if (sink instanceof StringBuilder builder) {
+                builder.append(buffer, 0, count);
+            } else {
+                if (view == null) {
+                    view = CharBuffer.wrap(buffer);
+                }
+                sink.append(view, 0, count);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        count = 0;
+    }
+}
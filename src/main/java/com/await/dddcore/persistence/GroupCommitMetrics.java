@@ -0,0 +1,18 @@
+package com.await.dddcore.persistence;
+
+/**
+ * Point-in-time metrics of a {@link GroupCommitWriter}.
+ *
+ * @param batches The number of flushed batches, i.e. of forces to disk
+ * @param records The number of records made durable
+ * @param meanBatchSize The mean number of records per batch
+ * @param maxBatchSize The largest batch so far
+ * @param p50LatencyNanos The median time from submission until a record is durable
+ * @param p99LatencyNanos The 99th percentile of that time
+ * @param p999LatencyNanos The 99.9th percentile of that time
+ * @param maxLatencyNanos The longest time a record waited to become durable
+ */
+public record GroupCommitMetrics(long batches, long records, double meanBatchSize, long maxBatchSize,
+                                 long p50LatencyNanos, long p99LatencyNanos, long p999LatencyNanos,
+                                 long maxLatencyNanos) {
+}
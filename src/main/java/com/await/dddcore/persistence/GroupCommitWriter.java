@@ -0,0 +1,321 @@
+package com.await.dddcore.persistence;
+
+import com.await.dddcore.aggregates.OrderAggregate;
+import com.await.dddcore.events.OrderEvent;
+
+import java.io.Closeable;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Write-behind persistence that group-commits records to a {@link SegmentedEventLog}.
+ * <p>
+ * Any number of threads submit records; a single flusher thread appends them in submission order and
+ * forces the log once per batch instead of once per record. A batch is closed when it reaches the
+ * maximum batch size or when its first record has waited for the maximum delay, whichever comes first.
+ * A larger batch size or delay raises throughput at the cost of latency; {@link #metrics()} reports both
+ * so the trade-off can be tuned.
+ * <p>
+ * Every submission returns a future that completes with the record offset once the record is durable,
+ * or exceptionally if it could not be written. When the queue is full, submitters block until the
+ * flusher catches up. Thread-safe.
+ */
+public final class GroupCommitWriter implements Closeable {
+
+    private static final long IDLE_POLL_MILLIS = 50; // How often an idle flusher checks for closing
+
+    /**
+     * A submitted record waiting to be written.
+     */
+    private static final class Request {
+        private final ByteBuffer payload;                  // The record
+        private final long submittedAt;                    // System.nanoTime() at submission
+        private final Group group;                         // Records submitted together, or null
+        private final CompletableFuture<Long> durable = new CompletableFuture<>(); // Completed with the offset
+        private volatile boolean appended;                 // Whether the record reached the log
+
+        Request(ByteBuffer payload, long submittedAt, Group group) {
+            this.payload = payload;
+            this.submittedAt = submittedAt;
+            this.group = group;
+        }
+    }
+
+    /**
+     * The records of one {@link #persist} call, which must reach the log without gaps.
+     */
+    private static final class Group {
+        private volatile boolean failed; // Whether a record of the group could not be queued or written
+    }
+
+    private final SegmentedEventLog log;
+    private final int maxBatchSize;           // Records per force at most
+    private final long maxDelayNanos;         // Longest wait for a batch to fill
+    private final BlockingQueue<Request> queue;
+    private final Thread flusher;
+    private final LatencyHistogram latencies = new LatencyHistogram(); // Submission to durability, in nanoseconds
+    private final LatencyHistogram batchSizes = new LatencyHistogram(); // Records per batch
+    private volatile boolean running = true;
+
+    /**
+     * Creates a writer with a queue of 16 batches and starts its flusher thread.
+     *
+     * @param log The log to write to; it is not closed by the writer
+     * @param maxBatchSize The maximum number of records forced together
+     * @param maxDelay How long the flusher waits for a batch to fill; zero only batches what is queued
+     */
+    public GroupCommitWriter(SegmentedEventLog log, int maxBatchSize, Duration maxDelay) {
+        this(log, maxBatchSize, maxDelay, maxBatchSize * 16);
+    }
+
+    /**
+     * Creates a writer and starts its flusher thread.
+     *
+     * @param log The log to write to; it is not closed by the writer
+     * @param maxBatchSize The maximum number of records forced together
+     * @param maxDelay How long the flusher waits for a batch to fill; zero only batches what is queued
+     * @param queueCapacity The number of records that may wait before submitters block
+     */
+    public GroupCommitWriter(SegmentedEventLog log, int maxBatchSize, Duration maxDelay, int queueCapacity) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        if (maxDelay.isNegative()) {
+            throw new IllegalArgumentException("Delay must not be negative");
+        }
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("Queue capacity must be positive");
+        }
+        this.log = log;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.flusher = new Thread(this::run, "group-commit-flusher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    /**
+     * Queues a record for writing.
+     *
+     * @param payload The record; its remaining bytes must not be changed until the future completes
+     * @return A future completed with the record offset once the record is durable
+     */
+    public CompletableFuture<Long> submit(ByteBuffer payload) {
+        return enqueue(payload, null).durable;
+    }
+
+    /**
+     * Queues a record for writing.
+     *
+     * @return A future completed with the record offset once the record is durable
+     */
+    public CompletableFuture<Long> submit(byte[] payload) {
+        return submit(ByteBuffer.wrap(payload));
+    }
+
+    /**
+     * Queues the pending events of an order, one record per event, and marks them as committed once all
+     * of them are durable.
+     * <p>
+     * All events are encoded and checked against the record size limit before any is queued, so an
+     * encoder failure or an oversized event queues nothing. If a record still fails, the later records of
+     * the same call fail too, so the events of the order never reach the log with a gap. Once all records
+     * are settled, exactly the events that reached the log are marked as committed, even if the call
+     * fails, so persisting the remaining ones again never writes an event twice.
+     * <p>
+     * Events of one order must be persisted by one thread at a time to keep their order in the log. The
+     * events are marked on the flusher thread, so the order must not be changed before the future
+     * completes.
+     *
+     * @param order The order whose pending events are written
+     * @param encoder Encodes an event into a record
+     * @return A future completed once all events are durable and marked as committed, or exceptionally
+     *         once the events that reached the log are marked
+     * @throws IllegalArgumentException if an encoded event is empty or larger than a log record can be
+     */
+    public CompletableFuture<Void> persist(OrderAggregate order, Function<? super OrderEvent, byte[]> encoder) {
+        List<OrderEvent> pending = order.getPendingEvents();
+        ByteBuffer[] records = new ByteBuffer[pending.size()];
+        for (int i = 0; i < records.length; i++) {
+            records[i] = ByteBuffer.wrap(encoder.apply(pending.get(i)));
+            int size = records[i].remaining();
+            if (size == 0 || size > log.maxRecordSize()) {
+                throw new IllegalArgumentException("Event " + i + " is encoded into " + size
+                    + " bytes; records must have between 1 and " + log.maxRecordSize());
+            }
+        }
+        Group group = new Group();
+        Request[] requests = new Request[records.length];
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[records.length];
+        for (int i = 0; i < records.length; i++) {
+            if (group.failed) {
+                futures[i] = CompletableFuture.failedFuture(
+                    new IllegalStateException("An earlier record of the same persist call failed"));
+                continue;
+            }
+            requests[i] = enqueue(records[i], group);
+            futures[i] = requests[i].durable;
+            if (futures[i].isCompletedExceptionally()) {
+                // Not queued; records queued before it fail as well if they are not written yet
+                group.failed = true;
+            }
+        }
+        return CompletableFuture.allOf(futures).whenComplete((ignored, failure) -> {
+            // A failed group reached the log as a prefix, which must not be written again on retry
+            int appended = 0;
+            while (appended < requests.length && requests[appended] != null && requests[appended].appended) {
+                appended++;
+            }
+            order.markEventsCommitted(appended);
+        });
+    }
+
+    private Request enqueue(ByteBuffer payload, Group group) {
+        Request request = new Request(payload, System.nanoTime(), group);
+        if (!running) {
+            request.durable.completeExceptionally(new IllegalStateException("Writer is closed"));
+            return request;
+        }
+        try {
+            queue.put(request);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            request.durable.completeExceptionally(e);
+            return request;
+        }
+        // Closed meanwhile: if the flusher has not taken the request, it never will
+        if (!running && queue.remove(request)) {
+            request.durable.completeExceptionally(new IllegalStateException("Writer is closed"));
+        }
+        return request;
+    }
+
+    /**
+     * Returns the batch and latency metrics collected so far.
+     */
+    public GroupCommitMetrics metrics() {
+        return new GroupCommitMetrics(batchSizes.count(), latencies.count(), batchSizes.mean(), batchSizes.max(),
+            latencies.percentile(0.5), latencies.percentile(0.99), latencies.percentile(0.999), latencies.max());
+    }
+
+    /**
+     * Clears the collected metrics, e.g. after a warm-up.
+     */
+    public void resetMetrics() {
+        latencies.reset();
+        batchSizes.reset();
+    }
+
+    /**
+     * Stops accepting records, writes the queued ones and waits for the flusher thread to finish.
+     */
+    @Override
+    public void close() {
+        running = false;
+        boolean interrupted = false;
+        while (flusher.isAlive()) {
+            try {
+                flusher.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        List<Request> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Request first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                fill(batch, first.submittedAt + maxDelayNanos);
+            } catch (InterruptedException e) {
+                // Only close() stops the flusher; whatever was collected is still written
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Adds queued records to the batch until it is full or the deadline has passed.
+     */
+    private void fill(List<Request> batch, long deadline) throws InterruptedException {
+        while (batch.size() < maxBatchSize) {
+            queue.drainTo(batch, maxBatchSize - batch.size());
+            long wait = deadline - System.nanoTime();
+            if (batch.size() >= maxBatchSize || wait <= 0 || !running) {
+                return;
+            }
+            Request next = queue.poll(wait, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    /**
+     * Appends a batch, forces it to disk once and completes its futures.
+     */
+    private void write(List<Request> batch) {
+        long[] offsets = new long[batch.size()];
+        for (int i = 0; i < offsets.length; i++) {
+            Request request = batch.get(i);
+            offsets[i] = -1;
+            if (request.group != null && request.group.failed) {
+                request.durable.completeExceptionally(
+                    new IllegalStateException("An earlier record of the same persist call failed"));
+                continue;
+            }
+            try {
+                offsets[i] = log.append(request.payload);
+                request.appended = true;
+            } catch (RuntimeException e) {
+                // A rejected record fails alone, unless later records of its persist call depend on it
+                request.durable.completeExceptionally(e);
+                if (request.group != null) {
+                    request.group.failed = true;
+                }
+            }
+        }
+        try {
+            log.flush();
+        } catch (RuntimeException e) {
+            for (Request request : batch) {
+                request.durable.completeExceptionally(e);
+                if (request.group != null) {
+                    request.group.failed = true;
+                }
+            }
+            return;
+        }
+        long now = System.nanoTime();
+        int written = 0;
+        for (int i = 0; i < offsets.length; i++) {
+            if (offsets[i] >= 0) {
+                Request request = batch.get(i);
+                latencies.record(now - request.submittedAt);
+                request.durable.complete(offsets[i]);
+                written++;
+            }
+        }
+        batchSizes.record(written);
+    }
+}
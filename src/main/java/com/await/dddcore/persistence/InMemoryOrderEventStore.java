@@ -0,0 +1,117 @@
+package com.await.dddcore.persistence;
+
+import com.await.dddcore.aggregates.OrderAggregate;
+import com.await.dddcore.collections.UuidMap;
+import com.await.dddcore.events.OrderEvent;
+import com.await.dddcore.events.OrderSnapshot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Keeps the event stream of every order in memory and snapshots orders periodically.
+ * <p>
+ * Saving appends the pending events of an order, checking that nobody else appended to the stream since
+ * the order was loaded. Whenever a stream crosses a multiple of the snapshot interval, a snapshot of the
+ * order is stored, so loading replays at most one interval of events. Thread-safe.
+ */
+public final class InMemoryOrderEventStore {
+
+    /**
+     * The events of one order and its latest snapshot, guarded by the stream itself.
+     */
+    private static final class Stream {
+        private final List<OrderEvent> events = new ArrayList<>(); // All events in order
+        private OrderSnapshot snapshot;                            // Latest snapshot, or null
+    }
+
+    private final int snapshotInterval;  // Number of events between snapshots
+    private final UuidMap<Stream> streams = new UuidMap<>(); // Streams by order ID
+
+    /**
+     * Creates a store that snapshots every 1,000 events.
+     */
+    public InMemoryOrderEventStore() {
+        this(1_000);
+    }
+
+    /**
+     * Creates a store that snapshots every {@code snapshotInterval} events.
+     */
+    public InMemoryOrderEventStore(int snapshotInterval) {
+        if (snapshotInterval < 1) {
+            throw new IllegalArgumentException("Snapshot interval must be positive");
+        }
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    /**
+     * Appends the pending events of an order and marks them as committed.
+     *
+     * @throws IllegalStateException if the stream was changed since the order was loaded
+     */
+    public void save(OrderAggregate order) {
+        List<OrderEvent> pending = order.getPendingEvents();
+        if (pending.isEmpty()) {
+            return;
+        }
+        long expectedVersion = order.getVersion() - pending.size();
+        Stream stream = streams.computeIfAbsent(order.getId(), id -> new Stream());
+        synchronized (stream) {
+            if (stream.events.size() != expectedVersion) {
+                throw new IllegalStateException("Order " + order.getId() + " was modified concurrently");
+            }
+            stream.events.addAll(pending);
+            if (expectedVersion / snapshotInterval != order.getVersion() / snapshotInterval) {
+                stream.snapshot = order.snapshot();
+            }
+        }
+        order.markEventsCommitted();
+    }
+
+    /**
+     * Rebuilds an order from its latest snapshot and the events after it.
+     */
+    public Optional<OrderAggregate> load(UUID orderId) {
+        Stream stream = streams.get(orderId);
+        if (stream == null) {
+            return Optional.empty();
+        }
+        OrderSnapshot snapshot;
+        List<OrderEvent> tail;
+        synchronized (stream) {
+            snapshot = stream.snapshot;
+            int from = snapshot == null ? 0 : (int) snapshot.version();
+            tail = new ArrayList<>(stream.events.subList(from, stream.events.size()));
+        }
+        return Optional.of(snapshot == null ? OrderAggregate.replay(tail) : OrderAggregate.replay(snapshot, tail));
+    }
+
+    /**
+     * Returns all events of an order.
+     */
+    public List<OrderEvent> events(UUID orderId) {
+        Stream stream = streams.get(orderId);
+        if (stream == null) {
+            return List.of();
+        }
+        synchronized (stream) {
+            return List.copyOf(stream.events);
+        }
+    }
+
+    /**
+     * Returns the latest snapshot of an order, if one was taken.
+     */
+    public Optional<OrderSnapshot> latestSnapshot(UUID orderId) {
+        Stream stream = streams.get(orderId);
+        if (stream == null) {
+            return Optional.empty();
+        }
+        synchronized (stream) {
+            return Optional.ofNullable(stream.snapshot);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.await.dddcore.persistence;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Log-linear histogram of non-negative values such as latencies in nanoseconds or batch sizes.
+ * <p>
+ * Values below 16 are counted exactly; larger values fall into 16 buckets per power of two, so a
+ * percentile is reported with a relative error below 1/16. Recording is a single atomic increment and
+ * can happen from any thread; reads see a consistent enough view for monitoring.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BITS = 4;                 // log2 of the buckets per power of two
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int BUCKETS = (Long.SIZE - SUB_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLongArray totals = new AtomicLongArray(3); // Count, sum and maximum
+
+    /**
+     * Records a value; negative values are recorded as zero.
+     */
+    public void record(long value) {
+        long v = Math.max(0, value);
+        counts.incrementAndGet(bucketOf(v));
+        totals.incrementAndGet(0);
+        totals.addAndGet(1, v);
+        long max;
+        while (v > (max = totals.get(2)) && !totals.compareAndSet(2, max, v)) {
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Returns the number of recorded values.
+     */
+    public long count() {
+        return totals.get(0);
+    }
+
+    /**
+     * Returns the mean of the recorded values, or 0 if none were recorded.
+     */
+    public double mean() {
+        long count = count();
+        return count == 0 ? 0 : (double) totals.get(1) / count;
+    }
+
+    /**
+     * Returns the largest recorded value.
+     */
+    public long max() {
+        return totals.get(2);
+    }
+
+    /**
+     * Returns an upper bound of the value below which the given fraction of the values falls.
+     *
+     * @param quantile The fraction between 0 and 1, e.g. 0.99 for the 99th percentile
+     * @return The percentile, never larger than the maximum, or 0 if nothing was recorded
+     */
+    public long percentile(double quantile) {
+        if (quantile < 0 || quantile > 1) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1");
+        }
+        long count = count();
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * count));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += counts.get(bucket);
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(bucket), max());
+            }
+        }
+        return max();
+    }
+
+    /**
+     * Clears all recorded values.
+     */
+    public void reset() {
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            counts.set(bucket, 0);
+        }
+        for (int i = 0; i < 3; i++) {
+            totals.set(i, 0);
+        }
+    }
+
+    private static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    private static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BITS - 1;
+        long sub = bucket % SUB_BUCKETS;
+        long lower = (SUB_BUCKETS + sub) << (exponent - SUB_BITS);
+        return lower + (1L << (exponent - SUB_BITS)) - 1;
+    }
+}
@@ -0,0 +1,448 @@
+package com.await.dddcore.persistence;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Durable append-only log of binary records, e.g. encoded domain events.
+ * <p>
+ * The log is a directory of fixed-size segment files that are memory-mapped, so an append is a copy into
+ * mapped memory without a system call; {@link #flush()} forces the written pages to disk. Each record is
+ * stored as its length, a CRC32C of the payload and the payload itself. A zero length marks the end of a
+ * segment; when a record does not fit, the log rolls over to a new segment.
+ * <p>
+ * Records are addressed by offset: the segment index times the segment size plus the position in the
+ * segment. When the log is opened, every segment is scanned and the log is cut off at the first torn or
+ * corrupt record, left behind by a crash before a flush completed. Readers return read-only views of the
+ * mapped memory without copying and only see fully written records.
+ * <p>
+ * Appends are serialized; any number of readers can run concurrently with the writer.
+ */
+public final class SegmentedEventLog implements Closeable {
+
+    /**
+     * Default segment size of 64 MiB.
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 64 << 20;
+
+    private static final int HEADER = 8;          // Length and checksum in front of every payload
+    private static final String SUFFIX = ".log";
+
+    /**
+     * One mapped segment file.
+     */
+    private static final class Segment {
+        private final int index;                 // Position of the segment in the log
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;   // The whole file, mapped read-write
+
+        Segment(int index, FileChannel channel, MappedByteBuffer buffer) {
+            this.index = index;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+    }
+
+    private final Path directory;
+    private final int segmentSize;
+    private final List<Segment> segments = new ArrayList<>(); // All segments in order, guarded by this
+    private volatile Segment[] readable = new Segment[0];     // Snapshot of the segments for readers
+    private Segment active;                                   // The segment appended to
+    private int position;                                     // Write position in the active segment
+    private volatile long endOffset;                          // Offset after the last complete record
+    private int firstUnflushed;                               // Index of the first segment with unforced writes
+    private final long truncatedBytes;                        // Bytes of torn tail removed while opening
+    private final CRC32C crc = new CRC32C();                  // Checksum for appends, guarded by this
+    private boolean closed;
+
+    private SegmentedEventLog(Path directory, int segmentSize) throws IOException {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(file -> file.getFileName().toString().endsWith(SUFFIX)).sorted().toList();
+        }
+        for (int i = 0; i < files.size(); i++) {
+            if (segmentIndex(files.get(i)) != i) {
+                throw new IOException("Missing log segment " + i + " in " + directory);
+            }
+            segments.add(map(files.get(i), i));
+        }
+        if (segments.isEmpty()) {
+            segments.add(map(segmentPath(0), 0));
+        }
+        active = segments.get(segments.size() - 1);
+        truncatedBytes = recover();
+        firstUnflushed = active.index;
+        readable = segments.toArray(new Segment[0]);
+        endOffset = offsetOf(active.index, position);
+    }
+
+    /**
+     * Opens or creates a log with the default segment size.
+     */
+    public static SegmentedEventLog open(Path directory) throws IOException {
+        return open(directory, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Opens or creates a log. Existing segments keep the size they were created with.
+     *
+     * @param directory The directory holding the segment files
+     * @param segmentSize The size of new segment files in bytes
+     */
+    public static SegmentedEventLog open(Path directory, int segmentSize) throws IOException {
+        if (segmentSize < 64) {
+            throw new IllegalArgumentException("Segment size must be at least 64 bytes");
+        }
+        Files.createDirectories(directory);
+        Path first = directory.resolve(segmentName(0));
+        if (Files.exists(first)) {
+            segmentSize = (int) Files.size(first);
+        }
+        return new SegmentedEventLog(directory, segmentSize);
+    }
+
+    /**
+     * Appends a record.
+     *
+     * @param payload The record; its remaining bytes are copied and the buffer is not modified
+     * @return The offset of the record
+     * @throws IllegalArgumentException if the record is empty or larger than a segment
+     * @throws UncheckedIOException if a new segment cannot be created
+     */
+    public synchronized long append(ByteBuffer payload) {
+        if (closed) {
+            throw new IllegalStateException("Log is closed");
+        }
+        int length = payload.remaining();
+        if (length == 0 || length > maxRecordSize()) {
+            throw new IllegalArgumentException("Record size must be between 1 and " + maxRecordSize());
+        }
+        if (position + HEADER + length > segmentSize) {
+            roll();
+        }
+        MappedByteBuffer buffer = active.buffer;
+        crc.reset();
+        crc.update(payload.duplicate());
+        buffer.put(position + HEADER, payload, payload.position(), length);
+        buffer.putInt(position + 4, (int) crc.getValue());
+        // The length is written last, so a record is never visible with a partial header
+        buffer.putInt(position, length);
+        long offset = offsetOf(active.index, position);
+        position += HEADER + length;
+        endOffset = offsetOf(active.index, position);
+        return offset;
+    }
+
+    /**
+     * Appends a record.
+     *
+     * @return The offset of the record
+     */
+    public long append(byte[] payload) {
+        return append(ByteBuffer.wrap(payload));
+    }
+
+    /**
+     * Forces all records appended so far to disk.
+     */
+    public synchronized void flush() {
+        for (int i = firstUnflushed; i < segments.size(); i++) {
+            segments.get(i).buffer.force();
+        }
+        firstUnflushed = active.index;
+    }
+
+    /**
+     * Returns the offset after the last complete record, i.e. where the next record may start.
+     */
+    public long endOffset() {
+        return endOffset;
+    }
+
+    /**
+     * Returns the number of bytes cut off as a torn tail when the log was opened.
+     */
+    public long truncatedBytes() {
+        return truncatedBytes;
+    }
+
+    public synchronized int segmentCount() {
+        return segments.size();
+    }
+
+    public int segmentSize() {
+        return segmentSize;
+    }
+
+    /**
+     * Returns the size of the largest record that fits in a segment.
+     */
+    public int maxRecordSize() {
+        return segmentSize - HEADER;
+    }
+
+    /**
+     * Returns a reader positioned at the first record.
+     */
+    public Reader reader() {
+        return new Reader(0);
+    }
+
+    /**
+     * Returns a reader positioned at a record offset returned by {@link #append}.
+     */
+    public Reader reader(long offset) {
+        if (offset < 0 || offset > endOffset) {
+            throw new IllegalArgumentException("Offset out of range: " + offset);
+        }
+        return new Reader(offset);
+    }
+
+    /**
+     * Forces outstanding writes to disk and closes all segment files.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        flush();
+        closed = true;
+        for (Segment segment : segments) {
+            segment.channel.close();
+        }
+    }
+
+    /**
+     * Sequential, zero-copy reader over the records of the log. Not thread-safe; use one per thread.
+     */
+    public final class Reader {
+
+        private Segment[] view;   // Segments known to this reader
+        private int segment;      // Index of the current segment
+        private int position;     // Position of the next record in the current segment
+        private long lastOffset = -1; // Offset of the record returned last
+        private final CRC32C checksum = new CRC32C();
+
+        private Reader(long offset) {
+            this.view = readable;
+            this.segment = (int) (offset / segmentSize);
+            this.position = (int) (offset % segmentSize);
+        }
+
+        /**
+         * Checks whether another complete record is available.
+         */
+        public boolean hasNext() {
+            return offsetOf(segment, position) < endOffset && skipToRecord();
+        }
+
+        /**
+         * Returns a read-only view of the next record's payload. The view stays valid while the log is open.
+         *
+         * @throws NoSuchElementException if no further record is available
+         * @throws IllegalStateException if the record fails its checksum
+         */
+        public ByteBuffer next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            ByteBuffer buffer = view[segment].buffer;
+            int length = buffer.getInt(position);
+            ByteBuffer payload = buffer.slice(position + HEADER, length).asReadOnlyBuffer();
+            checksum.reset();
+            checksum.update(payload.duplicate());
+            if ((int) checksum.getValue() != buffer.getInt(position + 4)) {
+                throw new IllegalStateException("Corrupt record at offset " + offsetOf(segment, position));
+            }
+            lastOffset = offsetOf(segment, position);
+            position += HEADER + length;
+            return payload;
+        }
+
+        /**
+         * Returns the offset of the record returned by the last call to {@link #next()}, or -1.
+         */
+        public long offset() {
+            return lastOffset;
+        }
+
+        /**
+         * Moves to the next segment while the current one has no further record.
+         */
+        private boolean skipToRecord() {
+            while (true) {
+                if (segment >= view.length) {
+                    view = readable;
+                    if (segment >= view.length) {
+                        return false;
+                    }
+                }
+                ByteBuffer buffer = view[segment].buffer;
+                if (position + HEADER <= segmentSize && buffer.getInt(position) != 0) {
+                    return true;
+                }
+                segment++;
+                position = 0;
+                if (offsetOf(segment, 0) >= endOffset) {
+                    return false;
+                }
+            }
+        }
+    }
+
+    /**
+     * Scans every segment, since any of them may hold writes that were never forced. The log ends at the
+     * first torn or corrupt segment: its tail is cleared and all later segments are deleted.
+     *
+     * @return The number of bytes that were cleared or deleted
+     */
+    private long recover() throws IOException {
+        for (int i = 0; i < segments.size(); i++) {
+            MappedByteBuffer buffer = segments.get(i).buffer;
+            int at = scan(buffer);
+            long cleared = clear(buffer, at);
+            boolean last = i == segments.size() - 1;
+            // A record only starts a new segment when it does not fit in the previous one
+            boolean lost = !last && at + HEADER + segments.get(i + 1).buffer.getInt(0) <= segmentSize;
+            if (last || cleared > 0 || lost) {
+                active = segments.get(i);
+                position = at;
+                return cleared + dropSegmentsAfter(i);
+            }
+        }
+        throw new AssertionError();
+    }
+
+    /**
+     * Returns the end of the complete records at the start of a segment.
+     */
+    private int scan(MappedByteBuffer buffer) {
+        CRC32C check = new CRC32C();
+        int at = 0;
+        while (at + HEADER <= segmentSize) {
+            int length = buffer.getInt(at);
+            if (length <= 0 || length > segmentSize - HEADER - at) {
+                break;
+            }
+            check.reset();
+            check.update(buffer.slice(at + HEADER, length));
+            if ((int) check.getValue() != buffer.getInt(at + 4)) {
+                break;
+            }
+            at += HEADER + length;
+        }
+        return at;
+    }
+
+    /**
+     * Zeroes a segment from a position to its end.
+     *
+     * @return The number of bytes up to the last one that was not zero
+     */
+    private long clear(MappedByteBuffer buffer, int at) {
+        long cleared = 0;
+        int i = at;
+        while (i < segmentSize) {
+            if (i % Long.BYTES == 0 && i + Long.BYTES <= segmentSize) {
+                if (buffer.getLong(i) != 0) {
+                    buffer.putLong(i, 0);
+                    cleared = i + Long.BYTES - at;
+                }
+                i += Long.BYTES;
+            } else {
+                if (buffer.get(i) != 0) {
+                    buffer.put(i, (byte) 0);
+                    cleared = i + 1 - at;
+                }
+                i++;
+            }
+        }
+        if (cleared > 0) {
+            buffer.force();
+        }
+        return cleared;
+    }
+
+    /**
+     * Returns the number of bytes up to the last one of a segment that is not zero.
+     */
+    private int extent(MappedByteBuffer buffer) {
+        int end = segmentSize;
+        while (end > 0 && buffer.get(end - 1) == 0) {
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * Deletes the segments after an index, last one first, so a crash in between leaves no gap.
+     *
+     * @return The number of bytes the deleted segments held
+     */
+    private long dropSegmentsAfter(int index) throws IOException {
+        long dropped = 0;
+        for (int i = segments.size() - 1; i > index; i--) {
+            Segment segment = segments.remove(i);
+            dropped += extent(segment.buffer);
+            segment.channel.close();
+            Files.delete(segmentPath(segment.index));
+        }
+        return dropped;
+    }
+
+    private void roll() {
+        Segment next;
+        try {
+            next = map(segmentPath(active.index + 1), active.index + 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        segments.add(next);
+        readable = segments.toArray(new Segment[0]);
+        active = next;
+        position = 0;
+    }
+
+    private Segment map(Path file, int index) throws IOException {
+        FileChannel channel = FileChannel.open(file,
+            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            return new Segment(index, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize));
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private long offsetOf(int segment, int position) {
+        return (long) segment * segmentSize + position;
+    }
+
+    private Path segmentPath(int index) {
+        return directory.resolve(segmentName(index));
+    }
+
+    private static String segmentName(int index) {
+        return String.format("%020d%s", index, SUFFIX);
+    }
+
+    private static int segmentIndex(Path file) {
+        String name = file.getFileName().toString();
+        return Integer.parseInt(name.substring(0, name.length() - SUFFIX.length()));
+    }
+}
@@ -0,0 +1,47 @@
+package com.await.dddcore.repository;
+
+import com.await.dddcore.aggregates.CustomerAggregate;
+import com.await.dddcore.repository.IndexedStore.UniqueIndex;
+import com.await.dddcore.valueobjects.Email;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Thread-safe in-memory repository of customers with a unique index on email.
+ */
+public final class CustomerRepository {
+
+    private final IndexedStore<CustomerAggregate> store = new IndexedStore<>(CustomerAggregate::getId);
+    private final UniqueIndex<CustomerAggregate, Email> byEmail = store.uniqueIndex(CustomerAggregate::getEmail);
+
+    /**
+     * Inserts or replaces a customer and updates the email index.
+     *
+     * @throws IllegalStateException if another customer has the same email
+     */
+    public void save(CustomerAggregate customer) {
+        store.save(customer);
+    }
+
+    public Optional<CustomerAggregate> findById(UUID id) {
+        return store.findById(id);
+    }
+
+    public Optional<CustomerAggregate> findByEmail(Email email) {
+        return store.findOne(byEmail, email);
+    }
+
+    /**
+     * Removes a customer and releases their email.
+     *
+     * @return whether the customer was present
+     */
+    public boolean delete(UUID id) {
+        return store.delete(id);
+    }
+
+    public int size() {
+        return store.size();
+    }
+}
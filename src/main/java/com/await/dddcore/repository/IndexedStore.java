@@ -0,0 +1,240 @@
+package com.await.dddcore.repository;
+
+import com.await.dddcore.collections.UuidMap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Concurrent map of aggregates by ID with secondary indexes that are maintained on every write.
+ * Aggregates and the IDs in each index key are held in {@link UuidMap}s.
+ * <p>
+ * Writes to the same ID are serialized by the primary map, which also stores the index keys an aggregate
+ * was saved with. Aggregates are mutable, so those keys, not the current state of the aggregate, tell which
+ * index entries to replace when it is saved again. Indexes are updated slightly before the primary entry
+ * becomes visible, so a lookup checks each candidate against its stored keys and never returns an
+ * aggregate that was not saved with the key. Indexes are registered before the store is used.
+ */
+final class IndexedStore<T> {
+
+    /**
+     * An aggregate as saved, with its key for every index.
+     */
+    private record Entry<T>(T value, Object[] keys) {
+    }
+
+    private final Function<? super T, UUID> idOf;                     // Primary key of an aggregate
+    private final UuidMap<Entry<T>> entries = new UuidMap<>();         // Saved aggregates by ID
+    private final List<Index<T, ?>> indexes = new ArrayList<>();       // Secondary indexes by position
+
+    IndexedStore(Function<? super T, UUID> idOf) {
+        this.idOf = idOf;
+    }
+
+    /**
+     * Adds an index with any number of aggregates per key. Aggregates with a null key are not indexed.
+     */
+    <K> MultiIndex<T, K> multiIndex(Function<? super T, ? extends K> keyOf) {
+        MultiIndex<T, K> index = new MultiIndex<>(indexes.size(), keyOf);
+        indexes.add(index);
+        return index;
+    }
+
+    /**
+     * Adds an index with at most one aggregate per key. Aggregates with a null key are not indexed.
+     */
+    <K> UniqueIndex<T, K> uniqueIndex(Function<? super T, ? extends K> keyOf) {
+        UniqueIndex<T, K> index = new UniqueIndex<>(indexes.size(), keyOf);
+        indexes.add(index);
+        return index;
+    }
+
+    /**
+     * Inserts or replaces an aggregate and moves it to its current keys in every index.
+     *
+     * @throws IllegalStateException if a unique key belongs to another aggregate; nothing is changed then
+     */
+    void save(T value) {
+        UUID id = Objects.requireNonNull(idOf.apply(value), "id");
+        Object[] keys = new Object[indexes.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = indexes.get(i).keyOf.apply(value);
+        }
+        entries.compute(id, (key, old) -> {
+            claimUniqueKeys(id, old, keys);
+            for (int i = 0; i < keys.length; i++) {
+                Object previous = old == null ? null : old.keys[i];
+                if (!Objects.equals(previous, keys[i])) {
+                    indexes.get(i).move(id, previous, keys[i]);
+                }
+            }
+            return new Entry<>(value, keys);
+        });
+    }
+
+    Optional<T> findById(UUID id) {
+        Entry<T> entry = entries.get(id);
+        return entry == null ? Optional.empty() : Optional.of(entry.value);
+    }
+
+    /**
+     * Removes an aggregate and its index entries.
+     *
+     * @return whether the aggregate was present
+     */
+    boolean delete(UUID id) {
+        boolean[] removed = new boolean[1];
+        entries.compute(id, (key, old) -> {
+            if (old == null) {
+                return null;
+            }
+            for (int i = 0; i < old.keys.length; i++) {
+                if (old.keys[i] != null) {
+                    indexes.get(i).move(id, old.keys[i], null);
+                }
+            }
+            removed[0] = true;
+            return null;
+        });
+        return removed[0];
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the aggregates saved with a key, in no particular order.
+     */
+    <K> List<T> findAll(MultiIndex<T, K> index, K key) {
+        UuidMap<Boolean> ids = index.ids.get(key);
+        if (ids == null) {
+            return List.of();
+        }
+        // Copy the IDs first: a writer holds its entry's lock while it waits for this set's lock, so
+        // resolving entries while iterating the set could deadlock
+        List<UUID> candidates = new ArrayList<>(ids.size());
+        ids.forEach((id, present) -> candidates.add(id));
+        List<T> found = new ArrayList<>(candidates.size());
+        for (UUID id : candidates) {
+            Entry<T> entry = entries.get(id);
+            if (entry != null && key.equals(entry.keys[index.position])) {
+                found.add(entry.value);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Returns the number of IDs indexed under a key. Concurrent writes may be counted before they are
+     * visible to {@link #findAll}.
+     */
+    <K> int count(MultiIndex<T, K> index, K key) {
+        UuidMap<Boolean> ids = index.ids.get(key);
+        return ids == null ? 0 : ids.size();
+    }
+
+    <K> Optional<T> findOne(UniqueIndex<T, K> index, K key) {
+        UUID id = index.ids.get(key);
+        Entry<T> entry = id == null ? null : entries.get(id);
+        if (entry == null || !key.equals(entry.keys[index.position])) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.value);
+    }
+
+    /**
+     * Claims all new unique keys of an aggregate, releasing the ones already claimed if one is taken.
+     */
+    private void claimUniqueKeys(UUID id, Entry<T> old, Object[] keys) {
+        for (int i = 0; i < keys.length; i++) {
+            Object previous = old == null ? null : old.keys[i];
+            if (!(indexes.get(i) instanceof UniqueIndex<T, ?> unique) || keys[i] == null
+                || Objects.equals(previous, keys[i])) {
+                continue;
+            }
+            if (!unique.claim(id, keys[i])) {
+                for (int j = 0; j < i; j++) {
+                    Object released = old == null ? null : old.keys[j];
+                    if (indexes.get(j) instanceof UniqueIndex<T, ?> claimed && keys[j] != null
+                        && !Objects.equals(released, keys[j])) {
+                        claimed.ids.remove(keys[j], id);
+                    }
+                }
+                throw new IllegalStateException("Key " + keys[i] + " already belongs to another aggregate");
+            }
+        }
+    }
+
+    /**
+     * A secondary index: how to derive the key of an aggregate and how to move an ID between keys.
+     */
+    abstract static sealed class Index<T, K> permits MultiIndex, UniqueIndex {
+        final int position;                           // Position of the key in an entry
+        final Function<? super T, ? extends K> keyOf; // Key of an aggregate, or null
+
+        Index(int position, Function<? super T, ? extends K> keyOf) {
+            this.position = position;
+            this.keyOf = keyOf;
+        }
+
+        /**
+         * Moves an ID from one key to another; either key may be null.
+         */
+        abstract void move(UUID id, Object from, Object to);
+    }
+
+    static final class MultiIndex<T, K> extends Index<T, K> {
+        private final Map<Object, UuidMap<Boolean>> ids = new ConcurrentHashMap<>(); // IDs by key
+
+        MultiIndex(int position, Function<? super T, ? extends K> keyOf) {
+            super(position, keyOf);
+        }
+
+        @Override
+        void move(UUID id, Object from, Object to) {
+            // Adding and removing under the key's bin lock keeps an emptied set from swallowing an add and
+            // serializes the writers of a key, so its set needs a single segment
+            if (to != null) {
+                ids.compute(to, (key, set) -> {
+                    UuidMap<Boolean> target = set == null ? new UuidMap<>(0, 1) : set;
+                    target.put(id, Boolean.TRUE);
+                    return target;
+                });
+            }
+            if (from != null) {
+                ids.computeIfPresent(from, (key, set) -> {
+                    set.remove(id);
+                    return set.isEmpty() ? null : set;
+                });
+            }
+        }
+    }
+
+    static final class UniqueIndex<T, K> extends Index<T, K> {
+        private final Map<Object, UUID> ids = new ConcurrentHashMap<>(); // ID by key
+
+        UniqueIndex(int position, Function<? super T, ? extends K> keyOf) {
+            super(position, keyOf);
+        }
+
+        boolean claim(UUID id, Object key) {
+            UUID owner = ids.putIfAbsent(key, id);
+            return owner == null || owner.equals(id);
+        }
+
+        @Override
+        void move(UUID id, Object from, Object to) {
+            // New keys were claimed before the move
+            if (from != null) {
+                ids.remove(from, id);
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.await.dddcore.repository;
+
+import com.await.dddcore.aggregates.OrderAggregate;
+import com.await.dddcore.repository.IndexedStore.MultiIndex;
+import com.await.dddcore.valueobjects.OrderStatus;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Thread-safe in-memory repository of orders, indexed by status and by customer.
+ * <p>
+ * Indexes reflect the state an order had when it was last saved, so an order has to be saved after
+ * every change, e.g. a status change, to be found under its new key.
+ */
+public final class OrderRepository {
+
+    private final IndexedStore<OrderAggregate> store = new IndexedStore<>(OrderAggregate::getId);
+    private final MultiIndex<OrderAggregate, OrderStatus> byStatus = store.multiIndex(OrderAggregate::getStatus);
+    private final MultiIndex<OrderAggregate, UUID> byCustomer =
+        store.multiIndex(order -> order.getCustomerId().orElse(null));
+
+    /**
+     * Inserts or replaces an order and updates the indexes.
+     */
+    public void save(OrderAggregate order) {
+        store.save(order);
+    }
+
+    public Optional<OrderAggregate> findById(UUID id) {
+        return store.findById(id);
+    }
+
+    /**
+     * Returns the orders last saved with a status, in no particular order.
+     */
+    public List<OrderAggregate> findByStatus(OrderStatus status) {
+        return store.findAll(byStatus, status);
+    }
+
+    /**
+     * Returns the number of orders with a status without loading them.
+     */
+    public int countByStatus(OrderStatus status) {
+        return store.count(byStatus, status);
+    }
+
+    /**
+     * Returns the orders placed by a customer, in no particular order.
+     */
+    public List<OrderAggregate> findByCustomer(UUID customerId) {
+        return store.findAll(byCustomer, customerId);
+    }
+
+    /**
+     * Removes an order.
+     *
+     * @return whether the order was present
+     */
+    public boolean delete(UUID id) {
+        return store.delete(id);
+    }
+
+    public int size() {
+        return store.size();
+    }
+}
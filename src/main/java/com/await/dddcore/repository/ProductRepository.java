@@ -0,0 +1,49 @@
+package com.await.dddcore.repository;
+
+import com.await.dddcore.aggregates.ProductAggregate;
+import com.await.dddcore.repository.IndexedStore.MultiIndex;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Thread-safe in-memory repository of products, indexed by product name.
+ */
+public final class ProductRepository {
+
+    private final IndexedStore<ProductAggregate> store = new IndexedStore<>(ProductAggregate::getId);
+    private final MultiIndex<ProductAggregate, String> byName =
+        store.multiIndex(product -> product.getDetails().getName());
+
+    /**
+     * Inserts or replaces a product and updates the name index.
+     */
+    public void save(ProductAggregate product) {
+        store.save(product);
+    }
+
+    public Optional<ProductAggregate> findById(UUID id) {
+        return store.findById(id);
+    }
+
+    /**
+     * Returns the products with exactly this name, in no particular order.
+     */
+    public List<ProductAggregate> findByName(String name) {
+        return store.findAll(byName, name);
+    }
+
+    /**
+     * Removes a product.
+     *
+     * @return whether the product was present
+     */
+    public boolean delete(UUID id) {
+        return store.delete(id);
+    }
+
+    public int size() {
+        return store.size();
+    }
+}
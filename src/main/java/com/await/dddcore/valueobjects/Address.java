@@ -1,43 +1,72 @@
 package com.await.dddcore.valueobjects;
 
-import com.await.dddcore.exceptions.InvalidAddressException;
-import java.util.Objects;
-import java.util.regex.Pattern;
-
 /**
  * Represents an immutable Address value object.
  * Ensures validity by enforcing non-null and correctly formatted fields.
+ * The postal code must match the format of the country in {@link PostalCodeRules}.
  */
 public final class Address {
 
     private final String country; // Country of the address
     private final String city; // City of the address
     private final String street; // Street name
-    private final String postalCode; // Postal code in a valid format
-
-    private static final Pattern POSTAL_CODE_PATTERN = Pattern.compile("\\d{5}"); // 5-digit postal code validation
+    private final String postalCode; // Postal code in the format of the country
+    private int hash; // Cached hash code, 0 until computed
 
     /**
      * Constructs an Address instance with mandatory fields.
      * Performs basic validation to ensure data consistency.
      */
     public Address(String country, String city, String street, String postalCode) {
+        this(country, city, street, postalCode, validate(country, city, street, postalCode));
+    }
+
+    private Address(String country, String city, String street, String postalCode, ValidationError error) {
+        if (error != null) {
+            throw error.toException();
+        }
+        this.country = country;
+        this.city = city;
+        this.street = street;
+        this.postalCode = postalCode;
+    }
+
+    /**
+     * Creates an Address without throwing if a field is invalid.
+     *
+     * @return The address, or the error for the first invalid field
+     */
+    public static ValidationResult<Address> tryCreate(String country, String city, String street, String postalCode) {
+        ValidationError error = validate(country, city, street, postalCode);
+        return error == null
+            ? ValidationResult.valid(new Address(country, city, street, postalCode, null))
+            : ValidationResult.invalid(error);
+    }
+
+    private static ValidationError validate(String country, String city, String street, String postalCode) {
         if (country == null || country.trim().isEmpty()) {
-            throw new InvalidAddressException("Country cannot be empty.");
+            return ValidationError.COUNTRY_EMPTY;
         }
         if (city == null || city.trim().isEmpty()) {
-            throw new InvalidAddressException("City cannot be empty.");
+            return ValidationError.CITY_EMPTY;
         }
         if (street == null || street.trim().isEmpty()) {
-            throw new InvalidAddressException("Street cannot be empty.");
+            return ValidationError.STREET_EMPTY;
         }
-        if (postalCode == null || !POSTAL_CODE_PATTERN.matcher(postalCode).matches()) {
-            throw new InvalidAddressException("Postal code is invalid.");
+        if (!PostalCodeRules.isValid(country, postalCode)) {
+            return ValidationError.POSTAL_CODE_INVALID;
         }
-        this.country = country;
-        this.city = city;
-        this.street = street;
-        this.postalCode = postalCode;
+        return null;
+    }
+
+    /**
+     * Returns the canonical instance of this address from {@link InternPools#ADDRESSES}, whose country and
+     * city are interned as well. Customers and orders that keep the result share one instance.
+     */
+    public Address intern() {
+        return InternPools.ADDRESSES.intern(this, address -> new Address(
+            InternPools.COUNTRIES.intern(address.country), InternPools.CITIES.intern(address.city),
+            address.street, address.postalCode, null));
     }
 
     // Getters for address fields
@@ -80,10 +109,16 @@ public final class Address {
     }
 
     /**
-     * Generates a hash code based on address properties.
+     * Generates a hash code based on address properties, computed once.
      */
     @Override
     public int hashCode() {
-        return Objects.hash(country, city, street, postalCode);
+        int h = hash;
+        if (h == 0) {
+            h = ((31 * (31 + country.hashCode()) + city.hashCode()) * 31 + street.hashCode()) * 31
+                + postalCode.hashCode();
+            hash = h;
+        }
+        return h;
     }
 }
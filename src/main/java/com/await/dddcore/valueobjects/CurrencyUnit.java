@@ -0,0 +1,152 @@
+package com.await.dddcore.valueobjects;
+
+import com.await.dddcore.exceptions.InvalidMoneyOperationException;
+import java.util.Currency;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Represents a currency as a canonical value object.
+ * There is exactly one instance per ISO 4217 code and per code passed to {@link #register}, so those
+ * currencies compare by identity. Other codes, e.g. read from untrusted input, get a fresh instance each
+ * time and are never retained. Each instance carries its minor unit scale and the resolved
+ * {@link Currency}, looked up once.
+ */
+public final class CurrencyUnit {
+
+    /**
+     * Scale reported for codes that are not ISO 4217 currencies or have no minor unit (e.g. XAU).
+     */
+    public static final int NO_SCALE = -1;
+
+    private static final Map<String, CurrencyUnit> REGISTRY = new ConcurrentHashMap<>();
+
+    public static final CurrencyUnit USD = of("USD");
+    public static final CurrencyUnit EUR = of("EUR");
+
+    private final String code;         // The currency code (e.g., USD, EUR)
+    private final int scale;           // Number of minor unit digits, or NO_SCALE
+    private final Currency currency;   // The ISO currency, or null for unknown codes
+    private final boolean canonical;   // Whether this is the registry's instance for its code
+
+    private CurrencyUnit(String code, boolean registered) {
+        Currency resolved;
+        try {
+            resolved = Currency.getInstance(code);
+        } catch (IllegalArgumentException e) {
+            resolved = null;
+        }
+        this.code = code;
+        this.currency = resolved;
+        this.scale = resolved == null || resolved.getDefaultFractionDigits() < 0
+            ? NO_SCALE : resolved.getDefaultFractionDigits();
+        this.canonical = registered || resolved != null;
+    }
+
+    /**
+     * Returns the canonical instance for an ISO 4217 or registered currency code, creating it on first use.
+     * Any other code gets an instance of its own.
+     *
+     * @param code The currency code (e.g., USD, EUR)
+     * @return The CurrencyUnit
+     * @throws InvalidMoneyOperationException if the code is null or empty
+     */
+    public static CurrencyUnit of(String code) {
+        requireCode(code);
+        CurrencyUnit unit = REGISTRY.get(code);
+        if (unit != null) {
+            return unit;
+        }
+        CurrencyUnit created = new CurrencyUnit(code, false);
+        // Only the finite set of ISO codes is interned implicitly, so input cannot grow the registry
+        return created.currency != null ? REGISTRY.computeIfAbsent(code, key -> created) : created;
+    }
+
+    /**
+     * Makes a code that is not an ISO 4217 currency canonical, e.g. for a loyalty point currency.
+     *
+     * @param code The currency code
+     * @return The canonical CurrencyUnit
+     * @throws InvalidMoneyOperationException if the code is null or empty
+     */
+    public static CurrencyUnit register(String code) {
+        requireCode(code);
+        return REGISTRY.computeIfAbsent(code, key -> new CurrencyUnit(key, true));
+    }
+
+    private static void requireCode(String code) {
+        if (code == null || code.trim().isEmpty()) {
+            throw new InvalidMoneyOperationException("Currency cannot be null or empty.");
+        }
+    }
+
+    /**
+     * Returns the currency code.
+     *
+     * @return The currency code
+     */
+    public String getCode() {
+        return code;
+    }
+
+    /**
+     * Checks whether this is the one instance of its code, as for ISO 4217 and registered codes. Other
+     * units must not be cached, since the code may be registered later.
+     */
+    public boolean isCanonical() {
+        return canonical;
+    }
+
+    /**
+     * Returns the number of minor unit digits (e.g. 2 for USD, 0 for JPY).
+     *
+     * @return The scale, or {@link #NO_SCALE} if the currency has none
+     */
+    public int getScale() {
+        return scale;
+    }
+
+    /**
+     * Checks whether amounts in this currency can be counted in minor units.
+     */
+    public boolean hasMinorUnit() {
+        return scale != NO_SCALE;
+    }
+
+    /**
+     * Returns the resolved ISO currency.
+     *
+     * @return The java.util.Currency for this code
+     * @throws IllegalArgumentException if the code is not a supported ISO 4217 code
+     */
+    public Currency getCurrency() {
+        if (currency == null) {
+            throw new IllegalArgumentException("Unsupported ISO 4217 currency: " + code);
+        }
+        return currency;
+    }
+
+    /**
+     * Currencies are equal if their codes are; canonical instances are found equal by identity alone.
+     */
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof CurrencyUnit other && code.equals(other.code);
+    }
+
+    /**
+     * The hash code is derived from the code to stay stable between runs.
+     */
+    @Override
+    public int hashCode() {
+        return code.hashCode();
+    }
+
+    /**
+     * Returns the currency code.
+     */
+    @Override
+    public String toString() {
+        return code;
+    }
+}
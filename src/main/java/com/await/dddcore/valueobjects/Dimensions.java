@@ -2,7 +2,6 @@ package com.await.dddcore.valueobjects;
 
 import com.await.dddcore.exceptions.DimensionExceededException;
 import com.await.dddcore.exceptions.InvalidDimensionException;
-import java.util.Objects;
 
 /**
  * Represents an immutable value object for dimensions.
@@ -13,6 +12,7 @@ public final class Dimensions {
     private final double length; // Length of the object
     private final double width;  // Width of the object
     private final double height; // Height of the object
+    private int hash;            // Cached hash code, 0 until computed
 
     // Maximum allowable dimensions to maintain consistency
     public static final double MAX_LENGTH = 100.0;
@@ -30,24 +30,42 @@ public final class Dimensions {
      * @throws DimensionExceededException if any dimension exceeds the max allowed size
      */
     public Dimensions(double length, double width, double height) {
-        if (length <= 0 || width <= 0 || height <= 0) {
-            throw new InvalidDimensionException("Dimensions must be greater than zero.");
+        this(length, width, height, validate(length, width, height));
+    }
+
+    private Dimensions(double length, double width, double height, ValidationError error) {
+        if (error != null) {
+            throw error.toException();
         }
         this.length = length;
         this.width = width;
         this.height = height;
-        validateMaxDimensions();
     }
 
     /**
-     * Checks if the dimensions exceed predefined maximum limits.
+     * Creates a Dimensions instance without throwing if a dimension is out of range.
      *
-     * @throws DimensionExceededException if any dimension exceeds the max allowed size
+     * @return The dimensions, {@link ValidationError#DIMENSION_NOT_POSITIVE} or
+     *         {@link ValidationError#DIMENSION_EXCEEDED}
      */
-    private void validateMaxDimensions() {
+    public static ValidationResult<Dimensions> tryCreate(double length, double width, double height) {
+        ValidationError error = validate(length, width, height);
+        return error == null
+            ? ValidationResult.valid(new Dimensions(length, width, height, null))
+            : ValidationResult.invalid(error);
+    }
+
+    /**
+     * Checks that the dimensions are positive and do not exceed predefined maximum limits.
+     */
+    private static ValidationError validate(double length, double width, double height) {
+        if (length <= 0 || width <= 0 || height <= 0) {
+            return ValidationError.DIMENSION_NOT_POSITIVE;
+        }
         if (length > MAX_LENGTH || width > MAX_WIDTH || height > MAX_HEIGHT) {
-            throw new DimensionExceededException("Dimensions exceed the maximum allowed size.");
+            return ValidationError.DIMENSION_EXCEEDED;
         }
+        return null;
     }
 
     /**
@@ -90,7 +108,12 @@ public final class Dimensions {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(length, width, height);
+        int h = hash;
+        if (h == 0) {
+            h = (31 * (31 + Double.hashCode(length)) + Double.hashCode(width)) * 31 + Double.hashCode(height);
+            hash = h;
+        }
+        return h;
     }
 
     /**
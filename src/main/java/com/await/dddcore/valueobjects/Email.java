@@ -1,21 +1,43 @@
 package com.await.dddcore.valueobjects;
 
 import com.await.dddcore.exceptions.InvalidEmailException;
-import java.util.Objects;
-import java.util.regex.Pattern;
+import java.util.BitSet;
+import java.util.Locale;
 
 /**
  * Represents an immutable Email value object.
  * Ensures that the provided email follows a valid format.
+ * <p>
+ * The format is the language of {@code ^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\.[a-zA-Z]{2,}$}: a local part,
+ * a single {@code @}, and a domain whose last label has at least two letters. It is checked by a single
+ * pass over the characters instead of a backtracking regex, so validation is linear in the input length.
  */
 public final class Email {
 
-    // Regular expression pattern for validating email format
-    private static final Pattern EMAIL_PATTERN = Pattern.compile(
-        "^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$"
-    );
+    private static final byte LOCAL = 1;  // Allowed in the local part
+    private static final byte DOMAIN = 2; // Allowed in the domain
+    private static final byte LETTER = 4; // Allowed in the last domain label
+    private static final byte[] CLASSES = new byte[128]; // Character classes of ASCII characters
 
-    private final String email;
+    static {
+        for (char c = 'a'; c <= 'z'; c++) {
+            CLASSES[c] = LOCAL | DOMAIN | LETTER;
+            CLASSES[Character.toUpperCase(c)] = LOCAL | DOMAIN | LETTER;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            CLASSES[c] = LOCAL | DOMAIN;
+        }
+        CLASSES['.'] = LOCAL | DOMAIN;
+        CLASSES['-'] = LOCAL | DOMAIN;
+        CLASSES['_'] = LOCAL;
+        CLASSES['%'] = LOCAL;
+        CLASSES['+'] = LOCAL;
+    }
+
+    private final String localPart; // The part before the @
+    private final String domain;    // The part after the @, shared between emails once interned
+    private int hash;               // Cached hash code, 0 until computed
+    private String email;           // Cached full address, null until first requested
 
     /**
      * Constructs an Email object after validation.
@@ -24,19 +46,153 @@ public final class Email {
      * @throws InvalidEmailException if the email format is invalid.
      */
     public Email(String email) {
-        if (email == null || !EMAIL_PATTERN.matcher(email).matches()) {
-            throw new InvalidEmailException("Invalid email format");
+        this(email, validate(email));
+    }
+
+    private Email(String email, ValidationError error) {
+        if (error != null) {
+            throw error.toException();
+        }
+        // Valid emails contain no whitespace, so there is nothing to trim
+        int at = email.indexOf('@');
+        this.localPart = email.substring(0, at);
+        this.domain = email.substring(at + 1);
+    }
+
+    private Email(Email source, String domain) {
+        this.localPart = source.localPart;
+        this.domain = domain;
+    }
+
+    /**
+     * Creates an Email without throwing if the format is invalid.
+     *
+     * @param email The email string to validate
+     * @return The email, or {@link ValidationError#EMAIL_INVALID}
+     */
+    public static ValidationResult<Email> tryCreate(String email) {
+        ValidationError error = validate(email);
+        return error == null ? ValidationResult.valid(new Email(email, null)) : ValidationResult.invalid(error);
+    }
+
+    /**
+     * Validates a batch of emails without creating them.
+     *
+     * @param emails The emails to validate; null elements are invalid
+     * @return The indexes of the valid emails
+     */
+    public static BitSet validateAll(CharSequence[] emails) {
+        BitSet valid = new BitSet(emails.length);
+        for (int i = 0; i < emails.length; i++) {
+            if (isValid(emails[i])) {
+                valid.set(i);
+            }
         }
-        this.email = email.trim(); // Trim spaces to maintain consistency
+        return valid;
     }
 
     /**
-     * Returns the stored email as a string.
+     * Checks whether a string is a valid email in a single pass over its characters.
+     *
+     * @param email The email to check, may be null
+     * @return Whether an Email can be created from it
+     */
+    public static boolean isValid(CharSequence email) {
+        if (email == null) {
+            return false;
+        }
+        int length = email.length();
+        int i = 0;
+        while (i < length) {
+            char c = email.charAt(i);
+            if (c == '@') {
+                break;
+            }
+            if (c >= 128 || (CLASSES[c] & LOCAL) == 0) {
+                return false;
+            }
+            i++;
+        }
+        if (i == 0 || i == length) {
+            return false;
+        }
+        int domainStart = ++i;
+        int lastDot = -1;
+        int tailLetters = 0; // Letters since the last dot, or -1 once something else follows it
+        for (; i < length; i++) {
+            char c = email.charAt(i);
+            if (c >= 128 || (CLASSES[c] & DOMAIN) == 0) {
+                return false;
+            }
+            if (c == '.') {
+                lastDot = i;
+                tailLetters = 0;
+            } else if (tailLetters >= 0) {
+                tailLetters = (CLASSES[c] & LETTER) != 0 ? tailLetters + 1 : -1;
+            }
+        }
+        // The last dot separates a non-empty domain from a top-level domain of two or more letters
+        return lastDot > domainStart && tailLetters >= 2;
+    }
+
+    private static ValidationError validate(String email) {
+        return isValid(email) ? null : ValidationError.EMAIL_INVALID;
+    }
+
+    /**
+     * Returns the stored email as a string, built on the first call and cached.
      *
      * @return The email address.
      */
     public String getEmail() {
-        return email;
+        String e = email;
+        if (e == null) {
+            // Built once on demand; emails that are never printed or encoded keep only the two parts
+            e = localPart + '@' + domain;
+            email = e;
+        }
+        return e;
+    }
+
+    /**
+     * Returns the part before the {@code @}.
+     */
+    public String getLocalPart() {
+        return localPart;
+    }
+
+    /**
+     * Returns the part after the {@code @}, as given.
+     */
+    public String getDomain() {
+        return domain;
+    }
+
+    /**
+     * Returns this email with its domain from {@link InternPools#EMAIL_DOMAINS}, so the emails of one
+     * domain share its string.
+     *
+     * @return This email if its domain is already the interned one, otherwise an equal Email
+     */
+    public Email intern() {
+        String interned = InternPools.EMAIL_DOMAINS.intern(domain);
+        return interned == domain ? this : new Email(this, interned);
+    }
+
+    /**
+     * Returns the canonical form of this email, with the domain in lower case, since domains are case
+     * insensitive. The local part is kept as given.
+     *
+     * @return This email if the domain is already in lower case, otherwise a new Email
+     */
+    public Email canonical() {
+        for (int i = 0; i < domain.length(); i++) {
+            char c = domain.charAt(i);
+            if (c >= 'A' && c <= 'Z') {
+                return new Email(this, domain.toLowerCase(Locale.ROOT));
+            }
+        }
+        return this;
     }
 
     /**
@@ -46,15 +202,20 @@ public final class Email {
     public boolean equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof Email email1)) return false;
-        return email.equals(email1.email);
+        return domain.equals(email1.domain) && localPart.equals(email1.localPart);
     }
 
     /**
-     * Generates a hash code based on the email value.
+     * Generates a hash code based on the email value, computed once.
      */
     @Override
     public int hashCode() {
-        return Objects.hash(email);
+        int h = hash;
+        if (h == 0) {
+            h = 31 * localPart.hashCode() + domain.hashCode();
+            hash = h;
+        }
+        return h;
     }
 
     /**
@@ -62,6 +223,6 @@ public final class Email {
      */
     @Override
     public String toString() {
-        return email;
+        return getEmail();
     }
 }
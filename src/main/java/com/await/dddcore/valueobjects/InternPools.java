@@ -0,0 +1,22 @@
+package com.await.dddcore.valueobjects;
+
+import com.await.dddcore.collections.InternPool;
+
+/**
+ * The intern pools used by the value objects' {@code intern()} methods, exposed for their hit rates.
+ * <p>
+ * Countries, cities, email domains and first names repeat across millions of customers and orders, so
+ * {@link Address#intern()}, {@link Email#intern()} and {@link Name#intern()} replace them with shared
+ * instances. Addresses are pooled as a whole, since many customers and orders share one.
+ */
+public final class InternPools {
+
+    public static final InternPool<String> COUNTRIES = new InternPool<>();
+    public static final InternPool<String> CITIES = new InternPool<>();
+    public static final InternPool<Address> ADDRESSES = new InternPool<>();
+    public static final InternPool<String> EMAIL_DOMAINS = new InternPool<>();
+    public static final InternPool<String> FIRST_NAMES = new InternPool<>();
+
+    private InternPools() {
+    }
+}
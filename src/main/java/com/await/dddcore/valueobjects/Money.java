@@ -2,18 +2,32 @@ package com.await.dddcore.valueobjects;
 
 import com.await.dddcore.exceptions.InvalidMoneyOperationException;
 import java.math.BigDecimal;
-import java.text.NumberFormat;
-import java.util.Currency;
-import java.util.Objects;
+import java.math.BigInteger;
+import java.util.Locale;
 
 /**
  * Represents a monetary value with a specific currency.
  * Ensures operations on money values are consistent and valid.
+ * <p>
+ * Amounts whose scale matches the currency's minor unit (e.g. 2 for USD) and that fit into a
+ * {@code long} are stored as a count of minor units, so arithmetic does not allocate a
+ * {@link BigDecimal}. Every other amount transparently falls back to {@link BigDecimal}.
  */
 public final class Money {
 
-    private final String currency;  // The currency of the monetary amount (e.g., USD, EUR)
-    private final BigDecimal amount; // The amount of money in the specified currency
+    /**
+     * Largest absolute scale that decoders accept, far beyond the minor unit of any currency.
+     */
+    public static final int MAX_SCALE = 256;
+
+    /**
+     * Largest number of significant digits that decoders accept.
+     */
+    public static final int MAX_PRECISION = 100;
+
+    private final CurrencyUnit currency; // The canonical currency of the monetary amount (e.g., USD, EUR)
+    private final long units;            // The amount in minor units, used when amount is null
+    private final BigDecimal amount;     // The amount when it cannot be held in minor units, otherwise null
 
     /**
      * Constructs a Money object with a specific currency and amount.
@@ -23,14 +37,89 @@ public final class Money {
      * @param amount The amount of money
      */
     public Money(String currency, BigDecimal amount) {
+        this(CurrencyUnit.of(currency), amount);
+    }
+
+    /**
+     * Constructs a Money object with a canonical currency and amount.
+     * Throws an exception if the currency or the amount is null.
+     *
+     * @param currency The currency of the amount
+     * @param amount The amount of money
+     */
+    public Money(CurrencyUnit currency, BigDecimal amount) {
+        if (currency == null) {
+            throw ValidationError.CURRENCY_EMPTY.toException();
+        }
+        if (amount == null) {
+            throw ValidationError.AMOUNT_NULL.toException();
+        }
+        this.currency = currency;
+        BigInteger unscaled = currency.hasMinorUnit() && amount.scale() == currency.getScale()
+            ? amount.unscaledValue() : null;
+        if (unscaled != null && unscaled.bitLength() < Long.SIZE) {
+            this.units = unscaled.longValue();
+            this.amount = null;
+        } else {
+            this.units = 0;
+            this.amount = amount;
+        }
+    }
+
+    /**
+     * Creates a Money object without throwing if the currency is null or empty or the amount is null.
+     *
+     * @return The money, {@link ValidationError#CURRENCY_EMPTY} or {@link ValidationError#AMOUNT_NULL}
+     */
+    public static ValidationResult<Money> tryCreate(String currency, BigDecimal amount) {
         if (currency == null || currency.trim().isEmpty()) {
-            throw new InvalidMoneyOperationException("Currency cannot be null or empty.");
+            return ValidationResult.invalid(ValidationError.CURRENCY_EMPTY);
         }
         if (amount == null) {
-            throw new InvalidMoneyOperationException("Amount cannot be null.");
+            return ValidationResult.invalid(ValidationError.AMOUNT_NULL);
         }
+        return ValidationResult.valid(new Money(CurrencyUnit.of(currency), amount));
+    }
+
+    /**
+     * Checks whether an amount is within {@link #MAX_SCALE} and {@link #MAX_PRECISION}. Decoders reject
+     * other amounts from untrusted input, since rescaling e.g. {@code 1e10000000} for a sum takes seconds.
+     */
+    public static boolean isWithinLimits(BigDecimal amount) {
+        return Math.abs(amount.scale()) <= MAX_SCALE && amount.precision() <= MAX_PRECISION;
+    }
+
+    private Money(CurrencyUnit currency, long units) {
         this.currency = currency;
-        this.amount = amount;
+        this.units = units;
+        this.amount = null;
+    }
+
+    /**
+     * Creates a Money object from a count of minor units (e.g. cents for USD).
+     *
+     * @param currency The ISO currency code
+     * @param minorUnits The amount expressed in minor units of the currency
+     * @return A new Money object
+     * @throws InvalidMoneyOperationException if the currency has no known minor unit
+     */
+    public static Money ofMinor(String currency, long minorUnits) {
+        return ofMinor(CurrencyUnit.of(currency), minorUnits);
+    }
+
+    /**
+     * Creates a Money object from a count of minor units (e.g. cents for USD).
+     *
+     * @param currency The currency of the amount
+     * @param minorUnits The amount expressed in minor units of the currency
+     * @return A new Money object
+     * @throws InvalidMoneyOperationException if the currency has no known minor unit
+     */
+    public static Money ofMinor(CurrencyUnit currency, long minorUnits) {
+        if (!currency.hasMinorUnit()) {
+            throw new InvalidMoneyOperationException("Currency has no minor unit: " + currency);
+        }
+        return new Money(currency, minorUnits);
     }
 
     /**
@@ -42,7 +131,13 @@ public final class Money {
      */
     public Money add(Money other) {
         validateCurrency(other);
-        return new Money(this.currency, this.amount.add(other.amount));
+        if (this.amount == null && other.amount == null) {
+            long result = this.units + other.units;
+            if (((this.units ^ result) & (other.units ^ result)) >= 0) {
+                return new Money(currency, result);
+            }
+        }
+        return new Money(this.currency, this.getAmount().add(other.getAmount()));
     }
 
     /**
@@ -54,19 +149,67 @@ public final class Money {
      */
     public Money subtract(Money other) {
         validateCurrency(other);
-        return new Money(this.currency, this.amount.subtract(other.amount));
+        if (this.amount == null && other.amount == null) {
+            long result = this.units - other.units;
+            if (((this.units ^ other.units) & (this.units ^ result)) >= 0) {
+                return new Money(currency, result);
+            }
+        }
+        return new Money(this.currency, this.getAmount().subtract(other.getAmount()));
+    }
+
+    /**
+     * Multiplies the amount by a whole factor, e.g. a unit price by a quantity.
+     * The scale of the amount is preserved.
+     *
+     * @param factor The factor to multiply by
+     * @return A new Money object with the resulting amount
+     */
+    public Money multiply(long factor) {
+        if (amount == null) {
+            long result = units * factor;
+            if (Math.multiplyHigh(units, factor) == (result >> 63)) {
+                return new Money(currency, result);
+            }
+        }
+        return new Money(currency, getAmount().multiply(BigDecimal.valueOf(factor)));
+    }
+
+    /**
+     * Returns the signum of the amount: -1, 0 or 1.
+     */
+    public int signum() {
+        return amount == null ? Long.signum(units) : amount.signum();
     }
 
     /**
-     * Formats the amount of money according to the currency's format.
+     * Formats the amount of money according to the currency's format in the default locale.
      *
      * @return A string representing the formatted monetary value
      */
     public String format() {
-        Currency curr = Currency.getInstance(currency); // Get currency information
-        NumberFormat format = NumberFormat.getCurrencyInstance(); // Get the currency format
-        format.setCurrency(curr);
-        return format.format(amount);
+        return MoneyFormat.of(currency, Locale.getDefault(Locale.Category.FORMAT)).format(this);
+    }
+
+    /**
+     * Formats the amount of money according to the currency's format in the given locale.
+     *
+     * @param locale The locale whose formatting conventions to use
+     * @return A string representing the formatted monetary value
+     */
+    public String format(Locale locale) {
+        return MoneyFormat.of(currency, locale).format(this);
+    }
+
+    /**
+     * Appends the formatted amount to a StringBuilder without creating intermediate strings.
+     *
+     * @param target The builder to append to
+     * @param locale The locale whose formatting conventions to use
+     * @return The same builder
+     */
+    public StringBuilder appendTo(StringBuilder target, Locale locale) {
+        return MoneyFormat.of(currency, locale).appendTo(this, target);
     }
 
     /**
@@ -76,29 +219,58 @@ public final class Money {
      * @throws InvalidMoneyOperationException if the currencies do not match
      */
     private void validateCurrency(Money other) {
-        if (!this.currency.equals(other.currency)) {
+        if (!currency.equals(other.currency)) {
             throw new InvalidMoneyOperationException("Cannot operate on different currencies.");
         }
     }
 
+    // Minor unit access, e.g. for formatting and binary encoding
+
+    /**
+     * Checks whether the amount is held as a count of minor units, see {@link #minorUnits()}.
+     */
+    public boolean isCompact() {
+        return amount == null;
+    }
+
+    /**
+     * Returns the amount in minor units; only meaningful if {@link #isCompact()} is true.
+     */
+    public long minorUnits() {
+        return units;
+    }
+
+    int scale() {
+        return currency.getScale();
+    }
+
     // Getters for currency and amount
 
     public String getCurrency() {
+        return currency.getCode();
+    }
+
+    public CurrencyUnit getCurrencyUnit() {
         return currency;
     }
 
     public BigDecimal getAmount() {
-        return amount;
+        return amount != null ? amount : BigDecimal.valueOf(units, currency.getScale());
     }
 
     /**
      * Checks if two Money objects are equal based on their currency and amount.
+     * Amounts are normalized on construction, so a minor unit amount never equals a fallback one.
      */
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof Money money)) return false;
-        return currency.equals(money.currency) && amount.equals(money.amount);
+        if (!currency.equals(money.currency)) return false;
+        if (amount == null) {
+            return money.amount == null && units == money.units;
+        }
+        return amount.equals(money.amount);
     }
 
     /**
@@ -106,7 +278,7 @@ public final class Money {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(currency, amount);
+        return 31 * currency.hashCode() + (amount == null ? Long.hashCode(units) : amount.hashCode());
     }
 
     /**
@@ -116,7 +288,7 @@ public final class Money {
     public String toString() {
         return "Money{" +
             "currency='" + currency + '\'' +
-            ", amount=" + amount +
+            ", amount=" + getAmount() +
             '}';
     }
 }
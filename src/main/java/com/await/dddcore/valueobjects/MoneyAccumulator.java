@@ -0,0 +1,292 @@
+package com.await.dddcore.valueobjects;
+
+import com.await.dddcore.exceptions.InvalidMoneyOperationException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.TreeMap;
+
+/**
+ * Mutable running total of amounts in a single currency.
+ * <p>
+ * Amounts held in minor units are summed on a {@code long} without allocating; the total switches to
+ * {@link BigDecimal} once a term overflows or has an unusual scale. The result equals summing the same
+ * terms onto {@code BigDecimal.ZERO}, including its scale. Previously added terms can be removed again,
+ * which keeps running totals O(1) per change. An accumulator can be reused via {@link #reset()}.
+ * It is not thread-safe.
+ */
+public final class MoneyAccumulator {
+
+    private final CurrencyUnit currency; // The currency all terms must share
+    private long units;                  // Running total in minor units while big is null
+    private BigDecimal big;              // Running total once it no longer fits into minor units
+    private long minorUnitTerms;         // Number of terms held in minor units
+    private TreeMap<Integer, Integer> otherScales; // Number of BigDecimal terms per scale, created on first use
+
+    /**
+     * Creates an empty accumulator for a currency.
+     *
+     * @param currency The currency of all amounts that will be added
+     */
+    public MoneyAccumulator(CurrencyUnit currency) {
+        if (currency == null) {
+            throw new InvalidMoneyOperationException("Currency cannot be null or empty.");
+        }
+        this.currency = currency;
+    }
+
+    /**
+     * Adds an amount to the total.
+     *
+     * @param amount The amount to add
+     * @return This accumulator
+     * @throws InvalidMoneyOperationException if the currency does not match
+     */
+    public MoneyAccumulator add(Money amount) {
+        validateCurrency(amount);
+        if (amount.isCompact()) {
+            addUnits(amount.minorUnits());
+        } else {
+            addBig(amount.getAmount());
+        }
+        return this;
+    }
+
+    /**
+     * Removes an amount that was previously added.
+     *
+     * @param amount The amount to remove
+     * @return This accumulator
+     * @throws InvalidMoneyOperationException if the currency does not match
+     */
+    public MoneyAccumulator remove(Money amount) {
+        validateCurrency(amount);
+        if (amount.isCompact()) {
+            removeUnits(amount.minorUnits());
+        } else {
+            removeBig(amount.getAmount());
+        }
+        return this;
+    }
+
+    /**
+     * Adds a line total, i.e. a unit price multiplied by a quantity, without creating the line total.
+     *
+     * @param price The unit price
+     * @param quantity The number of units
+     * @return This accumulator
+     * @throws InvalidMoneyOperationException if the currency does not match
+     */
+    public MoneyAccumulator addLine(Money price, long quantity) {
+        validateCurrency(price);
+        if (price.isCompact()) {
+            long units = price.minorUnits();
+            long product = units * quantity;
+            if (Math.multiplyHigh(units, quantity) == (product >> 63)) {
+                addUnits(product);
+                return this;
+            }
+        }
+        addBig(price.getAmount().multiply(BigDecimal.valueOf(quantity)));
+        return this;
+    }
+
+    /**
+     * Adds the total price of an order item.
+     *
+     * @param item The order item
+     * @return This accumulator
+     * @throws InvalidMoneyOperationException if the currency does not match
+     */
+    public MoneyAccumulator addLine(OrderItemDetails item) {
+        return addLine(item.getPrice(), item.getQuantity());
+    }
+
+    /**
+     * Removes a line total that was previously added.
+     *
+     * @param price The unit price
+     * @param quantity The number of units
+     * @return This accumulator
+     * @throws InvalidMoneyOperationException if the currency does not match
+     */
+    public MoneyAccumulator removeLine(Money price, long quantity) {
+        validateCurrency(price);
+        if (price.isCompact()) {
+            long units = price.minorUnits();
+            long product = units * quantity;
+            if (Math.multiplyHigh(units, quantity) == (product >> 63)) {
+                removeUnits(product);
+                return this;
+            }
+        }
+        removeBig(price.getAmount().multiply(BigDecimal.valueOf(quantity)));
+        return this;
+    }
+
+    /**
+     * Removes the total price of an order item that was previously added.
+     *
+     * @param item The order item
+     * @return This accumulator
+     * @throws InvalidMoneyOperationException if the currency does not match
+     */
+    public MoneyAccumulator removeLine(OrderItemDetails item) {
+        return removeLine(item.getPrice(), item.getQuantity());
+    }
+
+    /**
+     * Adds the total prices of all given order items.
+     *
+     * @param items The order items
+     * @return This accumulator
+     * @throws InvalidMoneyOperationException if any currency does not match
+     */
+    public MoneyAccumulator addLines(Collection<OrderItemDetails> items) {
+        if (items instanceof List<OrderItemDetails> list && items instanceof RandomAccess) {
+            for (int i = 0, size = list.size(); i < size; i++) {
+                addLine(list.get(i));
+            }
+        } else {
+            for (OrderItemDetails item : items) {
+                addLine(item);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Clears the total so the accumulator can be reused.
+     *
+     * @return This accumulator
+     */
+    public MoneyAccumulator reset() {
+        units = 0;
+        big = null;
+        minorUnitTerms = 0;
+        otherScales = null;
+        return this;
+    }
+
+    /**
+     * Checks whether the total currently holds no terms.
+     */
+    public boolean isEmpty() {
+        return minorUnitTerms == 0 && (otherScales == null || otherScales.isEmpty());
+    }
+
+    /**
+     * Returns the currency of this accumulator.
+     */
+    public CurrencyUnit getCurrency() {
+        return currency;
+    }
+
+    /**
+     * Creates a Money object holding the current total. An empty accumulator yields zero with scale 0.
+     *
+     * @return The total as Money
+     */
+    public Money toMoney() {
+        if (isEmpty()) {
+            return new Money(currency, BigDecimal.ZERO);
+        }
+        if (big == null) {
+            return Money.ofMinor(currency, units);
+        }
+        // Removed terms may have left a larger scale behind; drop it to the scale of the remaining terms
+        int scale = minorUnitTerms > 0 ? currency.getScale() : 0;
+        if (otherScales != null && !otherScales.isEmpty()) {
+            scale = Math.max(scale, otherScales.lastKey());
+        }
+        return new Money(currency, big.scale() == scale ? big : big.setScale(scale, RoundingMode.UNNECESSARY));
+    }
+
+    private void addUnits(long term) {
+        minorUnitTerms++;
+        if (big != null) {
+            big = big.add(BigDecimal.valueOf(term, currency.getScale()));
+            return;
+        }
+        long result = units + term;
+        if (((units ^ result) & (term ^ result)) < 0) {
+            big = BigDecimal.valueOf(units, currency.getScale()).add(BigDecimal.valueOf(term, currency.getScale()));
+        } else {
+            units = result;
+        }
+    }
+
+    private void removeUnits(long term) {
+        minorUnitTerms--;
+        if (big != null) {
+            big = big.subtract(BigDecimal.valueOf(term, currency.getScale()));
+            shrink();
+            return;
+        }
+        long result = units - term;
+        if (((units ^ term) & (units ^ result)) < 0) {
+            big = BigDecimal.valueOf(units, currency.getScale()).subtract(BigDecimal.valueOf(term, currency.getScale()));
+        } else {
+            units = result;
+        }
+    }
+
+    private void addBig(BigDecimal term) {
+        if (big == null) {
+            big = isEmpty() ? BigDecimal.ZERO : BigDecimal.valueOf(units, currency.getScale());
+        }
+        big = big.add(term);
+        if (otherScales == null) {
+            otherScales = new TreeMap<>();
+        }
+        otherScales.merge(term.scale(), 1, Integer::sum);
+    }
+
+    private void removeBig(BigDecimal term) {
+        if (big == null) {
+            big = BigDecimal.valueOf(units, currency.getScale());
+        }
+        big = big.subtract(term);
+        if (otherScales != null) {
+            otherScales.computeIfPresent(term.scale(), (scale, count) -> count > 1 ? count - 1 : null);
+        }
+        shrink();
+    }
+
+    /**
+     * Returns to minor units once only minor unit terms remain and their total fits into a long.
+     */
+    private void shrink() {
+        if (otherScales != null && !otherScales.isEmpty()) {
+            return;
+        }
+        if (minorUnitTerms == 0) {
+            reset();
+            return;
+        }
+        if (currency.hasMinorUnit()) {
+            BigInteger unscaled = big.setScale(currency.getScale(), RoundingMode.UNNECESSARY).unscaledValue();
+            if (unscaled.bitLength() < Long.SIZE) {
+                units = unscaled.longValue();
+                big = null;
+            }
+        }
+    }
+
+    private void validateCurrency(Money amount) {
+        if (!currency.equals(amount.getCurrencyUnit())) {
+            throw new InvalidMoneyOperationException("Cannot operate on different currencies.");
+        }
+    }
+
+    /**
+     * Returns a string representation of the running total.
+     */
+    @Override
+    public String toString() {
+        return "MoneyAccumulator{" + "currency='" + currency + '\'' + ", total=" + toMoney().getAmount() + '}';
+    }
+}
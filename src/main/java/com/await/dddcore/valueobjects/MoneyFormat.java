@@ -0,0 +1,220 @@
+package com.await.dddcore.valueobjects;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+import java.util.Currency;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Formats Money values the same way {@link NumberFormat#getCurrencyInstance(Locale)} does,
+ * without creating a NumberFormat per call.
+ * <p>
+ * Instances are cached per locale and currency and are immutable, so they can be shared between threads.
+ * Amounts held in minor units are written digit by digit straight into the target; other amounts
+ * are delegated to a copy of the locale's currency format.
+ */
+public final class MoneyFormat {
+
+    private static final Map<Locale, Map<CurrencyUnit, MoneyFormat>> CACHE = new ConcurrentHashMap<>();
+
+    private static final long[] POWERS_OF_TEN = new long[19];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private final NumberFormat prototype; // Template for amounts the fast path cannot write, only ever cloned
+    private final String positivePrefix;
+    private final String positiveSuffix;
+    private final String negativePrefix;
+    private final String negativeSuffix;
+    private final char zeroDigit;
+    private final char decimalSeparator;
+    private final char groupingSeparator;
+    private final int groupingSize;      // 0 when grouping is not used
+    private final int minIntegerDigits;
+    private final int minFractionDigits;
+    private final int maxFractionDigits;
+    private final boolean decimalSeparatorAlwaysShown;
+    private final boolean fastPath;      // False when the locale's format is not reproducible digit by digit
+
+    private MoneyFormat(Currency currency, Locale locale) {
+        NumberFormat format = NumberFormat.getCurrencyInstance(locale);
+        format.setCurrency(currency);
+        this.prototype = format;
+        if (format instanceof DecimalFormat decimalFormat) {
+            DecimalFormatSymbols symbols = decimalFormat.getDecimalFormatSymbols();
+            this.positivePrefix = decimalFormat.getPositivePrefix();
+            this.positiveSuffix = decimalFormat.getPositiveSuffix();
+            this.negativePrefix = decimalFormat.getNegativePrefix();
+            this.negativeSuffix = decimalFormat.getNegativeSuffix();
+            this.zeroDigit = symbols.getZeroDigit();
+            this.decimalSeparator = symbols.getMonetaryDecimalSeparator();
+            this.groupingSeparator = symbols.getMonetaryGroupingSeparator();
+            this.groupingSize = decimalFormat.isGroupingUsed() ? decimalFormat.getGroupingSize() : 0;
+            this.minIntegerDigits = decimalFormat.getMinimumIntegerDigits();
+            this.minFractionDigits = decimalFormat.getMinimumFractionDigits();
+            this.maxFractionDigits = decimalFormat.getMaximumFractionDigits();
+            this.decimalSeparatorAlwaysShown = decimalFormat.isDecimalSeparatorAlwaysShown();
+            this.fastPath = decimalFormat.getMultiplier() == 1 && matchesPrototype(currency);
+        } else {
+            this.positivePrefix = this.positiveSuffix = this.negativePrefix = this.negativeSuffix = "";
+            this.zeroDigit = '0';
+            this.decimalSeparator = this.groupingSeparator = '.';
+            this.groupingSize = this.minIntegerDigits = this.minFractionDigits = this.maxFractionDigits = 0;
+            this.decimalSeparatorAlwaysShown = false;
+            this.fastPath = false;
+        }
+    }
+
+    /**
+     * Returns the shared formatter for a currency code and locale.
+     *
+     * @param currency The ISO currency code
+     * @param locale The locale whose conventions to follow
+     * @return The cached formatter
+     * @throws IllegalArgumentException if the currency code is not a supported ISO 4217 code
+     */
+    public static MoneyFormat of(String currency, Locale locale) {
+        return of(CurrencyUnit.of(currency), locale);
+    }
+
+    /**
+     * Returns the shared formatter for a currency and locale.
+     *
+     * @param currency The canonical currency
+     * @param locale The locale whose conventions to follow
+     * @return The cached formatter
+     * @throws IllegalArgumentException if the currency is not a supported ISO 4217 currency
+     */
+    public static MoneyFormat of(CurrencyUnit currency, Locale locale) {
+        Map<CurrencyUnit, MoneyFormat> byCurrency = CACHE.get(locale);
+        if (byCurrency == null) {
+            byCurrency = CACHE.computeIfAbsent(locale, key -> new ConcurrentHashMap<>());
+        }
+        MoneyFormat format = byCurrency.get(currency);
+        if (format == null) {
+            format = byCurrency.computeIfAbsent(currency, unit -> new MoneyFormat(unit.getCurrency(), locale));
+        }
+        return format;
+    }
+
+    /**
+     * Formats a Money value into a new string.
+     */
+    public String format(Money money) {
+        return appendTo(money, new StringBuilder(24)).toString();
+    }
+
+    /**
+     * Appends the formatted Money value to a StringBuilder.
+     *
+     * @return The same StringBuilder, for chaining
+     */
+    public StringBuilder appendTo(Money money, StringBuilder target) {
+        try {
+            appendTo(money, (Appendable) target);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // StringBuilder never throws
+        }
+        return target;
+    }
+
+    /**
+     * Appends the formatted Money value to any Appendable, such as a Writer.
+     *
+     * @return The same Appendable, for chaining
+     * @throws IOException if the Appendable fails
+     */
+    public <A extends Appendable> A appendTo(Money money, A target) throws IOException {
+        if (fastPath && money.isCompact() && money.minorUnits() != Long.MIN_VALUE
+            && money.scale() <= maxFractionDigits && money.scale() < POWERS_OF_TEN.length) {
+            writeMinorUnits(money.minorUnits(), money.scale(), target);
+        } else {
+            target.append(formatWithPrototype(money.getAmount()));
+        }
+        return target;
+    }
+
+    /**
+     * Writes a minor unit amount digit by digit, mirroring DecimalFormat's currency output.
+     */
+    private void writeMinorUnits(long units, int scale, Appendable target) throws IOException {
+        boolean negative = units < 0;
+        long magnitude = Math.abs(units);
+        long integerPart = magnitude / POWERS_OF_TEN[scale];
+        long fractionPart = magnitude % POWERS_OF_TEN[scale];
+
+        target.append(negative ? negativePrefix : positivePrefix);
+
+        int digits = 1;
+        while (digits < POWERS_OF_TEN.length && integerPart >= POWERS_OF_TEN[digits]) {
+            digits++;
+        }
+        for (int position = Math.max(digits, minIntegerDigits) - 1; position >= 0; position--) {
+            int digit = position < digits ? digitAt(integerPart, position) : 0;
+            target.append((char) (zeroDigit + digit));
+            if (groupingSize > 0 && position > 0 && position % groupingSize == 0) {
+                target.append(groupingSeparator);
+            }
+        }
+
+        int fractionDigits = Math.max(scale, minFractionDigits);
+        if (fractionDigits > 0 || decimalSeparatorAlwaysShown) {
+            target.append(decimalSeparator);
+        }
+        for (int position = scale - 1; position >= 0; position--) {
+            target.append((char) (zeroDigit + digitAt(fractionPart, position)));
+        }
+        for (int i = scale; i < fractionDigits; i++) {
+            target.append(zeroDigit);
+        }
+
+        target.append(negative ? negativeSuffix : positiveSuffix);
+    }
+
+    private static int digitAt(long value, int position) {
+        return position < POWERS_OF_TEN.length ? (int) (value / POWERS_OF_TEN[position] % 10) : 0;
+    }
+
+    private String formatWithPrototype(BigDecimal amount) {
+        NumberFormat format;
+        synchronized (prototype) {
+            format = (NumberFormat) prototype.clone();
+        }
+        return format.format(amount);
+    }
+
+    /**
+     * Verifies on a few sample amounts that the digit writer reproduces the locale's format exactly.
+     */
+    private boolean matchesPrototype(Currency currency) {
+        int scale = Math.max(currency.getDefaultFractionDigits(), 0);
+        if (scale > maxFractionDigits || scale >= POWERS_OF_TEN.length) {
+            return false;
+        }
+        long[] samples = {0, 7, -5, 1234567, -987654321012L, Long.MAX_VALUE};
+        try {
+            StringBuilder written = new StringBuilder();
+            for (long sample : samples) {
+                written.setLength(0);
+                writeMinorUnits(sample, scale, written);
+                if (!written.toString().equals(formatWithPrototype(BigDecimal.valueOf(sample, scale)))) {
+                    return false;
+                }
+            }
+        } catch (IOException e) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -1,7 +1,5 @@
 package com.await.dddcore.valueobjects;
 
-import com.await.dddcore.exceptions.InvalidNameException;
-import java.util.Objects;
 
 /**
  * Represents a person's full name with a first and last name.
@@ -11,6 +9,7 @@ public final class Name {
 
     private final String firstName;  // The first name of the person
     private final String lastName;   // The last name of the person
+    private int hash;                // Cached hash code, 0 until computed
 
     /**
      * Constructs a Name object with a given first and last name.
@@ -20,14 +19,48 @@ public final class Name {
      * @param lastName The person's last name
      */
     public Name(String firstName, String lastName) {
+        this(firstName, lastName, validate(firstName, lastName));
+    }
+
+    private Name(String firstName, String lastName, ValidationError error) {
+        if (error != null) {
+            throw error.toException();
+        }
+        this.firstName = firstName.trim();
+        this.lastName = lastName.trim();
+    }
+
+    /**
+     * Creates a Name without throwing if a part is null or empty.
+     *
+     * @return The name, or the error for the first invalid part
+     */
+    public static ValidationResult<Name> tryCreate(String firstName, String lastName) {
+        ValidationError error = validate(firstName, lastName);
+        return error == null
+            ? ValidationResult.valid(new Name(firstName, lastName, null))
+            : ValidationResult.invalid(error);
+    }
+
+    private static ValidationError validate(String firstName, String lastName) {
         if (firstName == null || firstName.trim().isEmpty()) {
-            throw new InvalidNameException("First name cannot be empty");
+            return ValidationError.FIRST_NAME_EMPTY;
         }
         if (lastName == null || lastName.trim().isEmpty()) {
-            throw new InvalidNameException("Last name cannot be empty");
+            return ValidationError.LAST_NAME_EMPTY;
         }
-        this.firstName = firstName.trim();
-        this.lastName = lastName.trim();
+        return null;
+    }
+
+    /**
+     * Returns this name with its first name from {@link InternPools#FIRST_NAMES}, so the many people with a
+     * common first name share one string.
+     *
+     * @return This name if its first name is already the interned one, otherwise an equal Name
+     */
+    public Name intern() {
+        String interned = InternPools.FIRST_NAMES.intern(firstName);
+        return interned == firstName ? this : new Name(interned, lastName, null);
     }
 
     /**
@@ -73,7 +106,12 @@ public final class Name {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(firstName, lastName);
+        int h = hash;
+        if (h == 0) {
+            h = 31 * (31 + firstName.hashCode()) + lastName.hashCode();
+            hash = h;
+        }
+        return h;
     }
 
     /**
@@ -1,7 +1,5 @@
 package com.await.dddcore.valueobjects;
 
-import com.await.dddcore.exceptions.InvalidOrderItemException;
-import java.util.Objects;
 import java.util.UUID;
 
 /**
@@ -13,6 +11,7 @@ public final class OrderItemDetails {
     private final UUID productId;  // The unique identifier for the product
     private final int quantity;    // The quantity of the product in the order
     private final Money price;     // The price of a single unit of the product
+    private int hash;              // Cached hash code, 0 until computed
 
     /**
      * Constructs an OrderItemDetails object with product ID, quantity, and price.
@@ -23,18 +22,38 @@ public final class OrderItemDetails {
      * @param price The price of a single unit of the product
      */
     public OrderItemDetails(UUID productId, int quantity, Money price) {
+        ValidationError error = validate(productId, quantity, price);
+        if (error != null) {
+            throw error.toException();
+        }
+        this.productId = productId;
+        this.quantity = quantity;
+        this.price = price;
+    }
+
+    /**
+     * Creates an OrderItemDetails object without throwing if a value is invalid.
+     *
+     * @return The item, or the error for the first invalid value
+     */
+    public static ValidationResult<OrderItemDetails> tryCreate(UUID productId, int quantity, Money price) {
+        ValidationError error = validate(productId, quantity, price);
+        return error == null
+            ? ValidationResult.valid(new OrderItemDetails(productId, quantity, price))
+            : ValidationResult.invalid(error);
+    }
+
+    private static ValidationError validate(UUID productId, int quantity, Money price) {
         if (productId == null) {
-            throw new InvalidOrderItemException("Product ID cannot be null.");
+            return ValidationError.PRODUCT_ID_NULL;
         }
         if (quantity < 1) {
-            throw new InvalidOrderItemException("Quantity must be at least 1.");
+            return ValidationError.QUANTITY_NOT_POSITIVE;
         }
         if (price == null) {
-            throw new InvalidOrderItemException("Price cannot be null.");
+            return ValidationError.PRICE_NULL;
         }
-        this.productId = productId;
-        this.quantity = quantity;
-        this.price = price;
+        return null;
     }
 
     /**
@@ -44,8 +63,17 @@ public final class OrderItemDetails {
      */
     public Money getTotalPrice() {
         // Multiply the price by the quantity and return a new Money object representing the total price
-        return new Money(price.getCurrency(), price.getAmount().multiply(
-            java.math.BigDecimal.valueOf(quantity)));
+        return price.multiply(quantity);
+    }
+
+    /**
+     * Creates a copy of this order item with a different quantity.
+     *
+     * @param newQuantity The new quantity of the product
+     * @return A new OrderItemDetails object for the same product and price
+     */
+    public OrderItemDetails withQuantity(int newQuantity) {
+        return new OrderItemDetails(productId, newQuantity, price);
     }
 
     /**
@@ -93,7 +121,12 @@ public final class OrderItemDetails {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(productId, quantity, price);
+        int h = hash;
+        if (h == 0) {
+            h = (31 * (31 + productId.hashCode()) + quantity) * 31 + price.hashCode();
+            hash = h;
+        }
+        return h;
     }
 
     /**
@@ -1,12 +1,80 @@
 package com.await.dddcore.valueobjects;
 
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Lifecycle of an order: NEW, CONFIRMED, SHIPPED and finally DELIVERED.
+ * <p>
+ * The allowed transitions are precomputed as one bitmask of target states per state, so checking a
+ * transition is a single array lookup. The shipping address can change until the order has shipped.
+ */
 public enum OrderStatus {
     NEW,
     CONFIRMED,
     SHIPPED,
     DELIVERED;
 
+    private static final OrderStatus[] VALUES = values();
+    private static final int[] TARGETS = new int[VALUES.length];  // Allowed target states per state, as bits
+    private static final int ADDRESS_CHANGE = bit(NEW) | bit(CONFIRMED); // States that allow a new address
+
+    static {
+        allow(NEW, CONFIRMED);
+        allow(CONFIRMED, SHIPPED);
+        allow(SHIPPED, DELIVERED);
+    }
+
     public boolean isCompleted() {
         return this == DELIVERED;
     }
+
+    /**
+     * Checks whether an order in this status may move to the target status.
+     */
+    public boolean canTransitionTo(OrderStatus target) {
+        return (TARGETS[ordinal()] & bit(target)) != 0;
+    }
+
+    /**
+     * Validates a transition from this status.
+     *
+     * @param target The requested status
+     * @return The target status
+     * @throws IllegalStateException if the transition is not allowed
+     */
+    public OrderStatus checkTransitionTo(OrderStatus target) {
+        if (!canTransitionTo(target)) {
+            throw new IllegalStateException("Cannot change status from " + this + " to " + target + ".");
+        }
+        return target;
+    }
+
+    /**
+     * Checks whether the shipping address of an order in this status may still change.
+     */
+    public boolean allowsAddressChange() {
+        return (ADDRESS_CHANGE & bit(this)) != 0;
+    }
+
+    /**
+     * Returns the statuses an order in this status may move to.
+     */
+    public Set<OrderStatus> nextStatuses() {
+        EnumSet<OrderStatus> next = EnumSet.noneOf(OrderStatus.class);
+        for (OrderStatus status : VALUES) {
+            if (canTransitionTo(status)) {
+                next.add(status);
+            }
+        }
+        return next;
+    }
+
+    private static void allow(OrderStatus from, OrderStatus to) {
+        TARGETS[from.ordinal()] |= bit(to);
+    }
+
+    private static int bit(OrderStatus status) {
+        return 1 << status.ordinal();
+    }
 }
@@ -0,0 +1,481 @@
+package com.await.dddcore.valueobjects;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A postal code format compiled to a deterministic automaton.
+ * <p>
+ * Formats are written in a subset of regex syntax: literals, {@code \d}, escaped metacharacters, character
+ * classes with ranges such as {@code [A-Z\d]}, groups, alternation and the quantifiers {@code ?}, {@code *},
+ * {@code +}, {@code {n}} and {@code {n,m}}. Only printable ASCII can be matched. The pattern is parsed into
+ * a Thompson NFA, whose subsets become the states of a DFA over the classes of characters the pattern
+ * tells apart. Matching then reads one table entry per character: it is linear in the input, allocates
+ * nothing and cannot backtrack.
+ */
+public final class PostalCodeFormat {
+
+    private static final int MAX_STATES = 1 << 12; // Limit on DFA states, far above any postal format
+
+    private final String pattern;     // Source of the format
+    private final int[] classOf;      // Character class of each ASCII character
+    private final int[] transitions;  // Offset of the next state's row, by row offset of a state plus class
+    private final boolean[] accepts;  // Whether a state accepts, by row offset divided by the class count
+    private final int classes;        // Number of character classes, the width of a row
+    private final int start;          // Row offset of the start state
+
+    private PostalCodeFormat(String pattern, int[] classOf, int[] transitions, boolean[] accepts, int classes,
+                             int start) {
+        this.pattern = pattern;
+        this.classOf = classOf;
+        this.transitions = transitions;
+        this.accepts = accepts;
+        this.classes = classes;
+        this.start = start;
+    }
+
+    /**
+     * Compiles a format.
+     *
+     * @throws IllegalArgumentException if the pattern is malformed, uses unsupported syntax or compiles to
+     *                                  too many states
+     */
+    public static PostalCodeFormat compile(String pattern) {
+        if (pattern == null) {
+            throw new IllegalArgumentException("Pattern cannot be null");
+        }
+        Node root = new Parser(pattern).parse();
+        Nfa nfa = new Nfa();
+        int end = nfa.compile(root, nfa.newState());
+        return determinize(pattern, nfa, end);
+    }
+
+    /**
+     * Checks whether the whole input matches the format.
+     *
+     * @param input The input to check, may be null
+     */
+    public boolean matches(CharSequence input) {
+        if (input == null) {
+            return false;
+        }
+        // Row 0 is the dead state, which has no way out
+        int state = start;
+        for (int i = 0, length = input.length(); i < length; i++) {
+            char c = input.charAt(i);
+            if (c >= 128) {
+                return false;
+            }
+            state = transitions[state + classOf[c]];
+            if (state == 0) {
+                return false;
+            }
+        }
+        return accepts[state / classes];
+    }
+
+    /**
+     * Returns the number of states of the automaton, including the dead state.
+     */
+    public int states() {
+        return accepts.length;
+    }
+
+    public String pattern() {
+        return pattern;
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+
+    private static PostalCodeFormat determinize(String pattern, Nfa nfa, int end) {
+        // Characters that belong to the same character sets are never told apart; class 0 holds the
+        // characters of no set, which always lead to the dead state
+        Map<BitSet, Integer> signatures = new HashMap<>();
+        signatures.put(new BitSet(), 0);
+        int[] classOf = new int[128];
+        for (int c = 0; c < 128; c++) {
+            BitSet signature = new BitSet();
+            for (int i = 0; i < nfa.sets.size(); i++) {
+                if (nfa.sets.get(i)[c >>> 6] << ~c < 0) {
+                    signature.set(i);
+                }
+            }
+            Integer id = signatures.get(signature);
+            if (id == null) {
+                id = signatures.size();
+                signatures.put(signature, id);
+            }
+            classOf[c] = id;
+        }
+        int classes = signatures.size();
+        char[] representative = new char[classes];
+        for (int c = 127; c >= 0; c--) {
+            representative[classOf[c]] = (char) c;
+        }
+
+        Map<BitSet, Integer> ids = new HashMap<>();
+        List<BitSet> subsets = new ArrayList<>();
+        BitSet dead = new BitSet();
+        ids.put(dead, 0);
+        subsets.add(dead);
+        BitSet initial = new BitSet();
+        initial.set(0);
+        nfa.close(initial);
+        ids.put(initial, 1);
+        subsets.add(initial);
+        int[] transitions = new int[16 * classes];
+        for (int state = 1; state < subsets.size(); state++) {
+            BitSet subset = subsets.get(state);
+            for (int cls = 1; cls < classes; cls++) {
+                BitSet next = nfa.step(subset, representative[cls]);
+                Integer id = ids.get(next);
+                if (id == null) {
+                    id = subsets.size();
+                    if (id >= MAX_STATES) {
+                        throw new IllegalArgumentException("Pattern is too complex: " + pattern);
+                    }
+                    ids.put(next, id);
+                    subsets.add(next);
+                }
+                if ((state + 1) * classes > transitions.length) {
+                    transitions = Arrays.copyOf(transitions, transitions.length * 2);
+                }
+                transitions[state * classes + cls] = id * classes;
+            }
+        }
+        boolean[] accepts = new boolean[subsets.size()];
+        for (int state = 0; state < accepts.length; state++) {
+            accepts[state] = subsets.get(state).get(end);
+        }
+        return new PostalCodeFormat(pattern, classOf, Arrays.copyOf(transitions, accepts.length * classes),
+            accepts, classes, classes);
+    }
+
+    /**
+     * A node of the parsed pattern.
+     */
+    private sealed interface Node permits Chars, Sequence, Choice, Repeat {
+    }
+
+    private record Chars(long low, long high) implements Node {
+    }
+
+    private record Sequence(List<Node> nodes) implements Node {
+    }
+
+    private record Choice(List<Node> alternatives) implements Node {
+    }
+
+    private record Repeat(Node node, int min, int max) implements Node {
+    }
+
+    /**
+     * Recursive descent parser of the supported syntax.
+     */
+    private static final class Parser {
+        private final String pattern; // Pattern being parsed
+        private int position;         // Index of the next character
+
+        Parser(String pattern) {
+            this.pattern = pattern;
+        }
+
+        Node parse() {
+            Node node = choice();
+            if (position < pattern.length()) {
+                throw error("Unexpected ')'");
+            }
+            return node;
+        }
+
+        private Node choice() {
+            List<Node> alternatives = new ArrayList<>();
+            alternatives.add(sequence());
+            while (peek('|')) {
+                position++;
+                alternatives.add(sequence());
+            }
+            return alternatives.size() == 1 ? alternatives.get(0) : new Choice(alternatives);
+        }
+
+        private Node sequence() {
+            List<Node> nodes = new ArrayList<>();
+            while (position < pattern.length() && !peek('|') && !peek(')')) {
+                nodes.add(quantified(atom()));
+            }
+            return nodes.size() == 1 ? nodes.get(0) : new Sequence(nodes);
+        }
+
+        private Node quantified(Node node) {
+            while (position < pattern.length()) {
+                char c = pattern.charAt(position);
+                if (c == '?') {
+                    node = new Repeat(node, 0, 1);
+                } else if (c == '*') {
+                    node = new Repeat(node, 0, -1);
+                } else if (c == '+') {
+                    node = new Repeat(node, 1, -1);
+                } else if (c == '{') {
+                    position++;
+                    int min = number();
+                    int max = min;
+                    if (peek(',')) {
+                        position++;
+                        max = peek('}') ? -1 : number();
+                    }
+                    expect('}');
+                    if (max != -1 && max < min) {
+                        throw error("Invalid repetition");
+                    }
+                    node = new Repeat(node, min, max);
+                    continue;
+                } else {
+                    return node;
+                }
+                position++;
+            }
+            return node;
+        }
+
+        private Node atom() {
+            char c = pattern.charAt(position++);
+            switch (c) {
+                case '(':
+                    Node group = choice();
+                    expect(')');
+                    return group;
+                case '[':
+                    return characterClass();
+                case '\\':
+                    return escape();
+                case '.', '^', '$', '*', '+', '?', '{', '}', ']':
+                    throw error("Unsupported or misplaced '" + c + "'");
+                default:
+                    return literal(c);
+            }
+        }
+
+        private Node characterClass() {
+            long[] set = new long[2];
+            if (peek('^')) {
+                throw error("Negated classes are not supported");
+            }
+            while (!peek(']')) {
+                if (position >= pattern.length()) {
+                    throw error("Unclosed character class");
+                }
+                char c = pattern.charAt(position++);
+                if (c == '\\') {
+                    Chars escaped = escape();
+                    set[0] |= escaped.low;
+                    set[1] |= escaped.high;
+                    continue;
+                }
+                char last = c;
+                if (peek('-') && position + 1 < pattern.length() && pattern.charAt(position + 1) != ']') {
+                    position++;
+                    last = pattern.charAt(position++);
+                    if (last < c) {
+                        throw error("Invalid range");
+                    }
+                }
+                for (char x = c; x <= last; x++) {
+                    add(set, x);
+                }
+            }
+            position++;
+            return new Chars(set[0], set[1]);
+        }
+
+        private Chars escape() {
+            if (position >= pattern.length()) {
+                throw error("Dangling '\\'");
+            }
+            char c = pattern.charAt(position++);
+            if (c == 'd') {
+                long[] set = new long[2];
+                for (char x = '0'; x <= '9'; x++) {
+                    add(set, x);
+                }
+                return new Chars(set[0], set[1]);
+            }
+            if (Character.isLetterOrDigit(c)) {
+                throw error("Unsupported escape '\\" + c + "'");
+            }
+            return literal(c);
+        }
+
+        private Chars literal(char c) {
+            long[] set = new long[2];
+            add(set, c);
+            return new Chars(set[0], set[1]);
+        }
+
+        private void add(long[] set, char c) {
+            if (c < 0x20 || c >= 0x7F) {
+                throw error("Only printable ASCII is supported");
+            }
+            set[c >>> 6] |= 1L << c;
+        }
+
+        private int number() {
+            int begin = position;
+            while (position < pattern.length() && Character.isDigit(pattern.charAt(position))
+                && position - begin < 3) {
+                position++;
+            }
+            if (position == begin) {
+                throw error("Expected a number");
+            }
+            return Integer.parseInt(pattern, begin, position, 10);
+        }
+
+        private boolean peek(char c) {
+            return position < pattern.length() && pattern.charAt(position) == c;
+        }
+
+        private void expect(char c) {
+            if (!peek(c)) {
+                throw error("Expected '" + c + "'");
+            }
+            position++;
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException(message + " at index " + position + " of " + pattern);
+        }
+    }
+
+    /**
+     * Thompson NFA: every state has at most one character transition and any number of epsilon edges.
+     */
+    private static final class Nfa {
+        final List<long[]> sets = new ArrayList<>();    // Distinct character sets of transitions
+        private int[] setOf = new int[16];              // Set of a state's transition, or -1
+        private int[] target = new int[16];             // Target of a state's transition
+        private int[][] epsilons = new int[16][];       // Epsilon targets of a state, or null
+        private int states;                             // Number of states
+
+        int newState() {
+            if (states == setOf.length) {
+                setOf = Arrays.copyOf(setOf, states * 2);
+                target = Arrays.copyOf(target, states * 2);
+                epsilons = Arrays.copyOf(epsilons, states * 2);
+            }
+            setOf[states] = -1;
+            return states++;
+        }
+
+        /**
+         * Adds the states of a node after {@code from}.
+         *
+         * @return The state reached after the node
+         */
+        int compile(Node node, int from) {
+            if (node instanceof Chars chars) {
+                int to = newState();
+                setOf[from] = setIndex(chars);
+                target[from] = to;
+                return to;
+            }
+            if (node instanceof Sequence sequence) {
+                int current = from;
+                for (Node child : sequence.nodes()) {
+                    current = compile(child, current);
+                }
+                return current;
+            }
+            if (node instanceof Choice choice) {
+                int end = newState();
+                for (Node alternative : choice.alternatives()) {
+                    int begin = newState();
+                    epsilon(from, begin);
+                    epsilon(compile(alternative, begin), end);
+                }
+                return end;
+            }
+            Repeat repeat = (Repeat) node;
+            int current = from;
+            for (int i = 0; i < repeat.min(); i++) {
+                current = compile(repeat.node(), current);
+            }
+            if (repeat.max() == -1) {
+                int loop = newState();
+                epsilon(current, loop);
+                int begin = newState();
+                epsilon(loop, begin);
+                epsilon(compile(repeat.node(), begin), loop);
+                return loop;
+            }
+            int end = newState();
+            for (int i = repeat.min(); i < repeat.max(); i++) {
+                epsilon(current, end);
+                current = compile(repeat.node(), current);
+            }
+            epsilon(current, end);
+            return end;
+        }
+
+        private void epsilon(int from, int to) {
+            int[] current = epsilons[from];
+            if (current == null) {
+                epsilons[from] = new int[] {to};
+            } else {
+                int[] grown = Arrays.copyOf(current, current.length + 1);
+                grown[current.length] = to;
+                epsilons[from] = grown;
+            }
+        }
+
+        private int setIndex(Chars chars) {
+            for (int i = 0; i < sets.size(); i++) {
+                long[] set = sets.get(i);
+                if (set[0] == chars.low() && set[1] == chars.high()) {
+                    return i;
+                }
+            }
+            sets.add(new long[] {chars.low(), chars.high()});
+            return sets.size() - 1;
+        }
+
+        /**
+         * Adds every state reachable by epsilon edges.
+         */
+        void close(BitSet subset) {
+            int[] stack = new int[states];
+            int size = 0;
+            for (int s = subset.nextSetBit(0); s >= 0; s = subset.nextSetBit(s + 1)) {
+                stack[size++] = s;
+            }
+            while (size > 0) {
+                int[] next = epsilons[stack[--size]];
+                if (next != null) {
+                    for (int to : next) {
+                        if (!subset.get(to)) {
+                            subset.set(to);
+                            stack[size++] = to;
+                        }
+                    }
+                }
+            }
+        }
+
+        BitSet step(BitSet subset, char c) {
+            BitSet next = new BitSet();
+            for (int s = subset.nextSetBit(0); s >= 0; s = subset.nextSetBit(s + 1)) {
+                if (setOf[s] >= 0 && sets.get(setOf[s])[c >>> 6] << ~c < 0) {
+                    next.set(target[s]);
+                }
+            }
+            close(next);
+            return next;
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.await.dddcore.valueobjects;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Registry of the postal code format of each country, keyed by ISO 3166 alpha-2 code.
+ * <p>
+ * A country is looked up by its alpha-2 or alpha-3 code or by its English name, ignoring case, so
+ * {@code "Ukraine"}, {@code "UA"} and {@code "ukr"} find the same format. Countries without a registered
+ * format, and names that are not recognized, fall back to five digits. Formats are compiled into
+ * {@link PostalCodeFormat} automata when they are registered; the built-in ones once, when the class is
+ * loaded. Like {@code OrderStatusListeners}, the registry is copy-on-write: registering replaces the map,
+ * while lookups read one volatile field.
+ */
+public final class PostalCodeRules {
+
+    /**
+     * The format of countries without a registered one.
+     */
+    public static final PostalCodeFormat DEFAULT = PostalCodeFormat.compile("\\d{5}");
+
+    private static final Map<String, String> CODES = countryCodes(); // Alpha-2 code by code or English name
+
+    private static volatile Map<String, PostalCodeFormat> formats = builtIn(); // Replaced on every change
+
+    private PostalCodeRules() {
+    }
+
+    /**
+     * Registers the format of a country, replacing its current one.
+     *
+     * @param country The ISO 3166 code or English name of the country
+     * @param pattern The format, in the syntax of {@link PostalCodeFormat}
+     * @throws IllegalArgumentException if the country is not recognized or the pattern is invalid
+     */
+    public static synchronized void register(String country, String pattern) {
+        String code = requireCode(country);
+        PostalCodeFormat format = PostalCodeFormat.compile(pattern);
+        Map<String, PostalCodeFormat> updated = new HashMap<>(formats);
+        updated.put(code, format);
+        formats = updated;
+    }
+
+    /**
+     * Removes the format of a country, which then falls back to {@link #DEFAULT}.
+     *
+     * @return True if a format was registered
+     */
+    public static synchronized boolean unregister(String country) {
+        String code = requireCode(country);
+        if (!formats.containsKey(code)) {
+            return false;
+        }
+        Map<String, PostalCodeFormat> updated = new HashMap<>(formats);
+        updated.remove(code);
+        formats = updated;
+        return true;
+    }
+
+    /**
+     * Restores the built-in formats, discarding all registrations.
+     */
+    public static synchronized void reset() {
+        formats = builtIn();
+    }
+
+    /**
+     * Returns the ISO 3166 alpha-2 code of a country.
+     *
+     * @param country A code or English name, may be null
+     * @return The code, or null if the country is not recognized
+     */
+    public static String countryCode(String country) {
+        if (country == null) {
+            return null;
+        }
+        String code = CODES.get(country);
+        return code != null ? code : CODES.get(country.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Returns the format that postal codes of a country must match.
+     *
+     * @param country A code or English name, may be null
+     */
+    public static PostalCodeFormat formatFor(String country) {
+        String code = countryCode(country);
+        PostalCodeFormat format = code == null ? null : formats.get(code);
+        return format != null ? format : DEFAULT;
+    }
+
+    /**
+     * Checks a postal code against the format of its country.
+     *
+     * @param country    A code or English name, may be null
+     * @param postalCode The postal code, may be null
+     */
+    public static boolean isValid(String country, CharSequence postalCode) {
+        return formatFor(country).matches(postalCode);
+    }
+
+    /**
+     * Validates a batch of postal codes, each against the format of the country at the same index. The
+     * format is looked up again only when the country changes, so batches grouped by country look up
+     * each country once.
+     *
+     * @param countries   The countries, as codes or English names
+     * @param postalCodes The postal codes; null elements are invalid
+     * @return The indexes of the valid postal codes
+     * @throws IllegalArgumentException if the arrays differ in length
+     */
+    public static BitSet validateAll(String[] countries, CharSequence[] postalCodes) {
+        if (countries.length != postalCodes.length) {
+            throw new IllegalArgumentException("Countries and postal codes differ in length");
+        }
+        BitSet valid = new BitSet(postalCodes.length);
+        String country = null;
+        PostalCodeFormat format = DEFAULT;
+        for (int i = 0; i < postalCodes.length; i++) {
+            if (i == 0 || !sameCountry(country, countries[i])) {
+                country = countries[i];
+                format = formatFor(country);
+            }
+            if (format.matches(postalCodes[i])) {
+                valid.set(i);
+            }
+        }
+        return valid;
+    }
+
+    private static boolean sameCountry(String previous, String country) {
+        return previous == null ? country == null : previous.equals(country);
+    }
+
+    private static String requireCode(String country) {
+        String code = countryCode(country);
+        if (code == null) {
+            throw new IllegalArgumentException("Unknown country: " + country);
+        }
+        return code;
+    }
+
+    private static Map<String, String> countryCodes() {
+        Map<String, String> codes = new HashMap<>();
+        for (String code : Locale.getISOCountries()) {
+            Locale locale = new Locale.Builder().setRegion(code).build();
+            String name = locale.getDisplayCountry(Locale.ENGLISH);
+            // Exact spellings are found without lower-casing the input
+            codes.put(code, code);
+            codes.put(code.toLowerCase(Locale.ROOT), code);
+            codes.put(locale.getISO3Country(), code);
+            codes.put(locale.getISO3Country().toLowerCase(Locale.ROOT), code);
+            codes.put(name, code);
+            codes.put(name.toLowerCase(Locale.ROOT), code);
+        }
+        return codes;
+    }
+
+    private static Map<String, PostalCodeFormat> builtIn() {
+        Map<String, PostalCodeFormat> formats = new HashMap<>();
+        String[][] rules = {
+            {"AR", "[A-Z]?\\d{4}([A-Z]{3})?"},
+            {"AT", "\\d{4}"},
+            {"AU", "\\d{4}"},
+            {"BE", "\\d{4}"},
+            {"BG", "\\d{4}"},
+            {"BR", "\\d{5}-?\\d{3}"},
+            {"BY", "\\d{6}"},
+            {"CA", "[ABCEGHJ-NPRSTVXY]\\d[ABCEGHJ-NPRSTV-Z] ?\\d[ABCEGHJ-NPRSTV-Z]\\d"},
+            {"CH", "\\d{4}"},
+            {"CN", "\\d{6}"},
+            {"CZ", "\\d{3} ?\\d{2}"},
+            {"DE", "\\d{5}"},
+            {"DK", "\\d{4}"},
+            {"EE", "\\d{5}"},
+            {"ES", "\\d{5}"},
+            {"FI", "\\d{5}"},
+            {"FR", "\\d{2} ?\\d{3}"},
+            {"GB", "GIR ?0AA|[A-PR-UWYZ]([A-HK-Y]?\\d[A-Z\\d]?|\\d[A-HJKPSTUW]|[A-HK-Y]\\d[ABEHMNPRV-Y])"
+                + " ?\\d[ABD-HJLNP-UW-Z]{2}"},
+            {"GE", "\\d{4}"},
+            {"GR", "\\d{3} ?\\d{2}"},
+            {"HR", "\\d{5}"},
+            {"HU", "\\d{4}"},
+            {"IE", "([AC-FHKNPRTV-Y]\\d{2}|D6W) ?[\\dAC-FHKNPRTV-Y]{4}"},
+            {"IL", "\\d{5}(\\d{2})?"},
+            {"IN", "\\d{6}"},
+            {"IT", "\\d{5}"},
+            {"JP", "\\d{3}-?\\d{4}"},
+            {"KR", "\\d{5}"},
+            {"KZ", "\\d{6}"},
+            {"LT", "(LT-)?\\d{5}"},
+            {"LV", "(LV-)?\\d{4}"},
+            {"MD", "(MD-?)?\\d{4}"},
+            {"MX", "\\d{5}"},
+            {"NL", "\\d{4} ?[A-Z]{2}"},
+            {"NO", "\\d{4}"},
+            {"NZ", "\\d{4}"},
+            {"PL", "\\d{2}-\\d{3}"},
+            {"PT", "\\d{4}-\\d{3}"},
+            {"RO", "\\d{6}"},
+            {"RU", "\\d{6}"},
+            {"SE", "\\d{3} ?\\d{2}"},
+            {"SG", "\\d{6}"},
+            {"SI", "\\d{4}"},
+            {"SK", "\\d{3} ?\\d{2}"},
+            {"TR", "\\d{5}"},
+            {"UA", "\\d{5}"},
+            {"US", "\\d{5}(-\\d{4})?"},
+            {"ZA", "\\d{4}"},
+        };
+        for (String[] rule : rules) {
+            formats.put(rule[0], PostalCodeFormat.compile(rule[1]));
+        }
+        return formats;
+    }
+}
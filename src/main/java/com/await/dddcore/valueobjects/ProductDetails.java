@@ -1,6 +1,5 @@
 package com.await.dddcore.valueobjects;
 
-import com.await.dddcore.exceptions.InvalidProductDetailsException;
 import java.util.Objects;
 
 /**
@@ -12,6 +11,7 @@ public final class ProductDetails {
     private final String name;       // The name of the product
     private final String description; // The description of the product
     private final Dimensions dimensions; // The dimensions of the product
+    private int hash; // Cached hash code, 0 until computed
 
     /**
      * Constructs a ProductDetails object with product name, description, and dimensions.
@@ -22,14 +22,27 @@ public final class ProductDetails {
      * @param dimensions The dimensions of the product
      */
     public ProductDetails(String name, String description, Dimensions dimensions) {
-        if (name == null || name.trim().isEmpty()) {
-            throw new InvalidProductDetailsException("Product name cannot be empty.");
+        if (isEmpty(name)) {
+            throw ValidationError.PRODUCT_NAME_EMPTY.toException();
         }
         this.name = name;
         this.description = description;
         this.dimensions = dimensions;
     }
 
+    /**
+     * Creates a ProductDetails object without throwing if the name is empty.
+     */
+    public static ValidationResult<ProductDetails> tryCreate(String name, String description, Dimensions dimensions) {
+        return isEmpty(name)
+            ? ValidationResult.invalid(ValidationError.PRODUCT_NAME_EMPTY)
+            : ValidationResult.valid(new ProductDetails(name, description, dimensions));
+    }
+
+    private static boolean isEmpty(String name) {
+        return name == null || name.trim().isEmpty();
+    }
+
     /**
      * Returns the name of the product.
      *
@@ -88,7 +101,12 @@ public final class ProductDetails {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(name, description, dimensions);
+        int h = hash;
+        if (h == 0) {
+            h = (31 * (31 + name.hashCode()) + Objects.hashCode(description)) * 31 + Objects.hashCode(dimensions);
+            hash = h;
+        }
+        return h;
     }
 
     /**
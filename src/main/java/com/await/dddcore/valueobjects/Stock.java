@@ -1,7 +1,6 @@
 package com.await.dddcore.valueobjects;
 
 import com.await.dddcore.exceptions.InvalidStockOperationException;
-import java.util.Objects;
 
 public class Stock {
 
@@ -9,11 +8,20 @@ public class Stock {
 
     public Stock(int quantity) {
         if (quantity < 0) {
-            throw new InvalidStockOperationException("Stock quantity cannot be negative");
+            throw ValidationError.STOCK_NEGATIVE.toException();
         }
         this.quantity = quantity;
     }
 
+    /**
+     * Creates a Stock without throwing if the quantity is negative.
+     */
+    public static ValidationResult<Stock> tryCreate(int quantity) {
+        return quantity < 0
+            ? ValidationResult.invalid(ValidationError.STOCK_NEGATIVE)
+            : ValidationResult.valid(new Stock(quantity));
+    }
+
     public int getQuantity() {
         return quantity;
     }
@@ -44,7 +52,7 @@ public class Stock {
 
     @Override
     public int hashCode() {
-        return Objects.hash(quantity);
+        return Integer.hashCode(quantity);
     }
 
     @Override
@@ -0,0 +1,56 @@
+package com.await.dddcore.valueobjects;
+
+import com.await.dddcore.exceptions.DimensionExceededException;
+import com.await.dddcore.exceptions.InvalidAddressException;
+import com.await.dddcore.exceptions.InvalidDimensionException;
+import com.await.dddcore.exceptions.InvalidEmailException;
+import com.await.dddcore.exceptions.InvalidMoneyOperationException;
+import com.await.dddcore.exceptions.InvalidNameException;
+import com.await.dddcore.exceptions.InvalidOrderItemException;
+import com.await.dddcore.exceptions.InvalidProductDetailsException;
+import com.await.dddcore.exceptions.InvalidStockOperationException;
+
+import java.util.function.Function;
+
+/**
+ * The reasons a value object can be invalid. Each error carries the message and the exception type its
+ * constructor throws, so {@code tryCreate} and the constructors report the same failure.
+ */
+public enum ValidationError {
+
+    EMAIL_INVALID("Invalid email format", InvalidEmailException::new),
+    FIRST_NAME_EMPTY("First name cannot be empty", InvalidNameException::new),
+    LAST_NAME_EMPTY("Last name cannot be empty", InvalidNameException::new),
+    COUNTRY_EMPTY("Country cannot be empty.", InvalidAddressException::new),
+    CITY_EMPTY("City cannot be empty.", InvalidAddressException::new),
+    STREET_EMPTY("Street cannot be empty.", InvalidAddressException::new),
+    POSTAL_CODE_INVALID("Postal code is invalid.", InvalidAddressException::new),
+    CURRENCY_EMPTY("Currency cannot be null or empty.", InvalidMoneyOperationException::new),
+    AMOUNT_NULL("Amount cannot be null.", InvalidMoneyOperationException::new),
+    DIMENSION_NOT_POSITIVE("Dimensions must be greater than zero.", InvalidDimensionException::new),
+    DIMENSION_EXCEEDED("Dimensions exceed the maximum allowed size.", DimensionExceededException::new),
+    STOCK_NEGATIVE("Stock quantity cannot be negative", InvalidStockOperationException::new),
+    PRODUCT_ID_NULL("Product ID cannot be null.", InvalidOrderItemException::new),
+    QUANTITY_NOT_POSITIVE("Quantity must be at least 1.", InvalidOrderItemException::new),
+    PRICE_NULL("Price cannot be null.", InvalidOrderItemException::new),
+    PRODUCT_NAME_EMPTY("Product name cannot be empty.", InvalidProductDetailsException::new);
+
+    private final String message;                                  // Message of the exception
+    private final Function<String, RuntimeException> exceptionType; // Creates the exception of the constructor
+
+    ValidationError(String message, Function<String, RuntimeException> exceptionType) {
+        this.message = message;
+        this.exceptionType = exceptionType;
+    }
+
+    public String message() {
+        return message;
+    }
+
+    /**
+     * Creates the exception the value object's constructor throws for this error.
+     */
+    public RuntimeException toException() {
+        return exceptionType.apply(message);
+    }
+}
@@ -0,0 +1,77 @@
+package com.await.dddcore.valueobjects;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Either a valid value object or the {@link ValidationError} that prevented its creation.
+ * <p>
+ * Returned by the {@code tryCreate} factories, which validate without throwing, so bulk input with many
+ * invalid records costs no stack traces. Failures are shared instances, one per error, and allocate nothing.
+ */
+public final class ValidationResult<T> {
+
+    private static final Map<ValidationError, ValidationResult<?>> FAILURES = new EnumMap<>(ValidationError.class);
+
+    static {
+        for (ValidationError error : ValidationError.values()) {
+            FAILURES.put(error, new ValidationResult<>(null, error));
+        }
+    }
+
+    private final T value;               // The created value, or null if invalid
+    private final ValidationError error; // The reason the value is invalid, or null if valid
+
+    private ValidationResult(T value, ValidationError error) {
+        this.value = value;
+        this.error = error;
+    }
+
+    public static <T> ValidationResult<T> valid(T value) {
+        return new ValidationResult<>(value, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> ValidationResult<T> invalid(ValidationError error) {
+        return (ValidationResult<T>) FAILURES.get(error);
+    }
+
+    public boolean isValid() {
+        return error == null;
+    }
+
+    /**
+     * Returns the created value.
+     *
+     * @throws NoSuchElementException if the value is invalid
+     */
+    public T value() {
+        if (error != null) {
+            throw new NoSuchElementException("Invalid value: " + error);
+        }
+        return value;
+    }
+
+    /**
+     * Returns the reason the value is invalid, or null if it is valid.
+     */
+    public ValidationError error() {
+        return error;
+    }
+
+    /**
+     * Returns the created value or throws the exception its constructor would have thrown.
+     */
+    public T orElseThrow() {
+        if (error != null) {
+            throw error.toException();
+        }
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return error == null ? "Valid[" + value + "]" : "Invalid[" + error + "]";
+    }
+}
@@ -1,12 +1,15 @@
 package com.await.dddcore.aggregates;
 
+import com.await.dddcore.collections.Page;
 import com.await.dddcore.entities.Order;
 import com.await.dddcore.entities.Customer;
 import com.await.dddcore.valueobjects.Address;
 import com.await.dddcore.valueobjects.Email;
 import com.await.dddcore.valueobjects.Name;
+import com.await.dddcore.valueobjects.OrderStatus;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -72,4 +75,59 @@ class CustomerAggregateTest {
 
         assertTrue(customerAggregate.hasActiveOrders());
     }
+
+    @Test
+    void shouldCountOrdersByStatusAsTheyChange() {
+        UUID id = UUID.randomUUID();
+        Name name = new Name("John", "Doe");
+        Email email = new Email("john.doe@example.com");
+        Address address = new Address("Ukraine", "Kyiv", "Street 1", "12345");
+        CustomerAggregate customerAggregate = new CustomerAggregate(id, name, email, address);
+        Customer customer = new Customer(id, name, email, address);
+        Order first = new Order(UUID.randomUUID(), customer, address);
+        Order second = new Order(UUID.randomUUID(), customer, address);
+        customer.addOrder(first);
+        customer.addOrder(second);
+        customerAggregate.addOrder(first);
+
+        first.changeStatus(OrderStatus.CONFIRMED);
+        first.changeStatus(OrderStatus.SHIPPED);
+        first.changeStatus(OrderStatus.DELIVERED);
+
+        assertEquals(1, customer.getOrderCounts().count(OrderStatus.DELIVERED));
+        assertEquals(1, customer.getOrderCounts().count(OrderStatus.NEW));
+        assertEquals(2, customer.getOrderCounts().total());
+        assertTrue(customer.hasActiveOrders());
+        assertEquals(1, customerAggregate.getOrderCounts().count(OrderStatus.DELIVERED));
+        assertEquals(0, customerAggregate.getOrderCounts().count(OrderStatus.SHIPPED));
+        assertFalse(customerAggregate.hasActiveOrders());
+        assertFalse(first.countIn(customerAggregate.getOrderCounts()));
+    }
+
+    @Test
+    void shouldExposeOrdersAsSnapshotsAndPages() {
+        UUID id = UUID.randomUUID();
+        Name name = new Name("John", "Doe");
+        Email email = new Email("john.doe@example.com");
+        Address address = new Address("Ukraine", "Kyiv", "Street 1", "12345");
+        CustomerAggregate customerAggregate = new CustomerAggregate(id, name, email, address);
+        Customer customer = new Customer(id, name, email, address);
+        List<Order> before = customerAggregate.getOrders();
+        for (int i = 0; i < 5; i++) {
+            customerAggregate.addOrder(new Order(UUID.randomUUID(), customer, address));
+        }
+        List<Order> view = customerAggregate.getOrders();
+
+        assertTrue(before.isEmpty());
+        assertEquals(5, view.size());
+        assertThrows(UnsupportedOperationException.class, () -> view.remove(0));
+        Page<Order> first = customerAggregate.getOrders(0, 2);
+        assertEquals(view.subList(0, 2), first.items());
+        Page<Order> last = customerAggregate.getOrders(4, 2);
+        assertEquals(List.of(view.get(4)), last.items());
+        assertFalse(last.hasNext());
+        assertEquals(2, first.nextCursor());
+        assertThrows(IllegalArgumentException.class, () -> customerAggregate.getOrders(6, 2));
+        assertThrows(IllegalArgumentException.class, () -> customerAggregate.getOrders(0, 0));
+    }
 }
@@ -1,5 +1,12 @@
 package com.await.dddcore.aggregates;
 
+import com.await.dddcore.events.OrderCreated;
+import com.await.dddcore.events.OrderEvent;
+import com.await.dddcore.events.OrderSnapshot;
+import com.await.dddcore.events.OrderStatusListener;
+import com.await.dddcore.events.OrderStatusListeners;
+import com.await.dddcore.events.StatusChanged;
+import com.await.dddcore.exceptions.InvalidOrderItemException;
 import com.await.dddcore.valueobjects.Address;
 import com.await.dddcore.valueobjects.Money;
 import com.await.dddcore.valueobjects.OrderItemDetails;
@@ -7,6 +14,9 @@ import com.await.dddcore.valueobjects.OrderStatus;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -60,4 +70,184 @@ class OrderAggregateTest {
 
         assertEquals(OrderStatus.CONFIRMED, orderAggregate.getStatus());
     }
+
+    @Test
+    void shouldRejectInvalidStatusTransitionsAndLateAddressChanges() {
+        OrderAggregate orderAggregate = new OrderAggregate(UUID.randomUUID(), new Address("Ukraine", "Kyiv", "Street 1", "12345"));
+
+        assertThrows(IllegalStateException.class, () -> orderAggregate.changeStatus(OrderStatus.SHIPPED));
+        orderAggregate.changeStatus(OrderStatus.CONFIRMED);
+        orderAggregate.changeStatus(OrderStatus.SHIPPED);
+
+        assertThrows(IllegalStateException.class, () -> orderAggregate.changeStatus(OrderStatus.NEW));
+        assertThrows(IllegalStateException.class,
+            () -> orderAggregate.updateShippingAddress(new Address("Ukraine", "Lviv", "Street 2", "67890")));
+        assertEquals(OrderStatus.SHIPPED, orderAggregate.getStatus());
+    }
+
+    @Test
+    void shouldTransitionAllOrdersAndNotifyListeners() {
+        Address address = new Address("Ukraine", "Kyiv", "Street 1", "12345");
+        List<OrderAggregate> orders = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            OrderAggregate order = new OrderAggregate(UUID.randomUUID(), address);
+            if (i % 4 != 0) {
+                order.changeStatus(OrderStatus.CONFIRMED);
+            }
+            orders.add(order);
+        }
+        List<UUID> shipped = new ArrayList<>();
+        OrderStatusListener listener = (orderId, from, to) -> {
+            assertEquals(OrderStatus.CONFIRMED, from);
+            shipped.add(orderId);
+        };
+        OrderStatusListeners.register(listener);
+        List<OrderAggregate> rejected;
+        try {
+            rejected = OrderAggregate.transitionAll(orders, OrderStatus.SHIPPED);
+        } finally {
+            assertTrue(OrderStatusListeners.unregister(listener));
+        }
+
+        assertEquals(250, rejected.size());
+        assertTrue(rejected.stream().allMatch(order -> order.getStatus() == OrderStatus.NEW));
+        assertEquals(750, shipped.size());
+        assertEquals(750, orders.stream().filter(order -> order.getStatus() == OrderStatus.SHIPPED).count());
+        assertFalse(OrderStatusListeners.unregister(listener));
+    }
+
+    @Test
+    void shouldRemoveItemAndUpdateTotal() {
+        OrderAggregate orderAggregate = new OrderAggregate(UUID.randomUUID(), new Address("Ukraine", "Kyiv", "Street 1", "12345"));
+        OrderItemDetails item1 = new OrderItemDetails(UUID.randomUUID(), 2, new Money("USD", new BigDecimal("50.00")));
+        OrderItemDetails item2 = new OrderItemDetails(UUID.randomUUID(), 1, new Money("USD", new BigDecimal("9.99")));
+        orderAggregate.addOrderItem(item1);
+        orderAggregate.addOrderItem(item2);
+
+        assertTrue(orderAggregate.removeOrderItem(item1));
+        assertFalse(orderAggregate.removeOrderItem(item1));
+
+        assertEquals(List.of(item2), orderAggregate.getOrderItems());
+        assertEquals(new Money("USD", new BigDecimal("9.99")), orderAggregate.getTotalPrice());
+
+        orderAggregate.removeOrderItem(item2);
+        assertEquals(new Money("USD", BigDecimal.ZERO), orderAggregate.getTotalPrice());
+    }
+
+    @Test
+    void shouldChangeQuantityAndUpdateTotal() {
+        OrderAggregate orderAggregate = new OrderAggregate(UUID.randomUUID(), new Address("Ukraine", "Kyiv", "Street 1", "12345"));
+        UUID productId = UUID.randomUUID();
+        orderAggregate.addOrderItem(new OrderItemDetails(productId, 2, new Money("USD", new BigDecimal("50.00"))));
+
+        orderAggregate.changeQuantity(productId, 5);
+
+        assertEquals(5, orderAggregate.getOrderItems().get(0).getQuantity());
+        assertEquals(new Money("USD", new BigDecimal("250.00")), orderAggregate.getTotalPrice());
+        assertThrows(InvalidOrderItemException.class, () -> orderAggregate.changeQuantity(productId, 0));
+        assertThrows(InvalidOrderItemException.class, () -> orderAggregate.changeQuantity(UUID.randomUUID(), 1));
+    }
+
+    @Test
+    void shouldKeepRunningTotalEqualToFullRecalculation() {
+        OrderAggregate orderAggregate = new OrderAggregate(UUID.randomUUID(), new Address("Ukraine", "Kyiv", "Street 1", "12345"));
+        Random random = new Random(42);
+        List<OrderItemDetails> lines = new ArrayList<>();
+        String[] prices = {"19.99", "0.01", "5", "3.125", "92233720368547758.07"};
+
+        for (int step = 0; step < 2000; step++) {
+            int action = random.nextInt(3);
+            if (action == 0 || lines.isEmpty()) {
+                Money price = new Money("USD", new BigDecimal(prices[random.nextInt(prices.length)]));
+                OrderItemDetails item = new OrderItemDetails(UUID.randomUUID(), 1 + random.nextInt(10), price);
+                orderAggregate.addOrderItem(item);
+                lines.add(item);
+            } else if (action == 1) {
+                OrderItemDetails item = lines.remove(random.nextInt(lines.size()));
+                orderAggregate.removeOrderItem(item);
+            } else {
+                int index = random.nextInt(lines.size());
+                OrderItemDetails changed = lines.get(index).withQuantity(1 + random.nextInt(10));
+                orderAggregate.changeQuantity(changed.getProductId(), changed.getQuantity());
+                lines.set(index, changed);
+            }
+            assertEquals(orderAggregate.recalculateTotalPrice(), orderAggregate.getTotalPrice());
+        }
+    }
+
+    @Test
+    void shouldMergeItemsForSameProduct() {
+        OrderAggregate orderAggregate = new OrderAggregate(UUID.randomUUID(), new Address("Ukraine", "Kyiv", "Street 1", "12345"));
+        UUID productId = UUID.randomUUID();
+        Money price = new Money("USD", new BigDecimal("50.00"));
+
+        orderAggregate.addOrderItem(new OrderItemDetails(productId, 2, price));
+        orderAggregate.addOrderItem(new OrderItemDetails(productId, 1, price));
+
+        assertEquals(1, orderAggregate.getOrderItems().size());
+        assertEquals(3, orderAggregate.getOrderItem(productId).orElseThrow().getQuantity());
+        assertEquals(new Money("USD", new BigDecimal("150.00")), orderAggregate.getTotalPrice());
+        assertTrue(orderAggregate.removeOrderItem(productId));
+        assertTrue(orderAggregate.getOrderItems().isEmpty());
+    }
+
+    @Test
+    void shouldRecordEventsAndRebuildByReplay() {
+        UUID productId = UUID.randomUUID();
+        Address newAddress = new Address("Ukraine", "Lviv", "Street 2", "67890");
+        OrderAggregate orderAggregate = new OrderAggregate(UUID.randomUUID(), new Address("Ukraine", "Kyiv", "Street 1", "12345"));
+        orderAggregate.addOrderItem(new OrderItemDetails(productId, 2, new Money("USD", new BigDecimal("50.00"))));
+        orderAggregate.changeQuantity(productId, 5);
+        orderAggregate.updateShippingAddress(newAddress);
+        orderAggregate.changeStatus(OrderStatus.CONFIRMED);
+        assertThrows(IllegalStateException.class, () -> orderAggregate.changeStatus(OrderStatus.DELIVERED));
+
+        List<OrderEvent> events = orderAggregate.getPendingEvents();
+        assertEquals(5, events.size());
+        assertEquals(5, orderAggregate.getVersion());
+        assertTrue(events.get(0) instanceof OrderCreated);
+        assertEquals(new StatusChanged(orderAggregate.getId(), OrderStatus.NEW, OrderStatus.CONFIRMED), events.get(4));
+
+        OrderAggregate replayed = OrderAggregate.replay(events);
+
+        assertSameState(orderAggregate, replayed);
+        assertTrue(replayed.getPendingEvents().isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> OrderAggregate.replay(events.subList(1, 5)));
+    }
+
+    @Test
+    void shouldRebuildFromSnapshotAndTailAfterRandomChanges() {
+        OrderAggregate orderAggregate = new OrderAggregate(UUID.randomUUID(), new Address("Ukraine", "Kyiv", "Street 1", "12345"));
+        Random random = new Random(7);
+        List<UUID> products = new ArrayList<>();
+        OrderSnapshot snapshot = null;
+        for (int step = 0; step < 500; step++) {
+            if (products.isEmpty() || random.nextBoolean()) {
+                UUID productId = UUID.randomUUID();
+                orderAggregate.addOrderItem(new OrderItemDetails(productId, 1 + random.nextInt(5), new Money("USD", new BigDecimal("3.99"))));
+                products.add(productId);
+            } else if (random.nextBoolean()) {
+                orderAggregate.removeOrderItem(products.remove(random.nextInt(products.size())));
+            } else {
+                orderAggregate.changeQuantity(products.get(random.nextInt(products.size())), 1 + random.nextInt(9));
+            }
+            if (step == 250) {
+                snapshot = orderAggregate.snapshot();
+            }
+        }
+        List<OrderEvent> events = orderAggregate.getPendingEvents();
+        List<OrderEvent> tail = events.subList((int) snapshot.version(), events.size());
+
+        assertSameState(orderAggregate, OrderAggregate.replay(events));
+        assertSameState(orderAggregate, OrderAggregate.replay(snapshot, tail));
+    }
+
+    private static void assertSameState(OrderAggregate expected, OrderAggregate actual) {
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getVersion(), actual.getVersion());
+        assertEquals(expected.getStatus(), actual.getStatus());
+        assertEquals(expected.getShippingAddress(), actual.getShippingAddress());
+        assertEquals(expected.getOrderItems(), actual.getOrderItems());
+        assertEquals(expected.getTotalPrice(), actual.getTotalPrice());
+    }
 }
@@ -7,6 +7,10 @@ import com.await.dddcore.valueobjects.Dimensions;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -76,4 +80,43 @@ class ProductAggregateTest {
 
         assertEquals(newPrice, productAggregate.getPrice());
     }
+
+    @Test
+    void shouldReserveAndCommitStock() {
+        ProductAggregate productAggregate = new ProductAggregate(UUID.randomUUID(),
+            new ProductDetails("Product 1", "Description", new Dimensions(10, 10, 10)),
+            new Money("USD", new BigDecimal("100.00")), new Stock(10));
+
+        assertTrue(productAggregate.tryReserve(6));
+        assertFalse(productAggregate.tryReserve(5));
+        productAggregate.releaseReservation(2);
+        productAggregate.commitReservation(4);
+
+        assertEquals(6, productAggregate.getStock().getQuantity());
+        assertEquals(0, productAggregate.getInventory().reserved());
+    }
+
+    @Test
+    void shouldNotOversellUnderConcurrentReduceStock() throws InterruptedException {
+        ProductAggregate productAggregate = new ProductAggregate(UUID.randomUUID(),
+            new ProductDetails("Product 1", "Description", new Dimensions(10, 10, 10)),
+            new Money("USD", new BigDecimal("100.00")), new Stock(1000));
+        AtomicInteger sold = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 8; i++) {
+            executor.execute(() -> {
+                for (int j = 0; j < 500; j++) {
+                    if (productAggregate.reduceStock(1)) {
+                        sold.incrementAndGet();
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        assertEquals(1000, sold.get());
+        assertEquals(0, productAggregate.getStock().getQuantity());
+    }
 }
@@ -0,0 +1,170 @@
+package com.await.dddcore.benchmarks;
+
+import com.await.dddcore.aggregates.OrderAggregate;
+import com.await.dddcore.codec.OrderCodecs;
+import com.await.dddcore.events.OrderEvent;
+import com.await.dddcore.events.OrderSnapshot;
+import com.await.dddcore.valueobjects.Address;
+import com.await.dddcore.valueobjects.Money;
+import com.await.dddcore.valueobjects.OrderItemDetails;
+import com.await.dddcore.valueobjects.OrderStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode and decode throughput of the binary codec against Java serialization, for an order snapshot
+ * with a varying number of items and for a single event. Java serialization works on serializable mirror
+ * records with the same fields, since the domain types are not serializable. The encoded sizes are
+ * printed during setup.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CodecBenchmark {
+
+    record AddressData(String country, String city, String street, String postalCode) implements Serializable {
+    }
+
+    record ItemData(UUID productId, int quantity, String currency, BigDecimal price) implements Serializable {
+    }
+
+    record SnapshotData(UUID orderId, long version, String currency, AddressData shippingAddress,
+                        OrderStatus status, List<ItemData> items) implements Serializable {
+    }
+
+    record ItemAddedData(UUID orderId, ItemData item) implements Serializable {
+    }
+
+    @Param({"1", "10", "100"})
+    private int items;
+
+    private OrderSnapshot snapshot;
+    private SnapshotData snapshotData;
+    private OrderEvent event;
+    private ItemAddedData eventData;
+    private ByteBuffer buffer;
+    private ByteBuffer encodedSnapshot;
+    private ByteBuffer encodedEvent;
+    private byte[] serializedSnapshot;
+    private byte[] serializedEvent;
+
+    @Setup
+    public void setUp() throws IOException {
+        OrderAggregate order = new OrderAggregate(UUID.randomUUID(), new Address("Ukraine", "Kyiv", "Street 1", "12345"));
+        for (int i = 0; i < items; i++) {
+            order.addOrderItem(new OrderItemDetails(UUID.randomUUID(), 1 + i % 5, Money.ofMinor("USD", 199 + i * 100L)));
+        }
+        order.changeStatus(OrderStatus.CONFIRMED);
+        snapshot = order.snapshot();
+        event = order.getPendingEvents().get(1);
+        snapshotData = mirror(snapshot);
+        eventData = new ItemAddedData(order.getId(), mirror(snapshot.items().get(0)));
+
+        buffer = ByteBuffer.allocate(64 * 1024);
+        encodedSnapshot = ByteBuffer.wrap(OrderCodecs.SNAPSHOT.toBytes(snapshot));
+        encodedEvent = ByteBuffer.wrap(OrderCodecs.EVENT.toBytes(event));
+        serializedSnapshot = serialize(snapshotData);
+        serializedEvent = serialize(eventData);
+        System.out.printf("%n  snapshot: binary=%d bytes, java=%d bytes; event: binary=%d bytes, java=%d bytes%n",
+            encodedSnapshot.remaining(), serializedSnapshot.length, encodedEvent.remaining(), serializedEvent.length);
+    }
+
+    @Benchmark
+    public int encodeSnapshotBinary() {
+        buffer.clear();
+        OrderCodecs.SNAPSHOT.encode(snapshot, buffer);
+        return buffer.position();
+    }
+
+    @Benchmark
+    public OrderSnapshot decodeSnapshotBinary() {
+        return OrderCodecs.SNAPSHOT.decode(encodedSnapshot.rewind());
+    }
+
+    @Benchmark
+    public byte[] encodeSnapshotJava() throws IOException {
+        return serialize(snapshotData);
+    }
+
+    @Benchmark
+    public Object decodeSnapshotJava() throws IOException, ClassNotFoundException {
+        return deserialize(serializedSnapshot);
+    }
+
+    @Benchmark
+    public int encodeEventBinary() {
+        buffer.clear();
+        OrderCodecs.EVENT.encode(event, buffer);
+        return buffer.position();
+    }
+
+    @Benchmark
+    public OrderEvent decodeEventBinary() {
+        return OrderCodecs.EVENT.decode(encodedEvent.rewind());
+    }
+
+    @Benchmark
+    public byte[] encodeEventJava() throws IOException {
+        return serialize(eventData);
+    }
+
+    @Benchmark
+    public Object decodeEventJava() throws IOException, ClassNotFoundException {
+        return deserialize(serializedEvent);
+    }
+
+    private static SnapshotData mirror(OrderSnapshot snapshot) {
+        List<ItemData> items = new ArrayList<>();
+        for (OrderItemDetails item : snapshot.items()) {
+            items.add(mirror(item));
+        }
+        Address address = snapshot.shippingAddress();
+        return new SnapshotData(snapshot.orderId(), snapshot.version(), snapshot.currency().getCode(),
+            new AddressData(address.getCountry(), address.getCity(), address.getStreet(), address.getPostalCode()),
+            snapshot.status(), items);
+    }
+
+    private static ItemData mirror(OrderItemDetails item) {
+        return new ItemData(item.getProductId(), item.getQuantity(), item.getPrice().getCurrency(),
+            item.getPrice().getAmount());
+    }
+
+    private static byte[] serialize(Object value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Object deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readObject();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.await.dddcore.benchmarks;
+
+import com.await.dddcore.collections.Page;
+import com.await.dddcore.entities.Customer;
+import com.await.dddcore.entities.Order;
+import com.await.dddcore.valueobjects.Address;
+import com.await.dddcore.valueobjects.Email;
+import com.await.dddcore.valueobjects.Name;
+import com.await.dddcore.valueobjects.OrderStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dashboard reads of a customer with {@code orders} orders, all delivered: whether it has active orders,
+ * by scanning the orders as before and from the counts, and its orders, as a copy, as the read-only view
+ * and as a first page of 50.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CustomerOrdersBenchmark {
+
+    @Param({"10000", "50000"})
+    private int orders;
+
+    private Customer customer;
+
+    @Setup
+    public void setUp() {
+        Address address = new Address("Ukraine", "Kyiv", "Street 1", "12345");
+        customer = new Customer(UUID.randomUUID(), new Name("John", "Doe"), new Email("john.doe@example.com"),
+            address);
+        for (int i = 0; i < orders; i++) {
+            Order order = new Order(UUID.randomUUID(), customer, address);
+            customer.addOrder(order);
+            order.changeStatus(OrderStatus.CONFIRMED);
+            order.changeStatus(OrderStatus.SHIPPED);
+            order.changeStatus(OrderStatus.DELIVERED);
+        }
+    }
+
+    @Benchmark
+    public boolean hasActiveOrdersByScan() {
+        return customer.getOrders().stream().anyMatch(order -> order.getStatus() != OrderStatus.DELIVERED);
+    }
+
+    @Benchmark
+    public boolean hasActiveOrders() {
+        return customer.hasActiveOrders();
+    }
+
+    @Benchmark
+    public List<Order> copyOrders() {
+        return List.copyOf(customer.getOrders());
+    }
+
+    @Benchmark
+    public int ordersView() {
+        return customer.getOrders().size();
+    }
+
+    @Benchmark
+    public Page<Order> firstPage() {
+        return customer.getOrders(0, 50);
+    }
+}
@@ -0,0 +1,90 @@
+package com.await.dddcore.benchmarks;
+
+import com.await.dddcore.persistence.SegmentedEventLog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Write and scan performance of the memory-mapped event log on the local filesystem.
+ * Appends are measured both as throughput and as a latency distribution; the scan reads
+ * 100,000 records sequentially and checks their checksums.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventLogBenchmark {
+
+    private static final int SCAN_RECORDS = 100_000;
+
+    @Param({"64", "512"})
+    private int recordSize;
+
+    private Path directory;
+    private SegmentedEventLog log;
+    private ByteBuffer payload;
+    private SegmentedEventLog scanLog;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws IOException {
+        byte[] bytes = new byte[recordSize];
+        ThreadLocalRandom.current().nextBytes(bytes);
+        payload = ByteBuffer.wrap(bytes);
+        directory = Files.createTempDirectory("event-log-benchmark");
+        log = SegmentedEventLog.open(directory.resolve("append"));
+        scanLog = SegmentedEventLog.open(directory.resolve("scan"));
+        for (int i = 0; i < SCAN_RECORDS; i++) {
+            scanLog.append(payload);
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException {
+        log.close();
+        scanLog.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public long append() {
+        return log.append(payload);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SCAN_RECORDS)
+    public long fullScan() {
+        SegmentedEventLog.Reader reader = scanLog.reader();
+        long bytes = 0;
+        while (reader.hasNext()) {
+            bytes += reader.next().remaining();
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,83 @@
+package com.await.dddcore.benchmarks;
+
+import com.await.dddcore.persistence.GroupCommitMetrics;
+import com.await.dddcore.persistence.GroupCommitWriter;
+import com.await.dddcore.persistence.SegmentedEventLog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Durable writes from 8 threads that each wait for their record to reach the disk.
+ * A batch size of 1 forces the log once per record; larger batches share one force.
+ * The batch and latency metrics of each iteration are printed after it.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class GroupCommitBenchmark {
+
+    @Param({"1", "16", "256"})
+    private int maxBatchSize;
+
+    @Param({"0", "1"})
+    private int maxDelayMillis;
+
+    private Path directory;
+    private SegmentedEventLog log;
+    private GroupCommitWriter writer;
+    private byte[] payload;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws IOException {
+        payload = new byte[128];
+        ThreadLocalRandom.current().nextBytes(payload);
+        directory = Files.createTempDirectory("group-commit-benchmark");
+        log = SegmentedEventLog.open(directory);
+        writer = new GroupCommitWriter(log, maxBatchSize, Duration.ofMillis(maxDelayMillis));
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException {
+        writer.close();
+        GroupCommitMetrics metrics = writer.metrics();
+        System.out.printf("%n  batches=%d mean batch=%.1f p50=%dus p99=%dus p99.9=%dus%n", metrics.batches(),
+            metrics.meanBatchSize(), metrics.p50LatencyNanos() / 1_000, metrics.p99LatencyNanos() / 1_000,
+            metrics.p999LatencyNanos() / 1_000);
+        log.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public long durableWrite() {
+        return writer.submit(payload).join();
+    }
+}
@@ -0,0 +1,39 @@
+package com.await.dddcore.benchmarks;
+
+import com.await.dddcore.ids.IdGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ID generation from 4 threads: time-ordered IDs with per-thread counters against
+ * {@link UUID#randomUUID()}, which draws from a shared {@code SecureRandom}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class IdGeneratorBenchmark {
+
+    private static final IdGenerator GENERATOR = IdGenerator.system();
+
+    @Benchmark
+    public UUID timeOrdered() {
+        return GENERATOR.next();
+    }
+
+    @Benchmark
+    public UUID random() {
+        return UUID.randomUUID();
+    }
+}
@@ -0,0 +1,110 @@
+package com.await.dddcore.benchmarks;
+
+import com.await.dddcore.aggregates.CustomerAggregate;
+import com.await.dddcore.valueobjects.Address;
+import com.await.dddcore.valueobjects.Email;
+import com.await.dddcore.valueobjects.InternPools;
+import com.await.dddcore.valueobjects.Name;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Heap footprint and import cost of customers with and without interning.
+ * <p>
+ * During setup, {@code customers} customers are created from freshly built strings, as a decoder or JSON
+ * import creates them: 500 first names, 2,000 last names, 20 email domains, 10 countries, 200 cities and
+ * 100 addresses per city. The heap they take, measured from used heap after a full GC, is printed as bytes
+ * per customer for both variants, together with the hit rate of every pool. The benchmarks measure the
+ * throughput of creating one customer with and without interning. Ten million customers need about 4 GB
+ * of heap: run with {@code -p customers=10000000 -jvmArgsAppend -Xmx8g}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@State(Scope.Thread)
+public class InternBenchmark {
+
+    // Countries whose postal codes have five digits
+    private static final String[] COUNTRIES = {"Ukraine", "Finland", "Germany", "France", "Spain", "Italy",
+        "Estonia", "Czechia", "Slovakia", "Croatia"};
+
+    @Param({"1000000"})
+    private int customers;
+
+    private Random random;
+
+    @Setup
+    public void setUp() {
+        random = new Random(42);
+        long plain = footprint(false);
+        long interned = footprint(true);
+        System.out.printf("%n  plain: %.1f bytes per customer, interned: %.1f bytes per customer%n",
+            plain / (double) customers, interned / (double) customers);
+        System.out.printf("  hit rates: countries %.3f, cities %.3f, addresses %.3f, domains %.3f, first names %.3f%n",
+            InternPools.COUNTRIES.hitRate(), InternPools.CITIES.hitRate(), InternPools.ADDRESSES.hitRate(),
+            InternPools.EMAIL_DOMAINS.hitRate(), InternPools.FIRST_NAMES.hitRate());
+    }
+
+    @Benchmark
+    public CustomerAggregate plain() {
+        return customer(random.nextInt(Integer.MAX_VALUE), false);
+    }
+
+    @Benchmark
+    public CustomerAggregate interned() {
+        return customer(random.nextInt(Integer.MAX_VALUE), true);
+    }
+
+    private long footprint(boolean intern) {
+        long before = usedAfterGc();
+        CustomerAggregate[] created = new CustomerAggregate[customers];
+        for (int i = 0; i < customers; i++) {
+            created[i] = customer(i, intern);
+        }
+        long after = usedAfterGc();
+        // The array itself is the same in both variants
+        long footprint = after - before - 16 - 4L * customers;
+        if (created[customers - 1] == null) {
+            throw new IllegalStateException();
+        }
+        return footprint;
+    }
+
+    private static CustomerAggregate customer(int i, boolean intern) {
+        // Every string is built anew, so only interning makes copies share
+        Name name = new Name("First" + i % 500, "Last" + i % 2_000);
+        Email email = new Email("customer" + i + "@domain" + i % 20 + ".com");
+        int city = i % 200;
+        Address address = new Address(new String(COUNTRIES[city % COUNTRIES.length]), "City" + city,
+            "Street " + i / 200 % 100, String.valueOf(10_000 + city));
+        if (intern) {
+            name = name.intern();
+            email = email.intern();
+            address = address.intern();
+        }
+        return new CustomerAggregate(UUID.randomUUID(), name, email, address);
+    }
+
+    private static long usedAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
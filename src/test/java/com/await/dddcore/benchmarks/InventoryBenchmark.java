@@ -0,0 +1,115 @@
+package com.await.dddcore.benchmarks;
+
+import com.await.dddcore.inventory.AtomicInventory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the lock-free AtomicInventory with a synchronized stock counter under contention.
+ * Each operation reserves one unit and then commits or releases it; sold units are restocked
+ * so the run never sells out.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class InventoryBenchmark {
+
+    private AtomicInventory atomic;
+    private SynchronizedInventory synchronizedBaseline;
+
+    @Setup
+    public void setUp() {
+        atomic = new AtomicInventory(1_000_000);
+        synchronizedBaseline = new SynchronizedInventory(1_000_000);
+    }
+
+    @Benchmark
+    public boolean atomicReserveRelease() {
+        if (atomic.tryReserve(1)) {
+            atomic.release(1);
+            return true;
+        }
+        return false;
+    }
+
+    @Benchmark
+    public boolean atomicConsumeRestock() {
+        if (atomic.tryConsume(1)) {
+            atomic.restock(1);
+            return true;
+        }
+        return false;
+    }
+
+    @Benchmark
+    public boolean synchronizedReserveRelease() {
+        if (synchronizedBaseline.tryReserve(1)) {
+            synchronizedBaseline.release(1);
+            return true;
+        }
+        return false;
+    }
+
+    @Benchmark
+    public boolean synchronizedConsumeRestock() {
+        if (synchronizedBaseline.tryConsume(1)) {
+            synchronizedBaseline.restock(1);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Lock-based stock counter used as the baseline.
+     */
+    static final class SynchronizedInventory {
+
+        private int available;
+        private int reserved;
+
+        SynchronizedInventory(int available) {
+            this.available = available;
+        }
+
+        synchronized boolean tryReserve(int quantity) {
+            if (available < quantity) {
+                return false;
+            }
+            available -= quantity;
+            reserved += quantity;
+            return true;
+        }
+
+        synchronized void release(int quantity) {
+            reserved -= quantity;
+            available += quantity;
+        }
+
+        synchronized boolean tryConsume(int quantity) {
+            if (available < quantity) {
+                return false;
+            }
+            available -= quantity;
+            return true;
+        }
+
+        synchronized void restock(int quantity) {
+            available += quantity;
+        }
+    }
+}
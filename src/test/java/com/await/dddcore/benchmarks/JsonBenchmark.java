@@ -0,0 +1,84 @@
+package com.await.dddcore.benchmarks;
+
+import com.await.dddcore.aggregates.OrderAggregate;
+import com.await.dddcore.json.DomainJson;
+import com.await.dddcore.json.JsonReader;
+import com.await.dddcore.json.JsonWriter;
+import com.await.dddcore.valueobjects.Address;
+import com.await.dddcore.valueobjects.Money;
+import com.await.dddcore.valueobjects.OrderItemDetails;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streaming an array of 1,000 orders with three items each to and from UTF-8 JSON; scores are orders
+ * per millisecond. The document is written to a discarding stream and parsed from memory.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JsonBenchmark {
+
+    private static final int ORDERS = 1_000;
+
+    private List<OrderAggregate> orders;
+    private byte[] json;
+
+    @Setup
+    public void setUp() {
+        Address address = new Address("Ukraine", "Kyiv", "Street 1", "12345");
+        orders = new ArrayList<>();
+        for (int i = 0; i < ORDERS; i++) {
+            OrderAggregate order = new OrderAggregate(UUID.randomUUID(), address);
+            for (int j = 0; j < 3; j++) {
+                order.addOrderItem(new OrderItemDetails(UUID.randomUUID(), 1 + j, Money.ofMinor("USD", 199 + i + j)));
+            }
+            orders.add(order);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        JsonWriter writer = JsonWriter.of(bytes);
+        DomainJson.writeOrders(writer, orders);
+        writer.close();
+        json = bytes.toByteArray();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ORDERS)
+    public void writeOrders() {
+        JsonWriter writer = JsonWriter.of(OutputStream.nullOutputStream());
+        DomainJson.writeOrders(writer, orders);
+        writer.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ORDERS)
+    public long readOrders() {
+        Iterator<OrderAggregate> read = DomainJson.readOrders(JsonReader.of(new ByteArrayInputStream(json)));
+        long items = 0;
+        while (read.hasNext()) {
+            items += read.next().getOrderItems().size();
+        }
+        return items;
+    }
+}
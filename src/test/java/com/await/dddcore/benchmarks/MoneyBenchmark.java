@@ -0,0 +1,116 @@
+package com.await.dddcore.benchmarks;
+
+import com.await.dddcore.valueobjects.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares Money arithmetic against the previous BigDecimal-only representation.
+ * Every benchmark sums 1000 line totals (price x quantity).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MoneyBenchmark {
+
+    private static final int LINES = 1000;
+
+    private Money[] prices;
+    private BigDecimalMoney[] baselinePrices;
+    private int[] quantities;
+
+    @Setup
+    public void setUp() {
+        prices = new Money[LINES];
+        baselinePrices = new BigDecimalMoney[LINES];
+        quantities = new int[LINES];
+        for (int i = 0; i < LINES; i++) {
+            BigDecimal amount = BigDecimal.valueOf(100 + i * 37L, 2);
+            prices[i] = new Money("USD", amount);
+            baselinePrices[i] = new BigDecimalMoney("USD", amount);
+            quantities[i] = 1 + i % 7;
+        }
+    }
+
+    @Benchmark
+    public Money sumLines() {
+        Money total = Money.ofMinor("USD", 0);
+        for (int i = 0; i < LINES; i++) {
+            total = total.add(prices[i].multiply(quantities[i]));
+        }
+        return total;
+    }
+
+    @Benchmark
+    public BigDecimalMoney sumLinesBaseline() {
+        BigDecimalMoney total = new BigDecimalMoney("USD", BigDecimal.ZERO);
+        for (int i = 0; i < LINES; i++) {
+            BigDecimalMoney price = baselinePrices[i];
+            total = total.add(new BigDecimalMoney(price.currency,
+                price.amount.multiply(BigDecimal.valueOf(quantities[i]))));
+        }
+        return total;
+    }
+
+    @Benchmark
+    public Money addSubtract() {
+        Money total = prices[0];
+        for (int i = 1; i < LINES; i++) {
+            total = total.add(prices[i]).subtract(prices[i - 1]);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public BigDecimalMoney addSubtractBaseline() {
+        BigDecimalMoney total = baselinePrices[0];
+        for (int i = 1; i < LINES; i++) {
+            total = total.add(baselinePrices[i]).subtract(baselinePrices[i - 1]);
+        }
+        return total;
+    }
+
+    /**
+     * The BigDecimal-only Money implementation this benchmark measures against.
+     */
+    public static final class BigDecimalMoney {
+
+        private final String currency;
+        private final BigDecimal amount;
+
+        BigDecimalMoney(String currency, BigDecimal amount) {
+            this.currency = currency;
+            this.amount = amount;
+        }
+
+        BigDecimalMoney add(BigDecimalMoney other) {
+            validateCurrency(other);
+            return new BigDecimalMoney(currency, amount.add(other.amount));
+        }
+
+        BigDecimalMoney subtract(BigDecimalMoney other) {
+            validateCurrency(other);
+            return new BigDecimalMoney(currency, amount.subtract(other.amount));
+        }
+
+        private void validateCurrency(BigDecimalMoney other) {
+            if (!currency.equals(other.currency)) {
+                throw new IllegalArgumentException("Cannot operate on different currencies.");
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.await.dddcore.benchmarks;
+
+import com.await.dddcore.valueobjects.Money;
+import com.await.dddcore.valueobjects.MoneyFormat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.text.NumberFormat;
+import java.util.Currency;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cached MoneyFormat against creating a currency NumberFormat per call,
+ * which is what Money.format() used to do.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MoneyFormatBenchmark {
+
+    private final StringBuilder builder = new StringBuilder(64);
+    private Money money;
+    private MoneyFormat format;
+
+    @Setup
+    public void setUp() {
+        money = new Money("USD", new BigDecimal("1234567.89"));
+        format = MoneyFormat.of("USD", Locale.US);
+    }
+
+    @Benchmark
+    public String formatPerCallNumberFormat() {
+        NumberFormat numberFormat = NumberFormat.getCurrencyInstance(Locale.US);
+        numberFormat.setCurrency(Currency.getInstance(money.getCurrency()));
+        return numberFormat.format(money.getAmount());
+    }
+
+    @Benchmark
+    public String format() {
+        return money.format(Locale.US);
+    }
+
+    @Benchmark
+    public StringBuilder appendToReusedBuilder() {
+        builder.setLength(0);
+        return format.appendTo(money, builder);
+    }
+}
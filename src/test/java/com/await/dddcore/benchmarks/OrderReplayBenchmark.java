@@ -0,0 +1,97 @@
+package com.await.dddcore.benchmarks;
+
+import com.await.dddcore.aggregates.OrderAggregate;
+import com.await.dddcore.events.OrderEvent;
+import com.await.dddcore.events.OrderSnapshot;
+import com.await.dddcore.valueobjects.Address;
+import com.await.dddcore.valueobjects.Money;
+import com.await.dddcore.valueobjects.OrderItemDetails;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how fast an order is rebuilt from its events, in events per second.
+ * The stream mixes item additions, quantity changes and removals over a few hundred products.
+ * The snapshot variant replays only the last 1,000 events on top of a snapshot.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderReplayBenchmark {
+
+    private static final int EVENTS = 100_000;
+    private static final int TAIL = 1_000;
+
+    @Param({"10000", "100000"})
+    private int events;
+
+    private List<OrderEvent> stream;
+    private OrderSnapshot snapshot;
+    private List<OrderEvent> tail;
+
+    @Setup
+    public void setUp() {
+        OrderAggregate order = new OrderAggregate(UUID.randomUUID(), new Address("Ukraine", "Kyiv", "Street 1", "12345"));
+        Random random = new Random(1);
+        List<UUID> products = new ArrayList<>();
+        Money price = Money.ofMinor("USD", 1_999);
+        while (order.getVersion() < events - TAIL) {
+            step(order, random, products, price);
+        }
+        snapshot = order.snapshot();
+        while (order.getVersion() < events) {
+            step(order, random, products, price);
+        }
+        stream = order.getPendingEvents();
+        tail = stream.subList((int) snapshot.version(), stream.size());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public OrderAggregate fullReplay() {
+        // Normalizes to events per second for every stream length
+        OrderAggregate order = null;
+        for (int done = 0; done < EVENTS; done += events) {
+            order = OrderAggregate.replay(stream);
+        }
+        return order;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TAIL)
+    public OrderAggregate snapshotAndTail() {
+        return OrderAggregate.replay(snapshot, tail);
+    }
+
+    private static void step(OrderAggregate order, Random random, List<UUID> products, Money price) {
+        int action = random.nextInt(10);
+        if (products.size() < 300 && (products.isEmpty() || action < 4)) {
+            UUID productId = UUID.randomUUID();
+            order.addOrderItem(new OrderItemDetails(productId, 1 + random.nextInt(5), price));
+            products.add(productId);
+        } else if (action < 8 || products.size() < 2) {
+            order.changeQuantity(products.get(random.nextInt(products.size())), 1 + random.nextInt(9));
+        } else {
+            order.removeOrderItem(products.remove(random.nextInt(products.size())));
+        }
+    }
+}
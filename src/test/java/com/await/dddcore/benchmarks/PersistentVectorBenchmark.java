@@ -0,0 +1,95 @@
+package com.await.dddcore.benchmarks;
+
+import com.await.dddcore.collections.PersistentVector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Copy-on-read lists against {@link PersistentVector} for a list of {@code size} elements.
+ * <p>
+ * Read-heavy: ten snapshots, each read at its last index, per append, as when order lines or a customer's
+ * orders are shown far more often than they change. Append-heavy: building the list from empty with one
+ * snapshot at the end. Scores are nanoseconds per operation: one append with its snapshots, or the whole
+ * build.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PersistentVectorBenchmark {
+
+    private static final int READS_PER_APPEND = 10;
+
+    @Param({"100", "10000"})
+    private int size;
+
+    private List<Integer> list;
+    private PersistentVector<Integer> vector;
+
+    @Setup
+    public void setUp() {
+        list = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        vector = PersistentVector.copyOf(list);
+    }
+
+    @Benchmark
+    public int readHeavyCopyOnRead() {
+        // The appended element is removed again at the end, so the list keeps its size
+        list.add(size);
+        int sum = 0;
+        for (int i = 0; i < READS_PER_APPEND; i++) {
+            List<Integer> snapshot = List.copyOf(list);
+            sum += snapshot.get(snapshot.size() - 1);
+        }
+        list.remove(list.size() - 1);
+        return sum;
+    }
+
+    @Benchmark
+    public int readHeavyPersistent() {
+        // Appending to the setup version keeps the size fixed
+        PersistentVector<Integer> current = vector.append(size);
+        int sum = 0;
+        for (int i = 0; i < READS_PER_APPEND; i++) {
+            List<Integer> snapshot = current;
+            sum += snapshot.get(snapshot.size() - 1);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public List<Integer> appendHeavyCopyOnRead() {
+        List<Integer> built = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            built.add(i);
+        }
+        return List.copyOf(built);
+    }
+
+    @Benchmark
+    public List<Integer> appendHeavyPersistent() {
+        PersistentVector<Integer> built = PersistentVector.empty();
+        for (int i = 0; i < size; i++) {
+            built = built.append(i);
+        }
+        return built;
+    }
+}
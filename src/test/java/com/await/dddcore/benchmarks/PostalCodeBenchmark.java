@@ -0,0 +1,104 @@
+package com.await.dddcore.benchmarks;
+
+import com.await.dddcore.valueobjects.PostalCodeRules;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Validating the postal codes of 1,024 addresses from twelve countries in random order, a quarter of them
+ * invalid: through a precompiled {@link Pattern} per country, through {@link PostalCodeRules#isValid} per
+ * address and through {@link PostalCodeRules#validateAll}. Scores are addresses per microsecond.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PostalCodeBenchmark {
+
+    private static final int ADDRESSES = 1_024;
+
+    // Country, format as a regex, a valid and an invalid postal code
+    private static final String[][] COUNTRIES = {
+        {"Ukraine", "\\d{5}", "01001", "0100"},
+        {"Poland", "\\d{2}-\\d{3}", "00-950", "00950"},
+        {"Germany", "\\d{5}", "10115", "1011A"},
+        {"United Kingdom", "GIR ?0AA|[A-PR-UWYZ]([A-HK-Y]?\\d[A-Z\\d]?|\\d[A-HJKPSTUW]|[A-HK-Y]\\d[ABEHMNPRV-Y])"
+            + " ?\\d[ABD-HJLNP-UW-Z]{2}", "SW1A 1AA", "SW1A 1A"},
+        {"United States", "\\d{5}(-\\d{4})?", "94103-1234", "94103-12"},
+        {"Canada", "[ABCEGHJ-NPRSTVXY]\\d[ABCEGHJ-NPRSTV-Z] ?\\d[ABCEGHJ-NPRSTV-Z]\\d", "K1A 0B1", "D1A 0B1"},
+        {"Netherlands", "\\d{4} ?[A-Z]{2}", "1012 AB", "1012 A"},
+        {"Japan", "\\d{3}-?\\d{4}", "100-0001", "100-001"},
+        {"Portugal", "\\d{4}-\\d{3}", "1000-001", "1000 001"},
+        {"Ireland", "([AC-FHKNPRTV-Y]\\d{2}|D6W) ?[\\dAC-FHKNPRTV-Y]{4}", "D02 X285", "D02 X28"},
+        {"Brazil", "\\d{5}-?\\d{3}", "01310-100", "0131-100"},
+        {"France", "\\d{2} ?\\d{3}", "75008", "7500"},
+    };
+
+    private String[] countries;
+    private String[] postalCodes;
+    private Map<String, Pattern> regexes;
+
+    @Setup
+    public void setUp() {
+        regexes = new HashMap<>();
+        for (String[] country : COUNTRIES) {
+            regexes.put(country[0], Pattern.compile(country[1]));
+        }
+        Random random = new Random(42);
+        countries = new String[ADDRESSES];
+        postalCodes = new String[ADDRESSES];
+        for (int i = 0; i < ADDRESSES; i++) {
+            String[] country = COUNTRIES[random.nextInt(COUNTRIES.length)];
+            countries[i] = country[0];
+            postalCodes[i] = random.nextInt(4) == 0 ? country[3] : country[2];
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ADDRESSES)
+    public int regexPerCountry() {
+        int valid = 0;
+        for (int i = 0; i < ADDRESSES; i++) {
+            if (regexes.get(countries[i]).matcher(postalCodes[i]).matches()) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ADDRESSES)
+    public int automatonPerAddress() {
+        int valid = 0;
+        for (int i = 0; i < ADDRESSES; i++) {
+            if (PostalCodeRules.isValid(countries[i], postalCodes[i])) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ADDRESSES)
+    public BitSet automatonBatch() {
+        return PostalCodeRules.validateAll(countries, postalCodes);
+    }
+}
@@ -0,0 +1,110 @@
+package com.await.dddcore.benchmarks;
+
+import com.await.dddcore.aggregates.CustomerAggregate;
+import com.await.dddcore.aggregates.OrderAggregate;
+import com.await.dddcore.repository.CustomerRepository;
+import com.await.dddcore.repository.OrderRepository;
+import com.await.dddcore.valueobjects.Address;
+import com.await.dddcore.valueobjects.CurrencyUnit;
+import com.await.dddcore.valueobjects.Email;
+import com.await.dddcore.valueobjects.Name;
+import com.await.dddcore.valueobjects.OrderStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookups and writes from 4 threads against repositories holding {@code entities} orders, one customer
+ * per ten orders and a handful of confirmed orders. Saving replaces a random order with a new instance
+ * for another customer, which moves it in the customer index.
+ * <p>
+ * Ten million orders take roughly 5 GB of heap; run with {@code -p entities=10000000 -jvmArgsAppend -Xmx8g}
+ * on a machine that has the memory.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@Threads(4)
+@State(Scope.Benchmark)
+public class RepositoryBenchmark {
+
+    @Param({"1000000"})
+    private int entities;
+
+    private UUID[] orderIds;
+    private UUID[] customerIds;
+    private Email[] emails;
+    private Address address;
+    private OrderRepository orders;
+    private CustomerRepository customers;
+
+    @Setup
+    public void setUp() {
+        address = new Address("Ukraine", "Kyiv", "Street 1", "12345");
+        orders = new OrderRepository();
+        customers = new CustomerRepository();
+        customerIds = new UUID[Math.max(1, entities / 10)];
+        emails = new Email[customerIds.length];
+        for (int i = 0; i < customerIds.length; i++) {
+            customerIds[i] = UUID.randomUUID();
+            emails[i] = new Email("customer" + i + "@example.com");
+            customers.save(new CustomerAggregate(customerIds[i], new Name("John", "Doe"), emails[i], address));
+        }
+        orderIds = new UUID[entities];
+        for (int i = 0; i < entities; i++) {
+            orderIds[i] = UUID.randomUUID();
+            OrderAggregate order = new OrderAggregate(orderIds[i], customerIds[i % customerIds.length], address,
+                CurrencyUnit.USD);
+            if (i % 1_000 == 0) {
+                order.changeStatus(OrderStatus.CONFIRMED);
+            }
+            order.markEventsCommitted();
+            orders.save(order);
+        }
+    }
+
+    @Benchmark
+    public Optional<OrderAggregate> findOrderById() {
+        return orders.findById(orderIds[ThreadLocalRandom.current().nextInt(entities)]);
+    }
+
+    @Benchmark
+    public int findOrdersByCustomer() {
+        return orders.findByCustomer(customerIds[ThreadLocalRandom.current().nextInt(customerIds.length)]).size();
+    }
+
+    @Benchmark
+    public Optional<CustomerAggregate> findCustomerByEmail() {
+        return customers.findByEmail(emails[ThreadLocalRandom.current().nextInt(emails.length)]);
+    }
+
+    @Benchmark
+    public int countConfirmedOrders() {
+        return orders.countByStatus(OrderStatus.CONFIRMED);
+    }
+
+    @Benchmark
+    public void saveOrder() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        OrderAggregate order = new OrderAggregate(orderIds[random.nextInt(entities)],
+            customerIds[random.nextInt(customerIds.length)], address, CurrencyUnit.USD);
+        order.markEventsCommitted();
+        orders.save(order);
+    }
+}
@@ -0,0 +1,90 @@
+package com.await.dddcore.benchmarks;
+
+import com.await.dddcore.inventory.AtomicInventory;
+import com.await.dddcore.inventory.StockHolds;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compares stock holds on the timing wheel with one scheduled task per hold.
+ * Each operation creates a hold and cancels the hold created 100,000 operations earlier, so about
+ * 100,000 holds are outstanding. The wheel is advanced every 64 operations, as a periodic expiry task would.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StockHoldsBenchmark {
+
+    private static final int OUTSTANDING = 100_000;
+    private static final Duration TTL = Duration.ofMinutes(5);
+
+    private final AtomicLong clock = new AtomicLong();
+    private AtomicInventory inventory;
+    private StockHolds holds;
+    private long[] holdIds;
+    private ScheduledThreadPoolExecutor executor;
+    private ScheduledFuture<?>[] tasks;
+    private int next;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        inventory = new AtomicInventory(Integer.MAX_VALUE / 2);
+        holds = new StockHolds(clock::get, Duration.ofMillis(100));
+        holdIds = new long[OUTSTANDING];
+        executor = new ScheduledThreadPoolExecutor(1);
+        executor.setRemoveOnCancelPolicy(true);
+        tasks = new ScheduledFuture<?>[OUTSTANDING];
+        next = 0;
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public long timingWheel() {
+        int slot = next++ % OUTSTANDING;
+        if (holdIds[slot] != 0) {
+            holds.cancel(holdIds[slot]);
+        }
+        holdIds[slot] = holds.tryHold(inventory, 1, TTL).orElse(0);
+        if ((next & 63) == 0) {
+            clock.addAndGet(5);
+            holds.expireDue();
+        }
+        return holdIds[slot];
+    }
+
+    @Benchmark
+    public boolean scheduledTaskPerHold() {
+        int slot = next++ % OUTSTANDING;
+        if (tasks[slot] != null && tasks[slot].cancel(false)) {
+            inventory.release(1);
+        }
+        if (!inventory.tryReserve(1)) {
+            return false;
+        }
+        tasks[slot] = executor.schedule(() -> inventory.release(1), TTL.toMillis(), TimeUnit.MILLISECONDS);
+        return true;
+    }
+}
@@ -0,0 +1,98 @@
+package com.await.dddcore.benchmarks;
+
+import com.await.dddcore.inventory.AtomicInventory;
+import com.await.dddcore.inventory.Inventory;
+import com.await.dddcore.inventory.StockReservation;
+import com.await.dddcore.valueobjects.Money;
+import com.await.dddcore.valueobjects.OrderItemDetails;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reserves stock for orders of five products drawn from twenty popular ones, then releases it again.
+ * Compares the lock-free ordered reservation with serializing all reservations on one global lock.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class StockReservationBenchmark {
+
+    private static final int PRODUCTS = 20;
+    private static final int ORDERS = 1_024;
+
+    private final Map<UUID, Inventory> inventories = new HashMap<>();
+    private final Object globalLock = new Object();
+    private List<List<OrderItemDetails>> orders;
+
+    @Setup
+    public void setUp() {
+        List<UUID> products = new ArrayList<>();
+        for (int i = 0; i < PRODUCTS; i++) {
+            UUID id = UUID.randomUUID();
+            products.add(id);
+            inventories.put(id, new AtomicInventory(1_000_000));
+        }
+        Money price = Money.ofMinor("USD", 1_999);
+        orders = new ArrayList<>();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < ORDERS; i++) {
+            List<OrderItemDetails> items = new ArrayList<>();
+            for (int j = 0; j < 5; j++) {
+                items.add(new OrderItemDetails(products.get(random.nextInt(PRODUCTS)), 1 + random.nextInt(3), price));
+            }
+            orders.add(items);
+        }
+    }
+
+    @Benchmark
+    public boolean orderedReservation() {
+        Optional<StockReservation> reservation = StockReservation.tryReserve(nextOrder(), inventories::get);
+        reservation.ifPresent(StockReservation::release);
+        return reservation.isPresent();
+    }
+
+    @Benchmark
+    public boolean globalLockReservation() {
+        List<OrderItemDetails> order = nextOrder();
+        synchronized (globalLock) {
+            for (OrderItemDetails item : order) {
+                if (inventories.get(item.getProductId()).available() < item.getQuantity()) {
+                    return false;
+                }
+            }
+            for (OrderItemDetails item : order) {
+                inventories.get(item.getProductId()).tryReserve(item.getQuantity());
+            }
+            for (OrderItemDetails item : order) {
+                inventories.get(item.getProductId()).release(item.getQuantity());
+            }
+            return true;
+        }
+    }
+
+    private List<OrderItemDetails> nextOrder() {
+        return orders.get(ThreadLocalRandom.current().nextInt(ORDERS));
+    }
+}
@@ -0,0 +1,72 @@
+package com.await.dddcore.benchmarks;
+
+import com.await.dddcore.inventory.AtomicInventory;
+import com.await.dddcore.inventory.StripedInventory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the striped inventory with the single CAS counter of AtomicInventory for a hot product.
+ * Each operation reserves one unit and releases it again, so the run never sells out.
+ * Run {@link #main} to scale the thread count from 1 to twice the number of processors.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StripedInventoryBenchmark {
+
+    private AtomicInventory atomic;
+    private StripedInventory striped;
+
+    @Setup
+    public void setUp() {
+        atomic = new AtomicInventory(1_000_000);
+        striped = new StripedInventory(1_000_000);
+    }
+
+    @Benchmark
+    public boolean atomicReserveRelease() {
+        if (atomic.tryReserve(1)) {
+            atomic.release(1);
+            return true;
+        }
+        return false;
+    }
+
+    @Benchmark
+    public boolean stripedReserveRelease() {
+        if (striped.tryReserve(1)) {
+            striped.release(1);
+            return true;
+        }
+        return false;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        int maxThreads = Runtime.getRuntime().availableProcessors() * 2;
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            Options options = new OptionsBuilder()
+                .include(StripedInventoryBenchmark.class.getSimpleName())
+                .threads(threads)
+                .build();
+            new Runner(options).run();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.await.dddcore.benchmarks;
+
+import com.await.dddcore.collections.UuidMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Random lookups of present keys in {@link UuidMap}, {@link HashMap} and {@link ConcurrentHashMap} holding
+ * {@code size} random UUIDs. The lookup keys are separate UUID instances, as when an ID arrives in a
+ * request. The heap taken by each map, excluding the shared values, is printed during setup; it is
+ * measured from used heap after a full GC, so it is approximate.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@State(Scope.Benchmark)
+public class UuidMapBenchmark {
+
+    @Param({"1000000"})
+    private int size;
+
+    private UUID[] lookups;
+    private UuidMap<Object> uuidMap;
+    private Map<UUID, Object> hashMap;
+    private Map<UUID, Object> concurrentHashMap;
+
+    @Setup
+    public void setUp() {
+        long[] msbs = new long[size];
+        long[] lsbs = new long[size];
+        lookups = new UUID[size];
+        Object value = new Object();
+        for (int i = 0; i < size; i++) {
+            UUID key = UUID.randomUUID();
+            msbs[i] = key.getMostSignificantBits();
+            lsbs[i] = key.getLeastSignificantBits();
+            lookups[i] = new UUID(msbs[i], lsbs[i]);
+        }
+        uuidMap = measure("UuidMap", () -> {
+            UuidMap<Object> map = new UuidMap<>();
+            for (int i = 0; i < size; i++) {
+                map.put(new UUID(msbs[i], lsbs[i]), value);
+            }
+            return map;
+        });
+        hashMap = measure("HashMap", () -> {
+            Map<UUID, Object> map = new HashMap<>();
+            for (int i = 0; i < size; i++) {
+                map.put(new UUID(msbs[i], lsbs[i]), value);
+            }
+            return map;
+        });
+        concurrentHashMap = measure("ConcurrentHashMap", () -> {
+            Map<UUID, Object> map = new ConcurrentHashMap<>();
+            for (int i = 0; i < size; i++) {
+                map.put(new UUID(msbs[i], lsbs[i]), value);
+            }
+            return map;
+        });
+    }
+
+    @Benchmark
+    public Object uuidMap() {
+        return uuidMap.get(lookups[ThreadLocalRandom.current().nextInt(size)]);
+    }
+
+    @Benchmark
+    public Object hashMap() {
+        return hashMap.get(lookups[ThreadLocalRandom.current().nextInt(size)]);
+    }
+
+    @Benchmark
+    public Object concurrentHashMap() {
+        return concurrentHashMap.get(lookups[ThreadLocalRandom.current().nextInt(size)]);
+    }
+
+    private <M> M measure(String name, Supplier<M> build) {
+        long before = usedAfterGc();
+        M map = build.get();
+        long after = usedAfterGc();
+        System.out.printf("%n  %s: %.1f bytes per entry%n", name, (after - before) / (double) size);
+        return map;
+    }
+
+    private static long usedAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,93 @@
+package com.await.dddcore.benchmarks;
+
+import com.await.dddcore.valueobjects.Address;
+import com.await.dddcore.valueobjects.Email;
+import com.await.dddcore.valueobjects.Name;
+import com.await.dddcore.valueobjects.ValidationResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Importing 1,024 customer records (name, email and address) of which half are invalid in one field,
+ * through the throwing constructors and through {@code tryCreate}; scores are records per microsecond.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ValidationBenchmark {
+
+    private static final int RECORDS = 1_024;
+
+    private String[][] records;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        records = new String[RECORDS][];
+        for (int i = 0; i < RECORDS; i++) {
+            String[] record = {"John", "Doe", "john.doe" + i + "@example.com", "Ukraine", "Kyiv", "Street " + i,
+                String.valueOf(10_000 + random.nextInt(90_000))};
+            if (i % 2 == 1) {
+                // Spoil one field, so failures happen at different depths of the validation
+                int field = random.nextInt(4);
+                if (field == 0) {
+                    record[1] = " ";
+                } else if (field == 1) {
+                    record[2] = "john.doe" + i + "@example";
+                } else if (field == 2) {
+                    record[4] = "";
+                } else {
+                    record[6] = "ABCDE";
+                }
+            }
+            records[i] = record;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public int constructors() {
+        int valid = 0;
+        for (String[] record : records) {
+            try {
+                new Name(record[0], record[1]);
+                new Email(record[2]);
+                new Address(record[3], record[4], record[5], record[6]);
+                valid++;
+            } catch (RuntimeException e) {
+                // Rejected record
+            }
+        }
+        return valid;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public int tryCreate() {
+        int valid = 0;
+        for (String[] record : records) {
+            ValidationResult<Name> name = Name.tryCreate(record[0], record[1]);
+            ValidationResult<Email> email = name.isValid() ? Email.tryCreate(record[2]) : null;
+            if (email != null && email.isValid()
+                && Address.tryCreate(record[3], record[4], record[5], record[6]).isValid()) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+}
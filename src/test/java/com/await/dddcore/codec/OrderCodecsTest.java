@@ -0,0 +1,118 @@
+package com.await.dddcore.codec;
+
+import com.await.dddcore.aggregates.OrderAggregate;
+import com.await.dddcore.events.OrderCreated;
+import com.await.dddcore.events.OrderEvent;
+import com.await.dddcore.events.OrderSnapshot;
+import com.await.dddcore.events.StatusChanged;
+import com.await.dddcore.valueobjects.Address;
+import com.await.dddcore.valueobjects.CurrencyUnit;
+import com.await.dddcore.valueobjects.Money;
+import com.await.dddcore.valueobjects.OrderItemDetails;
+import com.await.dddcore.valueobjects.OrderStatus;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderCodecsTest {
+
+    private final Address address = new Address("Ukraine", "Kyiv", "Street 1", "12345");
+
+    @Test
+    void shouldRoundTripEveryEventType() {
+        OrderAggregate order = new OrderAggregate(UUID.randomUUID(), address);
+        UUID productId = UUID.randomUUID();
+        order.addOrderItem(new OrderItemDetails(productId, 2, Money.ofMinor("USD", 1_999)));
+        order.addOrderItem(new OrderItemDetails(UUID.randomUUID(), 1, Money.ofMinor("USD", 500)));
+        order.changeQuantity(productId, 5);
+        order.removeOrderItem(productId);
+        order.updateShippingAddress(new Address("Ukraine", "Lviv", "Street 2", "79000"));
+        order.changeStatus(OrderStatus.CONFIRMED);
+
+        List<OrderEvent> events = order.getPendingEvents();
+        ByteBuffer buffer = ByteBuffer.allocate(4096);
+        for (OrderEvent event : events) {
+            OrderCodecs.EVENT.encode(event, buffer);
+        }
+        buffer.flip();
+        List<OrderEvent> decoded = new ArrayList<>();
+        while (buffer.hasRemaining()) {
+            decoded.add(OrderCodecs.EVENT.decode(buffer));
+        }
+
+        assertEquals(events, decoded);
+        OrderAggregate replayed = OrderAggregate.replay(decoded);
+        assertEquals(order.getVersion(), replayed.getVersion());
+        assertEquals(order.getTotalPrice(), replayed.getTotalPrice());
+    }
+
+    @Test
+    void shouldEncodeStatusChangeInNineteenBytes() {
+        StatusChanged event = new StatusChanged(UUID.randomUUID(), OrderStatus.NEW, OrderStatus.CONFIRMED);
+        // Version, type, order ID and two status bytes
+        assertEquals(1 + 1 + 16 + 2, OrderCodecs.EVENT.toBytes(event).length);
+    }
+
+    @Test
+    void shouldRoundTripSnapshotsAndOrders() {
+        OrderAggregate order = new OrderAggregate(UUID.randomUUID(), address);
+        for (int i = 0; i < 100; i++) {
+            order.addOrderItem(new OrderItemDetails(UUID.randomUUID(), 1 + i, Money.ofMinor("USD", 100 + i)));
+        }
+        order.changeStatus(OrderStatus.CONFIRMED);
+
+        OrderSnapshot snapshot = order.snapshot();
+        assertEquals(snapshot, OrderCodecs.SNAPSHOT.fromBytes(OrderCodecs.SNAPSHOT.toBytes(snapshot)));
+
+        OrderAggregate decoded = OrderCodecs.ORDER.fromBytes(OrderCodecs.ORDER.toBytes(order));
+        assertEquals(order.getId(), decoded.getId());
+        assertEquals(order.getVersion(), decoded.getVersion());
+        assertEquals(order.getOrderItems(), decoded.getOrderItems());
+        assertEquals(OrderStatus.CONFIRMED, decoded.getStatus());
+        assertTrue(decoded.getPendingEvents().isEmpty());
+    }
+
+    @Test
+    void shouldRoundTripCustomerIdAndDecodeVersionOne() {
+        UUID customerId = UUID.randomUUID();
+        OrderAggregate order = new OrderAggregate(UUID.randomUUID(), customerId, address, CurrencyUnit.USD);
+        OrderCreated created = (OrderCreated) order.getPendingEvents().get(0);
+        assertEquals(created, OrderCodecs.EVENT.fromBytes(OrderCodecs.EVENT.toBytes(created)));
+        OrderAggregate decoded = OrderCodecs.ORDER.fromBytes(OrderCodecs.ORDER.toBytes(order));
+        assertEquals(Optional.of(customerId), decoded.getCustomerId());
+
+        // A version 1 record is the version 2 encoding of an order without a customer, minus the flag
+        byte[] current = OrderCodecs.EVENT.toBytes(new OrderCreated(order.getId(), address, CurrencyUnit.USD));
+        byte[] versionOne = Arrays.copyOf(current, current.length - 1);
+        versionOne[0] = 1;
+        OrderCreated old = (OrderCreated) OrderCodecs.EVENT.fromBytes(versionOne);
+        assertEquals(order.getId(), old.orderId());
+        assertNull(old.customerId());
+    }
+
+    @Test
+    void shouldRejectUnknownVersionsAndTypes() {
+        byte[] bytes = OrderCodecs.EVENT.toBytes(new StatusChanged(UUID.randomUUID(), OrderStatus.NEW, OrderStatus.CONFIRMED));
+        assertEquals(OrderCodecs.VERSION, bytes[0]);
+
+        byte[] future = bytes.clone();
+        future[0] = OrderCodecs.VERSION + 1;
+        assertThrows(IllegalArgumentException.class, () -> OrderCodecs.EVENT.fromBytes(future));
+
+        byte[] unknownType = bytes.clone();
+        unknownType[1] = 99;
+        assertThrows(IllegalArgumentException.class, () -> OrderCodecs.EVENT.fromBytes(unknownType));
+
+        byte[] hugeCount = OrderCodecs.SNAPSHOT.toBytes(new OrderAggregate(UUID.randomUUID(), address).snapshot());
+        // The item count precedes the customer ID flag
+        hugeCount[hugeCount.length - 2] = 0x7F;
+        assertThrows(IllegalArgumentException.class, () -> OrderCodecs.SNAPSHOT.fromBytes(hugeCount));
+    }
+}
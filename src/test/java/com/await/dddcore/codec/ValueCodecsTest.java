@@ -0,0 +1,81 @@
+package com.await.dddcore.codec;
+
+import com.await.dddcore.exceptions.InvalidAddressException;
+import com.await.dddcore.valueobjects.Address;
+import com.await.dddcore.valueobjects.CurrencyUnit;
+import com.await.dddcore.valueobjects.Dimensions;
+import com.await.dddcore.valueobjects.Email;
+import com.await.dddcore.valueobjects.Money;
+import com.await.dddcore.valueobjects.Name;
+import com.await.dddcore.valueobjects.OrderItemDetails;
+import com.await.dddcore.valueobjects.OrderStatus;
+import com.await.dddcore.valueobjects.ProductDetails;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValueCodecsTest {
+
+    @Test
+    void shouldRoundTripValueObjects() {
+        assertRoundTrip(ValueCodecs.CURRENCY, CurrencyUnit.EUR);
+        assertRoundTrip(ValueCodecs.CURRENCY, CurrencyUnit.of("Bitcoin"));
+        assertRoundTrip(ValueCodecs.MONEY, Money.ofMinor("USD", -1_999));
+        assertRoundTrip(ValueCodecs.MONEY, new Money("USD", new BigDecimal("0.001")));
+        assertRoundTrip(ValueCodecs.MONEY, new Money("Points", new BigDecimal("12.5")));
+        assertRoundTrip(ValueCodecs.ADDRESS, new Address("Ukraine", "Kyiv", "Хрещатик 1", "01001"));
+        assertRoundTrip(ValueCodecs.NAME, new Name("John", "Doe"));
+        assertRoundTrip(ValueCodecs.EMAIL, new Email("john.doe@example.com"));
+        assertRoundTrip(ValueCodecs.DIMENSIONS, new Dimensions(1.5, 2, 99.99));
+        assertRoundTrip(ValueCodecs.PRODUCT_DETAILS, new ProductDetails("Lamp", "Desk lamp", new Dimensions(1, 2, 3)));
+        assertRoundTrip(ValueCodecs.PRODUCT_DETAILS, new ProductDetails("Lamp", null, null));
+        assertRoundTrip(ValueCodecs.ORDER_ITEM, new OrderItemDetails(UUID.randomUUID(), 3, Money.ofMinor("EUR", 250)));
+        for (OrderStatus status : OrderStatus.values()) {
+            assertRoundTrip(ValueCodecs.ORDER_STATUS, status);
+        }
+    }
+
+    @Test
+    void shouldEncodeCompactly() {
+        assertEquals(1, ValueCodecs.ORDER_STATUS.toBytes(OrderStatus.DELIVERED).length);
+        // Currency code, amount kind and a two-byte varint
+        assertEquals(4 + 1 + 2, ValueCodecs.MONEY.toBytes(Money.ofMinor("USD", 1_999)).length);
+        // Two longs, a one-byte quantity and the price
+        assertEquals(16 + 1 + 7, ValueCodecs.ORDER_ITEM.toBytes(
+            new OrderItemDetails(UUID.randomUUID(), 3, Money.ofMinor("USD", 1_999))).length);
+    }
+
+    @Test
+    void shouldCacheOnlyCanonicalCurrencies() {
+        byte[] encoded = ValueCodecs.CURRENCY.toBytes(CurrencyUnit.of("QZX"));
+        CurrencyUnit first = ValueCodecs.CURRENCY.fromBytes(encoded);
+        assertFalse(first.isCanonical());
+        assertNotSame(first, ValueCodecs.CURRENCY.fromBytes(encoded));
+
+        CurrencyUnit registered = CurrencyUnit.register("QZX");
+        assertSame(registered, ValueCodecs.CURRENCY.fromBytes(encoded));
+        assertSame(registered, ValueCodecs.CURRENCY.fromBytes(encoded));
+        assertSame(CurrencyUnit.EUR, ValueCodecs.CURRENCY.fromBytes(ValueCodecs.CURRENCY.toBytes(CurrencyUnit.EUR)));
+    }
+
+    @Test
+    void shouldValidateDecodedValues() {
+        byte[] valid = ValueCodecs.ADDRESS.toBytes(new Address("Ukraine", "Kyiv", "Street 1", "12345"));
+        byte[] invalid = valid.clone();
+        invalid[invalid.length - 1] = 'X';
+        assertThrows(InvalidAddressException.class, () -> ValueCodecs.ADDRESS.fromBytes(invalid));
+        assertThrows(IllegalArgumentException.class, () -> ValueCodecs.ORDER_STATUS.fromBytes(new byte[]{9}));
+        assertThrows(IllegalArgumentException.class, () -> ValueCodecs.ORDER_STATUS.fromBytes(new byte[]{0, 0}));
+    }
+
+    private static <T> void assertRoundTrip(Codec<T> codec, T value) {
+        assertEquals(value, codec.fromBytes(codec.toBytes(value)));
+        ByteBuffer direct = ByteBuffer.allocateDirect(256);
+        codec.encode(value, direct);
+        assertEquals(value, codec.decodeFully(direct.flip()));
+    }
+}
@@ -0,0 +1,111 @@
+package com.await.dddcore.codec;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WireTest {
+
+    @Test
+    void shouldRoundTripVarintsWithMinimalSize() {
+        long[] values = {0, 1, 127, 128, 16_383, 16_384, Integer.MAX_VALUE, Long.MAX_VALUE, -1, Long.MIN_VALUE};
+        for (long value : values) {
+            ByteBuffer buffer = ByteBuffer.allocate(32);
+            Wire.putVarLong(buffer, value);
+            Wire.putZigZag(buffer, value);
+            buffer.flip();
+            assertEquals(value, Wire.getVarLong(buffer));
+            assertEquals(value, Wire.getZigZag(buffer));
+            assertFalse(buffer.hasRemaining());
+        }
+        assertEquals(1, sizeOfVarLong(127));
+        assertEquals(2, sizeOfVarLong(128));
+        assertEquals(10, sizeOfVarLong(-1));
+        assertEquals(1, sizeOfZigZag(-64));
+        assertEquals(2, sizeOfZigZag(64));
+    }
+
+    @Test
+    void shouldRejectMalformedVarints() {
+        ByteBuffer tooLong = ByteBuffer.allocate(11);
+        while (tooLong.hasRemaining()) {
+            tooLong.put((byte) 0x80);
+        }
+        assertThrows(IllegalArgumentException.class, () -> Wire.getVarLong(tooLong.flip()));
+        ByteBuffer truncated = ByteBuffer.wrap(new byte[]{(byte) 0x80});
+        assertThrows(BufferUnderflowException.class, () -> Wire.getVarLong(truncated));
+
+        ByteBuffer large = ByteBuffer.allocate(10);
+        Wire.putVarLong(large, 1L << 40);
+        assertThrows(IllegalArgumentException.class, () -> Wire.getVarInt(large.flip()));
+    }
+
+    @Test
+    void shouldEncodeStringsAsUtf8() {
+        String[] values = {"", "Kyiv", "Київ", "€ 100", "emoji 😀", "unpaired \uD800 surrogate"};
+        for (String value : values) {
+            ByteBuffer heap = ByteBuffer.allocate(64);
+            ByteBuffer direct = ByteBuffer.allocateDirect(64);
+            Wire.putString(heap, value);
+            Wire.putString(direct, value);
+            byte[] expected = value.getBytes(StandardCharsets.UTF_8);
+            assertEquals(sizeOfVarLong(expected.length) + expected.length, heap.position());
+            assertEquals(new String(expected, StandardCharsets.UTF_8), Wire.getString(heap.flip()));
+            assertEquals(new String(expected, StandardCharsets.UTF_8), Wire.getString(direct.flip()));
+        }
+    }
+
+    @Test
+    void shouldRoundTripUuidsAndDecimals() {
+        UUID id = UUID.randomUUID();
+        BigDecimal decimal = new BigDecimal("-12345678901234567890.123456");
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        Wire.putUuid(buffer, id);
+        assertEquals(16, buffer.position());
+        Wire.putDecimal(buffer, decimal);
+        buffer.flip();
+        assertEquals(id, Wire.getUuid(buffer));
+        assertEquals(decimal, Wire.getDecimal(buffer));
+    }
+
+    @Test
+    void shouldRejectDecimalsOutsideMoneyLimits() {
+        ByteBuffer buffer = ByteBuffer.allocate(128);
+        Wire.putDecimal(buffer, BigDecimal.ONE.scaleByPowerOfTen(Integer.MIN_VALUE + 1));
+        assertThrows(IllegalArgumentException.class, () -> Wire.getDecimal(buffer.flip()));
+
+        buffer.clear();
+        Wire.putDecimal(buffer, new BigDecimal("9".repeat(101)));
+        assertThrows(IllegalArgumentException.class, () -> Wire.getDecimal(buffer.flip()));
+
+        buffer.clear();
+        BigDecimal largest = new BigDecimal("9".repeat(100)).movePointLeft(256);
+        Wire.putDecimal(buffer, largest);
+        assertEquals(largest, Wire.getDecimal(buffer.flip()));
+    }
+
+    @Test
+    void shouldCheckSchemaVersion() {
+        assertEquals(1, Wire.getVersion(ByteBuffer.wrap(new byte[]{1}), 2));
+        assertThrows(IllegalArgumentException.class, () -> Wire.getVersion(ByteBuffer.wrap(new byte[]{3}), 2));
+        assertThrows(IllegalArgumentException.class, () -> Wire.getVersion(ByteBuffer.wrap(new byte[]{0}), 2));
+    }
+
+    private static int sizeOfVarLong(long value) {
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        Wire.putVarLong(buffer, value);
+        return buffer.position();
+    }
+
+    private static int sizeOfZigZag(long value) {
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        Wire.putZigZag(buffer, value);
+        return buffer.position();
+    }
+}
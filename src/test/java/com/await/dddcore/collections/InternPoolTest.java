@@ -0,0 +1,46 @@
+package com.await.dddcore.collections;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InternPoolTest {
+
+    @Test
+    void shouldReturnOneCanonicalInstanceAndCountHits() {
+        InternPool<String> pool = new InternPool<>();
+        String first = new String("Kyiv");
+        String second = new String("Kyiv");
+        assertSame(first, pool.intern(first));
+        assertSame(first, pool.intern(second));
+        assertSame(first, pool.intern(new String("Kyiv")));
+
+        assertEquals(2, pool.hits());
+        assertEquals(1, pool.misses());
+        assertEquals(2 / 3.0, pool.hitRate(), 1e-9);
+        assertEquals(1, pool.size());
+        pool.resetStats();
+        assertEquals(0, pool.hitRate());
+    }
+
+    @Test
+    void shouldStoreTheCanonicalizedValueOnMiss() {
+        InternPool<String> pool = new InternPool<>();
+        String canonical = new String("Lviv");
+        assertSame(canonical, pool.intern(new String("Lviv"), value -> canonical));
+        assertSame(canonical, pool.intern(new String("Lviv"), value -> fail("Not a miss")));
+    }
+
+    @Test
+    void shouldDropValuesNoLongerReferenced() throws InterruptedException {
+        InternPool<String> pool = new InternPool<>();
+        for (int i = 0; i < 10_000; i++) {
+            pool.intern(new String("value-" + i));
+        }
+        for (int i = 0; i < 20 && pool.size() > 0; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertTrue(pool.size() < 10_000);
+    }
+}
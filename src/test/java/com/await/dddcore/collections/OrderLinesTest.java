@@ -0,0 +1,117 @@
+package com.await.dddcore.collections;
+
+import com.await.dddcore.exceptions.InvalidOrderItemException;
+import com.await.dddcore.valueobjects.CurrencyUnit;
+import com.await.dddcore.valueobjects.Money;
+import com.await.dddcore.valueobjects.OrderItemDetails;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderLinesTest {
+
+    private static final Money PRICE = new Money("USD", new BigDecimal("10.00"));
+
+    @Test
+    void shouldMergeSameProductAtSamePrice() {
+        OrderLines lines = new OrderLines(CurrencyUnit.USD);
+        UUID productId = UUID.randomUUID();
+
+        lines.add(new OrderItemDetails(productId, 2, PRICE));
+        OrderItemDetails merged = lines.add(new OrderItemDetails(productId, 3, PRICE));
+
+        assertEquals(1, lines.size());
+        assertEquals(5, merged.getQuantity());
+        assertEquals(new Money("USD", new BigDecimal("50.00")), lines.getTotalPrice());
+    }
+
+    @Test
+    void shouldRejectSameProductAtDifferentPrice() {
+        OrderLines lines = new OrderLines(CurrencyUnit.USD);
+        UUID productId = UUID.randomUUID();
+        lines.add(new OrderItemDetails(productId, 1, PRICE));
+
+        assertThrows(InvalidOrderItemException.class,
+            () -> lines.add(new OrderItemDetails(productId, 1, new Money("USD", new BigDecimal("9.00")))));
+        assertEquals(1, lines.get(productId).orElseThrow().getQuantity());
+    }
+
+    @Test
+    void shouldKeepInsertionOrder() {
+        OrderLines lines = new OrderLines(CurrencyUnit.USD);
+        OrderItemDetails first = new OrderItemDetails(UUID.randomUUID(), 1, PRICE);
+        OrderItemDetails second = new OrderItemDetails(UUID.randomUUID(), 1, PRICE);
+        OrderItemDetails third = new OrderItemDetails(UUID.randomUUID(), 1, PRICE);
+        lines.add(first);
+        lines.add(second);
+        lines.add(third);
+
+        OrderItemDetails changed = lines.changeQuantity(second.getProductId(), 4);
+
+        assertEquals(List.of(first, changed, third), lines.toList());
+    }
+
+    @Test
+    void shouldRemoveByProductId() {
+        OrderLines lines = new OrderLines(CurrencyUnit.USD);
+        OrderItemDetails item = new OrderItemDetails(UUID.randomUUID(), 3, PRICE);
+        lines.add(item);
+
+        assertEquals(item, lines.remove(item.getProductId()).orElseThrow());
+        assertTrue(lines.remove(item.getProductId()).isEmpty());
+        assertTrue(lines.isEmpty());
+        assertEquals(new Money("USD", BigDecimal.ZERO), lines.getTotalPrice());
+    }
+
+    @Test
+    void shouldOnlyRemoveMatchingLine() {
+        OrderLines lines = new OrderLines(CurrencyUnit.USD);
+        OrderItemDetails item = new OrderItemDetails(UUID.randomUUID(), 3, PRICE);
+        lines.add(item);
+
+        assertFalse(lines.remove(item.withQuantity(2)));
+        assertTrue(lines.remove(item));
+    }
+
+    @Test
+    void shouldReturnImmutableList() {
+        OrderLines lines = new OrderLines(CurrencyUnit.USD);
+        lines.add(new OrderItemDetails(UUID.randomUUID(), 1, PRICE));
+        assertThrows(UnsupportedOperationException.class, () -> lines.toList().clear());
+    }
+
+    @Test
+    void shouldKeepSnapshotsAndOrderAcrossRemovals() {
+        OrderLines lines = new OrderLines(CurrencyUnit.USD);
+        List<UUID> products = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            products.add(UUID.randomUUID());
+            lines.add(new OrderItemDetails(products.get(i), 1, PRICE));
+        }
+        List<OrderItemDetails> snapshot = lines.toList();
+        assertSame(snapshot, lines.toList());
+
+        lines.remove(products.get(3));
+        lines.changeQuantity(products.get(39), 2);
+        lines.add(new OrderItemDetails(products.get(3), 1, PRICE));
+
+        assertEquals(40, snapshot.size());
+        assertEquals(1, snapshot.get(39).getQuantity());
+        List<OrderItemDetails> current = lines.toList();
+        assertEquals(40, current.size());
+        assertEquals(products.get(4), current.get(3).getProductId());
+        assertEquals(products.get(3), current.get(39).getProductId());
+        assertEquals(2, lines.get(products.get(39)).orElseThrow().getQuantity());
+        for (int i = 0; i < 30; i++) {
+            lines.remove(products.get(i));
+        }
+        assertEquals(10, lines.toList().size());
+        assertEquals(lines.recalculateTotalPrice(), lines.getTotalPrice());
+        assertEquals(products.get(30), lines.toList().get(0).getProductId());
+    }
+}
@@ -0,0 +1,77 @@
+package com.await.dddcore.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistentVectorTest {
+
+    @Test
+    void shouldBehaveLikeAListAcrossTrieLevels() {
+        // 33,000 elements need a root at the third level
+        List<Integer> expected = new ArrayList<>();
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        Random random = new Random(42);
+        for (int i = 0; i < 33_000; i++) {
+            expected.add(i);
+            vector = vector.append(i);
+            if (random.nextInt(16) == 0) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, -i);
+                vector = vector.with(index, -i);
+            }
+            if (i % 997 == 0 || i == 31 || i == 32 || i == 1055 || i == 1056) {
+                assertEquals(expected, vector);
+            }
+        }
+        assertEquals(expected, vector);
+        assertEquals(expected.hashCode(), vector.hashCode());
+        assertEquals(expected, PersistentVector.copyOf(expected));
+        List<Integer> iterated = new ArrayList<>();
+        vector.forEach(iterated::add);
+        assertEquals(expected, iterated);
+    }
+
+    @Test
+    void shouldBuildFromCollectionsOfAnySize() {
+        for (int size : new int[] {0, 1, 31, 32, 33, 64, 1024, 1056, 1057, 32_800, 33_825}) {
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                expected.add(i);
+            }
+            PersistentVector<Integer> vector = PersistentVector.copyOf(expected);
+            assertEquals(expected, vector);
+            // Appending continues the trie built bottom-up
+            for (int i = 0; i < 1_100; i++) {
+                expected.add(size + i);
+                vector = vector.append(size + i);
+            }
+            assertEquals(expected, vector, "size " + size);
+        }
+    }
+
+    @Test
+    void shouldLeaveEarlierVersionsUnchanged() {
+        PersistentVector<String> first = PersistentVector.<String>empty().append("a").append("b");
+        PersistentVector<String> second = first.append("c").with(0, "z");
+
+        assertEquals(List.of("a", "b"), first);
+        assertEquals(List.of("z", "b", "c"), second);
+        assertSame(first, PersistentVector.copyOf(first));
+        assertNull(first.with(1, null).get(1));
+        assertThrows(UnsupportedOperationException.class, () -> second.add("d"));
+        assertThrows(UnsupportedOperationException.class, () -> second.set(0, "d"));
+        assertThrows(IndexOutOfBoundsException.class, () -> second.get(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> second.with(-1, "d"));
+        Iterator<String> iterator = first.iterator();
+        iterator.next();
+        iterator.next();
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+}
@@ -0,0 +1,115 @@
+package com.await.dddcore.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidMapTest {
+
+    @Test
+    void shouldPutGetAndRemove() {
+        UuidMap<String> map = new UuidMap<>();
+        UUID key = UUID.randomUUID();
+        assertNull(map.put(key, "a"));
+        assertEquals("a", map.put(key, "b"));
+        assertEquals("b", map.putIfAbsent(key, "c"));
+        assertEquals("b", map.get(key));
+        assertEquals("b", map.get(key.getMostSignificantBits(), key.getLeastSignificantBits()));
+        assertEquals(1, map.size());
+
+        assertEquals("b", map.remove(key));
+        assertNull(map.remove(key));
+        assertNull(map.get(key));
+        assertTrue(map.isEmpty());
+        assertThrows(NullPointerException.class, () -> map.put(key, null));
+    }
+
+    @Test
+    void shouldMatchHashMapUnderRandomChurn() {
+        // Keys differing in few bits collide often, which exercises long probe runs and backward shifts
+        Random random = new Random(42);
+        UuidMap<Integer> map = new UuidMap<>(0, 1);
+        Map<UUID, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 200_000; i++) {
+            UUID key = new UUID(random.nextInt(64), random.nextInt(256));
+            int operation = random.nextInt(4);
+            if (operation == 0) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else if (operation == 1) {
+                assertEquals(expected.get(key), map.get(key));
+            } else {
+                assertEquals(expected.put(key, i), map.put(key, i));
+            }
+        }
+        assertEquals(expected.size(), map.size());
+        Map<UUID, Integer> iterated = new HashMap<>();
+        map.forEach(iterated::put);
+        assertEquals(expected, iterated);
+    }
+
+    @Test
+    void shouldComputeAndRemoveOnNull() {
+        UuidMap<Integer> map = new UuidMap<>(16, 4);
+        UUID key = UUID.randomUUID();
+        assertEquals(1, map.compute(key, (k, old) -> old == null ? 1 : old + 1));
+        assertEquals(2, map.compute(key, (k, old) -> old == null ? 1 : old + 1));
+        assertEquals(2, map.computeIfAbsent(key, k -> 99));
+        assertNull(map.compute(key, (k, old) -> null));
+        assertFalse(map.containsKey(key));
+        assertThrows(IllegalArgumentException.class, () -> new UuidMap<>(0, 3));
+    }
+
+    @Test
+    void shouldServeReadersWhileWritersResizeAndRemove() throws Exception {
+        UuidMap<UUID> map = new UuidMap<>(0, 4);
+        List<UUID> stable = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            UUID key = UUID.randomUUID();
+            stable.add(key);
+            map.put(key, key);
+        }
+        AtomicBoolean consistent = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 2; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 50_000; i++) {
+                        UUID key = UUID.randomUUID();
+                        map.put(key, key);
+                        map.remove(key);
+                        if (i % 2 == 0) {
+                            map.put(key, key);
+                        }
+                    }
+                }));
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 100_000; i++) {
+                        UUID key = stable.get(i % stable.size());
+                        if (!key.equals(map.get(key))) {
+                            consistent.set(false);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(consistent.get());
+        assertEquals(1_000 + 50_000, map.size());
+    }
+}
@@ -0,0 +1,88 @@
+package com.await.dddcore.ids;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdGeneratorTest {
+
+    @Test
+    void shouldEncodeVersionVariantAndTimestamp() {
+        long now = 1_760_000_000_123L;
+        UUID id = new IdGenerator(() -> now).next();
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        assertTrue(IdGenerator.isTimeOrdered(id));
+        assertEquals(now, IdGenerator.epochMillis(id));
+        assertEquals(Instant.ofEpochMilli(now), IdGenerator.timestamp(id));
+        assertFalse(IdGenerator.isTimeOrdered(UUID.randomUUID()));
+        assertThrows(IllegalArgumentException.class, () -> IdGenerator.epochMillis(UUID.randomUUID()));
+    }
+
+    @Test
+    void shouldIncreaseWithinAMillisecondAndWhenTheClockGoesBack() {
+        AtomicLong clock = new AtomicLong(1_000_000);
+        IdGenerator generator = new IdGenerator(clock::get);
+        UUID previous = generator.next();
+        for (int i = 0; i < 100_000; i++) {
+            if (i == 50_000) {
+                clock.set(999_000);
+            }
+            UUID next = generator.next();
+            assertTrue(next.compareTo(previous) > 0, "ID " + i + " did not increase");
+            previous = next;
+        }
+        assertEquals(1_000_000, IdGenerator.epochMillis(previous));
+
+        clock.set(1_000_001);
+        assertEquals(1_000_001, IdGenerator.epochMillis(generator.next()));
+    }
+
+    @Test
+    void shouldBoundTimeRanges() {
+        Instant time = Instant.ofEpochMilli(1_760_000_000_000L);
+        UUID id = new IdGenerator(time::toEpochMilli).next();
+        assertTrue(IdGenerator.lowerBound(time).compareTo(id) <= 0);
+        assertTrue(IdGenerator.upperBound(time).compareTo(id) >= 0);
+        assertTrue(IdGenerator.lowerBound(time.plusMillis(1)).compareTo(id) > 0);
+        assertTrue(IdGenerator.upperBound(time.minusMillis(1)).compareTo(id) < 0);
+        assertEquals(time, IdGenerator.timestamp(IdGenerator.upperBound(time)));
+        assertThrows(IllegalArgumentException.class, () -> IdGenerator.lowerBound(Instant.ofEpochMilli(-1)));
+    }
+
+    @Test
+    void shouldGenerateUniqueIdsAcrossThreads() throws Exception {
+        IdGenerator generator = new IdGenerator(() -> 1_760_000_000_000L);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        Set<UUID> ids = new HashSet<>();
+        try {
+            List<Future<List<UUID>>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    List<UUID> generated = new ArrayList<>();
+                    for (int i = 0; i < 50_000; i++) {
+                        generated.add(generator.next());
+                    }
+                    return generated;
+                }));
+            }
+            for (Future<List<UUID>> future : futures) {
+                ids.addAll(future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(200_000, ids.size());
+    }
+}
@@ -0,0 +1,120 @@
+package com.await.dddcore.inventory;
+
+import com.await.dddcore.exceptions.InvalidStockOperationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AtomicInventoryTest {
+
+    @Test
+    void shouldReserveReleaseAndCommit() {
+        AtomicInventory inventory = new AtomicInventory(10);
+
+        assertTrue(inventory.tryReserve(4));
+        assertEquals(6, inventory.available());
+        assertEquals(4, inventory.reserved());
+
+        inventory.release(1);
+        inventory.commit(3);
+
+        assertEquals(7, inventory.available());
+        assertEquals(0, inventory.reserved());
+        assertEquals(7, inventory.snapshot().getQuantity());
+    }
+
+    @Test
+    void shouldRejectReservationBeyondAvailableStock() {
+        AtomicInventory inventory = new AtomicInventory(3);
+        assertFalse(inventory.tryReserve(4));
+        assertFalse(inventory.tryConsume(4));
+        assertEquals(3, inventory.available());
+        assertEquals(2, inventory.metrics().rejections());
+    }
+
+    @Test
+    void shouldRejectInvalidQuantities() {
+        AtomicInventory inventory = new AtomicInventory(3);
+        assertThrows(InvalidStockOperationException.class, () -> inventory.tryReserve(0));
+        assertThrows(InvalidStockOperationException.class, () -> inventory.release(1));
+        assertThrows(InvalidStockOperationException.class, () -> inventory.commit(1));
+        assertThrows(InvalidStockOperationException.class, () -> inventory.restock(Integer.MAX_VALUE));
+        assertThrows(InvalidStockOperationException.class, () -> new AtomicInventory(-1));
+    }
+
+    @Test
+    void shouldNeverOversellUnderConcurrentCheckouts() throws Exception {
+        int threads = 8;
+        int attemptsPerThread = 20_000;
+        int initialStock = 50_000;
+        AtomicInventory inventory = new AtomicInventory(initialStock);
+
+        List<Integer> sold = runConcurrently(threads, () -> {
+            int count = 0;
+            for (int i = 0; i < attemptsPerThread; i++) {
+                if (i % 3 == 0) {
+                    if (inventory.tryConsume(1)) {
+                        count++;
+                    }
+                } else if (inventory.tryReserve(1)) {
+                    if (i % 3 == 1) {
+                        inventory.commit(1);
+                        count++;
+                    } else {
+                        inventory.release(1);
+                    }
+                }
+                assertTrue(inventory.available() >= 0);
+            }
+            return count;
+        });
+
+        int totalSold = sold.stream().mapToInt(Integer::intValue).sum();
+        assertEquals(initialStock, totalSold + inventory.available());
+        assertEquals(0, inventory.reserved());
+        assertEquals(0, inventory.available());
+    }
+
+    @Test
+    void shouldNotLoseRestocksUnderContention() throws Exception {
+        AtomicInventory inventory = new AtomicInventory(0);
+        runConcurrently(4, () -> {
+            for (int i = 0; i < 10_000; i++) {
+                inventory.restock(1);
+            }
+            return 0;
+        });
+        assertEquals(40_000, inventory.available());
+        assertEquals(40_000, inventory.metrics().operations());
+    }
+
+    static List<Integer> runConcurrently(int threads, java.util.concurrent.Callable<Integer> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            List<Integer> results = new ArrayList<>();
+            for (Future<Integer> future : futures) {
+                results.add(future.get(30, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
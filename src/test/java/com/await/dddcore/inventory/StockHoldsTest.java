@@ -0,0 +1,165 @@
+package com.await.dddcore.inventory;
+
+import com.await.dddcore.exceptions.InvalidStockOperationException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import static com.await.dddcore.inventory.AtomicInventoryTest.runConcurrently;
+import static org.junit.jupiter.api.Assertions.*;
+
+class StockHoldsTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000);
+    private final StockHolds holds = new StockHolds(clock::get, Duration.ofMillis(10));
+
+    @Test
+    void shouldCommitUnitsOnConfirm() {
+        AtomicInventory inventory = new AtomicInventory(10);
+        long holdId = holds.tryHold(inventory, 4, Duration.ofMinutes(5)).orElseThrow();
+
+        assertEquals(6, inventory.available());
+        assertTrue(holds.confirm(holdId));
+        assertFalse(holds.confirm(holdId));
+        assertFalse(holds.cancel(holdId));
+
+        assertEquals(6, inventory.available());
+        assertEquals(0, inventory.reserved());
+        assertEquals(0, holds.activeHolds());
+    }
+
+    @Test
+    void shouldReleaseUnitsOnCancel() {
+        AtomicInventory inventory = new AtomicInventory(10);
+        long holdId = holds.tryHold(inventory, 4, Duration.ofMinutes(5)).orElseThrow();
+
+        assertTrue(holds.cancel(holdId));
+        assertFalse(holds.isActive(holdId));
+        assertEquals(10, inventory.available());
+        assertEquals(0, holds.expireDue());
+    }
+
+    @Test
+    void shouldRejectHoldsBeyondAvailableStock() {
+        AtomicInventory inventory = new AtomicInventory(3);
+        assertTrue(holds.tryHold(inventory, 4, Duration.ofMinutes(5)).isEmpty());
+        assertThrows(InvalidStockOperationException.class, () -> holds.tryHold(inventory, 1, Duration.ZERO));
+        assertEquals(3, inventory.available());
+    }
+
+    @Test
+    void shouldExpireHoldsOnlyAfterTheirDeadline() {
+        AtomicInventory inventory = new AtomicInventory(10);
+        long shortHold = holds.tryHold(inventory, 2, Duration.ofSeconds(30)).orElseThrow();
+        long longHold = holds.tryHold(inventory, 3, Duration.ofMinutes(10)).orElseThrow();
+
+        clock.addAndGet(29_999);
+        assertEquals(0, holds.expireDue());
+        clock.addAndGet(1);
+        assertEquals(1, holds.expireDue());
+
+        assertFalse(holds.isActive(shortHold));
+        assertTrue(holds.isActive(longHold));
+        assertEquals(7, inventory.available());
+
+        clock.addAndGet(Duration.ofMinutes(10).toMillis());
+        assertEquals(1, holds.expireDue());
+        assertEquals(10, inventory.available());
+        assertEquals(2, holds.expiredHolds());
+    }
+
+    @Test
+    void shouldNotConfirmHoldPastItsDeadline() {
+        AtomicInventory inventory = new AtomicInventory(10);
+        long holdId = holds.tryHold(inventory, 5, Duration.ofSeconds(1)).orElseThrow();
+
+        clock.addAndGet(1_000);
+
+        assertFalse(holds.confirm(holdId));
+        assertEquals(10, inventory.available());
+        assertEquals(0, holds.expireDue());
+    }
+
+    @Test
+    void shouldExpireManyHoldsWithMixedDeadlines() {
+        AtomicInventory inventory = new AtomicInventory(200_000);
+        for (int i = 0; i < 200_000; i++) {
+            holds.tryHold(inventory, 1, Duration.ofMillis(1 + i % 600_000 * 7L));
+        }
+        int expired = 0;
+        for (int minute = 0; minute < 30 && holds.activeHolds() > 0; minute++) {
+            clock.addAndGet(60_000);
+            expired += holds.expireDue();
+        }
+        assertEquals(200_000, expired);
+        assertEquals(200_000, inventory.available());
+    }
+
+    @Test
+    void shouldKeepExpiringAfterAScheduledRunFails() throws Exception {
+        AtomicInventory inventory = new AtomicInventory(10);
+        holds.tryHold(inventory, 4, Duration.ofSeconds(1)).orElseThrow();
+        long later = holds.tryHold(inventory, 3, Duration.ofSeconds(2)).orElseThrow();
+        // Releasing the units behind the holds' back makes expiring the first hold throw
+        inventory.release(4);
+
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        try {
+            ScheduledFuture<?> task = holds.start(executor);
+            clock.addAndGet(1_000);
+            awaitTrue(() -> holds.expiryFailures() == 1);
+            clock.addAndGet(1_000);
+            awaitTrue(() -> !holds.isActive(later));
+
+            assertFalse(task.isDone());
+            assertEquals(10, inventory.available());
+            assertEquals(2, holds.expiredHolds());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Timed out");
+            Thread.sleep(5);
+        }
+    }
+
+    @Test
+    void shouldCompleteEachHoldExactlyOnceUnderRaces() throws Exception {
+        AtomicInventory inventory = new AtomicInventory(100_000);
+        long[] ids = new long[20_000];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = holds.tryHold(inventory, 1, Duration.ofSeconds(1 + i % 5)).orElseThrow();
+        }
+
+        List<Integer> confirmed = runConcurrently(4, () -> {
+            int count = 0;
+            for (long id : ids) {
+                if (holds.confirm(id)) {
+                    count++;
+                }
+                holds.cancel(id);
+                clock.addAndGet(1);
+                holds.expireDue();
+            }
+            return count;
+        });
+        clock.addAndGet(10_000);
+        holds.expireDue();
+
+        int committed = confirmed.stream().mapToInt(Integer::intValue).sum();
+        assertEquals(100_000 - committed, inventory.available());
+        assertEquals(0, inventory.reserved());
+        assertEquals(0, holds.activeHolds());
+    }
+}
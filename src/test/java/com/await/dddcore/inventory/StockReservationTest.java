@@ -0,0 +1,211 @@
+package com.await.dddcore.inventory;
+
+import com.await.dddcore.exceptions.InvalidStockOperationException;
+import com.await.dddcore.valueobjects.Money;
+import com.await.dddcore.valueobjects.OrderItemDetails;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.await.dddcore.inventory.AtomicInventoryTest.runConcurrently;
+import static org.junit.jupiter.api.Assertions.*;
+
+class StockReservationTest {
+
+    private static final Money PRICE = Money.ofMinor("USD", 1_000);
+
+    private final Map<UUID, Inventory> inventories = new HashMap<>();
+
+    private UUID product(int stock) {
+        UUID id = UUID.randomUUID();
+        inventories.put(id, new AtomicInventory(stock));
+        return id;
+    }
+
+    @Test
+    void shouldReserveAllProductsAndMergeRepeatedItems() {
+        UUID first = product(10);
+        UUID second = product(5);
+        List<OrderItemDetails> items = List.of(
+            new OrderItemDetails(first, 2, PRICE),
+            new OrderItemDetails(second, 5, PRICE),
+            new OrderItemDetails(first, 3, PRICE));
+
+        StockReservation reservation = StockReservation.tryReserve(items, inventories::get).orElseThrow();
+
+        assertEquals(2, reservation.productCount());
+        assertEquals(5, reservation.quantityOf(first));
+        assertEquals(5, inventories.get(first).reserved());
+        assertEquals(0, inventories.get(second).available());
+
+        reservation.commit();
+        assertTrue(reservation.isCompleted());
+        assertEquals(5, inventories.get(first).available());
+        assertEquals(0, inventories.get(first).reserved());
+        assertThrows(IllegalStateException.class, reservation::release);
+    }
+
+    @Test
+    void shouldReserveNothingWhenOneProductLacksStock() {
+        UUID plenty = product(10);
+        UUID scarce = product(1);
+        List<OrderItemDetails> items = List.of(
+            new OrderItemDetails(plenty, 4, PRICE),
+            new OrderItemDetails(scarce, 2, PRICE));
+
+        assertTrue(StockReservation.tryReserve(items, inventories::get).isEmpty());
+
+        assertEquals(10, inventories.get(plenty).available());
+        assertEquals(0, inventories.get(plenty).reserved());
+        assertEquals(1, inventories.get(scarce).available());
+    }
+
+    @Test
+    void shouldReturnUnitsOnRelease() {
+        UUID id = product(3);
+        StockReservation reservation = StockReservation
+            .tryReserve(List.of(new OrderItemDetails(id, 3, PRICE)), inventories::get).orElseThrow();
+
+        reservation.release();
+
+        assertEquals(3, inventories.get(id).available());
+        assertThrows(IllegalStateException.class, reservation::commit);
+    }
+
+    @Test
+    void shouldRejectUnknownProductsBeforeReserving() {
+        UUID known = product(3);
+        List<OrderItemDetails> items = List.of(
+            new OrderItemDetails(known, 1, PRICE),
+            new OrderItemDetails(UUID.randomUUID(), 1, PRICE));
+
+        assertThrows(InvalidStockOperationException.class, () -> StockReservation.tryReserve(items, inventories::get));
+        assertEquals(3, inventories.get(known).available());
+    }
+
+    @Test
+    void shouldNeverLeavePartialReservationsUnderContention() throws Exception {
+        List<UUID> products = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            products.add(product(2_000));
+        }
+
+        List<Integer> committedOrders = runConcurrently(8, () -> {
+            int committed = 0;
+            for (int i = 0; i < 5_000; i++) {
+                List<UUID> shuffled = new ArrayList<>(products);
+                Collections.shuffle(shuffled, ThreadLocalRandom.current());
+                List<OrderItemDetails> items = new ArrayList<>();
+                for (UUID id : shuffled.subList(0, 3)) {
+                    items.add(new OrderItemDetails(id, 1, PRICE));
+                }
+                Optional<StockReservation> reservation = StockReservation.tryReserve(items, inventories::get);
+                if (reservation.isPresent()) {
+                    if (i % 2 == 0) {
+                        reservation.get().commit();
+                        committed++;
+                    } else {
+                        reservation.get().release();
+                    }
+                }
+            }
+            return committed;
+        });
+
+        int orders = committedOrders.stream().mapToInt(Integer::intValue).sum();
+        int unitsLeft = products.stream().mapToInt(id -> inventories.get(id).available()).sum();
+        assertEquals(6 * 2_000, unitsLeft + 3 * orders);
+        assertTrue(products.stream().allMatch(id -> inventories.get(id).reserved() == 0));
+    }
+
+    @Test
+    void shouldFailSpuriouslyWhileAnotherAttemptHoldsPartOfItsProducts() throws Exception {
+        UUID hot = product(1);
+        UUID soldOut = UUID.randomUUID();
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        // Pauses the first attempt while it holds the hot product, then fails it
+        inventories.put(soldOut, new PausingInventory(holding, proceed));
+        Thread first = new Thread(() -> StockReservation.tryReserve(
+            List.of(new OrderItemDetails(hot, 1, PRICE), new OrderItemDetails(soldOut, 1, PRICE)), inventories::get));
+        first.start();
+        holding.await();
+
+        // There is stock for this order once the first attempt backs out, yet it fails now
+        List<OrderItemDetails> second = List.of(new OrderItemDetails(hot, 1, PRICE));
+        assertTrue(StockReservation.tryReserve(second, inventories::get).isEmpty());
+        proceed.countDown();
+        first.join();
+
+        assertEquals(1, inventories.get(hot).available());
+        assertTrue(StockReservation.tryReserve(second, inventories::get).isPresent());
+    }
+
+    /**
+     * An empty inventory whose reservations wait for a signal before failing.
+     */
+    private static final class PausingInventory implements Inventory {
+        private final Inventory empty = new AtomicInventory(0);
+        private final CountDownLatch entered;
+        private final CountDownLatch proceed;
+
+        PausingInventory(CountDownLatch entered, CountDownLatch proceed) {
+            this.entered = entered;
+            this.proceed = proceed;
+        }
+
+        @Override
+        public boolean tryReserve(int quantity) {
+            entered.countDown();
+            try {
+                proceed.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return empty.tryReserve(quantity);
+        }
+
+        @Override
+        public void release(int quantity) {
+            empty.release(quantity);
+        }
+
+        @Override
+        public void commit(int quantity) {
+            empty.commit(quantity);
+        }
+
+        @Override
+        public boolean tryConsume(int quantity) {
+            return empty.tryConsume(quantity);
+        }
+
+        @Override
+        public void restock(int quantity) {
+            empty.restock(quantity);
+        }
+
+        @Override
+        public int available() {
+            return empty.available();
+        }
+
+        @Override
+        public int reserved() {
+            return empty.reserved();
+        }
+
+        @Override
+        public ContentionMetrics metrics() {
+            return empty.metrics();
+        }
+    }
+}
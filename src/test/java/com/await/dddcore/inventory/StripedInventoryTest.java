@@ -0,0 +1,130 @@
+package com.await.dddcore.inventory;
+
+import com.await.dddcore.exceptions.InvalidStockOperationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.await.dddcore.inventory.AtomicInventoryTest.runConcurrently;
+import static org.junit.jupiter.api.Assertions.*;
+
+class StripedInventoryTest {
+
+    @Test
+    void shouldSpreadStockEvenlyOverShards() {
+        StripedInventory inventory = new StripedInventory(10, 4);
+        assertEquals(4, inventory.shardCount());
+        assertEquals(10, inventory.available());
+        assertEquals(10, inventory.snapshot().getQuantity());
+    }
+
+    @Test
+    void shouldBorrowFromOtherShardsWhenHomeShardRunsDry() {
+        StripedInventory inventory = new StripedInventory(8, 4);
+
+        assertTrue(inventory.tryReserve(7));
+        assertTrue(inventory.tryConsume(1));
+        assertFalse(inventory.tryConsume(1));
+
+        assertEquals(0, inventory.snapshot().getQuantity());
+        assertEquals(7, inventory.reserved());
+        assertTrue(inventory.rebalanceCount() > 0);
+    }
+
+    @Test
+    void shouldReleaseAndCommitReservationsMadeOnOtherShards() throws Exception {
+        StripedInventory inventory = new StripedInventory(100, 8);
+        runConcurrently(4, () -> inventory.tryReserve(10) ? 1 : 0);
+
+        inventory.release(15);
+        inventory.commit(25);
+
+        assertEquals(75, inventory.available());
+        assertEquals(0, inventory.reserved());
+        assertThrows(InvalidStockOperationException.class, () -> inventory.commit(1));
+    }
+
+    @Test
+    void shouldRejectInvalidQuantities() {
+        StripedInventory inventory = new StripedInventory(3, 2);
+        assertThrows(InvalidStockOperationException.class, () -> inventory.tryReserve(0));
+        assertThrows(InvalidStockOperationException.class, () -> inventory.release(1));
+        assertThrows(InvalidStockOperationException.class, () -> inventory.restock(Integer.MAX_VALUE));
+        assertThrows(InvalidStockOperationException.class, () -> new StripedInventory(-1, 2));
+        assertThrows(IllegalArgumentException.class, () -> new StripedInventory(1, 0));
+    }
+
+    @Test
+    void shouldServeAgainAfterRestockOnceSoldOut() {
+        StripedInventory inventory = new StripedInventory(1, 4);
+        assertTrue(inventory.tryConsume(1));
+        assertFalse(inventory.tryConsume(1));
+
+        inventory.restock(2);
+
+        assertTrue(inventory.tryConsume(2));
+        assertEquals(0, inventory.snapshot().getQuantity());
+    }
+
+    @Test
+    void shouldNeverOversellUnderConcurrentCheckouts() throws Exception {
+        int attemptsPerThread = 20_000;
+        int initialStock = 50_000;
+        StripedInventory inventory = new StripedInventory(initialStock, 4);
+
+        List<Integer> sold = runConcurrently(8, () -> {
+            int count = 0;
+            for (int i = 0; i < attemptsPerThread; i++) {
+                if (i % 3 == 0) {
+                    if (inventory.tryConsume(1 + i % 2)) {
+                        count += 1 + i % 2;
+                    }
+                } else if (inventory.tryReserve(1)) {
+                    if (i % 3 == 1) {
+                        inventory.commit(1);
+                        count++;
+                    } else {
+                        inventory.release(1);
+                    }
+                }
+            }
+            return count;
+        });
+
+        int totalSold = sold.stream().mapToInt(Integer::intValue).sum();
+        assertEquals(initialStock, totalSold + inventory.snapshot().getQuantity());
+        assertEquals(0, inventory.reserved());
+    }
+
+    @Test
+    void shouldTakeConsistentSnapshotsWhileSelling() throws Exception {
+        int initialStock = 40_000;
+        StripedInventory inventory = new StripedInventory(initialStock, 4);
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicInteger roles = new AtomicInteger();
+
+        List<Integer> results = runConcurrently(5, () -> {
+            if (roles.getAndIncrement() == 0) {
+                // Observer: units only leave, so consecutive exact snapshots never grow
+                int previous = initialStock;
+                while (!done.get()) {
+                    int current = inventory.snapshot().getQuantity();
+                    assertTrue(current <= previous, current + " > " + previous);
+                    previous = current;
+                }
+                return 0;
+            }
+            int count = 0;
+            while (inventory.tryConsume(1)) {
+                count++;
+            }
+            done.set(true);
+            return count;
+        });
+
+        assertEquals(initialStock, results.stream().mapToInt(Integer::intValue).sum());
+        assertEquals(0, inventory.snapshot().getQuantity());
+    }
+}
@@ -0,0 +1,108 @@
+package com.await.dddcore.inventory;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelTest {
+
+    private static final class Task extends TimingWheel.Timer {
+        final int id;
+
+        Task(int id) {
+            this.id = id;
+        }
+    }
+
+    @Test
+    void shouldFireTimersExactlyOnTheirDeadline() {
+        TimingWheel<Task> wheel = new TimingWheel<>(3, 0);
+        Random random = new Random(7);
+        Map<Integer, Long> deadlines = new HashMap<>();
+        for (int i = 0; i < 20_000; i++) {
+            // Spans all three levels and beyond, so timers cascade and park
+            long deadline = random.nextInt(400_000);
+            deadlines.put(i, deadline);
+            wheel.schedule(new Task(i), deadline);
+        }
+
+        long now = -1;
+        while (wheel.size() > 0) {
+            long previous = now;
+            now += 1 + random.nextInt(500);
+            long tick = now;
+            wheel.advance(now, task -> {
+                long deadline = deadlines.remove(task.id);
+                assertTrue(deadline > previous && deadline <= tick, "Fired " + deadline + " at " + tick);
+            });
+        }
+        assertTrue(deadlines.isEmpty());
+    }
+
+    @Test
+    void shouldNotFireCancelledTimers() {
+        TimingWheel<Task> wheel = new TimingWheel<>(2, 100);
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Task task = new Task(i);
+            tasks.add(task);
+            wheel.schedule(task, 100 + i * 50L);
+        }
+        for (int i = 0; i < 100; i += 2) {
+            assertTrue(wheel.cancel(tasks.get(i)));
+            assertFalse(wheel.cancel(tasks.get(i)));
+        }
+
+        List<Integer> fired = new ArrayList<>();
+        int count = wheel.advance(100_000, task -> fired.add(task.id));
+
+        assertEquals(50, count);
+        assertTrue(fired.stream().allMatch(id -> id % 2 == 1));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void shouldFirePastDeadlinesOnNextAdvance() {
+        TimingWheel<Task> wheel = new TimingWheel<>(2, 1_000);
+        wheel.schedule(new Task(1), 10);
+
+        assertEquals(0, wheel.advance(999, task -> fail()));
+        assertEquals(1, wheel.advance(1_000, task -> { }));
+        assertThrows(IllegalStateException.class, () -> {
+            Task task = new Task(2);
+            wheel.schedule(task, 2_000);
+            wheel.schedule(task, 2_000);
+        });
+    }
+
+    @Test
+    void shouldKeepRemainingTimersWhenCallbackThrows() {
+        TimingWheel<Task> wheel = new TimingWheel<>(2, 0);
+        for (int i = 0; i < 5; i++) {
+            wheel.schedule(new Task(i), 10);
+        }
+        wheel.schedule(new Task(5), 20);
+
+        List<Integer> fired = new ArrayList<>();
+        assertThrows(IllegalStateException.class, () -> wheel.advance(30, task -> {
+            if (fired.size() == 1) {
+                fired.add(-1);
+                throw new IllegalStateException("Callback failed");
+            }
+            fired.add(task.id);
+        }));
+
+        assertEquals(4, wheel.size());
+        assertEquals(11, wheel.base());
+        // The failed timer counts as handed over; the other three due ones fire late instead of never
+        assertEquals(4, wheel.advance(30, task -> fired.add(task.id)));
+        assertEquals(6, fired.size());
+        assertEquals(0, wheel.size());
+    }
+}
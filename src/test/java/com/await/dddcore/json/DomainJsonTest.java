@@ -0,0 +1,139 @@
+package com.await.dddcore.json;
+
+import com.await.dddcore.aggregates.OrderAggregate;
+import com.await.dddcore.entities.Customer;
+import com.await.dddcore.entities.Order;
+import com.await.dddcore.exceptions.InvalidAddressException;
+import com.await.dddcore.exceptions.InvalidJsonException;
+import com.await.dddcore.exceptions.InvalidOrderItemException;
+import com.await.dddcore.valueobjects.Address;
+import com.await.dddcore.valueobjects.Email;
+import com.await.dddcore.valueobjects.Money;
+import com.await.dddcore.valueobjects.Name;
+import com.await.dddcore.valueobjects.OrderItemDetails;
+import com.await.dddcore.valueobjects.OrderStatus;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DomainJsonTest {
+
+    private final Address address = new Address("Ukraine", "Kyiv", "Street 1", "12345");
+
+    @Test
+    void shouldRoundTripOrderAggregate() {
+        OrderAggregate order = order(3);
+        order.changeStatus(OrderStatus.CONFIRMED);
+
+        StringBuilder json = new StringBuilder();
+        JsonWriter writer = new JsonWriter(json);
+        DomainJson.writeOrder(writer, order);
+        writer.close();
+        OrderAggregate read = DomainJson.readOrder(JsonReader.of(json.toString()));
+
+        assertTrue(json.toString().contains("\"totalPrice\":{\"currency\":\"USD\",\"amount\":"));
+        assertEquals(order.getId(), read.getId());
+        assertEquals(order.getVersion(), read.getVersion());
+        assertEquals(OrderStatus.CONFIRMED, read.getStatus());
+        assertEquals(order.getShippingAddress(), read.getShippingAddress());
+        assertEquals(order.getOrderItems(), read.getOrderItems());
+        assertEquals(order.getTotalPrice(), read.getTotalPrice());
+    }
+
+    @Test
+    void shouldWriteOrderEntityAndCustomerWithReferences() {
+        Customer customer = new Customer(UUID.randomUUID(), new Name("John", "Doe"),
+            new Email("john.doe@example.com"), address);
+        Order order = new Order(UUID.randomUUID(), customer, address);
+        order.addItem(new OrderItemDetails(UUID.randomUUID(), 2, Money.ofMinor("USD", 1_050)));
+        customer.addOrder(order);
+
+        StringBuilder orderJson = new StringBuilder();
+        JsonWriter orderWriter = new JsonWriter(orderJson);
+        DomainJson.writeOrder(orderWriter, order);
+        orderWriter.close();
+        assertTrue(orderJson.toString().contains("\"customerId\":\"" + customer.getId() + "\""));
+        assertTrue(orderJson.toString().contains("\"totalPrice\":{\"currency\":\"USD\",\"amount\":21.00}"));
+
+        StringBuilder customerJson = new StringBuilder();
+        JsonWriter customerWriter = new JsonWriter(customerJson);
+        DomainJson.writeCustomer(customerWriter, customer);
+        customerWriter.close();
+        assertTrue(customerJson.toString().contains("\"orderIds\":[\"" + order.getId() + "\"]"));
+
+        Customer read = DomainJson.readCustomer(JsonReader.of(customerJson.toString()));
+        assertEquals(customer.getId(), read.getId());
+        assertEquals(customer.getName(), read.getName());
+        assertEquals(customer.getEmail(), read.getEmail());
+        assertTrue(read.getOrders().isEmpty());
+    }
+
+    @Test
+    void shouldStreamThousandsOfOrders() {
+        List<OrderAggregate> orders = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            orders.add(order(1 + i % 4));
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        JsonWriter writer = JsonWriter.of(bytes);
+        DomainJson.writeOrders(writer, orders);
+        writer.close();
+
+        Iterator<OrderAggregate> read = DomainJson.readOrders(JsonReader.of(new ByteArrayInputStream(bytes.toByteArray())));
+        int count = 0;
+        while (read.hasNext()) {
+            OrderAggregate order = read.next();
+            assertEquals(orders.get(count).getId(), order.getId());
+            assertEquals(orders.get(count).getTotalPrice(), order.getTotalPrice());
+            count++;
+        }
+        assertEquals(2_000, count);
+        assertFalse(read.hasNext());
+    }
+
+    @Test
+    void shouldValidateThroughValueObjects() {
+        String badPostalCode = "{\"country\":\"Ukraine\",\"city\":\"Kyiv\",\"street\":\"Street 1\",\"postalCode\":\"ABC\"}";
+        assertThrows(InvalidAddressException.class, () -> DomainJson.readAddress(JsonReader.of(badPostalCode)));
+
+        String badQuantity = "{\"productId\":\"" + UUID.randomUUID()
+            + "\",\"quantity\":0,\"price\":{\"currency\":\"USD\",\"amount\":1.00}}";
+        assertThrows(InvalidOrderItemException.class, () -> DomainJson.readItem(JsonReader.of(badQuantity)));
+
+        String badStatus = "{\"id\":\"" + UUID.randomUUID() + "\",\"status\":\"LOST\"}";
+        assertThrows(InvalidJsonException.class, () -> DomainJson.readOrder(JsonReader.of(badStatus)));
+
+        String missingFields = "{\"id\":\"" + UUID.randomUUID() + "\",\"unknown\":[1,2,3]}";
+        assertThrows(InvalidJsonException.class, () -> DomainJson.readOrder(JsonReader.of(missingFields)));
+    }
+
+    @Test
+    void shouldRejectAmountsWithHugeExponentOrPrecision() {
+        String hugeExponent = "{\"currency\":\"USD\",\"amount\":1e10000000}";
+        assertThrows(InvalidJsonException.class, () -> DomainJson.readMoney(JsonReader.of(hugeExponent)));
+
+        String tinyExponent = "{\"currency\":\"USD\",\"amount\":1e-10000000}";
+        assertThrows(InvalidJsonException.class, () -> DomainJson.readMoney(JsonReader.of(tinyExponent)));
+
+        String longDigits = "{\"currency\":\"USD\",\"amount\":" + "9".repeat(101) + "}";
+        assertThrows(InvalidJsonException.class, () -> DomainJson.readMoney(JsonReader.of(longDigits)));
+
+        String plausible = "{\"currency\":\"USD\",\"amount\":" + "9".repeat(100) + "}";
+        assertEquals(100, DomainJson.readMoney(JsonReader.of(plausible)).getAmount().precision());
+    }
+
+    private OrderAggregate order(int items) {
+        OrderAggregate order = new OrderAggregate(UUID.randomUUID(), address);
+        for (int i = 0; i < items; i++) {
+            order.addOrderItem(new OrderItemDetails(UUID.randomUUID(), 1 + i, Money.ofMinor("USD", 199 + 100L * i)));
+        }
+        return order;
+    }
+}
@@ -0,0 +1,127 @@
+package com.await.dddcore.json;
+
+import com.await.dddcore.exceptions.InvalidJsonException;
+import org.junit.jupiter.api.Test;
+
+import java.io.Reader;
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonReaderTest {
+
+    @Test
+    void shouldPullTokens() {
+        JsonReader reader = JsonReader.of(" {\"name\" : \"Lamp\", \"count\":-42, \"price\":19.99,"
+            + " \"tags\":[true,false,null], \"empty\":{}}\n");
+        reader.beginObject();
+        assertEquals("name", reader.nextName());
+        assertEquals("Lamp", reader.nextString());
+        assertEquals("count", reader.nextName());
+        assertEquals(-42, reader.nextInt());
+        assertEquals("price", reader.nextName());
+        assertEquals(new BigDecimal("19.99"), reader.nextDecimal());
+        assertEquals("tags", reader.nextName());
+        reader.beginArray();
+        assertTrue(reader.nextBoolean());
+        assertFalse(reader.nextBoolean());
+        assertEquals(JsonToken.NULL, reader.peek());
+        reader.nextNull();
+        assertFalse(reader.hasNext());
+        reader.endArray();
+        assertEquals("empty", reader.nextName());
+        reader.beginObject();
+        reader.endObject();
+        reader.endObject();
+        assertEquals(JsonToken.END_DOCUMENT, reader.peek());
+    }
+
+    @Test
+    void shouldDecodeEscapes() {
+        JsonReader reader = JsonReader.of("\"a\\\"b\\\\c\\/d\\n\\u041a\\ud83d\\ude00\"");
+        assertEquals("a\"b\\c/d\nК😀", reader.nextString());
+    }
+
+    @Test
+    void shouldReadValuesAcrossBufferBoundaries() {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 5_000; i++) {
+            json.append(i == 0 ? "" : ",").append("{\"text\":\"value\\t").append(i).append("\",\"n\":").append(i).append('}');
+        }
+        json.append(']');
+        // A reader returning one character per call exercises every refill path
+        Reader slow = new Reader() {
+            private int at;
+
+            @Override
+            public int read(char[] target, int offset, int length) {
+                if (at == json.length()) {
+                    return -1;
+                }
+                target[offset] = json.charAt(at++);
+                return 1;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        JsonReader reader = new JsonReader(slow);
+        reader.beginArray();
+        int count = 0;
+        while (reader.hasNext()) {
+            reader.beginObject();
+            assertEquals("text", reader.nextName());
+            assertEquals("value\t" + count, reader.nextString());
+            assertEquals("n", reader.nextName());
+            assertEquals(count, reader.nextLong());
+            reader.endObject();
+            count++;
+        }
+        reader.endArray();
+        assertEquals(5_000, count);
+    }
+
+    @Test
+    void shouldSkipNestedValues() {
+        JsonReader reader = JsonReader.of("{\"skip\":{\"a\":[1,{\"b\":\"x\"}],\"c\":null},\"keep\":1}");
+        reader.beginObject();
+        reader.nextName();
+        reader.skipValue();
+        assertEquals("keep", reader.nextName());
+        assertEquals(1, reader.nextLong());
+        reader.endObject();
+    }
+
+    @Test
+    void shouldReadLongLimits() {
+        JsonReader reader = JsonReader.of("[-9223372036854775808,9223372036854775807,9223372036854775808]");
+        reader.beginArray();
+        assertEquals(Long.MIN_VALUE, reader.nextLong());
+        assertEquals(Long.MAX_VALUE, reader.nextLong());
+        assertThrows(InvalidJsonException.class, reader::nextLong);
+    }
+
+    @Test
+    void shouldRejectMalformedInput() {
+        String[] invalid = {"", "[1,]", "{\"a\":1,}", "{\"a\" 1}", "[01]", "[1.]", "[-]", "[1e]", "[tru]",
+            "[nulls]", "\"unterminated", "\"bad \\x escape\"", "\"raw \n newline\"", "[1] [2]", "{'a':1}", "[12x]"};
+        for (String json : invalid) {
+            assertThrows(InvalidJsonException.class, () -> {
+                JsonReader reader = JsonReader.of(json);
+                reader.skipValue();
+                reader.peek();
+            }, json);
+        }
+    }
+
+    @Test
+    void shouldRejectWrongTokenKinds() {
+        JsonReader reader = JsonReader.of("[\"text\", 1.5]");
+        assertThrows(IllegalStateException.class, reader::beginObject);
+        reader.beginArray();
+        assertThrows(IllegalStateException.class, reader::nextLong);
+        reader.nextString();
+        assertThrows(InvalidJsonException.class, reader::nextLong);
+    }
+}
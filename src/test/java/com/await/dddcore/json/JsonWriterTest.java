@@ -0,0 +1,71 @@
+package com.await.dddcore.json;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonWriterTest {
+
+    @Test
+    void shouldWriteNestedStructures() {
+        StringBuilder out = new StringBuilder();
+        JsonWriter writer = new JsonWriter(out);
+        writer.beginObject()
+            .field("name", "Lamp")
+            .field("count", -42)
+            .name("tags").beginArray().value("a").value(true).nullValue().beginObject().endObject().endArray()
+            .name("empty").beginArray().endArray()
+            .endObject()
+            .close();
+        assertEquals("{\"name\":\"Lamp\",\"count\":-42,\"tags\":[\"a\",true,null,{}],\"empty\":[]}", out.toString());
+    }
+
+    @Test
+    void shouldEscapeStrings() {
+        StringBuilder out = new StringBuilder();
+        new JsonWriter(out).value("quote \" backslash \\ newline \n tab \t bell \u0007 separator \u2028 Київ").close();
+        assertEquals("\"quote \\\" backslash \\\\ newline \\n tab \\t bell \\u0007 separator \\u2028 Київ\"",
+            out.toString());
+    }
+
+    @Test
+    void shouldWriteNumbers() {
+        StringBuilder out = new StringBuilder();
+        new JsonWriter(out).beginArray()
+            .value(0).value(Long.MIN_VALUE).value(Long.MAX_VALUE)
+            .decimal(1_999, 2).decimal(-5, 2).decimal(7, 0).decimal(100, 3)
+            .value(new BigDecimal("1E+3"))
+            .endArray().close();
+        assertEquals("[0,-9223372036854775808,9223372036854775807,19.99,-0.05,7,0.100,1000]", out.toString());
+    }
+
+    @Test
+    void shouldStreamLargeArraysThroughTheBuffer() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        JsonWriter writer = JsonWriter.of(bytes);
+        writer.beginArray();
+        for (int i = 0; i < 10_000; i++) {
+            writer.value("element-" + i);
+        }
+        writer.endArray().close();
+        String json = bytes.toString(StandardCharsets.UTF_8);
+        assertTrue(json.startsWith("[\"element-0\",\"element-1\""));
+        assertTrue(json.endsWith("\"element-9999\"]"));
+    }
+
+    @Test
+    void shouldRejectMisplacedTokens() {
+        JsonWriter writer = new JsonWriter(new StringBuilder());
+        assertThrows(IllegalStateException.class, () -> writer.name("outside"));
+        writer.beginObject();
+        assertThrows(IllegalStateException.class, () -> writer.value("no name"));
+        assertThrows(IllegalStateException.class, writer::endArray);
+        assertThrows(IllegalStateException.class, writer::close);
+        writer.endObject();
+        assertThrows(IllegalStateException.class, () -> writer.value(1));
+    }
+}
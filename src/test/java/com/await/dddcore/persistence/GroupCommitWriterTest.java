@@ -0,0 +1,233 @@
+package com.await.dddcore.persistence;
+
+import com.await.dddcore.aggregates.OrderAggregate;
+import com.await.dddcore.events.OrderEvent;
+import com.await.dddcore.events.OrderItemAdded;
+import com.await.dddcore.events.StatusChanged;
+import com.await.dddcore.valueobjects.Address;
+import com.await.dddcore.valueobjects.Money;
+import com.await.dddcore.valueobjects.OrderItemDetails;
+import com.await.dddcore.valueobjects.OrderStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GroupCommitWriterTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldMakeRecordsFromManyThreadsDurableInBatches() throws Exception {
+        int threads = 4;
+        int perThread = 500;
+        try (SegmentedEventLog log = SegmentedEventLog.open(directory, 1 << 16)) {
+            GroupCommitWriter writer = new GroupCommitWriter(log, 64, Duration.ofMillis(2));
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<List<CompletableFuture<Long>>>> submitted = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                submitted.add(executor.submit(() -> {
+                    start.await();
+                    List<CompletableFuture<Long>> futures = new ArrayList<>();
+                    for (int i = 0; i < perThread; i++) {
+                        futures.add(writer.submit(text(thread + ":" + i)));
+                    }
+                    return futures;
+                }));
+            }
+            start.countDown();
+            Set<Long> offsets = new HashSet<>();
+            for (Future<List<CompletableFuture<Long>>> future : submitted) {
+                List<Long> ordered = new ArrayList<>();
+                for (CompletableFuture<Long> durable : future.get()) {
+                    ordered.add(durable.get(10, TimeUnit.SECONDS));
+                }
+                // Records of one thread keep their submission order in the log
+                for (int i = 1; i < ordered.size(); i++) {
+                    assertTrue(ordered.get(i) > ordered.get(i - 1));
+                }
+                offsets.addAll(ordered);
+            }
+            executor.shutdown();
+            writer.close();
+
+            assertEquals(threads * perThread, offsets.size());
+            GroupCommitMetrics metrics = writer.metrics();
+            assertEquals(threads * perThread, metrics.records());
+            assertTrue(metrics.batches() < metrics.records());
+            assertTrue(metrics.maxBatchSize() <= 64);
+            assertTrue(metrics.p50LatencyNanos() <= metrics.p99LatencyNanos());
+            assertTrue(metrics.p99LatencyNanos() <= metrics.maxLatencyNanos());
+
+            SegmentedEventLog.Reader reader = log.reader();
+            int count = 0;
+            while (reader.hasNext()) {
+                reader.next();
+                count++;
+            }
+            assertEquals(threads * perThread, count);
+        }
+    }
+
+    @Test
+    void shouldCloseBatchAtMaximumSize() throws IOException {
+        try (SegmentedEventLog log = SegmentedEventLog.open(directory, 1 << 16)) {
+            GroupCommitWriter writer = new GroupCommitWriter(log, 4, Duration.ofSeconds(10));
+            List<CompletableFuture<Long>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(writer.submit(text("record " + i)));
+            }
+            // Two full batches are written without waiting for the long delay
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).orTimeout(5, TimeUnit.SECONDS).join();
+            writer.close();
+            assertEquals(8, writer.metrics().records());
+            assertTrue(writer.metrics().maxBatchSize() <= 4);
+        }
+    }
+
+    @Test
+    void shouldFailRejectedRecordAlone() throws Exception {
+        try (SegmentedEventLog log = SegmentedEventLog.open(directory, 128)) {
+            GroupCommitWriter writer = new GroupCommitWriter(log, 16, Duration.ofMillis(5));
+            CompletableFuture<Long> before = writer.submit(text("before"));
+            CompletableFuture<Long> tooLarge = writer.submit(new byte[1024]);
+            CompletableFuture<Long> after = writer.submit(text("after"));
+            writer.close();
+
+            ExecutionException error = assertThrows(ExecutionException.class, tooLarge::get);
+            assertTrue(error.getCause() instanceof IllegalArgumentException);
+            assertEquals("before", decode(log.reader(before.get()).next()));
+            assertEquals("after", decode(log.reader(after.get()).next()));
+        }
+    }
+
+    @Test
+    void shouldWriteQueuedRecordsOnCloseAndRejectLaterOnes() throws Exception {
+        try (SegmentedEventLog log = SegmentedEventLog.open(directory, 1 << 16)) {
+            GroupCommitWriter writer = new GroupCommitWriter(log, 1_000, Duration.ofSeconds(10));
+            CompletableFuture<Long> queued = writer.submit(text("queued"));
+            writer.close();
+
+            assertTrue(queued.isDone());
+            assertEquals("queued", decode(log.reader(queued.get()).next()));
+            ExecutionException error = assertThrows(ExecutionException.class, () -> writer.submit(text("late")).get());
+            assertTrue(error.getCause() instanceof IllegalStateException);
+        }
+    }
+
+    @Test
+    void shouldPersistPendingEventsOfOrder() throws Exception {
+        try (SegmentedEventLog log = SegmentedEventLog.open(directory, 1 << 16)) {
+            GroupCommitWriter writer = new GroupCommitWriter(log, 16, Duration.ZERO);
+            OrderAggregate order = new OrderAggregate(UUID.randomUUID(),
+                new Address("Ukraine", "Kyiv", "Street 1", "12345"));
+
+            writer.persist(order, event -> event.getClass().getSimpleName().getBytes(StandardCharsets.UTF_8))
+                .get(5, TimeUnit.SECONDS);
+            writer.close();
+
+            assertTrue(order.getPendingEvents().isEmpty());
+            assertEquals("OrderCreated", decode(log.reader().next()));
+        }
+    }
+
+    @Test
+    void shouldKeepEventsPendingWhenPersistFails() throws Exception {
+        try (SegmentedEventLog log = SegmentedEventLog.open(directory, 128)) {
+            GroupCommitWriter writer = new GroupCommitWriter(log, 16, Duration.ZERO);
+            OrderAggregate order = new OrderAggregate(UUID.randomUUID(),
+                new Address("Ukraine", "Kyiv", "Street 1", "12345"));
+            order.changeStatus(OrderStatus.CONFIRMED);
+
+            // Encoding and size checks fail before anything is queued
+            assertThrows(IllegalStateException.class, () -> writer.persist(order, event -> {
+                if (event instanceof StatusChanged) {
+                    throw new IllegalStateException("Cannot encode");
+                }
+                return text("created");
+            }));
+            assertThrows(IllegalArgumentException.class, () -> writer.persist(order, event ->
+                event instanceof StatusChanged ? new byte[1024] : text("created")));
+            assertEquals(2, order.getPendingEvents().size());
+
+            // A record that fails in the log fails the rest of its call, and nothing is marked
+            log.close();
+            CompletableFuture<Void> failed = writer.persist(order, event -> text(event.getClass().getSimpleName()));
+            assertThrows(ExecutionException.class, () -> failed.get(5, TimeUnit.SECONDS));
+            writer.close();
+            assertEquals(2, order.getPendingEvents().size());
+        }
+    }
+
+    @Test
+    void shouldCommitWrittenPrefixSoRetryWritesNoEventTwice() throws Exception {
+        try (SegmentedEventLog log = SegmentedEventLog.open(directory, 64)) {
+            GroupCommitWriter writer = new GroupCommitWriter(log, 16, Duration.ZERO);
+            OrderAggregate order = new OrderAggregate(UUID.randomUUID(),
+                new Address("Ukraine", "Kyiv", "Street 1", "12345"));
+            for (int i = 1; i <= 5; i++) {
+                order.addOrderItem(new OrderItemDetails(UUID.randomUUID(), i, Money.ofMinor("USD", 100)));
+            }
+            Function<OrderEvent, byte[]> encoder = event -> event instanceof OrderItemAdded added
+                ? text("added:" + added.item().getQuantity()) : text("OrderCreated");
+
+            // Three records fill the first segment; the fourth append fails because the next one cannot be created
+            Path blocker = Files.createDirectory(directory.resolve(String.format("%020d.log", 1)));
+            CompletableFuture<Void> failed = writer.persist(order, encoder);
+            assertThrows(ExecutionException.class, () -> failed.get(5, TimeUnit.SECONDS));
+            assertEquals(3, order.getPendingEvents().size());
+
+            Files.delete(blocker);
+            writer.persist(order, encoder).get(5, TimeUnit.SECONDS);
+            writer.close();
+
+            assertTrue(order.getPendingEvents().isEmpty());
+            List<String> written = new ArrayList<>();
+            SegmentedEventLog.Reader reader = log.reader();
+            while (reader.hasNext()) {
+                written.add(decode(reader.next()));
+            }
+            assertEquals(List.of("OrderCreated", "added:1", "added:2", "added:3", "added:4", "added:5"), written);
+        }
+    }
+
+    @Test
+    void shouldRejectInvalidConfiguration() throws IOException {
+        try (SegmentedEventLog log = SegmentedEventLog.open(directory, 1 << 16)) {
+            assertThrows(IllegalArgumentException.class, () -> new GroupCommitWriter(log, 0, Duration.ZERO));
+            assertThrows(IllegalArgumentException.class, () -> new GroupCommitWriter(log, 1, Duration.ofMillis(-1)));
+            assertThrows(IllegalArgumentException.class, () -> new GroupCommitWriter(log, 1, Duration.ZERO, 0));
+        }
+    }
+
+    private static byte[] text(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String decode(ByteBuffer payload) {
+        return StandardCharsets.UTF_8.decode(payload).toString();
+    }
+}
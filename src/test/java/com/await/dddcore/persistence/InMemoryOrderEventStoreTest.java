@@ -0,0 +1,72 @@
+package com.await.dddcore.persistence;
+
+import com.await.dddcore.aggregates.OrderAggregate;
+import com.await.dddcore.valueobjects.Address;
+import com.await.dddcore.valueobjects.Money;
+import com.await.dddcore.valueobjects.OrderItemDetails;
+import com.await.dddcore.valueobjects.OrderStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryOrderEventStoreTest {
+
+    private final Address address = new Address("Ukraine", "Kyiv", "Street 1", "12345");
+
+    @Test
+    void shouldLoadSavedOrder() {
+        InMemoryOrderEventStore store = new InMemoryOrderEventStore();
+        OrderAggregate order = new OrderAggregate(UUID.randomUUID(), address);
+        order.addOrderItem(new OrderItemDetails(UUID.randomUUID(), 2, Money.ofMinor("USD", 1_999)));
+        order.changeStatus(OrderStatus.CONFIRMED);
+
+        store.save(order);
+        OrderAggregate loaded = store.load(order.getId()).orElseThrow();
+
+        assertTrue(order.getPendingEvents().isEmpty());
+        assertEquals(3, store.events(order.getId()).size());
+        assertEquals(order.getVersion(), loaded.getVersion());
+        assertEquals(order.getOrderItems(), loaded.getOrderItems());
+        assertEquals(OrderStatus.CONFIRMED, loaded.getStatus());
+        assertTrue(store.load(UUID.randomUUID()).isEmpty());
+    }
+
+    @Test
+    void shouldSnapshotPeriodicallyAndReplayOnlyTheTail() {
+        InMemoryOrderEventStore store = new InMemoryOrderEventStore(100);
+        OrderAggregate order = new OrderAggregate(UUID.randomUUID(), address);
+        UUID productId = UUID.randomUUID();
+        order.addOrderItem(new OrderItemDetails(productId, 1, Money.ofMinor("USD", 500)));
+        for (int i = 0; i < 349; i++) {
+            order.changeQuantity(productId, 1 + i % 7);
+            if (i % 40 == 0) {
+                store.save(order);
+            }
+        }
+        store.save(order);
+
+        assertEquals(351, order.getVersion());
+        assertEquals(323, store.latestSnapshot(order.getId()).orElseThrow().version());
+        OrderAggregate loaded = store.load(order.getId()).orElseThrow();
+        assertEquals(351, loaded.getVersion());
+        assertEquals(order.getTotalPrice(), loaded.getTotalPrice());
+    }
+
+    @Test
+    void shouldRejectConcurrentModification() {
+        InMemoryOrderEventStore store = new InMemoryOrderEventStore();
+        OrderAggregate order = new OrderAggregate(UUID.randomUUID(), address);
+        store.save(order);
+        OrderAggregate first = store.load(order.getId()).orElseThrow();
+        OrderAggregate second = store.load(order.getId()).orElseThrow();
+
+        first.changeStatus(OrderStatus.CONFIRMED);
+        store.save(first);
+        second.updateShippingAddress(new Address("Ukraine", "Lviv", "Street 2", "67890"));
+
+        assertThrows(IllegalStateException.class, () -> store.save(second));
+        assertEquals(2, store.events(order.getId()).size());
+    }
+}
@@ -0,0 +1,51 @@
+package com.await.dddcore.persistence;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    void shouldReportPercentilesWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value);
+        }
+        assertEquals(100_000, histogram.count());
+        assertEquals(100_000, histogram.max());
+        assertEquals(50_000.5, histogram.mean(), 1e-9);
+        assertWithin(50_000, histogram.percentile(0.5));
+        assertWithin(99_000, histogram.percentile(0.99));
+        assertWithin(99_900, histogram.percentile(0.999));
+        assertEquals(100_000, histogram.percentile(1));
+    }
+
+    @Test
+    void shouldCountSmallValuesExactly() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(3);
+        histogram.record(3);
+        histogram.record(7);
+        histogram.record(-5);
+        assertEquals(0, histogram.percentile(0.25));
+        assertEquals(3, histogram.percentile(0.5));
+        assertEquals(7, histogram.percentile(1));
+    }
+
+    @Test
+    void shouldResetAndRejectInvalidQuantiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, histogram.percentile(0.5));
+        histogram.reset();
+        assertEquals(0, histogram.count());
+        assertEquals(0, histogram.percentile(0.5));
+        assertThrows(IllegalArgumentException.class, () -> histogram.percentile(1.5));
+    }
+
+    private static void assertWithin(long expected, long actual) {
+        assertTrue(actual >= expected && actual <= expected + expected / 16,
+            () -> "Expected about " + expected + " but was " + actual);
+    }
+}
@@ -0,0 +1,164 @@
+package com.await.dddcore.persistence;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SegmentedEventLogTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldReadBackAppendedRecordsAcrossSegments() throws IOException {
+        List<Long> offsets = new ArrayList<>();
+        try (SegmentedEventLog log = SegmentedEventLog.open(directory, 256)) {
+            for (int i = 0; i < 100; i++) {
+                offsets.add(log.append(record(i)));
+            }
+            assertTrue(log.segmentCount() > 10);
+
+            List<String> read = readAll(log.reader());
+            assertEquals(100, read.size());
+            for (int i = 0; i < 100; i++) {
+                assertEquals(text(i), read.get(i));
+            }
+
+            SegmentedEventLog.Reader reader = log.reader(offsets.get(42));
+            assertEquals(text(42), decode(reader.next()));
+            assertEquals(offsets.get(42), reader.offset());
+        }
+    }
+
+    @Test
+    void shouldSeeRecordsAppendedAfterReaderCreation() throws IOException {
+        try (SegmentedEventLog log = SegmentedEventLog.open(directory, 128)) {
+            SegmentedEventLog.Reader reader = log.reader();
+            assertFalse(reader.hasNext());
+            assertThrows(NoSuchElementException.class, reader::next);
+
+            for (int i = 0; i < 20; i++) {
+                log.append(record(i));
+                assertEquals(text(i), decode(reader.next()));
+            }
+            assertFalse(reader.hasNext());
+        }
+    }
+
+    @Test
+    void shouldKeepRecordsAcrossReopen() throws IOException {
+        try (SegmentedEventLog log = SegmentedEventLog.open(directory, 512)) {
+            for (int i = 0; i < 50; i++) {
+                log.append(record(i));
+            }
+        }
+        try (SegmentedEventLog log = SegmentedEventLog.open(directory, 4096)) {
+            assertEquals(512, log.segmentSize());
+            assertEquals(0, log.truncatedBytes());
+            log.append(record(50));
+            List<String> read = readAll(log.reader());
+            assertEquals(51, read.size());
+            assertEquals(text(50), read.get(50));
+        }
+    }
+
+    @Test
+    void shouldCutOffTornTailWhenReopened() throws IOException {
+        long tornOffset;
+        int segments;
+        try (SegmentedEventLog log = SegmentedEventLog.open(directory, 1024)) {
+            for (int i = 0; i < 30; i++) {
+                log.append(record(i));
+            }
+            tornOffset = log.append(record(30));
+            segments = log.segmentCount();
+        }
+        // Simulate a crash in the middle of the last append: the payload is only partly written
+        Path last = directory.resolve(String.format("%020d.log", segments - 1));
+        try (FileChannel channel = FileChannel.open(last, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {0, 0, 0}), tornOffset % 1024 + 8);
+        }
+
+        try (SegmentedEventLog log = SegmentedEventLog.open(directory)) {
+            assertTrue(log.truncatedBytes() > 0);
+            assertEquals(tornOffset, log.endOffset());
+            assertEquals(30, readAll(log.reader()).size());
+
+            log.append(record(99));
+            List<String> read = readAll(log.reader());
+            assertEquals(31, read.size());
+            assertEquals(text(99), read.get(30));
+        }
+    }
+
+    @Test
+    void shouldEndLogAtTornEarlierSegment() throws IOException {
+        List<Long> offsets = new ArrayList<>();
+        try (SegmentedEventLog log = SegmentedEventLog.open(directory, 1024)) {
+            for (int i = 0; i < 100; i++) {
+                offsets.add(log.append(record(i)));
+            }
+            assertTrue(log.segmentCount() > 2);
+        }
+        // Simulate lost pages in the first segment, whose later segments were written back by the OS
+        int torn = 10;
+        Path first = directory.resolve(String.format("%020d.log", 0));
+        try (FileChannel channel = FileChannel.open(first, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {'?'}), offsets.get(torn) + 8);
+        }
+
+        try (SegmentedEventLog log = SegmentedEventLog.open(directory)) {
+            assertTrue(log.truncatedBytes() > 0);
+            assertEquals(1, log.segmentCount());
+            assertEquals(offsets.get(torn), log.endOffset());
+            assertEquals(torn, readAll(log.reader()).size());
+
+            log.append(record(99));
+            List<String> read = readAll(log.reader());
+            assertEquals(torn + 1, read.size());
+            assertEquals(text(99), read.get(torn));
+        }
+        assertFalse(directory.resolve(String.format("%020d.log", 1)).toFile().exists());
+    }
+
+    @Test
+    void shouldRejectEmptyAndOversizedRecords() throws IOException {
+        try (SegmentedEventLog log = SegmentedEventLog.open(directory, 64)) {
+            assertThrows(IllegalArgumentException.class, () -> log.append(new byte[0]));
+            assertThrows(IllegalArgumentException.class, () -> log.append(new byte[57]));
+            log.append(new byte[56]);
+            assertEquals(1, readAll(log.reader()).size());
+        }
+    }
+
+    private static byte[] record(int i) {
+        return text(i).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String text(int i) {
+        return "event-" + i + "-" + "x".repeat(i % 17);
+    }
+
+    private static String decode(ByteBuffer payload) {
+        return StandardCharsets.UTF_8.decode(payload).toString();
+    }
+
+    private static List<String> readAll(SegmentedEventLog.Reader reader) {
+        List<String> records = new ArrayList<>();
+        while (reader.hasNext()) {
+            records.add(decode(reader.next()));
+        }
+        return records;
+    }
+}
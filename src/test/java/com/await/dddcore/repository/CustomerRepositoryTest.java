@@ -0,0 +1,50 @@
+package com.await.dddcore.repository;
+
+import com.await.dddcore.aggregates.CustomerAggregate;
+import com.await.dddcore.valueobjects.Address;
+import com.await.dddcore.valueobjects.Email;
+import com.await.dddcore.valueobjects.Name;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CustomerRepositoryTest {
+
+    private final Address address = new Address("Ukraine", "Kyiv", "Street 1", "12345");
+
+    @Test
+    void shouldFindCustomerByEmail() {
+        CustomerRepository repository = new CustomerRepository();
+        CustomerAggregate customer = customer("john.doe@example.com");
+        repository.save(customer);
+        repository.save(customer);
+
+        assertEquals(Optional.of(customer), repository.findByEmail(new Email("john.doe@example.com")));
+        assertEquals(Optional.of(customer), repository.findById(customer.getId()));
+        assertTrue(repository.findByEmail(new Email("jane.doe@example.com")).isEmpty());
+    }
+
+    @Test
+    void shouldRejectDuplicateEmailAndReleaseItOnDelete() {
+        CustomerRepository repository = new CustomerRepository();
+        CustomerAggregate first = customer("john.doe@example.com");
+        CustomerAggregate second = customer("john.doe@example.com");
+        repository.save(first);
+
+        assertThrows(IllegalStateException.class, () -> repository.save(second));
+        assertTrue(repository.findById(second.getId()).isEmpty());
+        assertEquals(Optional.of(first), repository.findByEmail(first.getEmail()));
+
+        repository.delete(first.getId());
+        repository.save(second);
+        assertEquals(Optional.of(second), repository.findByEmail(second.getEmail()));
+        assertEquals(1, repository.size());
+    }
+
+    private CustomerAggregate customer(String email) {
+        return new CustomerAggregate(UUID.randomUUID(), new Name("John", "Doe"), new Email(email), address);
+    }
+}
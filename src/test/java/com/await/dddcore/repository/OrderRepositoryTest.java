@@ -0,0 +1,107 @@
+package com.await.dddcore.repository;
+
+import com.await.dddcore.aggregates.OrderAggregate;
+import com.await.dddcore.valueobjects.Address;
+import com.await.dddcore.valueobjects.CurrencyUnit;
+import com.await.dddcore.valueobjects.OrderStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderRepositoryTest {
+
+    private final Address address = new Address("Ukraine", "Kyiv", "Street 1", "12345");
+
+    @Test
+    void shouldMoveOrderBetweenStatusesOnSave() {
+        OrderRepository repository = new OrderRepository();
+        OrderAggregate order = new OrderAggregate(UUID.randomUUID(), address);
+        repository.save(order);
+        assertEquals(List.of(order), repository.findByStatus(OrderStatus.NEW));
+
+        order.changeStatus(OrderStatus.CONFIRMED);
+        // The index keeps the saved state until the order is saved again
+        assertEquals(List.of(order), repository.findByStatus(OrderStatus.NEW));
+        repository.save(order);
+
+        assertTrue(repository.findByStatus(OrderStatus.NEW).isEmpty());
+        assertEquals(List.of(order), repository.findByStatus(OrderStatus.CONFIRMED));
+        assertEquals(1, repository.countByStatus(OrderStatus.CONFIRMED));
+        assertEquals(Optional.of(order), repository.findById(order.getId()));
+    }
+
+    @Test
+    void shouldFindOrdersByCustomerAndForgetDeletedOnes() {
+        OrderRepository repository = new OrderRepository();
+        UUID customerId = UUID.randomUUID();
+        OrderAggregate first = new OrderAggregate(UUID.randomUUID(), customerId, address, CurrencyUnit.USD);
+        OrderAggregate second = new OrderAggregate(UUID.randomUUID(), customerId, address, CurrencyUnit.USD);
+        OrderAggregate anonymous = new OrderAggregate(UUID.randomUUID(), address);
+        repository.save(first);
+        repository.save(second);
+        repository.save(anonymous);
+
+        assertEquals(2, repository.findByCustomer(customerId).size());
+        assertTrue(repository.findByCustomer(UUID.randomUUID()).isEmpty());
+
+        assertTrue(repository.delete(first.getId()));
+        assertFalse(repository.delete(first.getId()));
+        assertEquals(List.of(second), repository.findByCustomer(customerId));
+        assertEquals(2, repository.countByStatus(OrderStatus.NEW));
+        assertEquals(2, repository.size());
+    }
+
+    @Test
+    void shouldKeepIndexesConsistentUnderConcurrentWriters() throws Exception {
+        OrderRepository repository = new OrderRepository();
+        List<OrderAggregate> orders = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            OrderAggregate order = new OrderAggregate(UUID.randomUUID(), address);
+            orders.add(order);
+            repository.save(order);
+        }
+        AtomicBoolean consistent = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(5);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int from = t * 250;
+                futures.add(executor.submit(() -> {
+                    // Each writer owns a quarter of the orders, so aggregates are never shared between threads
+                    for (int i = from; i < from + 250; i++) {
+                        OrderAggregate order = orders.get(i);
+                        order.changeStatus(OrderStatus.CONFIRMED);
+                        repository.save(order);
+                    }
+                }));
+            }
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 200; i++) {
+                    for (OrderAggregate order : repository.findByStatus(OrderStatus.NEW)) {
+                        if (repository.findById(order.getId()).isEmpty()) {
+                            consistent.set(false);
+                        }
+                    }
+                }
+            }));
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertTrue(consistent.get());
+        assertEquals(0, repository.countByStatus(OrderStatus.NEW));
+        assertEquals(1_000, repository.findByStatus(OrderStatus.CONFIRMED).size());
+    }
+}
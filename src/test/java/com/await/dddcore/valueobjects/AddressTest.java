@@ -2,6 +2,7 @@ package com.await.dddcore.valueobjects;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import com.await.dddcore.exceptions.InvalidAddressException;
 import org.junit.jupiter.api.Test;
 
 class AddressTest {
@@ -17,6 +18,25 @@ class AddressTest {
 
     @Test
     void shouldThrowExceptionForInvalidPostalCode() {
-        assertThrows(IllegalArgumentException.class, () -> new Address("Ukraine", "Kyiv", "Street 1", "invalid"));
+        assertThrows(InvalidAddressException.class, () -> new Address("Ukraine", "Kyiv", "Street 1", "invalid"));
+    }
+
+    @Test
+    void shouldValidatePostalCodeInTheFormatOfTheCountry() {
+        assertEquals("00-950", new Address("Poland", "Warsaw", "Street 1", "00-950").getPostalCode());
+        assertEquals("SW1A 1AA", new Address("United Kingdom", "London", "Street 1", "SW1A 1AA").getPostalCode());
+        assertThrows(InvalidAddressException.class, () -> new Address("Poland", "Warsaw", "Street 1", "00950"));
+    }
+
+    @Test
+    void shouldInternAddressesAndTheirComponents() {
+        Address first = new Address(new String("Ukraine"), new String("Kyiv"), "Street 1", "12345").intern();
+        Address same = new Address(new String("Ukraine"), new String("Kyiv"), "Street 1", "12345").intern();
+        Address other = new Address(new String("Ukraine"), new String("Kyiv"), "Street 2", "12345").intern();
+        assertSame(first, same);
+        assertNotSame(first, other);
+        assertSame(first.getCountry(), other.getCountry());
+        assertSame(first.getCity(), other.getCity());
+        assertEquals(new Address("Ukraine", "Kyiv", "Street 1", "12345").hashCode(), first.hashCode());
     }
 }
@@ -0,0 +1,64 @@
+package com.await.dddcore.valueobjects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.await.dddcore.exceptions.InvalidMoneyOperationException;
+import org.junit.jupiter.api.Test;
+import java.math.BigDecimal;
+import java.util.Currency;
+
+class CurrencyUnitTest {
+
+    @Test
+    void shouldReturnCanonicalInstancePerCode() {
+        assertSame(CurrencyUnit.USD, CurrencyUnit.of("USD"));
+        assertSame(CurrencyUnit.of("JPY"), CurrencyUnit.of(new String("JPY")));
+    }
+
+    @Test
+    void shouldCarryScaleAndCurrency() {
+        assertEquals(2, CurrencyUnit.USD.getScale());
+        assertEquals(0, CurrencyUnit.of("JPY").getScale());
+        assertEquals(3, CurrencyUnit.of("BHD").getScale());
+        assertEquals(Currency.getInstance("EUR"), CurrencyUnit.EUR.getCurrency());
+    }
+
+    @Test
+    void shouldAcceptCodesWithoutMinorUnit() {
+        CurrencyUnit unknown = CurrencyUnit.of("XYZ");
+        assertFalse(unknown.hasMinorUnit());
+        assertEquals(CurrencyUnit.NO_SCALE, unknown.getScale());
+        assertThrows(IllegalArgumentException.class, unknown::getCurrency);
+    }
+
+    @Test
+    void shouldInternOnlyIsoAndRegisteredCodes() {
+        CurrencyUnit first = CurrencyUnit.of("QQQ");
+        CurrencyUnit second = CurrencyUnit.of("QQQ");
+        assertNotSame(first, second);
+        assertEquals(first, second);
+        assertEquals(new Money(first, BigDecimal.ONE), new Money(second, BigDecimal.ONE));
+
+        assertFalse(first.isCanonical());
+        assertTrue(CurrencyUnit.USD.isCanonical());
+
+        CurrencyUnit points = CurrencyUnit.register("PTS");
+        assertTrue(points.isCanonical());
+        assertSame(points, CurrencyUnit.of("PTS"));
+        assertSame(points, CurrencyUnit.register("PTS"));
+    }
+
+    @Test
+    void shouldThrowExceptionForEmptyCode() {
+        assertThrows(InvalidMoneyOperationException.class, () -> CurrencyUnit.of(" "));
+        assertThrows(InvalidMoneyOperationException.class, () -> CurrencyUnit.of(null));
+    }
+
+    @Test
+    void shouldShareCurrencyBetweenMoneyInstances() {
+        Money money1 = new Money("USD", new BigDecimal("1.00"));
+        Money money2 = new Money(CurrencyUnit.USD, new BigDecimal("2.00"));
+        assertSame(money1.getCurrencyUnit(), money2.getCurrencyUnit());
+        assertEquals("USD", money2.getCurrency());
+    }
+}
@@ -25,4 +25,12 @@ class DimensionsTest {
     void shouldThrowExceptionForExceedingMaxDimensions() {
         assertThrows(DimensionExceededException.class, () -> new Dimensions(101.0, 5.0, 2.0));
     }
+
+    @Test
+    void shouldReportInvalidDimensionsWithoutThrowing() {
+        assertEquals(new Dimensions(10.0, 5.0, 2.0), Dimensions.tryCreate(10.0, 5.0, 2.0).value());
+        assertEquals(ValidationError.DIMENSION_NOT_POSITIVE, Dimensions.tryCreate(-1.0, 5.0, 2.0).error());
+        assertEquals(ValidationError.DIMENSION_EXCEEDED, Dimensions.tryCreate(101.0, 5.0, 2.0).error());
+        assertThrows(DimensionExceededException.class, () -> Dimensions.tryCreate(101.0, 5.0, 2.0).orElseThrow());
+    }
 }
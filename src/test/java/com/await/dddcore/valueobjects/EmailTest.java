@@ -5,6 +5,10 @@ import static org.junit.jupiter.api.Assertions.*;
 import com.await.dddcore.exceptions.InvalidEmailException;
 import org.junit.jupiter.api.Test;
 
+import java.util.BitSet;
+import java.util.Random;
+import java.util.regex.Pattern;
+
 class EmailTest {
 
     @Test
@@ -17,4 +21,71 @@ class EmailTest {
     void shouldThrowExceptionForInvalidEmail() {
         assertThrows(InvalidEmailException.class, () -> new Email("invalid-email"));
     }
+
+    @Test
+    void shouldReportInvalidEmailWithoutThrowing() {
+        assertEquals(new Email("test@example.com"), Email.tryCreate("test@example.com").value());
+        ValidationResult<Email> invalid = Email.tryCreate("invalid-email");
+        assertFalse(invalid.isValid());
+        assertEquals(ValidationError.EMAIL_INVALID, invalid.error());
+        assertEquals(ValidationError.EMAIL_INVALID, Email.tryCreate(null).error());
+        InvalidEmailException thrown = assertThrows(InvalidEmailException.class, invalid::orElseThrow);
+        assertEquals("Invalid email format", thrown.getMessage());
+    }
+
+    @Test
+    void shouldAcceptExactlyTheLanguageOfTheRegex() {
+        Pattern regex = Pattern.compile("^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$");
+        String[] samples = {"a@b.cd", "a@b.c", "a@.cd", "a@b..cd", "a@b.c1", "a@b.cd.", "a@b.cd\n", "@b.cd",
+            "a@b.cd@e.fg", "a.b%c+d-e_f@x-y.z.COM", "a@b-.cd", "a@1.2.ab", "a@b.c-d", "a b@c.de", "ä@b.cd", ""};
+        for (String sample : samples) {
+            assertEquals(regex.matcher(sample).matches(), Email.isValid(sample), sample);
+        }
+
+        // Strings over an alphabet that stresses every branch of the scanner
+        char[] alphabet = "aZ9._%+-@.@x\n é".toCharArray();
+        Random random = new Random(42);
+        for (int i = 0; i < 200_000; i++) {
+            char[] chars = new char[random.nextInt(12)];
+            for (int j = 0; j < chars.length; j++) {
+                chars[j] = alphabet[random.nextInt(alphabet.length)];
+            }
+            String sample = new String(chars);
+            assertEquals(regex.matcher(sample).matches(), Email.isValid(sample), sample);
+        }
+    }
+
+    @Test
+    void shouldRejectLongAdversarialInputQuickly() {
+        String adversarial = "a@" + "a.".repeat(100_000) + "a1";
+        assertFalse(Email.isValid(adversarial));
+        assertTrue(Email.isValid("a@" + "a.".repeat(100_000) + "ab"));
+    }
+
+    @Test
+    void shouldLowerCaseTheDomainInCanonicalForm() {
+        Email email = new Email("John.Doe@Example.COM");
+        assertEquals("John.Doe", email.getLocalPart());
+        assertEquals("Example.COM", email.getDomain());
+        assertEquals(new Email("John.Doe@example.com"), email.canonical());
+        Email canonical = new Email("john@example.com");
+        assertSame(canonical, canonical.canonical());
+    }
+
+    @Test
+    void shouldValidateBatches() {
+        BitSet valid = Email.validateAll(new CharSequence[]{"a@b.cd", null, new StringBuilder("x@y.zz"), "bad"});
+        assertEquals(BitSet.valueOf(new long[]{0b0101}), valid);
+    }
+
+    @Test
+    void shouldShareInternedDomains() {
+        Email first = new Email("john@example.com").intern();
+        Email second = new Email("jane@example.com").intern();
+        assertSame(first.getDomain(), second.getDomain());
+        assertSame(second, second.intern());
+        assertEquals(new Email("jane@example.com"), second);
+        assertEquals(new Email("jane@example.com").hashCode(), second.hashCode());
+        assertEquals("jane@example.com", second.getEmail());
+    }
 }
@@ -0,0 +1,100 @@
+package com.await.dddcore.valueobjects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.await.dddcore.exceptions.InvalidMoneyOperationException;
+import org.junit.jupiter.api.Test;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+class MoneyAccumulatorTest {
+
+    @Test
+    void shouldReturnZeroWhenEmpty() {
+        MoneyAccumulator accumulator = new MoneyAccumulator(CurrencyUnit.USD);
+        assertTrue(accumulator.isEmpty());
+        assertEquals(new Money("USD", BigDecimal.ZERO), accumulator.toMoney());
+    }
+
+    @Test
+    void shouldSumAmountsAndLines() {
+        MoneyAccumulator accumulator = new MoneyAccumulator(CurrencyUnit.USD);
+        accumulator.add(new Money("USD", new BigDecimal("10.50")))
+            .addLine(new Money("USD", new BigDecimal("2.25")), 4)
+            .addLine(new OrderItemDetails(UUID.randomUUID(), 3, new Money("USD", new BigDecimal("1.00"))));
+        assertEquals(new Money("USD", new BigDecimal("22.50")), accumulator.toMoney());
+    }
+
+    @Test
+    void shouldMatchBigDecimalSumIncludingScale() {
+        List<Money> amounts = List.of(
+            new Money("USD", new BigDecimal("1.25")),
+            new Money("USD", new BigDecimal("0.125")),
+            new Money("USD", new BigDecimal("3")),
+            new Money("USD", new BigDecimal("4.10")));
+        MoneyAccumulator accumulator = new MoneyAccumulator(CurrencyUnit.USD);
+        BigDecimal expected = BigDecimal.ZERO;
+        for (Money amount : amounts) {
+            accumulator.add(amount);
+            expected = expected.add(amount.getAmount());
+            assertEquals(new Money("USD", expected), accumulator.toMoney());
+        }
+    }
+
+    @Test
+    void shouldFallBackToBigDecimalOnOverflow() {
+        MoneyAccumulator accumulator = new MoneyAccumulator(CurrencyUnit.USD);
+        accumulator.addLine(Money.ofMinor("USD", Long.MAX_VALUE / 2), 3).add(Money.ofMinor("USD", 1));
+        BigDecimal expected = BigDecimal.valueOf(Long.MAX_VALUE / 2, 2).multiply(BigDecimal.valueOf(3))
+            .add(new BigDecimal("0.01"));
+        assertEquals(expected, accumulator.toMoney().getAmount());
+    }
+
+    @Test
+    void shouldSumOrderItems() {
+        List<OrderItemDetails> items = List.of(
+            new OrderItemDetails(UUID.randomUUID(), 2, new Money("USD", new BigDecimal("50.00"))),
+            new OrderItemDetails(UUID.randomUUID(), 1, new Money("USD", new BigDecimal("0.99"))));
+        Money total = new MoneyAccumulator(CurrencyUnit.USD).addLines(items).toMoney();
+        assertEquals(new Money("USD", new BigDecimal("100.99")), total);
+    }
+
+    @Test
+    void shouldBeReusableAfterReset() {
+        MoneyAccumulator accumulator = new MoneyAccumulator(CurrencyUnit.USD);
+        accumulator.add(new Money("USD", new BigDecimal("0.001")));
+        accumulator.reset().add(new Money("USD", new BigDecimal("5.00")));
+        assertEquals(new Money("USD", new BigDecimal("5.00")), accumulator.toMoney());
+    }
+
+    @Test
+    void shouldThrowExceptionForDifferentCurrencies() {
+        MoneyAccumulator accumulator = new MoneyAccumulator(CurrencyUnit.USD);
+        assertThrows(InvalidMoneyOperationException.class,
+            () -> accumulator.add(new Money("EUR", new BigDecimal("1.00"))));
+    }
+
+    @Test
+    void shouldRestoreScaleWhenTermsAreRemoved() {
+        Money odd = new Money("USD", new BigDecimal("0.125"));
+        Money regular = new Money("USD", new BigDecimal("2.50"));
+        MoneyAccumulator accumulator = new MoneyAccumulator(CurrencyUnit.USD).add(regular).add(odd);
+        assertEquals(new Money("USD", new BigDecimal("2.625")), accumulator.toMoney());
+
+        accumulator.remove(odd);
+        assertEquals(regular, accumulator.toMoney());
+
+        accumulator.remove(regular);
+        assertTrue(accumulator.isEmpty());
+        assertEquals(new Money("USD", BigDecimal.ZERO), accumulator.toMoney());
+    }
+
+    @Test
+    void shouldRemoveLinesAfterOverflow() {
+        Money price = Money.ofMinor("USD", Long.MAX_VALUE / 2);
+        MoneyAccumulator accumulator = new MoneyAccumulator(CurrencyUnit.USD).addLine(price, 1).addLine(price, 2);
+        accumulator.removeLine(price, 2);
+        assertEquals(price, accumulator.toMoney());
+    }
+}
@@ -0,0 +1,66 @@
+package com.await.dddcore.valueobjects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.text.NumberFormat;
+import java.util.Currency;
+import java.util.Locale;
+
+class MoneyFormatTest {
+
+    private static final String[] CURRENCIES = {"USD", "EUR", "JPY", "BHD", "UAH", "INR", "CHF"};
+    private static final long[] AMOUNTS = {0, 1, -1, 99, 100, 12345, -12345, 1234567890, -987654321098L, Long.MAX_VALUE};
+
+    @Test
+    void shouldMatchNumberFormatForAllLocales() {
+        for (Locale locale : Locale.getAvailableLocales()) {
+            for (String currency : CURRENCIES) {
+                NumberFormat expected = NumberFormat.getCurrencyInstance(locale);
+                expected.setCurrency(Currency.getInstance(currency));
+                for (long amount : AMOUNTS) {
+                    Money money = Money.ofMinor(currency, amount);
+                    assertEquals(expected.format(money.getAmount()), money.format(locale),
+                        () -> locale + " " + money);
+                }
+            }
+        }
+    }
+
+    @Test
+    void shouldFormatFallbackAmounts() {
+        NumberFormat expected = NumberFormat.getCurrencyInstance(Locale.US);
+        expected.setCurrency(Currency.getInstance("USD"));
+        BigDecimal amount = new BigDecimal("1234.5678");
+        assertEquals(expected.format(amount), new Money("USD", amount).format(Locale.US));
+    }
+
+    @Test
+    void shouldAppendToExistingBuilder() {
+        StringBuilder builder = new StringBuilder("Total: ");
+        Money.ofMinor("USD", 123456).appendTo(builder, Locale.US);
+        assertEquals("Total: $1,234.56", builder.toString());
+    }
+
+    @Test
+    void shouldAppendToWriter() throws IOException {
+        StringWriter writer = new StringWriter();
+        MoneyFormat.of("EUR", Locale.GERMANY).appendTo(Money.ofMinor("EUR", -123456), writer);
+        NumberFormat expected = NumberFormat.getCurrencyInstance(Locale.GERMANY);
+        expected.setCurrency(Currency.getInstance("EUR"));
+        assertEquals(expected.format(new BigDecimal("-1234.56")), writer.toString());
+    }
+
+    @Test
+    void shouldReuseCachedFormatter() {
+        assertSame(MoneyFormat.of("USD", Locale.US), MoneyFormat.of("USD", Locale.US));
+    }
+
+    @Test
+    void shouldRejectUnknownCurrency() {
+        assertThrows(IllegalArgumentException.class, () -> new Money("XYZ", BigDecimal.ONE).format());
+    }
+}
@@ -29,4 +29,57 @@ class MoneyTest {
         Money money2 = new Money("EUR", new BigDecimal("50.00"));
         assertThrows(InvalidMoneyOperationException.class, () -> money1.add(money2));
     }
+
+    @Test
+    void shouldSubtractMoneyCorrectly() {
+        Money money1 = new Money("USD", new BigDecimal("50.00"));
+        Money money2 = new Money("USD", new BigDecimal("20.50"));
+        assertEquals(new Money("USD", new BigDecimal("29.50")), money1.subtract(money2));
+    }
+
+    @Test
+    void shouldCreateMoneyFromMinorUnits() {
+        Money money = Money.ofMinor("USD", 12345);
+        assertEquals(new BigDecimal("123.45"), money.getAmount());
+        assertEquals(new Money("USD", new BigDecimal("123.45")), money);
+        assertEquals(new Money("USD", new BigDecimal("123.45")).hashCode(), money.hashCode());
+    }
+
+    @Test
+    void shouldKeepScaleSensitiveEquality() {
+        assertNotEquals(new Money("USD", new BigDecimal("100.00")), new Money("USD", new BigDecimal("100.0")));
+        assertNotEquals(new Money("USD", BigDecimal.ZERO), new Money("USD", new BigDecimal("0.00")));
+        assertEquals(new Money("USD", new BigDecimal("0.125")), new Money("USD", new BigDecimal("0.125")));
+    }
+
+    @Test
+    void shouldFallBackToBigDecimalOnOverflow() {
+        Money max = Money.ofMinor("USD", Long.MAX_VALUE);
+        Money sum = max.add(Money.ofMinor("USD", 1));
+        BigDecimal expected = BigDecimal.valueOf(Long.MAX_VALUE, 2).add(new BigDecimal("0.01"));
+        assertEquals(expected, sum.getAmount());
+        assertEquals(max, sum.subtract(Money.ofMinor("USD", 1)));
+        assertEquals(expected.multiply(BigDecimal.valueOf(3)), sum.multiply(3).getAmount());
+    }
+
+    @Test
+    void shouldAddAmountsWithDifferentScales() {
+        Money money1 = new Money("USD", new BigDecimal("1.005"));
+        Money money2 = new Money("USD", new BigDecimal("2.00"));
+        assertEquals(new Money("USD", new BigDecimal("3.005")), money1.add(money2));
+        assertEquals(new Money("USD", new BigDecimal("2.00")), new Money("USD", BigDecimal.ZERO).add(money2));
+    }
+
+    @Test
+    void shouldMultiplyByQuantity() {
+        Money price = new Money("USD", new BigDecimal("19.99"));
+        assertEquals(new Money("USD", new BigDecimal("59.97")), price.multiply(3));
+    }
+
+    @Test
+    void shouldSupportCurrenciesWithoutMinorUnits() {
+        Money money = new Money("XYZ", new BigDecimal("10.5"));
+        assertEquals(new Money("XYZ", new BigDecimal("21.0")), money.add(money));
+        assertThrows(InvalidMoneyOperationException.class, () -> Money.ofMinor("XYZ", 1));
+    }
 }
@@ -2,6 +2,7 @@ package com.await.dddcore.valueobjects;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.Set;
 import org.junit.jupiter.api.Test;
 
 class OrderStatusTest {
@@ -16,4 +17,25 @@ class OrderStatusTest {
     void shouldThrowExceptionForInvalidStatus() {
         assertThrows(IllegalArgumentException.class, () -> OrderStatus.valueOf("INVALID"));
     }
+
+    @Test
+    void shouldOnlyAllowForwardTransitionsOneStepAtATime() {
+        assertEquals(Set.of(OrderStatus.CONFIRMED), OrderStatus.NEW.nextStatuses());
+        assertEquals(Set.of(OrderStatus.SHIPPED), OrderStatus.CONFIRMED.nextStatuses());
+        assertEquals(Set.of(OrderStatus.DELIVERED), OrderStatus.SHIPPED.nextStatuses());
+        assertTrue(OrderStatus.DELIVERED.nextStatuses().isEmpty());
+
+        assertFalse(OrderStatus.SHIPPED.canTransitionTo(OrderStatus.NEW));
+        assertFalse(OrderStatus.NEW.canTransitionTo(OrderStatus.NEW));
+        assertEquals(OrderStatus.SHIPPED, OrderStatus.CONFIRMED.checkTransitionTo(OrderStatus.SHIPPED));
+        assertThrows(IllegalStateException.class, () -> OrderStatus.NEW.checkTransitionTo(OrderStatus.DELIVERED));
+    }
+
+    @Test
+    void shouldAllowAddressChangesUntilShipped() {
+        assertTrue(OrderStatus.NEW.allowsAddressChange());
+        assertTrue(OrderStatus.CONFIRMED.allowsAddressChange());
+        assertFalse(OrderStatus.SHIPPED.allowsAddressChange());
+        assertFalse(OrderStatus.DELIVERED.allowsAddressChange());
+    }
 }
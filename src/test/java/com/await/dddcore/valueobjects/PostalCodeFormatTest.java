@@ -0,0 +1,56 @@
+package com.await.dddcore.valueobjects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+
+class PostalCodeFormatTest {
+
+    private static final String BRITISH = "GIR ?0AA|[A-PR-UWYZ]([A-HK-Y]?\\d[A-Z\\d]?|\\d[A-HJKPSTUW]"
+        + "|[A-HK-Y]\\d[ABEHMNPRV-Y]) ?\\d[ABD-HJLNP-UW-Z]{2}";
+    private static final String CANADIAN = "[ABCEGHJ-NPRSTVXY]\\d[ABCEGHJ-NPRSTV-Z] ?\\d[ABCEGHJ-NPRSTV-Z]\\d";
+
+    @Test
+    void shouldAcceptExactlyTheLanguageOfTheRegex() {
+        String[] patterns = {"\\d{5}", "\\d{5}(-\\d{4})?", "\\d{2}-\\d{3}", "\\d{3} ?\\d{2}", "\\d{4} ?[A-Z]{2}",
+            "[A-Z]?\\d{4}([A-Z]{3})?", "(LT-)?\\d{5}", CANADIAN, BRITISH, "(A|AB)*B", "A{2,}-?",
+            "(A?){3}\\d+", "(|A)B{0,2}\\-"};
+        char[] alphabet = "0123A B-GIRTWZ".toCharArray();
+        Random random = new Random(42);
+        for (String source : patterns) {
+            Pattern regex = Pattern.compile(source);
+            PostalCodeFormat format = PostalCodeFormat.compile(source);
+            for (int i = 0; i < 50_000; i++) {
+                char[] chars = new char[random.nextInt(10)];
+                for (int j = 0; j < chars.length; j++) {
+                    chars[j] = alphabet[random.nextInt(alphabet.length)];
+                }
+                String sample = new String(chars);
+                assertEquals(regex.matcher(sample).matches(), format.matches(sample), source + " on " + sample);
+            }
+        }
+    }
+
+    @Test
+    void shouldMatchCountrySamples() {
+        PostalCodeFormat british = PostalCodeFormat.compile(BRITISH);
+        assertTrue(british.matches("SW1A 1AA"));
+        assertTrue(british.matches("M1 1AE"));
+        assertTrue(british.matches("GIR 0AA"));
+        assertFalse(british.matches("SW1A 1AAA"));
+        assertFalse(british.matches("sw1a 1aa"));
+        assertFalse(british.matches(null));
+        assertFalse(PostalCodeFormat.compile("\\d{5}").matches("1234\u0665"));
+    }
+
+    @Test
+    void shouldRejectUnsupportedSyntax() {
+        for (String pattern : new String[] {"\\d{5", "(\\d", "\\d)", "[^A]", "[A-", "a.b", "\\w", "\\", "{3}",
+            "\\d{3,2}", "\u00e4"}) {
+            assertThrows(IllegalArgumentException.class, () -> PostalCodeFormat.compile(pattern), pattern);
+        }
+    }
+}
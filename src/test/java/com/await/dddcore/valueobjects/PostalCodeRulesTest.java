@@ -0,0 +1,55 @@
+package com.await.dddcore.valueobjects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+
+class PostalCodeRulesTest {
+
+    @AfterEach
+    void tearDown() {
+        PostalCodeRules.reset();
+    }
+
+    @Test
+    void shouldLookUpCountriesByCodeOrName() {
+        assertEquals("UA", PostalCodeRules.countryCode("Ukraine"));
+        assertEquals("UA", PostalCodeRules.countryCode("ukraine"));
+        assertEquals("UA", PostalCodeRules.countryCode("UKR"));
+        assertEquals("GB", PostalCodeRules.countryCode("United Kingdom"));
+        assertNull(PostalCodeRules.countryCode("Atlantis"));
+        assertTrue(PostalCodeRules.isValid("Poland", "00-950"));
+        assertFalse(PostalCodeRules.isValid("PL", "00950"));
+        assertTrue(PostalCodeRules.isValid("gb", "SW1A 1AA"));
+        assertTrue(PostalCodeRules.isValid("Atlantis", "12345"));
+        assertSame(PostalCodeRules.DEFAULT, PostalCodeRules.formatFor(null));
+    }
+
+    @Test
+    void shouldUseRegisteredFormats() {
+        assertFalse(PostalCodeRules.isValid("Ukraine", "UA-01001"));
+        PostalCodeRules.register("Ukraine", "(UA-)?\\d{5}");
+        assertTrue(new Address("Ukraine", "Kyiv", "Street 1", "UA-01001").getPostalCode().startsWith("UA"));
+        assertTrue(PostalCodeRules.unregister("UA"));
+        assertFalse(PostalCodeRules.unregister("UA"));
+        assertTrue(PostalCodeRules.isValid("Ukraine", "01001"));
+        assertThrows(IllegalArgumentException.class, () -> PostalCodeRules.register("Atlantis", "\\d{5}"));
+    }
+
+    @Test
+    void shouldValidateBatches() {
+        String[] countries = {"Poland", "Poland", "Canada", "United States", "Germany", null, "Netherlands"};
+        String[] postalCodes = {"00-950", "00950", "K1A 0B1", "94103-1234", "1010", "12345", null};
+        BitSet valid = PostalCodeRules.validateAll(countries, postalCodes);
+        BitSet expected = new BitSet();
+        expected.set(0);
+        expected.set(2);
+        expected.set(3);
+        expected.set(5);
+        assertEquals(expected, valid);
+        assertThrows(IllegalArgumentException.class, () -> PostalCodeRules.validateAll(countries, new String[1]));
+    }
+}
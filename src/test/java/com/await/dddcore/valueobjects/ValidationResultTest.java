@@ -0,0 +1,76 @@
+package com.await.dddcore.valueobjects;
+
+import com.await.dddcore.exceptions.InvalidAddressException;
+import com.await.dddcore.exceptions.InvalidMoneyOperationException;
+import com.await.dddcore.exceptions.InvalidNameException;
+import com.await.dddcore.exceptions.InvalidOrderItemException;
+import com.await.dddcore.exceptions.InvalidProductDetailsException;
+import com.await.dddcore.exceptions.InvalidStockOperationException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import java.math.BigDecimal;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidationResultTest {
+
+    @Test
+    void shouldReportTheErrorOfTheFirstInvalidField() {
+        assertEquals(ValidationError.COUNTRY_EMPTY, Address.tryCreate(" ", null, null, null).error());
+        assertEquals(ValidationError.CITY_EMPTY, Address.tryCreate("Ukraine", "", "Street 1", "12345").error());
+        assertEquals(ValidationError.STREET_EMPTY, Address.tryCreate("Ukraine", "Kyiv", null, "12345").error());
+        assertEquals(ValidationError.POSTAL_CODE_INVALID, Address.tryCreate("Ukraine", "Kyiv", "Street 1", "1234").error());
+        assertEquals(ValidationError.FIRST_NAME_EMPTY, Name.tryCreate("", "").error());
+        assertEquals(ValidationError.LAST_NAME_EMPTY, Name.tryCreate("John", "  ").error());
+        assertEquals(ValidationError.CURRENCY_EMPTY, Money.tryCreate(null, BigDecimal.ONE).error());
+        assertEquals(ValidationError.AMOUNT_NULL, Money.tryCreate("USD", null).error());
+        assertEquals(ValidationError.STOCK_NEGATIVE, Stock.tryCreate(-1).error());
+        assertEquals(ValidationError.QUANTITY_NOT_POSITIVE,
+            OrderItemDetails.tryCreate(UUID.randomUUID(), 0, Money.ofMinor("USD", 100)).error());
+        assertEquals(ValidationError.PRODUCT_NAME_EMPTY, ProductDetails.tryCreate(" ", null, null).error());
+    }
+
+    @Test
+    void shouldCreateTheSameValuesAsTheConstructors() {
+        assertEquals(new Address("Ukraine", "Kyiv", "Street 1", "12345"),
+            Address.tryCreate("Ukraine", "Kyiv", "Street 1", "12345").value());
+        assertEquals(new Name(" John ", "Doe"), Name.tryCreate(" John ", "Doe").value());
+        assertEquals(new Money("USD", new BigDecimal("19.99")), Money.tryCreate("USD", new BigDecimal("19.99")).value());
+        assertEquals(new Stock(3), Stock.tryCreate(3).value());
+        assertEquals("Lamp", ProductDetails.tryCreate("Lamp", null, null).value().getName());
+    }
+
+    @Test
+    void shouldThrowTheConstructorExceptionOnDemand() {
+        assertSameFailure(InvalidAddressException.class, () -> new Address("Ukraine", "Kyiv", "Street 1", "x"),
+            () -> Address.tryCreate("Ukraine", "Kyiv", "Street 1", "x").orElseThrow());
+        assertSameFailure(InvalidNameException.class, () -> new Name("John", null),
+            () -> Name.tryCreate("John", null).orElseThrow());
+        assertSameFailure(InvalidMoneyOperationException.class, () -> new Money("", BigDecimal.ONE),
+            () -> Money.tryCreate("", BigDecimal.ONE).orElseThrow());
+        assertSameFailure(InvalidStockOperationException.class, () -> new Stock(-1),
+            () -> Stock.tryCreate(-1).orElseThrow());
+        assertSameFailure(InvalidOrderItemException.class, () -> new OrderItemDetails(null, 1, null),
+            () -> OrderItemDetails.tryCreate(null, 1, null).orElseThrow());
+        assertSameFailure(InvalidProductDetailsException.class, () -> new ProductDetails(null, null, null),
+            () -> ProductDetails.tryCreate(null, null, null).orElseThrow());
+    }
+
+    @Test
+    void shouldShareFailuresAndRejectValueAccess() {
+        ValidationResult<Stock> invalid = Stock.tryCreate(-1);
+        assertSame(invalid, Stock.tryCreate(-2));
+        assertThrows(NoSuchElementException.class, invalid::value);
+        assertNull(Stock.tryCreate(1).error());
+    }
+
+    private static void assertSameFailure(Class<? extends RuntimeException> type, Executable constructor,
+                                          Executable tryCreate) {
+        RuntimeException expected = assertThrows(type, constructor);
+        RuntimeException actual = assertThrows(type, tryCreate);
+        assertEquals(expected.getMessage(), actual.getMessage());
+    }
+}